@@ -5,6 +5,7 @@
 
 package io.opentelemetry.api.trace;
 
+import io.opentelemetry.api.internal.ImmutableSpanContext;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -26,8 +27,35 @@ import org.openjdk.jmh.annotations.Warmup;
 @Threads(1)
 public class SpanIdBenchmark {
 
+  private static final String TRACE_ID = "0102030405060708090a0b0c0d0e0f00";
+  private static final long SPAN_ID = 0x090a0b0c0d0e0f00L;
+
   @Benchmark
   public byte[] getSpanIdBytes() {
     return SpanContext.getInvalid().getSpanIdBytes();
   }
+
+  /** Creates a span context from a span ID encoded eagerly to hex. */
+  @Benchmark
+  public SpanContext createSpanContext_hexSpanId() {
+    return ImmutableSpanContext.create(
+        TRACE_ID,
+        SpanId.fromLong(SPAN_ID),
+        TraceFlags.getSampled(),
+        TraceState.getDefault(),
+        /* remote= */ false,
+        /* skipIdValidation= */ true);
+  }
+
+  /** Creates a span context keeping the span ID as a long, as the SDK does with its generator. */
+  @Benchmark
+  public SpanContext createSpanContext_longSpanId() {
+    return ImmutableSpanContext.create(
+        TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault());
+  }
+
+  @Benchmark
+  public String createSpanContextAndGetSpanId_longSpanId() {
+    return createSpanContext_longSpanId().getSpanId();
+  }
 }
@@ -11,6 +11,7 @@ import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -78,6 +79,59 @@ public abstract class ImmutableSpanContext implements SpanContext {
         /* valid= */ false);
   }
 
+  /**
+   * Creates a new valid, local {@code SpanContext} whose span ID is given as a {@code long}. The
+   * span ID is only encoded to its hexadecimal form when first requested, so spans that are never
+   * propagated nor exported do not pay for the encoding.
+   *
+   * @param traceIdHex the trace identifier of the {@code SpanContext}, already validated.
+   * @param spanId the non-zero span identifier of the {@code SpanContext}.
+   * @param traceFlags the trace flags of the {@code SpanContext}.
+   * @param traceState the trace state for the {@code SpanContext}.
+   * @return a new {@code SpanContext} with the given identifiers and options.
+   */
+  public static SpanContext create(
+      String traceIdHex, long spanId, TraceFlags traceFlags, TraceState traceState) {
+    return new LongSpanIdSpanContext(traceIdHex, spanId, traceFlags, traceState);
+  }
+
   @Override
   public abstract boolean isValid();
+
+  // Implemented here instead of generated by AutoValue so that instances of
+  // LongSpanIdSpanContext compare equal to the equivalent AutoValue instances.
+  @Override
+  public final boolean equals(@Nullable Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ImmutableSpanContext)) {
+      return false;
+    }
+    ImmutableSpanContext that = (ImmutableSpanContext) o;
+    return getTraceId().equals(that.getTraceId())
+        && getSpanId().equals(that.getSpanId())
+        && getTraceFlags().equals(that.getTraceFlags())
+        && getTraceState().equals(that.getTraceState())
+        && isRemote() == that.isRemote()
+        && isValid() == that.isValid();
+  }
+
+  @Override
+  public final int hashCode() {
+    int h = 1;
+    h *= 1000003;
+    h ^= getTraceId().hashCode();
+    h *= 1000003;
+    h ^= getSpanId().hashCode();
+    h *= 1000003;
+    h ^= getTraceFlags().hashCode();
+    h *= 1000003;
+    h ^= getTraceState().hashCode();
+    h *= 1000003;
+    h ^= isRemote() ? 1231 : 1237;
+    h *= 1000003;
+    h ^= isValid() ? 1231 : 1237;
+    return h;
+  }
 }
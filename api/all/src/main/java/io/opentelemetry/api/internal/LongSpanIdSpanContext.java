@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A valid, local {@link ImmutableSpanContext} which keeps its span ID as a {@code long} and only
+ * encodes it to a hexadecimal string when first requested.
+ */
+@Immutable
+final class LongSpanIdSpanContext extends ImmutableSpanContext {
+
+  private final String traceId;
+  private final long spanId;
+  private final TraceFlags traceFlags;
+  private final TraceState traceState;
+
+  // Racy single-check idiom: concurrent callers may encode the same value more than once.
+  @LazyInit @Nullable private String spanIdHex;
+
+  LongSpanIdSpanContext(String traceId, long spanId, TraceFlags traceFlags, TraceState traceState) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.traceFlags = traceFlags;
+    this.traceState = traceState;
+  }
+
+  @Override
+  public String getTraceId() {
+    return traceId;
+  }
+
+  @Override
+  public String getSpanId() {
+    String result = spanIdHex;
+    if (result == null) {
+      result = SpanId.fromLong(spanId);
+      spanIdHex = result;
+    }
+    return result;
+  }
+
+  @Override
+  public byte[] getSpanIdBytes() {
+    byte[] bytes = new byte[SpanId.getLength() / 2];
+    long value = spanId;
+    for (int i = bytes.length - 1; i >= 0; i--) {
+      bytes[i] = (byte) value;
+      value >>>= Byte.SIZE;
+    }
+    return bytes;
+  }
+
+  @Override
+  public TraceFlags getTraceFlags() {
+    return traceFlags;
+  }
+
+  @Override
+  public TraceState getTraceState() {
+    return traceState;
+  }
+
+  @Override
+  public boolean isRemote() {
+    return false;
+  }
+
+  @Override
+  public boolean isValid() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableSpanContext{"
+        + "traceId="
+        + traceId
+        + ", spanId="
+        + getSpanId()
+        + ", traceFlags="
+        + traceFlags
+        + ", traceState="
+        + traceState
+        + ", remote=false, valid=true}";
+  }
+}
@@ -91,4 +91,33 @@ public class ImmutableSpanContextTest {
 
     assertThat(spanContext.isValid()).isTrue();
   }
+
+  @Test
+  public void testLongSpanId() {
+    TraceState traceState = TraceState.builder().put("key", "value").build();
+    SpanContext spanContext =
+        ImmutableSpanContext.create(TRACE_ID, 0x61L, TraceFlags.getSampled(), traceState);
+    SpanContext expected =
+        ImmutableSpanContext.create(
+            TRACE_ID, SPAN_ID, TraceFlags.getSampled(), traceState, false, false);
+
+    assertThat(spanContext.isValid()).isTrue();
+    assertThat(spanContext.isRemote()).isFalse();
+    assertThat(spanContext.getSpanId()).isEqualTo(SPAN_ID);
+    assertThat(spanContext.getSpanIdBytes()).isEqualTo(expected.getSpanIdBytes());
+    assertThat(spanContext).isEqualTo(expected).hasSameHashCodeAs(expected);
+    assertThat(expected).isEqualTo(spanContext);
+    assertThat(spanContext).hasToString(expected.toString());
+  }
+
+  @Test
+  public void testLongSpanIdBytes() {
+    SpanContext spanContext =
+        ImmutableSpanContext.create(
+            TRACE_ID, 0x0102030405060708L, TraceFlags.getDefault(), TraceState.getDefault());
+
+    assertThat(spanContext.getSpanIdBytes())
+        .containsExactly(0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08);
+    assertThat(spanContext.getSpanId()).isEqualTo("0102030405060708");
+  }
 }
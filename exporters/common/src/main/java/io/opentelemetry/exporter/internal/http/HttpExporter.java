@@ -9,10 +9,21 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.spool.DiskSpool;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -38,6 +49,7 @@ public final class HttpExporter<T extends Marshaler> {
   private final HttpSender httpSender;
   private final ExporterMetrics exporterMetrics;
   private final boolean exportAsJson;
+  @Nullable private final SpoolSender spoolSender;
 
   public HttpExporter(
       String exporterName,
@@ -45,6 +57,25 @@ public final class HttpExporter<T extends Marshaler> {
       HttpSender httpSender,
       Supplier<MeterProvider> meterProviderSupplier,
       boolean exportAsJson) {
+    this(exporterName, type, httpSender, meterProviderSupplier, exportAsJson, null, null);
+  }
+
+  /**
+   * Creates an exporter which writes every request to the {@code diskSpool} before sending it, so
+   * that requests are kept while the backend is unreachable and across restarts. Spooled requests
+   * are delivered at least once, oldest first. Requests which fail with a retryable error are
+   * retried in the background with the backoff of the {@code retryPolicy}, or of {@link
+   * RetryPolicy#getDefault()} if it is {@code null}, until they are delivered. Requests rejected
+   * with a non-retryable error are dropped.
+   */
+  public HttpExporter(
+      String exporterName,
+      String type,
+      HttpSender httpSender,
+      Supplier<MeterProvider> meterProviderSupplier,
+      boolean exportAsJson,
+      @Nullable DiskSpool diskSpool,
+      @Nullable RetryPolicy retryPolicy) {
     this.type = type;
     this.httpSender = httpSender;
     this.exporterMetrics =
@@ -52,6 +83,11 @@ public final class HttpExporter<T extends Marshaler> {
             ? ExporterMetrics.createHttpJson(exporterName, type, meterProviderSupplier)
             : ExporterMetrics.createHttpProtobuf(exporterName, type, meterProviderSupplier);
     this.exportAsJson = exportAsJson;
+    this.spoolSender =
+        diskSpool == null
+            ? null
+            : new SpoolSender(
+                diskSpool, retryPolicy == null ? RetryPolicy.getDefault() : retryPolicy);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -61,35 +97,65 @@ public final class HttpExporter<T extends Marshaler> {
 
     exporterMetrics.addSeen(numItems);
 
+    if (spoolSender != null) {
+      return spoolSender.spool(exportRequest, numItems);
+    }
+
     CompletableResultCode result = new CompletableResultCode();
 
     Consumer<OutputStream> marshaler =
         os -> {
           try {
-            if (exportAsJson) {
-              exportRequest.writeJsonTo(os);
-            } else {
-              exportRequest.writeBinaryTo(os);
-            }
+            writeRequest(exportRequest, os);
           } catch (IOException e) {
             throw new IllegalStateException(e);
           }
         };
 
-    httpSender.send(
+    send(
         marshaler,
         exportRequest.getBinarySerializedSize(),
+        () -> {
+          exporterMetrics.addSuccess(numItems);
+          result.succeed();
+        },
+        unusedRetryable -> {
+          exporterMetrics.addFailed(numItems);
+          result.fail();
+        });
+
+    return result;
+  }
+
+  private void writeRequest(T exportRequest, OutputStream os) throws IOException {
+    if (exportAsJson) {
+      exportRequest.writeJsonTo(os);
+    } else {
+      exportRequest.writeBinaryTo(os);
+    }
+  }
+
+  /**
+   * Sends a request. {@code onFailure} is called with whether the request may succeed if it is
+   * retried, which is the case unless the backend rejected it with a 4xx status code other than 408
+   * (Request Timeout) or 429 (Too Many Requests).
+   */
+  private void send(
+      Consumer<OutputStream> marshaler,
+      int contentLength,
+      Runnable onSuccess,
+      Consumer<Boolean> onFailure) {
+    httpSender.send(
+        marshaler,
+        contentLength,
         httpResponse -> {
           int statusCode = httpResponse.statusCode();
 
           if (statusCode >= 200 && statusCode < 300) {
-            exporterMetrics.addSuccess(numItems);
-            result.succeed();
+            onSuccess.run();
             return;
           }
 
-          exporterMetrics.addFailed(numItems);
-
           byte[] body;
           try {
             body = httpResponse.responseBody();
@@ -107,10 +173,9 @@ public final class HttpExporter<T extends Marshaler> {
                   + statusCode
                   + ". Error message: "
                   + status);
-          result.fail();
+          onFailure.accept(isRetryable(statusCode));
         },
         e -> {
-          exporterMetrics.addFailed(numItems);
           logger.log(
               Level.SEVERE,
               "Failed to export "
@@ -118,10 +183,24 @@ public final class HttpExporter<T extends Marshaler> {
                   + "s. The request could not be executed. Full error message: "
                   + e.getMessage(),
               e);
-          result.fail();
+          onFailure.accept(true);
         });
+  }
 
-    return result;
+  private static boolean isRetryable(int statusCode) {
+    return statusCode < 400 || statusCode >= 500 || statusCode == 408 || statusCode == 429;
+  }
+
+  /**
+   * Sends the requests written to the disk spool, if disk buffering is enabled. The returned result
+   * succeeds once all requests spooled so far are delivered or dropped, and fails if a request
+   * fails with a retryable error, in which case it is retried in the background.
+   */
+  public CompletableResultCode flush() {
+    if (spoolSender == null || isShutdown.get()) {
+      return CompletableResultCode.ofSuccess();
+    }
+    return spoolSender.flush();
   }
 
   public CompletableResultCode shutdown() {
@@ -129,7 +208,11 @@ public final class HttpExporter<T extends Marshaler> {
       logger.log(Level.INFO, "Calling shutdown() multiple times.");
       return CompletableResultCode.ofSuccess();
     }
-    return httpSender.shutdown();
+    CompletableResultCode result = httpSender.shutdown();
+    if (spoolSender != null) {
+      spoolSender.shutdown();
+    }
+    return result;
   }
 
   private static String extractErrorStatus(String statusMessage, @Nullable byte[] responseBody) {
@@ -142,4 +225,206 @@ public final class HttpExporter<T extends Marshaler> {
       return "Unable to parse response body, HTTP status message: " + statusMessage;
     }
   }
+
+  /**
+   * Writes requests to a {@link DiskSpool} and drains it, sending one spooled request at a time,
+   * oldest first. At most one thread drains the spool at a time: the one which set {@link
+   * #draining}, which stays set while a retry is scheduled so that new exports only append to the
+   * spool and don't retry early.
+   */
+  private final class SpoolSender {
+    private final DiskSpool diskSpool;
+    private final RetryPolicy retryPolicy;
+    private final ScheduledExecutorService retryExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Queue<CompletableResultCode> pendingFlushes = new ConcurrentLinkedQueue<>();
+    // Only accessed by the thread draining the spool.
+    private long backoffNanos;
+    @Nullable private volatile ScheduledFuture<?> scheduledRetry;
+
+    private SpoolSender(DiskSpool diskSpool, RetryPolicy retryPolicy) {
+      this.diskSpool = diskSpool;
+      this.retryPolicy = retryPolicy;
+      this.retryExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              new DaemonThreadFactory(type + "-disk-buffer-retry"));
+    }
+
+    /**
+     * Serializes the request once into the disk spool and starts draining the spool. The export
+     * succeeds once the request is spooled, since it is then delivered eventually.
+     */
+    private CompletableResultCode spool(T exportRequest, int numItems) {
+      try {
+        ByteArrayOutputStream os =
+            new ByteArrayOutputStream(exportRequest.getBinarySerializedSize());
+        writeRequest(exportRequest, os);
+        if (!diskSpool.append(os.toByteArray(), numItems)) {
+          logger.log(
+              Level.WARNING,
+              "Failed to export " + type + "s. The request does not fit in the disk buffer.");
+          exporterMetrics.addFailed(numItems);
+          return CompletableResultCode.ofFailure();
+        }
+      } catch (IOException e) {
+        logger.log(
+            Level.SEVERE,
+            "Failed to export " + type + "s. The request could not be written to the disk buffer.",
+            e);
+        exporterMetrics.addFailed(numItems);
+        return CompletableResultCode.ofFailure();
+      }
+      if (draining.compareAndSet(false, true)) {
+        drain();
+      }
+      return CompletableResultCode.ofSuccess();
+    }
+
+    private CompletableResultCode flush() {
+      CompletableResultCode result = new CompletableResultCode();
+      pendingFlushes.add(result);
+      if (draining.compareAndSet(false, true)) {
+        drain();
+        return result;
+      }
+      // Skip the backoff of a scheduled retry. If it can't be cancelled, it is already running.
+      ScheduledFuture<?> retry = scheduledRetry;
+      if (retry != null && retry.cancel(false)) {
+        scheduleDrain(0);
+      }
+      return result;
+    }
+
+    /**
+     * Sends spooled requests until the spool is empty, or until a request fails with a retryable
+     * error, in which case draining resumes after a backoff. Must only be called by the thread
+     * which set {@link #draining}.
+     */
+    private void drain() {
+      while (true) {
+        DiskSpool.Record record = isShutdown.get() ? null : diskSpool.peek();
+        if (record == null) {
+          completeFlushes(!isShutdown.get());
+          draining.set(false);
+          // Exports and flushes which found the spool draining after it was seen empty rely on
+          // this thread to send their requests.
+          if (isShutdown.get()
+              || (diskSpool.peek() == null && pendingFlushes.isEmpty())
+              || !draining.compareAndSet(false, true)) {
+            return;
+          }
+          continue;
+        }
+        CompletableResultCode sent = send(record);
+        if (!sent.isDone()) {
+          sent.whenComplete(
+              () -> {
+                if (sent.isSuccess()) {
+                  backoffNanos = 0;
+                  drain();
+                } else {
+                  retryLater();
+                }
+              });
+          return;
+        }
+        if (!sent.isSuccess()) {
+          retryLater();
+          return;
+        }
+        backoffNanos = 0;
+      }
+    }
+
+    /**
+     * Sends a spooled request. The result succeeds if the request was delivered or dropped because
+     * it can't be delivered, and fails if it should be retried.
+     */
+    private CompletableResultCode send(DiskSpool.Record record) {
+      CompletableResultCode result = new CompletableResultCode();
+      byte[] payload = record.getPayload();
+      HttpExporter.this.send(
+          os -> {
+            try {
+              os.write(payload);
+            } catch (IOException e) {
+              throw new IllegalStateException(e);
+            }
+          },
+          payload.length,
+          () -> {
+            markDelivered(record);
+            exporterMetrics.addSuccess(record.getItemCount());
+            result.succeed();
+          },
+          retryable -> {
+            if (retryable) {
+              result.fail();
+              return;
+            }
+            logger.log(
+                Level.WARNING,
+                "Dropping "
+                    + record.getItemCount()
+                    + " "
+                    + type
+                    + "s from the disk buffer, which the server rejected.");
+            markDelivered(record);
+            exporterMetrics.addFailed(record.getItemCount());
+            result.succeed();
+          });
+      return result;
+    }
+
+    private void markDelivered(DiskSpool.Record record) {
+      // The response may arrive after shutdown closed the spool, the record is then sent again
+      // after a restart.
+      if (!isShutdown.get()) {
+        diskSpool.markDelivered(record);
+      }
+    }
+
+    /** Fails pending flushes and resumes draining after the next backoff. */
+    private void retryLater() {
+      completeFlushes(false);
+      long initialBackoffNanos = retryPolicy.getInitialBackoff().toNanos();
+      backoffNanos =
+          backoffNanos == 0
+              ? initialBackoffNanos
+              : Math.min(
+                  (long) (backoffNanos * retryPolicy.getBackoffMultiplier()),
+                  retryPolicy.getMaxBackoff().toNanos());
+      scheduleDrain(backoffNanos);
+    }
+
+    private void scheduleDrain(long delayNanos) {
+      try {
+        scheduledRetry = retryExecutor.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        // Shut down.
+        draining.set(false);
+      }
+    }
+
+    private void completeFlushes(boolean success) {
+      CompletableResultCode flush;
+      while ((flush = pendingFlushes.poll()) != null) {
+        if (success) {
+          flush.succeed();
+        } else {
+          flush.fail();
+        }
+      }
+    }
+
+    private void shutdown() {
+      retryExecutor.shutdownNow();
+      completeFlushes(false);
+      try {
+        diskSpool.close();
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Failed to close the disk buffer.", e);
+      }
+    }
+  }
 }
@@ -12,7 +12,10 @@ import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsConfigHelper;
 import io.opentelemetry.exporter.internal.auth.Authenticator;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.spool.DiskSpool;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Collections;
@@ -54,6 +57,8 @@ public final class HttpExporterBuilder<T extends Marshaler> {
   @Nullable private RetryPolicy retryPolicy;
   private Supplier<MeterProvider> meterProviderSupplier = GlobalOpenTelemetry::getMeterProvider;
   @Nullable private Authenticator authenticator;
+  @Nullable private File diskBufferDirectory;
+  private long diskBufferMaxSizeBytes;
 
   public HttpExporterBuilder(String exporterName, String type, String defaultEndpoint) {
     this.exporterName = exporterName;
@@ -122,6 +127,12 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     return this;
   }
 
+  public HttpExporterBuilder<T> setDiskBuffering(File directory, long maxSizeBytes) {
+    this.diskBufferDirectory = directory;
+    this.diskBufferMaxSizeBytes = maxSizeBytes;
+    return this;
+  }
+
   public HttpExporterBuilder<T> exportAsJson() {
     this.exportAsJson = true;
     return this;
@@ -143,14 +154,34 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     }
     copy.meterProviderSupplier = meterProviderSupplier;
     copy.authenticator = authenticator;
+    copy.diskBufferDirectory = diskBufferDirectory;
+    copy.diskBufferMaxSizeBytes = diskBufferMaxSizeBytes;
     return copy;
   }
 
   public HttpExporter<T> build() {
+    return build(resolveHttpSenderProvider());
+  }
+
+  // Visible for testing
+  HttpExporter<T> build(HttpSenderProvider httpSenderProvider) {
     Map<String, String> headers = this.headers == null ? Collections.emptyMap() : this.headers;
     Supplier<Map<String, String>> headerSupplier = () -> headers;
 
-    HttpSenderProvider httpSenderProvider = resolveHttpSenderProvider();
+    DiskSpool diskSpool = null;
+    if (diskBufferDirectory != null) {
+      try {
+        diskSpool = DiskSpool.open(diskBufferDirectory, diskBufferMaxSizeBytes);
+      } catch (IOException e) {
+        LOGGER.log(
+            Level.SEVERE,
+            "Could not open disk buffer in "
+                + diskBufferDirectory
+                + ", exporting without disk buffering.",
+            e);
+      }
+    }
+
     HttpSender httpSender =
         httpSenderProvider.createSender(
             endpoint,
@@ -159,12 +190,22 @@ public final class HttpExporterBuilder<T extends Marshaler> {
             timeoutNanos,
             headerSupplier,
             authenticator,
-            retryPolicy,
+            // Spooled requests are retried from the disk spool with the backoff of the retry
+            // policy. Retrying them in the sender as well would multiply the attempts, and hold up
+            // the spool while the sender backs off.
+            diskSpool == null ? retryPolicy : null,
             tlsConfigHelper.getSslContext(),
             tlsConfigHelper.getTrustManager());
     LOGGER.log(Level.FINE, "Using HttpSender: " + httpSender.getClass().getName());
 
-    return new HttpExporter<>(exporterName, type, httpSender, meterProviderSupplier, exportAsJson);
+    return new HttpExporter<>(
+        exporterName,
+        type,
+        httpSender,
+        meterProviderSupplier,
+        exportAsJson,
+        diskSpool,
+        retryPolicy);
   }
 
   public String toString(boolean includePrefixAndSuffix) {
@@ -186,6 +227,10 @@ public final class HttpExporterBuilder<T extends Marshaler> {
     if (retryPolicy != null) {
       joiner.add("retryPolicy=" + retryPolicy);
     }
+    if (diskBufferDirectory != null) {
+      joiner.add("diskBufferDirectory=" + diskBufferDirectory);
+      joiner.add("diskBufferMaxSizeBytes=" + diskBufferMaxSizeBytes);
+    }
     // Note: omit tlsConfigHelper because we can't log the configuration in any readable way
     // Note: omit meterProviderSupplier because we can't log the configuration in any readable way
     // Note: omit authenticator because we can't log the configuration in any readable way
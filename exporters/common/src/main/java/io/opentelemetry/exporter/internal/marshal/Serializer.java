@@ -177,7 +177,8 @@ public abstract class Serializer implements AutoCloseable {
     writeBytes(field, value);
   }
 
-  protected abstract void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException;
+  /** Writes a protobuf {@code bytes} field, even if it matches the default value. */
+  public abstract void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException;
 
   protected abstract void writeStartMessage(ProtoFieldInfo field, int protoMessageSize)
       throws IOException;
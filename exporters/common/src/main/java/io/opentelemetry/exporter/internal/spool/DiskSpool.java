@@ -0,0 +1,452 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded, append-only queue of serialized export requests stored in memory-mapped segment
+ * files, used to keep requests across backend outages and process restarts.
+ *
+ * <p>Each segment file is mapped once and holds a sequence of records. A record is a header with
+ * the payload length, the number of telemetry items in the payload, a CRC32 of the payload and a
+ * state byte, followed by the payload. The length is written last, after the rest of the record, so
+ * that a record torn by a crash reads as the end of the segment. The state byte is flipped in place
+ * once the record was delivered, so that delivered records are skipped when the spool is opened
+ * again.
+ *
+ * <p>The total size of the segment files is bounded. When a new segment does not fit, the oldest
+ * segments are deleted along with their undelivered records. Writes become durable against process
+ * crashes as soon as they are in the mapping, and against operating system crashes once a segment
+ * is sealed or the spool is closed, when the segment is forced to disk.
+ *
+ * <p>A directory can only be used by one spool at a time, which is enforced with a file lock.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DiskSpool implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(DiskSpool.class.getName());
+
+  // Visible for testing
+  static final String SEGMENT_SUFFIX = ".spool";
+  private static final String LOCK_FILE_NAME = "spool.lock";
+  // Visible for testing
+  static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+  // length (int), item count (int), crc32 (int), state (byte)
+  private static final int HEADER_SIZE = 13;
+  private static final int ITEMS_OFFSET = 4;
+  private static final int CRC_OFFSET = 8;
+  private static final int STATE_OFFSET = 12;
+  private static final byte STATE_PENDING = 0;
+  private static final byte STATE_DELIVERED = 1;
+
+  private final File directory;
+  private final long maxSizeBytes;
+  private final int segmentSize;
+  private final RandomAccessFile lockFile;
+  private final FileLock lock;
+
+  // Oldest segment first. The last segment is the one being written, if any.
+  private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+  private long nextSequence;
+  private long sizeBytes;
+  private long droppedItems;
+  private boolean closed;
+
+  /**
+   * Opens the spool in {@code directory}, recovering the undelivered records of a previous spool.
+   *
+   * @param directory the directory holding the segment files, created if missing.
+   * @param maxSizeBytes the maximum total size of the segment files.
+   * @throws IOException if the directory cannot be used or is used by another spool.
+   */
+  public static DiskSpool open(File directory, long maxSizeBytes) throws IOException {
+    return open(directory, maxSizeBytes, (int) Math.min(DEFAULT_SEGMENT_SIZE, maxSizeBytes));
+  }
+
+  // Visible for testing
+  static DiskSpool open(File directory, long maxSizeBytes, int segmentSize) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Could not create spool directory " + directory);
+    }
+    RandomAccessFile lockFile = new RandomAccessFile(new File(directory, LOCK_FILE_NAME), "rw");
+    FileLock lock;
+    try {
+      lock = lockFile.getChannel().tryLock();
+    } catch (OverlappingFileLockException e) {
+      // Locked by another spool of this process.
+      lock = null;
+    } catch (IOException | RuntimeException e) {
+      lockFile.close();
+      throw e;
+    }
+    if (lock == null) {
+      lockFile.close();
+      throw new IOException("Spool directory " + directory + " is used by another spool");
+    }
+    DiskSpool spool = new DiskSpool(directory, maxSizeBytes, segmentSize, lockFile, lock);
+    try {
+      spool.recover();
+    } catch (IOException | RuntimeException e) {
+      spool.close();
+      throw e;
+    }
+    return spool;
+  }
+
+  private DiskSpool(
+      File directory,
+      long maxSizeBytes,
+      int segmentSize,
+      RandomAccessFile lockFile,
+      FileLock lock) {
+    this.directory = directory;
+    this.maxSizeBytes = maxSizeBytes;
+    this.segmentSize = segmentSize;
+    this.lockFile = lockFile;
+    this.lock = lock;
+  }
+
+  private void recover() throws IOException {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+    if (files == null) {
+      return;
+    }
+    // Segment file names are zero padded sequence numbers, so they sort in sequence order.
+    Arrays.sort(files);
+    for (File file : files) {
+      long sequence;
+      try {
+        String name = file.getName();
+        sequence = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+      } catch (NumberFormatException e) {
+        continue;
+      }
+      nextSequence = Math.max(nextSequence, sequence + 1);
+      Segment segment = Segment.map(file, sequence, (int) file.length());
+      segment.scan();
+      if (segment.isFullyDelivered()) {
+        segment.delete();
+        continue;
+      }
+      // Recovered segments are not appended to, a new segment is started for new records.
+      segment.seal();
+      segments.addLast(segment);
+      sizeBytes += segment.capacity;
+    }
+  }
+
+  /**
+   * Appends a record. Returns {@code false} if the record is larger than the maximum size of the
+   * spool or the spool is closed. Empty payloads are not stored.
+   *
+   * @param payload the serialized request.
+   * @param itemCount the number of telemetry items in the request.
+   */
+  public synchronized boolean append(byte[] payload, int itemCount) throws IOException {
+    if (closed) {
+      return false;
+    }
+    if (payload.length == 0) {
+      return true;
+    }
+    int recordSize = HEADER_SIZE + payload.length;
+    if (recordSize > maxSizeBytes) {
+      return false;
+    }
+    Segment segment = segments.peekLast();
+    if (segment == null || segment.sealed || segment.remaining() < recordSize) {
+      segment = newSegment(Math.max(segmentSize, recordSize));
+    }
+    segment.write(payload, itemCount);
+    return true;
+  }
+
+  private Segment newSegment(int capacity) throws IOException {
+    Segment current = segments.peekLast();
+    if (current != null && !current.sealed) {
+      current.seal();
+      if (current.isFullyDelivered()) {
+        segments.removeLast();
+        removeSegment(current);
+      }
+    }
+    while (sizeBytes + capacity > maxSizeBytes && !segments.isEmpty()) {
+      Segment oldest = segments.removeFirst();
+      droppedItems += oldest.pendingItems();
+      logger.log(
+          Level.WARNING,
+          "Spool in " + directory + " is full, dropping " + oldest.pendingItems() + " items.");
+      removeSegment(oldest);
+    }
+    File file = new File(directory, String.format("%020d%s", nextSequence, SEGMENT_SUFFIX));
+    Segment segment = Segment.map(file, nextSequence++, capacity);
+    segments.addLast(segment);
+    sizeBytes += capacity;
+    return segment;
+  }
+
+  private void removeSegment(Segment segment) {
+    sizeBytes -= segment.capacity;
+    segment.delete();
+  }
+
+  /** Returns the oldest undelivered record, or {@code null} if there is none. */
+  @Nullable
+  public synchronized Record peek() {
+    if (closed) {
+      return null;
+    }
+    for (Segment segment : segments) {
+      Record record = segment.peek();
+      if (record != null) {
+        return record;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Marks the {@code record} as delivered, deleting its segment if all of its records were
+   * delivered. Does nothing if the record was dropped in the meantime.
+   */
+  public synchronized void markDelivered(Record record) {
+    if (closed || !segments.contains(record.segment)) {
+      return;
+    }
+    Segment segment = record.segment;
+    segment.markDelivered(record);
+    if (segment.sealed && segment.isFullyDelivered()) {
+      segments.remove(segment);
+      removeSegment(segment);
+    }
+  }
+
+  /** Returns the number of items in undelivered records. */
+  public synchronized long getPendingItems() {
+    long pending = 0;
+    for (Segment segment : segments) {
+      pending += segment.pendingItems();
+    }
+    return pending;
+  }
+
+  /** Returns the number of items dropped because the spool was full. */
+  public synchronized long getDroppedItems() {
+    return droppedItems;
+  }
+
+  // Visible for testing
+  synchronized List<File> getSegmentFiles() {
+    List<File> files = new ArrayList<>(segments.size());
+    for (Segment segment : segments) {
+      files.add(segment.file);
+    }
+    return files;
+  }
+
+  /** Forces all segments to disk and releases the spool directory. */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      for (Segment segment : segments) {
+        segment.close();
+      }
+      segments.clear();
+    } finally {
+      try {
+        lock.release();
+      } finally {
+        lockFile.close();
+      }
+    }
+  }
+
+  /** A record of a {@link DiskSpool}. */
+  public static final class Record {
+    private final Segment segment;
+    private final int offset;
+    private final byte[] payload;
+    private final int itemCount;
+
+    private Record(Segment segment, int offset, byte[] payload, int itemCount) {
+      this.segment = segment;
+      this.offset = offset;
+      this.payload = payload;
+      this.itemCount = itemCount;
+    }
+
+    /** Returns the serialized request. */
+    public byte[] getPayload() {
+      return payload;
+    }
+
+    /** Returns the number of telemetry items in the request. */
+    public int getItemCount() {
+      return itemCount;
+    }
+  }
+
+  private static final class Segment {
+    private final File file;
+    private final long sequence;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    // Offset of the first record which may be pending, and of the end of the written records.
+    private int readOffset;
+    private int writeOffset;
+    private long pendingItems;
+    private boolean sealed;
+
+    private Segment(File file, long sequence, int capacity, MappedByteBuffer buffer) {
+      this.file = file;
+      this.sequence = sequence;
+      this.capacity = capacity;
+      this.buffer = buffer;
+    }
+
+    private static Segment map(File file, long sequence, int capacity) throws IOException {
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+        FileChannel channel = randomAccessFile.getChannel();
+        // The mapping stays valid after the channel is closed.
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        return new Segment(file, sequence, capacity, buffer);
+      }
+    }
+
+    /** Finds the valid records of a recovered segment. */
+    private void scan() {
+      int offset = 0;
+      boolean allDeliveredSoFar = true;
+      while (capacity - offset >= HEADER_SIZE) {
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > capacity - offset - HEADER_SIZE) {
+          break;
+        }
+        byte[] payload = readPayload(offset, length);
+        if (crc32(payload) != buffer.getInt(offset + CRC_OFFSET)) {
+          break;
+        }
+        if (buffer.get(offset + STATE_OFFSET) == STATE_PENDING) {
+          pendingItems += buffer.getInt(offset + ITEMS_OFFSET);
+          allDeliveredSoFar = false;
+        } else if (allDeliveredSoFar) {
+          readOffset = offset + HEADER_SIZE + length;
+        }
+        offset += HEADER_SIZE + length;
+      }
+      writeOffset = offset;
+    }
+
+    private int remaining() {
+      return capacity - writeOffset;
+    }
+
+    private void write(byte[] payload, int itemCount) {
+      int offset = writeOffset;
+      buffer.putInt(offset + ITEMS_OFFSET, itemCount);
+      buffer.putInt(offset + CRC_OFFSET, crc32(payload));
+      buffer.put(offset + STATE_OFFSET, STATE_PENDING);
+      ByteBuffer view = buffer.duplicate();
+      view.position(offset + HEADER_SIZE);
+      view.put(payload);
+      // Written last, a record is only visible to recovery once it is complete.
+      buffer.putInt(offset, payload.length);
+      writeOffset = offset + HEADER_SIZE + payload.length;
+      pendingItems += itemCount;
+    }
+
+    @Nullable
+    private Record peek() {
+      int offset = readOffset;
+      while (offset < writeOffset) {
+        int length = buffer.getInt(offset);
+        if (buffer.get(offset + STATE_OFFSET) == STATE_PENDING) {
+          return new Record(
+              this, offset, readPayload(offset, length), buffer.getInt(offset + ITEMS_OFFSET));
+        }
+        offset += HEADER_SIZE + length;
+      }
+      return null;
+    }
+
+    private void markDelivered(Record record) {
+      if (buffer.get(record.offset + STATE_OFFSET) != STATE_PENDING) {
+        return;
+      }
+      buffer.put(record.offset + STATE_OFFSET, STATE_DELIVERED);
+      pendingItems -= record.itemCount;
+      if (record.offset == readOffset) {
+        readOffset += HEADER_SIZE + record.payload.length;
+      }
+    }
+
+    private boolean isFullyDelivered() {
+      return pendingItems == 0;
+    }
+
+    private long pendingItems() {
+      return pendingItems;
+    }
+
+    private byte[] readPayload(int offset, int length) {
+      byte[] payload = new byte[length];
+      ByteBuffer view = buffer.duplicate();
+      view.position(offset + HEADER_SIZE);
+      view.get(payload);
+      return payload;
+    }
+
+    private void seal() {
+      sealed = true;
+      buffer.force();
+    }
+
+    private void close() {
+      buffer.force();
+    }
+
+    private void delete() {
+      if (!file.delete()) {
+        logger.log(Level.FINE, "Could not delete spool segment " + file);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "Segment{sequence=" + sequence + ", file=" + file + '}';
+    }
+  }
+
+  private static int crc32(byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload, 0, payload.length);
+    return (int) crc.getValue();
+  }
+}
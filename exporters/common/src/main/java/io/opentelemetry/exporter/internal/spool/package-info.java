@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** On-disk storage of serialized export requests. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.exporter.internal.spool;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -5,12 +5,40 @@
 
 package io.opentelemetry.exporter.internal.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.spool.DiskSpool;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.RetryPolicy;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class HttpExporterTest {
 
+  private static final RetryPolicy RETRY_POLICY =
+      RetryPolicy.builder()
+          .setInitialBackoff(Duration.ofMillis(10))
+          .setMaxBackoff(Duration.ofMillis(10))
+          .build();
+
+  @TempDir File directory;
+
   @Test
   void build_NoHttpSenderProvider() {
     assertThatThrownBy(() -> new HttpExporterBuilder<>("name", "type", "http://localhost").build())
@@ -19,4 +47,198 @@ class HttpExporterTest {
             "No HttpSenderProvider found on classpath. Please add dependency on "
                 + "opentelemetry-exporter-sender-okhttp or opentelemetry-exporter-sender-jdk");
   }
+
+  @Test
+  void diskBuffering_nonRetryableStatusDropped() throws IOException {
+    FakeHttpSender sender = new FakeHttpSender();
+    DiskSpool spool = DiskSpool.open(directory, 1024);
+    HttpExporter<TestMarshaler> exporter = exporter(sender, spool);
+    sender.statusCode = 400;
+
+    assertThat(exporter.export(new TestMarshaler(), 2).isSuccess()).isTrue();
+
+    assertThat(sender.requests.get()).isEqualTo(1);
+    assertThat(spool.getPendingItems()).isZero();
+    exporter.shutdown();
+  }
+
+  @Test
+  void diskBuffering_retryableStatusRetried() throws IOException {
+    FakeHttpSender sender = new FakeHttpSender();
+    DiskSpool spool = DiskSpool.open(directory, 1024);
+    HttpExporter<TestMarshaler> exporter = exporter(sender, spool);
+    sender.statusCode = 503;
+
+    assertThat(exporter.export(new TestMarshaler(), 2).isSuccess()).isTrue();
+    assertThat(spool.getPendingItems()).isEqualTo(2);
+
+    // Retried in the background, without another export.
+    await().untilAsserted(() -> assertThat(sender.requests.get()).isGreaterThan(1));
+    sender.statusCode = 200;
+    await().untilAsserted(() -> assertThat(spool.getPendingItems()).isZero());
+    exporter.shutdown();
+  }
+
+  @Test
+  void diskBuffering_flushDrainsSpool() throws IOException {
+    FakeHttpSender sender = new FakeHttpSender();
+    DiskSpool spool = DiskSpool.open(directory, 1024);
+    HttpExporter<TestMarshaler> exporter = exporter(sender, spool);
+    sender.respond = false;
+
+    exporter.export(new TestMarshaler(), 1);
+    exporter.export(new TestMarshaler(), 1);
+    CompletableResultCode flush = exporter.flush();
+    assertThat(flush.isDone()).isFalse();
+
+    sender.statusCode = 200;
+    sender.respond = true;
+    sender.respondToPending();
+    assertThat(flush.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(sender.requests.get()).isEqualTo(2);
+    assertThat(spool.getPendingItems()).isZero();
+    exporter.shutdown();
+  }
+
+  @Test
+  void diskBuffering_responseAfterShutdown() throws IOException {
+    FakeHttpSender sender = new FakeHttpSender();
+    HttpExporter<TestMarshaler> exporter = exporter(sender, DiskSpool.open(directory, 1024));
+    sender.respond = false;
+
+    exporter.export(new TestMarshaler(), 1);
+    CompletableResultCode flush = exporter.flush();
+    exporter.shutdown();
+    assertThat(flush.isSuccess()).isFalse();
+
+    sender.statusCode = 200;
+    sender.respondToPending();
+    // The record is kept, and sent again after a restart.
+    try (DiskSpool reopened = DiskSpool.open(directory, 1024)) {
+      assertThat(reopened.getPendingItems()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void diskBuffering_retriedBySpoolOnly() {
+    AtomicReference<FakeHttpSender> sender = new AtomicReference<>();
+    HttpExporter<TestMarshaler> exporter =
+        new HttpExporterBuilder<TestMarshaler>("otlp", "span", "http://localhost")
+            .setRetryPolicy(
+                RetryPolicy.builder()
+                    .setInitialBackoff(Duration.ofMinutes(1))
+                    .setMaxBackoff(Duration.ofMinutes(1))
+                    .build())
+            .setDiskBuffering(directory, 1024)
+            .build(
+                (endpoint,
+                    compressionEnabled,
+                    contentType,
+                    timeoutNanos,
+                    headerSupplier,
+                    authenticator,
+                    retryPolicy,
+                    sslContext,
+                    trustManager) -> {
+                  sender.set(new FakeHttpSender(retryPolicy));
+                  return sender.get();
+                });
+    sender.get().statusCode = 503;
+
+    exporter.export(new TestMarshaler(), 1);
+    assertThat(sender.get().requests.get()).isEqualTo(1);
+
+    // Flushing skips the backoff of the spool and starts the next drain cycle.
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+    assertThat(sender.get().requests.get()).isEqualTo(2);
+    exporter.shutdown();
+  }
+
+  private static HttpExporter<TestMarshaler> exporter(FakeHttpSender sender, DiskSpool spool) {
+    return new HttpExporter<>(
+        "otlp", "span", sender, MeterProvider::noop, false, spool, RETRY_POLICY);
+  }
+
+  private static final class TestMarshaler extends Marshaler {
+    @Override
+    public int getBinarySerializedSize() {
+      return 3;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      output.writeSerializedMessage(new byte[] {1, 2, 3}, "{}");
+    }
+  }
+
+  private static final class FakeHttpSender implements HttpSender {
+    private final List<Consumer<Response>> pending = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    @Nullable private final RetryPolicy retryPolicy;
+    private volatile int statusCode = 200;
+    private volatile boolean respond = true;
+
+    private FakeHttpSender() {
+      this(null);
+    }
+
+    private FakeHttpSender(@Nullable RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public synchronized void send(
+        Consumer<OutputStream> marshaler,
+        int contentLength,
+        Consumer<Response> onResponse,
+        Consumer<Throwable> onError) {
+      requests.incrementAndGet();
+      if (respond) {
+        // Like the real senders, retry retryable responses up to the max attempts.
+        for (int attempt = 1;
+            retryPolicy != null && statusCode == 503 && attempt < retryPolicy.getMaxAttempts();
+            attempt++) {
+          requests.incrementAndGet();
+        }
+        onResponse.accept(response(statusCode));
+      } else {
+        pending.add(onResponse);
+      }
+    }
+
+    private void respondToPending() {
+      List<Consumer<Response>> responses;
+      synchronized (this) {
+        responses = new ArrayList<>(pending);
+        pending.clear();
+      }
+      for (Consumer<Response> onResponse : responses) {
+        onResponse.accept(response(statusCode));
+      }
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    private static Response response(int statusCode) {
+      return new Response() {
+        @Override
+        public int statusCode() {
+          return statusCode;
+        }
+
+        @Override
+        public String statusMessage() {
+          return "status " + statusCode;
+        }
+
+        @Override
+        public byte[] responseBody() {
+          return new byte[0];
+        }
+      };
+    }
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskSpoolTest {
+
+  @TempDir File directory;
+
+  @Test
+  void appendPeekMarkDelivered() throws IOException {
+    try (DiskSpool spool = DiskSpool.open(directory, 1024, 128)) {
+      assertThat(spool.peek()).isNull();
+
+      assertThat(spool.append(bytes("first"), 2)).isTrue();
+      assertThat(spool.append(bytes("second"), 3)).isTrue();
+      assertThat(spool.getPendingItems()).isEqualTo(5);
+
+      DiskSpool.Record record = spool.peek();
+      assertThat(record).isNotNull();
+      assertThat(record.getPayload()).isEqualTo(bytes("first"));
+      assertThat(record.getItemCount()).isEqualTo(2);
+      // Not delivered yet, so the same record is returned again.
+      assertThat(spool.peek().getPayload()).isEqualTo(bytes("first"));
+
+      spool.markDelivered(record);
+      // Delivering twice has no effect.
+      spool.markDelivered(record);
+      assertThat(spool.getPendingItems()).isEqualTo(3);
+
+      record = spool.peek();
+      assertThat(record.getPayload()).isEqualTo(bytes("second"));
+      spool.markDelivered(record);
+      assertThat(spool.peek()).isNull();
+      assertThat(spool.getPendingItems()).isZero();
+    }
+  }
+
+  @Test
+  void append_emptyOrTooLarge() throws IOException {
+    try (DiskSpool spool = DiskSpool.open(directory, 64, 64)) {
+      assertThat(spool.append(new byte[0], 1)).isTrue();
+      assertThat(spool.peek()).isNull();
+
+      assertThat(spool.append(new byte[64], 1)).isFalse();
+      assertThat(spool.getPendingItems()).isZero();
+    }
+  }
+
+  @Test
+  void append_rollsOverSegments() throws IOException {
+    try (DiskSpool spool = DiskSpool.open(directory, 1024, 32)) {
+      spool.append(new byte[10], 1);
+      spool.append(new byte[10], 1);
+      spool.append(new byte[10], 1);
+
+      assertThat(spool.getSegmentFiles()).hasSize(3).allSatisfy(file -> assertThat(file).exists());
+
+      // Delivering all records of a full segment deletes it.
+      File first = spool.getSegmentFiles().get(0);
+      spool.markDelivered(spool.peek());
+      assertThat(first).doesNotExist();
+      assertThat(spool.getSegmentFiles()).hasSize(2);
+    }
+  }
+
+  @Test
+  void append_dropsOldestWhenFull() throws IOException {
+    try (DiskSpool spool = DiskSpool.open(directory, 64, 32)) {
+      spool.append(bytes("first"), 1);
+      spool.append(new byte[10], 2);
+      spool.append(new byte[10], 3);
+
+      assertThat(spool.getDroppedItems()).isEqualTo(1);
+      assertThat(spool.getPendingItems()).isEqualTo(5);
+      assertThat(spool.peek().getItemCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void open_recoversPendingRecords() throws IOException {
+    try (DiskSpool spool = DiskSpool.open(directory, 1024, 128)) {
+      spool.append(bytes("delivered"), 1);
+      spool.append(bytes("pending"), 2);
+      spool.markDelivered(spool.peek());
+    }
+
+    try (DiskSpool spool = DiskSpool.open(directory, 1024, 128)) {
+      assertThat(spool.getPendingItems()).isEqualTo(2);
+      DiskSpool.Record record = spool.peek();
+      assertThat(record.getPayload()).isEqualTo(bytes("pending"));
+
+      // New records go to a new segment after the recovered ones.
+      spool.append(bytes("new"), 3);
+      spool.markDelivered(record);
+      assertThat(spool.peek().getPayload()).isEqualTo(bytes("new"));
+      assertThat(spool.getSegmentFiles()).hasSize(1);
+    }
+  }
+
+  @Test
+  void open_ignoresTornRecord() throws IOException {
+    File segmentFile;
+    try (DiskSpool spool = DiskSpool.open(directory, 1024, 128)) {
+      spool.append(bytes("complete"), 1);
+      spool.append(bytes("torn"), 1);
+      segmentFile = spool.getSegmentFiles().get(0);
+    }
+    // Corrupt the payload of the second record, as if the process stopped while writing it.
+    try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw")) {
+      file.seek(13 + "complete".length() + 13);
+      file.write('x');
+    }
+
+    try (DiskSpool spool = DiskSpool.open(directory, 1024, 128)) {
+      assertThat(spool.getPendingItems()).isEqualTo(1);
+      assertThat(spool.peek().getPayload()).isEqualTo(bytes("complete"));
+    }
+  }
+
+  @Test
+  void open_directoryInUse() throws IOException {
+    try (DiskSpool unused = DiskSpool.open(directory, 1024)) {
+      assertThatThrownBy(() -> DiskSpool.open(directory, 1024))
+          .isInstanceOf(IOException.class)
+          .hasMessage("Spool directory " + directory + " is used by another spool");
+    }
+    // Released on close.
+    DiskSpool.open(directory, 1024).close();
+  }
+
+  @Test
+  void close() throws IOException {
+    DiskSpool spool = DiskSpool.open(directory, 1024, 128);
+    spool.append(bytes("pending"), 1);
+    spool.close();
+
+    assertThat(spool.append(bytes("closed"), 1)).isFalse();
+    assertThat(spool.peek()).isNull();
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -2,6 +2,7 @@ plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
 
+  id("otel.jmh-conventions")
   id("otel.animalsniffer-conventions")
 }
 
@@ -21,4 +22,6 @@ dependencies {
   testImplementation(project(":sdk:testing"))
 
   testImplementation("org.skyscreamer:jsonassert")
+
+  jmhImplementation(project(":sdk:testing"))
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link OtlpJsonFileLogRecordExporter} writing batches of logs to a
+ * temporary directory. Export calls only queue the serialized batch, so the aux counters report the
+ * megabytes of accepted batches per second, which is bounded by the writer thread once the queue is
+ * full, and the number of batches dropped because it was.
+ */
+public class OtlpJsonFileLogRecordExporterBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"65536", "1048576"})
+    private int bufferSize;
+
+    @Param({"false", "true"})
+    private boolean compressRotatedFiles;
+
+    @Param({"512"})
+    private int batchSize;
+
+    private File directory;
+    private OtlpJsonFileLogRecordExporter exporter;
+    private List<LogRecordData> batch;
+    private double batchMegabytes;
+
+    @Setup(Level.Trial)
+    public final void setupBatch() throws IOException {
+      Resource resource = Resource.create(Attributes.of(stringKey("service.name"), "bench"));
+      InstrumentationScopeInfo scope =
+          InstrumentationScopeInfo.builder("io.opentelemetry.bench").setVersion("1.0").build();
+      batch = new ArrayList<>(batchSize);
+      for (int i = 0; i < batchSize; i++) {
+        batch.add(
+            TestLogRecordData.builder()
+                .setResource(resource)
+                .setInstrumentationScopeInfo(scope)
+                .setTimestamp(System.nanoTime(), TimeUnit.NANOSECONDS)
+                .setSeverity(Severity.INFO)
+                .setSeverityText("INFO")
+                .setBody("Processed request " + i + " for customer " + (i % 17) + " in 12 ms")
+                .setAttributes(
+                    Attributes.builder()
+                        .put("http.method", "GET")
+                        .put("http.route", "/api/orders/{id}")
+                        .put("http.status_code", 200)
+                        .build())
+                .build());
+      }
+      ByteArrayOutputStream line = new ByteArrayOutputStream();
+      LogsRequestMarshaler.create(batch).writeJsonTo(line);
+      batchMegabytes = (line.size() + 1) / 1_000_000.0;
+    }
+
+    @Setup(Level.Iteration)
+    public final void setup() throws IOException {
+      directory = Files.createTempDirectory("otlp-json-file-bench").toFile();
+      exporter =
+          OtlpJsonFileLogRecordExporter.builder(new File(directory, "logs.jsonl"))
+              .setBufferSize(bufferSize)
+              .setCompressRotatedFiles(compressRotatedFiles)
+              .setMaxRotatedFiles(2)
+              .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      exporter.shutdown().join(60, TimeUnit.SECONDS);
+      File[] files = directory.listFiles();
+      if (files != null) {
+        for (File file : files) {
+          file.delete();
+        }
+      }
+      directory.delete();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ThreadState {
+    public double megabytes;
+    public long droppedBatches;
+
+    @Setup(Level.Iteration)
+    public final void reset() {
+      megabytes = 0;
+      droppedBatches = 0;
+    }
+  }
+
+  /** Exports a batch of logs, as a batch processor would. */
+  @Benchmark
+  @Fork(1)
+  @Threads(1)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void export(BenchmarkState benchmarkState, ThreadState threadState) {
+    if (benchmarkState.exporter.export(benchmarkState.batch).isSuccess()) {
+      threadState.megabytes += benchmarkState.batchMegabytes;
+    } else {
+      threadState.droppedBatches++;
+    }
+  }
+}
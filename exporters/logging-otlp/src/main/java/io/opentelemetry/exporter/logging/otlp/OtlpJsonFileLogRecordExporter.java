@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
+import io.opentelemetry.exporter.logging.otlp.internal.JsonLinesFileWriter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import java.io.File;
+import java.util.Collection;
+
+/**
+ * A {@link LogRecordExporter} which appends {@linkplain LogRecordData logs} to a file in OTLP JSON
+ * format. Each line of the file holds a single {@code ExportLogsServiceRequest}.
+ *
+ * <p>Logs are serialized on the exporting thread and written to the file by a dedicated writer
+ * thread, so {@link #export(Collection)} returns without waiting for the file. The file is rotated
+ * by size, and optionally by age, see {@link OtlpJsonFileLogRecordExporterBuilder}.
+ *
+ * @since 1.30.0
+ */
+public final class OtlpJsonFileLogRecordExporter implements LogRecordExporter {
+
+  private final JsonLinesFileWriter writer;
+
+  /** Returns a new {@link OtlpJsonFileLogRecordExporterBuilder} appending to {@code file}. */
+  public static OtlpJsonFileLogRecordExporterBuilder builder(File file) {
+    return new OtlpJsonFileLogRecordExporterBuilder(JsonLinesFileWriter.builder(file));
+  }
+
+  OtlpJsonFileLogRecordExporter(JsonLinesFileWriter writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Queues the logs for writing. The returned result fails if they were dropped because the queue
+   * of the writer is full or the exporter was shut down.
+   */
+  @Override
+  public CompletableResultCode export(Collection<LogRecordData> logs) {
+    return writer.write(LogsRequestMarshaler.create(logs))
+        ? CompletableResultCode.ofSuccess()
+        : CompletableResultCode.ofFailure();
+  }
+
+  /** Writes the logs queued so far to the file. */
+  @Override
+  public CompletableResultCode flush() {
+    return writer.flush();
+  }
+
+  /** Writes the logs queued so far to the file and closes it. */
+  @Override
+  public CompletableResultCode shutdown() {
+    return writer.shutdown();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
+import io.opentelemetry.exporter.logging.otlp.internal.JsonLinesFileWriter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import java.io.File;
+import java.util.Collection;
+
+/**
+ * A {@link MetricExporter} which appends {@linkplain MetricData metrics} to a file in OTLP JSON
+ * format. Each line of the file holds a single {@code ExportMetricsServiceRequest}.
+ *
+ * <p>Metrics are serialized on the exporting thread and written to the file by a dedicated writer
+ * thread, so {@link #export(Collection)} returns without waiting for the file. The file is rotated
+ * by size, and optionally by age, see {@link OtlpJsonFileMetricExporterBuilder}.
+ *
+ * @since 1.30.0
+ */
+public final class OtlpJsonFileMetricExporter implements MetricExporter {
+
+  private final JsonLinesFileWriter writer;
+  private final AggregationTemporalitySelector aggregationTemporalitySelector;
+
+  /** Returns a new {@link OtlpJsonFileMetricExporterBuilder} appending to {@code file}. */
+  public static OtlpJsonFileMetricExporterBuilder builder(File file) {
+    return new OtlpJsonFileMetricExporterBuilder(JsonLinesFileWriter.builder(file));
+  }
+
+  OtlpJsonFileMetricExporter(
+      JsonLinesFileWriter writer, AggregationTemporalitySelector aggregationTemporalitySelector) {
+    this.writer = writer;
+    this.aggregationTemporalitySelector = aggregationTemporalitySelector;
+  }
+
+  @Override
+  public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+    return aggregationTemporalitySelector.getAggregationTemporality(instrumentType);
+  }
+
+  /**
+   * Queues the metrics for writing. The returned result fails if they were dropped because the
+   * queue of the writer is full or the exporter was shut down.
+   */
+  @Override
+  public CompletableResultCode export(Collection<MetricData> metrics) {
+    return writer.write(MetricsRequestMarshaler.create(metrics))
+        ? CompletableResultCode.ofSuccess()
+        : CompletableResultCode.ofFailure();
+  }
+
+  /** Writes the metrics queued so far to the file. */
+  @Override
+  public CompletableResultCode flush() {
+    return writer.flush();
+  }
+
+  /** Writes the metrics queued so far to the file and closes it. */
+  @Override
+  public CompletableResultCode shutdown() {
+    return writer.shutdown();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.exporter.logging.otlp.internal.JsonLinesFileWriterBuilder;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for {@link OtlpJsonFileMetricExporter}.
+ *
+ * @since 1.30.0
+ */
+public final class OtlpJsonFileMetricExporterBuilder {
+
+  private final JsonLinesFileWriterBuilder delegate;
+  private AggregationTemporalitySelector aggregationTemporalitySelector =
+      AggregationTemporalitySelector.alwaysCumulative();
+
+  OtlpJsonFileMetricExporterBuilder(JsonLinesFileWriterBuilder delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Sets the maximum size of the file in bytes. The file is rotated before a request would make it
+   * larger. If unset, defaults to {@value JsonLinesFileWriterBuilder#DEFAULT_MAX_FILE_SIZE}.
+   */
+  public OtlpJsonFileMetricExporterBuilder setMaxFileSize(long maxFileSize) {
+    checkArgument(maxFileSize > 0, "maxFileSize must be positive.");
+    delegate.setMaxFileSize(maxFileSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum age of the file, after which it is rotated even if it is smaller than the
+   * maximum file size. If unset or zero, the file is only rotated by size.
+   */
+  public OtlpJsonFileMetricExporterBuilder setRotationInterval(long interval, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(interval >= 0, "rotationInterval must be non-negative.");
+    delegate.setRotationInterval(interval, unit);
+    return this;
+  }
+
+  /**
+   * Sets the maximum age of the file, after which it is rotated even if it is smaller than the
+   * maximum file size. If unset or zero, the file is only rotated by size.
+   */
+  public OtlpJsonFileMetricExporterBuilder setRotationInterval(Duration interval) {
+    requireNonNull(interval, "interval");
+    return setRotationInterval(interval.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the number of rotated files to keep, the oldest are deleted. If unset, defaults to {@value
+   * JsonLinesFileWriterBuilder#DEFAULT_MAX_ROTATED_FILES}.
+   */
+  public OtlpJsonFileMetricExporterBuilder setMaxRotatedFiles(int maxRotatedFiles) {
+    checkArgument(maxRotatedFiles >= 0, "maxRotatedFiles must be non-negative.");
+    delegate.setMaxRotatedFiles(maxRotatedFiles);
+    return this;
+  }
+
+  /**
+   * Sets whether rotated files are compressed with gzip, adding {@code .gz} to their name. If
+   * unset, defaults to {@code false}.
+   */
+  public OtlpJsonFileMetricExporterBuilder setCompressRotatedFiles(boolean compressRotatedFiles) {
+    delegate.setCompressRotatedFiles(compressRotatedFiles);
+    return this;
+  }
+
+  /**
+   * Sets the size in bytes of the buffer requests are collected in before they are written to the
+   * file. If unset, defaults to {@value JsonLinesFileWriterBuilder#DEFAULT_BUFFER_SIZE}.
+   */
+  public OtlpJsonFileMetricExporterBuilder setBufferSize(int bufferSize) {
+    checkArgument(bufferSize > 0, "bufferSize must be positive.");
+    delegate.setBufferSize(bufferSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum total size in bytes of the serialized requests waiting for the writer thread.
+   * Requests exceeding it are dropped. If unset, defaults to {@value
+   * JsonLinesFileWriterBuilder#DEFAULT_MAX_QUEUED_BYTES}.
+   */
+  public OtlpJsonFileMetricExporterBuilder setMaxQueuedBytes(long maxQueuedBytes) {
+    checkArgument(maxQueuedBytes > 0, "maxQueuedBytes must be positive.");
+    delegate.setMaxQueuedBytes(maxQueuedBytes);
+    return this;
+  }
+
+  /**
+   * Set the {@link AggregationTemporalitySelector} used for {@link
+   * MetricExporter#getAggregationTemporality(InstrumentType)}.
+   *
+   * <p>If unset, defaults to {@link AggregationTemporalitySelector#alwaysCumulative()}.
+   */
+  public OtlpJsonFileMetricExporterBuilder setAggregationTemporalitySelector(
+      AggregationTemporalitySelector aggregationTemporalitySelector) {
+    requireNonNull(aggregationTemporalitySelector, "aggregationTemporalitySelector");
+    this.aggregationTemporalitySelector = aggregationTemporalitySelector;
+    return this;
+  }
+
+  // Visible for testing
+  OtlpJsonFileMetricExporterBuilder setClock(Clock clock) {
+    requireNonNull(clock, "clock");
+    delegate.setClock(clock);
+    return this;
+  }
+
+  /**
+   * Returns a new {@link OtlpJsonFileMetricExporter}, starting its writer thread.
+   *
+   * @return a new {@link OtlpJsonFileMetricExporter}.
+   */
+  public OtlpJsonFileMetricExporter build() {
+    return new OtlpJsonFileMetricExporter(delegate.build(), aggregationTemporalitySelector);
+  }
+}
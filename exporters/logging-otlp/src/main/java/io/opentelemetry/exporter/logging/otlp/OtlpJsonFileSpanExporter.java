@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.exporter.logging.otlp.internal.JsonLinesFileWriter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.File;
+import java.util.Collection;
+
+/**
+ * A {@link SpanExporter} which appends {@linkplain SpanData spans} to a file in OTLP JSON format.
+ * Each line of the file holds a single {@code ExportTraceServiceRequest}.
+ *
+ * <p>Spans are serialized on the exporting thread and written to the file by a dedicated writer
+ * thread, so {@link #export(Collection)} returns without waiting for the file. The file is rotated
+ * by size, and optionally by age, see {@link OtlpJsonFileSpanExporterBuilder}.
+ *
+ * @since 1.30.0
+ */
+public final class OtlpJsonFileSpanExporter implements SpanExporter {
+
+  private final JsonLinesFileWriter writer;
+
+  /** Returns a new {@link OtlpJsonFileSpanExporterBuilder} appending to {@code file}. */
+  public static OtlpJsonFileSpanExporterBuilder builder(File file) {
+    return new OtlpJsonFileSpanExporterBuilder(JsonLinesFileWriter.builder(file));
+  }
+
+  OtlpJsonFileSpanExporter(JsonLinesFileWriter writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Queues the spans for writing. The returned result fails if they were dropped because the queue
+   * of the writer is full or the exporter was shut down.
+   */
+  @Override
+  public CompletableResultCode export(Collection<SpanData> spans) {
+    return writer.write(TraceRequestMarshaler.create(spans))
+        ? CompletableResultCode.ofSuccess()
+        : CompletableResultCode.ofFailure();
+  }
+
+  /** Writes the spans queued so far to the file. */
+  @Override
+  public CompletableResultCode flush() {
+    return writer.flush();
+  }
+
+  /** Writes the spans queued so far to the file and closes it. */
+  @Override
+  public CompletableResultCode shutdown() {
+    return writer.shutdown();
+  }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp.internal;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * Appends OTLP JSON export requests to a file, one request per line, from a dedicated writer
+ * thread.
+ *
+ * <p>Requests are serialized on the calling thread, since the telemetry data passed to an exporter
+ * may be reused once the export call returns, and queued for the writer thread. The writer copies
+ * them into a large direct buffer which is written to the {@link FileChannel} of the file when it
+ * is full, when the writer is idle, and when flushing. The total size of queued requests is
+ * bounded, requests which don't fit are dropped.
+ *
+ * <p>The file is rotated once it would grow beyond the maximum file size, and optionally once it is
+ * older than the rotation interval. A rotated file is renamed to the name of the file followed by
+ * an increasing index, such as {@code logs.jsonl.3}, optionally compressed with gzip into {@code
+ * logs.jsonl.3.gz}, and only a limited number of rotated files is kept. Compression happens on the
+ * writer thread, requests are queued meanwhile.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class JsonLinesFileWriter {
+
+  private static final String WORKER_THREAD_NAME =
+      JsonLinesFileWriter.class.getSimpleName() + "_WorkerThread";
+  private static final ThrottlingLogger logger =
+      new ThrottlingLogger(Logger.getLogger(JsonLinesFileWriter.class.getName()));
+  private static final String GZIP_SUFFIX = ".gz";
+  private static final long IDLE_FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final File file;
+  private final long maxFileSize;
+  private final long rotationIntervalNanos;
+  private final int maxRotatedFiles;
+  private final boolean compressRotatedFiles;
+  private final long maxQueuedBytes;
+  private final Clock clock;
+  private final ByteBuffer buffer;
+  private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+  private final AtomicLong queuedBytes = new AtomicLong();
+  private final AtomicBoolean isShutdown = new AtomicBoolean();
+  // Set once the writer thread exits, after which queued requests are never written.
+  private volatile boolean workerStopped;
+
+  // Only accessed by the worker thread, oldest first.
+  private final ArrayDeque<File> rotatedFiles = new ArrayDeque<>();
+  private long nextRotatedIndex = 1;
+  @Nullable private FileChannel channel;
+  // The flush being processed, failed if the thread exits before completing it.
+  @Nullable private FlushRequest currentFlush;
+  private long fileSize;
+  private long fileOpenedNanos;
+
+  /** Returns a new {@link JsonLinesFileWriterBuilder} writing to {@code file}. */
+  public static JsonLinesFileWriterBuilder builder(File file) {
+    return new JsonLinesFileWriterBuilder(file);
+  }
+
+  JsonLinesFileWriter(
+      File file,
+      long maxFileSize,
+      long rotationIntervalNanos,
+      int maxRotatedFiles,
+      boolean compressRotatedFiles,
+      int bufferSize,
+      long maxQueuedBytes,
+      Clock clock) {
+    this.file = file;
+    this.maxFileSize = maxFileSize;
+    this.rotationIntervalNanos = rotationIntervalNanos;
+    this.maxRotatedFiles = maxRotatedFiles;
+    this.compressRotatedFiles = compressRotatedFiles;
+    this.maxQueuedBytes = maxQueuedBytes;
+    this.clock = clock;
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(this::run).start();
+  }
+
+  /**
+   * Serializes the {@code request} as a line of OTLP JSON and queues it for writing. Returns {@code
+   * false} if the request was dropped because the queue is full or the writer was shut down.
+   */
+  public boolean write(Marshaler request) {
+    if (isShutdown.get() || workerStopped) {
+      return false;
+    }
+    // The binary size is already computed and is a good estimate of the JSON size.
+    JsonLine line = new JsonLine(request.getBinarySerializedSize() * 2 + 1);
+    try {
+      request.writeJsonTo(line);
+    } catch (IOException e) {
+      // Shouldn't happen in practice, just skip it.
+      return false;
+    }
+    line.write('\n');
+    long size = line.size();
+    if (queuedBytes.addAndGet(size) > maxQueuedBytes) {
+      queuedBytes.addAndGet(-size);
+      logger.log(
+          Level.WARNING,
+          "Dropping OTLP JSON export request, the queue of " + file + " is full.");
+      return false;
+    }
+    queue.offer(line);
+    if (workerStopped) {
+      failQueued();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Writes the requests queued so far to the file. The returned result completes once they were
+   * handed to the operating system.
+   */
+  public CompletableResultCode flush() {
+    if (isShutdown.get()) {
+      return CompletableResultCode.ofSuccess();
+    }
+    return enqueueFlush(/* close= */ false);
+  }
+
+  /**
+   * Writes the requests queued so far to the file, forces it to the storage device, closes it and
+   * stops the writer thread.
+   */
+  public CompletableResultCode shutdown() {
+    if (!isShutdown.compareAndSet(false, true)) {
+      logger.log(Level.INFO, "Calling shutdown() multiple times.");
+      return CompletableResultCode.ofSuccess();
+    }
+    return enqueueFlush(/* close= */ true);
+  }
+
+  private CompletableResultCode enqueueFlush(boolean close) {
+    CompletableResultCode result = new CompletableResultCode();
+    queue.offer(new FlushRequest(result, close));
+    if (workerStopped) {
+      failQueued();
+    }
+    return result;
+  }
+
+  /** Drops the queued requests and fails the queued flushes, once the writer thread exited. */
+  private void failQueued() {
+    Object entry;
+    while ((entry = queue.poll()) != null) {
+      if (entry instanceof JsonLine) {
+        queuedBytes.addAndGet(-((JsonLine) entry).size());
+      } else {
+        ((FlushRequest) entry).result.fail();
+      }
+    }
+  }
+
+  private void run() {
+    try {
+      writeQueued();
+    } finally {
+      workerStopped = true;
+      if (currentFlush != null) {
+        currentFlush.result.fail();
+      }
+      closeQuietly();
+      failQueued();
+    }
+  }
+
+  private void writeQueued() {
+    try {
+      findRotatedFiles();
+      open();
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Unable to open " + file, e);
+    }
+    while (true) {
+      Object entry;
+      try {
+        entry = queue.poll(IDLE_FLUSH_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        if (entry == null) {
+          flushBuffer();
+          if (shouldRotateOnTime()) {
+            rotate();
+          }
+        } else if (entry instanceof JsonLine) {
+          JsonLine line = (JsonLine) entry;
+          queuedBytes.addAndGet(-line.size());
+          append(line);
+        } else {
+          FlushRequest request = (FlushRequest) entry;
+          currentFlush = request;
+          flushBuffer();
+          if (request.close) {
+            closeQuietly();
+            request.result.succeed();
+            return;
+          }
+          request.result.succeed();
+          currentFlush = null;
+        }
+      } catch (IOException | RuntimeException e) {
+        // Keep the thread alive on unexpected exceptions too, or all later requests would be lost.
+        logger.log(Level.WARNING, "Unable to write to " + file + ", dropping buffered data.", e);
+        buffer.clear();
+        closeQuietly();
+        if (entry instanceof FlushRequest) {
+          currentFlush = null;
+          ((FlushRequest) entry).result.fail();
+          if (((FlushRequest) entry).close) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  private void append(JsonLine line) throws IOException {
+    if (channel == null) {
+      open();
+    }
+    int size = line.size();
+    if ((fileSize > 0 && fileSize + size > maxFileSize) || shouldRotateOnTime()) {
+      rotate();
+    }
+    if (size > buffer.remaining()) {
+      flushBuffer();
+    }
+    if (size > buffer.capacity()) {
+      writeFully(line.asByteBuffer());
+    } else {
+      line.copyTo(buffer);
+    }
+    fileSize += size;
+  }
+
+  private boolean shouldRotateOnTime() {
+    return rotationIntervalNanos > 0
+        && fileSize > 0
+        && clock.nanoTime() - fileOpenedNanos >= rotationIntervalNanos;
+  }
+
+  private void flushBuffer() throws IOException {
+    if (buffer.position() == 0 || channel == null) {
+      return;
+    }
+    buffer.flip();
+    try {
+      writeFully(buffer);
+    } finally {
+      buffer.clear();
+    }
+  }
+
+  private void writeFully(ByteBuffer source) throws IOException {
+    FileChannel channel = this.channel;
+    if (channel == null) {
+      throw new IOException(file + " is not open");
+    }
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+  private void open() throws IOException {
+    File directory = file.getAbsoluteFile().getParentFile();
+    if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Could not create directory " + directory);
+    }
+    FileChannel channel = new FileOutputStream(file, /* append= */ true).getChannel();
+    this.channel = channel;
+    fileSize = channel.size();
+    fileOpenedNanos = clock.nanoTime();
+  }
+
+  private void findRotatedFiles() {
+    File directory = file.getAbsoluteFile().getParentFile();
+    String prefix = file.getName() + ".";
+    File[] files = directory == null ? null : directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    TreeMap<Long, File> byIndex = new TreeMap<>();
+    for (File candidate : files) {
+      long index = rotatedIndex(candidate.getName(), prefix);
+      if (index > 0) {
+        byIndex.put(index, candidate);
+      }
+    }
+    rotatedFiles.addAll(byIndex.values());
+    if (!byIndex.isEmpty()) {
+      nextRotatedIndex = byIndex.lastKey() + 1;
+    }
+  }
+
+  private static long rotatedIndex(String name, String prefix) {
+    if (!name.startsWith(prefix)) {
+      return -1;
+    }
+    String index = name.substring(prefix.length());
+    if (index.endsWith(GZIP_SUFFIX)) {
+      index = index.substring(0, index.length() - GZIP_SUFFIX.length());
+    }
+    try {
+      return Long.parseLong(index);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private void rotate() throws IOException {
+    flushBuffer();
+    closeQuietly();
+    File rotated = new File(file.getPath() + "." + nextRotatedIndex++);
+    if (!file.renameTo(rotated)) {
+      throw new IOException("Could not rename " + file + " to " + rotated);
+    }
+    if (compressRotatedFiles) {
+      rotated = compress(rotated);
+    }
+    rotatedFiles.addLast(rotated);
+    while (rotatedFiles.size() > maxRotatedFiles) {
+      File oldest = rotatedFiles.removeFirst();
+      if (!oldest.delete()) {
+        logger.log(Level.WARNING, "Could not delete rotated file " + oldest);
+      }
+    }
+    open();
+  }
+
+  private static File compress(File source) {
+    File target = new File(source.getPath() + GZIP_SUFFIX);
+    byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+    try (InputStream in = new FileInputStream(source);
+        OutputStream out = new GZIPOutputStream(new FileOutputStream(target), COPY_BUFFER_SIZE)) {
+      int read;
+      while ((read = in.read(copyBuffer)) != -1) {
+        out.write(copyBuffer, 0, read);
+      }
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to compress " + source + ", keeping it uncompressed.", e);
+      if (!target.delete()) {
+        logger.log(Level.WARNING, "Could not delete " + target);
+      }
+      return source;
+    }
+    if (!source.delete()) {
+      logger.log(Level.WARNING, "Could not delete " + source + " after compressing it.");
+    }
+    return target;
+  }
+
+  private void closeQuietly() {
+    FileChannel channel = this.channel;
+    if (channel == null) {
+      return;
+    }
+    this.channel = null;
+    try {
+      channel.force(false);
+      channel.close();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to close " + file, e);
+    }
+  }
+
+  /** A serialized request, exposing its array so it can be copied without another allocation. */
+  private static final class JsonLine extends ByteArrayOutputStream {
+
+    private JsonLine(int initialSize) {
+      super(initialSize);
+    }
+
+    private void copyTo(ByteBuffer target) {
+      target.put(buf, 0, count);
+    }
+
+    private ByteBuffer asByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+
+  private static final class FlushRequest {
+    private final CompletableResultCode result;
+    private final boolean close;
+
+    private FlushRequest(CompletableResultCode result, boolean close) {
+      this.result = result;
+      this.close = close;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp.internal;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for {@link JsonLinesFileWriter}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class JsonLinesFileWriterBuilder {
+
+  public static final long DEFAULT_MAX_FILE_SIZE = 64 * 1024 * 1024;
+  public static final int DEFAULT_MAX_ROTATED_FILES = 10;
+  public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+  public static final long DEFAULT_MAX_QUEUED_BYTES = 32 * 1024 * 1024;
+
+  private final File file;
+  private long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+  private long rotationIntervalNanos;
+  private int maxRotatedFiles = DEFAULT_MAX_ROTATED_FILES;
+  private boolean compressRotatedFiles;
+  private int bufferSize = DEFAULT_BUFFER_SIZE;
+  private long maxQueuedBytes = DEFAULT_MAX_QUEUED_BYTES;
+  private Clock clock = Clock.getDefault();
+
+  JsonLinesFileWriterBuilder(File file) {
+    this.file = requireNonNull(file, "file");
+  }
+
+  public JsonLinesFileWriterBuilder setMaxFileSize(long maxFileSize) {
+    checkArgument(maxFileSize > 0, "maxFileSize must be positive.");
+    this.maxFileSize = maxFileSize;
+    return this;
+  }
+
+  public JsonLinesFileWriterBuilder setRotationInterval(long interval, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(interval >= 0, "rotationInterval must be non-negative.");
+    this.rotationIntervalNanos = unit.toNanos(interval);
+    return this;
+  }
+
+  public JsonLinesFileWriterBuilder setMaxRotatedFiles(int maxRotatedFiles) {
+    checkArgument(maxRotatedFiles >= 0, "maxRotatedFiles must be non-negative.");
+    this.maxRotatedFiles = maxRotatedFiles;
+    return this;
+  }
+
+  public JsonLinesFileWriterBuilder setCompressRotatedFiles(boolean compressRotatedFiles) {
+    this.compressRotatedFiles = compressRotatedFiles;
+    return this;
+  }
+
+  public JsonLinesFileWriterBuilder setBufferSize(int bufferSize) {
+    checkArgument(bufferSize > 0, "bufferSize must be positive.");
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  public JsonLinesFileWriterBuilder setMaxQueuedBytes(long maxQueuedBytes) {
+    checkArgument(maxQueuedBytes > 0, "maxQueuedBytes must be positive.");
+    this.maxQueuedBytes = maxQueuedBytes;
+    return this;
+  }
+
+  public JsonLinesFileWriterBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  /** Returns a new {@link JsonLinesFileWriter}, starting its writer thread. */
+  public JsonLinesFileWriter build() {
+    return new JsonLinesFileWriter(
+        file,
+        maxFileSize,
+        rotationIntervalNanos,
+        maxRotatedFiles,
+        compressRotatedFiles,
+        bufferSize,
+        maxQueuedBytes,
+        clock);
+  }
+}
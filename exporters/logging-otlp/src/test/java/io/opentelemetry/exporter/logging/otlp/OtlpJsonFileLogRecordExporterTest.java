@@ -0,0 +1,359 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.exporter.logging.otlp.internal.JsonLinesFileWriter;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+@SuppressLogger(JsonLinesFileWriter.class)
+class OtlpJsonFileLogRecordExporterTest {
+
+  private static final Resource RESOURCE =
+      Resource.create(Attributes.builder().put("key", "value").build());
+
+  private static final LogRecordData LOG =
+      TestLogRecordData.builder()
+          .setResource(RESOURCE)
+          .setInstrumentationScopeInfo(
+              InstrumentationScopeInfo.builder("instrumentation").setVersion("1").build())
+          .setBody("body")
+          .setSeverity(Severity.INFO)
+          .setSeverityText("INFO")
+          .setTimestamp(100L, TimeUnit.NANOSECONDS)
+          .setObservedTimestamp(200L, TimeUnit.NANOSECONDS)
+          .setAttributes(Attributes.of(stringKey("animal"), "cat"))
+          .build();
+
+  @TempDir File tempDir;
+
+  @Test
+  void export() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    OtlpJsonFileLogRecordExporter exporter = OtlpJsonFileLogRecordExporter.builder(file).build();
+
+    assertThat(exporter.export(Collections.singletonList(LOG)).isSuccess()).isTrue();
+    assertThat(exporter.export(Arrays.asList(LOG, LOG)).isSuccess()).isTrue();
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    List<String> lines = readLines(file);
+    assertThat(lines).hasSize(2);
+    JSONAssert.assertEquals(
+        "{"
+            + "  \"resourceLogs\": [{"
+            + "    \"resource\": {"
+            + "      \"attributes\": [{"
+            + "        \"key\":\"key\","
+            + "        \"value\": {"
+            + "          \"stringValue\":\"value\""
+            + "        }"
+            + "      }]"
+            + "    },"
+            + "    \"scopeLogs\": [{"
+            + "      \"scope\": {"
+            + "        \"name\":\"instrumentation\","
+            + "        \"version\":\"1\""
+            + "      },"
+            + "      \"logRecords\": [{"
+            + "        \"timeUnixNano\":\"100\","
+            + "        \"observedTimeUnixNano\":\"200\","
+            + "        \"severityNumber\":9,"
+            + "        \"severityText\":\"INFO\","
+            + "        \"body\": {"
+            + "          \"stringValue\":\"body\""
+            + "        },"
+            + "        \"attributes\": [{"
+            + "          \"key\":\"animal\","
+            + "          \"value\": {"
+            + "            \"stringValue\":\"cat\""
+            + "          }"
+            + "        }]"
+            + "      }]"
+            + "    }]"
+            + "  }]"
+            + "}",
+        lines.get(0),
+        /* strict= */ false);
+    assertThat(lines.get(1)).contains("logRecords");
+    assertThat(lines.get(1).split("\"body\"", -1)).hasSize(3);
+
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void export_appendsToExistingFile() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    Files.write(file.toPath(), "{}\n".getBytes(StandardCharsets.UTF_8));
+    OtlpJsonFileLogRecordExporter exporter = OtlpJsonFileLogRecordExporter.builder(file).build();
+
+    exporter.export(Collections.singletonList(LOG));
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+
+    List<String> lines = readLines(file);
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0)).isEqualTo("{}");
+  }
+
+  @Test
+  void export_bufferSmallerThanRequest() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file).setBufferSize(16).build();
+
+    for (int i = 0; i < 3; i++) {
+      exporter.export(Collections.singletonList(LOG));
+    }
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+
+    assertThat(readLines(file)).hasSize(3).allSatisfy(line -> assertThat(line).endsWith("}"));
+  }
+
+  @Test
+  void rotateBySize() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file)
+            // Smaller than a single request, so each request goes to its own file.
+            .setMaxFileSize(10)
+            .setMaxRotatedFiles(2)
+            .build();
+
+    for (int i = 0; i < 4; i++) {
+      exporter.export(Collections.singletonList(LOG));
+    }
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+
+    assertThat(tempDir.list())
+        .containsExactlyInAnyOrder("logs.jsonl", "logs.jsonl.2", "logs.jsonl.3");
+    assertThat(readLines(file)).hasSize(1);
+    assertThat(readLines(new File(tempDir, "logs.jsonl.3"))).hasSize(1);
+  }
+
+  @Test
+  void rotateBySize_compressed() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file)
+            .setMaxFileSize(10)
+            .setCompressRotatedFiles(true)
+            .build();
+
+    exporter.export(Collections.singletonList(LOG));
+    exporter.export(Collections.singletonList(LOG));
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+
+    assertThat(tempDir.list()).containsExactlyInAnyOrder("logs.jsonl", "logs.jsonl.1.gz");
+    try (InputStream in = new GZIPInputStream(new FileInputStream(new File(file + ".1.gz")))) {
+      assertThat(readLines(in)).isEqualTo(readLines(file));
+    }
+  }
+
+  @Test
+  void rotateBySize_continuesIndexOfExistingFiles() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    Files.write(new File(tempDir, "logs.jsonl.7.gz").toPath(), new byte[0]);
+    Files.write(new File(tempDir, "logs.jsonl.old").toPath(), new byte[0]);
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file).setMaxFileSize(10).build();
+
+    exporter.export(Collections.singletonList(LOG));
+    exporter.export(Collections.singletonList(LOG));
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+
+    assertThat(tempDir.list())
+        .containsExactlyInAnyOrder(
+            "logs.jsonl", "logs.jsonl.7.gz", "logs.jsonl.8", "logs.jsonl.old");
+  }
+
+  @Test
+  void rotateByTime() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    TestClock clock = TestClock.create();
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file)
+            .setRotationInterval(Duration.ofMinutes(1))
+            .setClock(clock)
+            .build();
+
+    exporter.export(Collections.singletonList(LOG));
+    exporter.export(Collections.singletonList(LOG));
+    exporter.flush().join(10, TimeUnit.SECONDS);
+    assertThat(tempDir.list()).containsExactly("logs.jsonl");
+
+    clock.advance(Duration.ofMinutes(1));
+    exporter.export(Collections.singletonList(LOG));
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+
+    assertThat(tempDir.list()).containsExactlyInAnyOrder("logs.jsonl", "logs.jsonl.1");
+    assertThat(readLines(new File(tempDir, "logs.jsonl.1"))).hasSize(2);
+    assertThat(readLines(file)).hasSize(1);
+  }
+
+  @Test
+  void export_queueFull() {
+    File file = new File(tempDir, "logs.jsonl");
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file).setMaxQueuedBytes(10).build();
+
+    assertThat(exporter.export(Collections.singletonList(LOG)).isSuccess()).isFalse();
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void shutdown() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    OtlpJsonFileLogRecordExporter exporter = OtlpJsonFileLogRecordExporter.builder(file).build();
+    exporter.export(Collections.singletonList(LOG));
+
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(readLines(file)).hasSize(1);
+    assertThat(exporter.export(Collections.singletonList(LOG)).isSuccess()).isFalse();
+    assertThat(exporter.flush().isSuccess()).isTrue();
+    assertThat(exporter.shutdown().isSuccess()).isTrue();
+    assertThat(readLines(file)).hasSize(1);
+  }
+
+  @Test
+  void writerSurvivesRuntimeException() throws Exception {
+    File file = new File(tempDir, "logs.jsonl");
+    FailingClock clock = new FailingClock();
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file)
+            .setRotationInterval(Duration.ofMinutes(1))
+            .setClock(clock)
+            .build();
+    exporter.export(Collections.singletonList(LOG));
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    // Checking the rotation interval throws, dropping the request.
+    clock.exception = new IllegalStateException("test");
+    exporter.export(Collections.singletonList(LOG));
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    clock.exception = null;
+    exporter.export(Collections.singletonList(LOG));
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(readLines(file)).hasSize(2);
+  }
+
+  @Test
+  void writerThreadExits() {
+    File file = new File(tempDir, "logs.jsonl");
+    FailingClock clock = new FailingClock();
+    OtlpJsonFileLogRecordExporter exporter =
+        OtlpJsonFileLogRecordExporter.builder(file)
+            .setRotationInterval(Duration.ofMinutes(1))
+            .setClock(clock)
+            .build();
+    exporter.export(Collections.singletonList(LOG));
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    clock.error = new AssertionError("test");
+    exporter.export(Collections.singletonList(LOG));
+
+    // Queued flushes fail instead of never completing, and later requests are rejected.
+    CompletableResultCode flush = exporter.flush().join(10, TimeUnit.SECONDS);
+    assertThat(flush.isDone()).isTrue();
+    assertThat(flush.isSuccess()).isFalse();
+    assertThat(exporter.export(Collections.singletonList(LOG)).isSuccess()).isFalse();
+    CompletableResultCode shutdown = exporter.shutdown().join(10, TimeUnit.SECONDS);
+    assertThat(shutdown.isDone()).isTrue();
+    assertThat(shutdown.isSuccess()).isFalse();
+  }
+
+  @Test
+  void invalidConfig() {
+    File file = new File(tempDir, "logs.jsonl");
+    assertThatThrownBy(() -> OtlpJsonFileLogRecordExporter.builder(file).setMaxFileSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxFileSize must be positive.");
+    assertThatThrownBy(
+            () ->
+                OtlpJsonFileLogRecordExporter.builder(file)
+                    .setRotationInterval(-1, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("rotationInterval must be non-negative.");
+    assertThatThrownBy(() -> OtlpJsonFileLogRecordExporter.builder(file).setMaxRotatedFiles(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxRotatedFiles must be non-negative.");
+    assertThatThrownBy(() -> OtlpJsonFileLogRecordExporter.builder(file).setBufferSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bufferSize must be positive.");
+    assertThatThrownBy(() -> OtlpJsonFileLogRecordExporter.builder(file).setMaxQueuedBytes(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxQueuedBytes must be positive.");
+  }
+
+  private static List<String> readLines(File file) throws IOException {
+    try (InputStream in = new FileInputStream(file)) {
+      return readLines(in);
+    }
+  }
+
+  private static List<String> readLines(InputStream in) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    List<String> lines = new ArrayList<>();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lines.add(line);
+    }
+    return lines;
+  }
+
+  private static final class FailingClock implements Clock {
+    @Nullable private volatile RuntimeException exception;
+    @Nullable private volatile Error error;
+
+    @Override
+    public long now() {
+      return Clock.getDefault().now();
+    }
+
+    @Override
+    public long nanoTime() {
+      RuntimeException exception = this.exception;
+      if (exception != null) {
+        throw exception;
+      }
+      Error error = this.error;
+      if (error != null) {
+        throw error;
+      }
+      return Clock.getDefault().nanoTime();
+    }
+  }
+}
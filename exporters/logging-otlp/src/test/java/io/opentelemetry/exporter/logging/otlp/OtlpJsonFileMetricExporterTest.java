@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableSumData;
+import io.opentelemetry.sdk.resources.Resource;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+class OtlpJsonFileMetricExporterTest {
+
+  private static final MetricData METRIC =
+      ImmutableMetricData.createDoubleSum(
+          Resource.create(Attributes.builder().put("key", "value").build()),
+          InstrumentationScopeInfo.builder("instrumentation").setVersion("1").build(),
+          "metric",
+          "metric description",
+          "m",
+          ImmutableSumData.create(
+              true,
+              AggregationTemporality.CUMULATIVE,
+              Collections.singletonList(
+                  ImmutableDoublePointData.create(
+                      1, 2, Attributes.of(stringKey("cat"), "meow"), 4))));
+
+  @TempDir File tempDir;
+
+  @Test
+  void getAggregationTemporality() {
+    File file = new File(tempDir, "metrics.jsonl");
+    OtlpJsonFileMetricExporter cumulative = OtlpJsonFileMetricExporter.builder(file).build();
+    OtlpJsonFileMetricExporter delta =
+        OtlpJsonFileMetricExporter.builder(file)
+            .setAggregationTemporalitySelector(AggregationTemporalitySelector.deltaPreferred())
+            .build();
+
+    assertThat(cumulative.getAggregationTemporality(InstrumentType.COUNTER))
+        .isEqualTo(AggregationTemporality.CUMULATIVE);
+    assertThat(delta.getAggregationTemporality(InstrumentType.COUNTER))
+        .isEqualTo(AggregationTemporality.DELTA);
+    cumulative.shutdown().join(10, TimeUnit.SECONDS);
+    delta.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void export() throws Exception {
+    File file = new File(tempDir, "metrics.jsonl");
+    OtlpJsonFileMetricExporter exporter = OtlpJsonFileMetricExporter.builder(file).build();
+
+    assertThat(exporter.export(Collections.singletonList(METRIC)).isSuccess()).isTrue();
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(1);
+    JSONAssert.assertEquals(
+        "{"
+            + "  \"resourceMetrics\": [{"
+            + "    \"resource\": {"
+            + "      \"attributes\": [{"
+            + "        \"key\":\"key\","
+            + "        \"value\": {"
+            + "          \"stringValue\":\"value\""
+            + "        }"
+            + "      }]"
+            + "    },"
+            + "    \"scopeMetrics\": [{"
+            + "      \"scope\": {"
+            + "        \"name\":\"instrumentation\","
+            + "        \"version\":\"1\""
+            + "      },"
+            + "      \"metrics\": [{"
+            + "        \"name\":\"metric\","
+            + "        \"description\":\"metric description\","
+            + "        \"unit\":\"m\","
+            + "        \"sum\": {"
+            + "          \"dataPoints\": [{"
+            + "            \"startTimeUnixNano\":\"1\","
+            + "            \"timeUnixNano\":\"2\","
+            + "            \"asDouble\":4.0,"
+            + "            \"attributes\": [{"
+            + "              \"key\":\"cat\","
+            + "              \"value\": {"
+            + "                \"stringValue\":\"meow\""
+            + "              }"
+            + "            }]"
+            + "          }],"
+            + "          \"aggregationTemporality\":2,"
+            + "          \"isMonotonic\":true"
+            + "        }"
+            + "      }]"
+            + "    }]"
+            + "  }]"
+            + "}",
+        lines.get(0),
+        /* strict= */ false);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+class OtlpJsonFileSpanExporterTest {
+
+  private static final SpanData SPAN =
+      TestSpanData.builder()
+          .setHasEnded(true)
+          .setSpanContext(
+              SpanContext.create(
+                  "12345678876543211234567887654321",
+                  "8765432112345678",
+                  TraceFlags.getSampled(),
+                  TraceState.getDefault()))
+          .setStartEpochNanos(100)
+          .setEndEpochNanos(100 + 1000)
+          .setStatus(StatusData.ok())
+          .setName("testSpan")
+          .setKind(SpanKind.INTERNAL)
+          .setTotalRecordedEvents(0)
+          .setTotalRecordedLinks(0)
+          .setInstrumentationScopeInfo(
+              InstrumentationScopeInfo.builder("instrumentation").setVersion("1").build())
+          .setResource(Resource.create(Attributes.builder().put("key", "value").build()))
+          .build();
+
+  @TempDir File tempDir;
+
+  @Test
+  void export() throws Exception {
+    File file = new File(tempDir, "spans.jsonl");
+    OtlpJsonFileSpanExporter exporter = OtlpJsonFileSpanExporter.builder(file).build();
+
+    assertThat(exporter.export(Collections.singletonList(SPAN)).isSuccess()).isTrue();
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(1);
+    JSONAssert.assertEquals(
+        "{"
+            + "  \"resourceSpans\": [{"
+            + "    \"resource\": {"
+            + "      \"attributes\": [{"
+            + "        \"key\":\"key\","
+            + "        \"value\": {"
+            + "          \"stringValue\":\"value\""
+            + "        }"
+            + "      }]"
+            + "    },"
+            + "    \"scopeSpans\": [{"
+            + "      \"scope\": {"
+            + "        \"name\":\"instrumentation\","
+            + "        \"version\":\"1\""
+            + "      },"
+            + "      \"spans\": [{"
+            + "        \"traceId\":\"12345678876543211234567887654321\","
+            + "        \"spanId\":\"8765432112345678\","
+            + "        \"name\":\"testSpan\","
+            + "        \"kind\":1,"
+            + "        \"startTimeUnixNano\":\"100\","
+            + "        \"endTimeUnixNano\":\"1100\","
+            + "        \"status\": {"
+            + "          \"code\":1"
+            + "        }"
+            + "      }]"
+            + "    }]"
+            + "  }]"
+            + "}",
+        lines.get(0),
+        /* strict= */ false);
+    assertThat(exporter.export(Collections.singletonList(SPAN)).isSuccess()).isFalse();
+  }
+}
@@ -78,7 +78,7 @@ public final class OtlpHttpLogRecordExporter implements LogRecordExporter {
 
   @Override
   public CompletableResultCode flush() {
-    return CompletableResultCode.ofSuccess();
+    return delegate.flush();
   }
 
   /** Shutdown the exporter. */
@@ -14,6 +14,7 @@ import io.opentelemetry.exporter.internal.http.HttpExporterBuilder;
 import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
 import io.opentelemetry.exporter.otlp.internal.OtlpUserAgent;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
+import java.io.File;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
@@ -139,6 +140,25 @@ public final class OtlpHttpLogRecordExporterBuilder {
     return this;
   }
 
+  /**
+   * Enables buffering of export requests on disk. Each export request is written to a file in
+   * {@code directory} and then sent from there, so data which could not be sent yet survives a
+   * restart of the process and is sent by the next exporter using the same directory. When the
+   * buffered data exceeds {@code maxSizeBytes}, the oldest requests are dropped. Data is delivered
+   * at least once, so it can be sent again if the process stops before a delivery is recorded.
+   *
+   * <p>Each exporter must use its own directory. If not set, export requests are sent directly
+   * without being buffered on disk.
+   *
+   * @since 1.30.0
+   */
+  public OtlpHttpLogRecordExporterBuilder setDiskBuffering(File directory, long maxSizeBytes) {
+    requireNonNull(directory, "directory");
+    checkArgument(maxSizeBytes > 0, "maxSizeBytes must be positive");
+    delegate.setDiskBuffering(directory, maxSizeBytes);
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
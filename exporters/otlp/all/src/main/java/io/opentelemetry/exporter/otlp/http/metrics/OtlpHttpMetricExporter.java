@@ -98,13 +98,14 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
   }
 
   /**
-   * The OTLP exporter does not batch metrics, so this method will immediately return with success.
+   * The OTLP exporter does not batch metrics, so this method will immediately return with success,
+   * unless disk buffering is enabled, in which case it sends the buffered requests.
    *
-   * @return always Success
+   * @return the result of sending the buffered requests, or success without disk buffering
    */
   @Override
   public CompletableResultCode flush() {
-    return CompletableResultCode.ofSuccess();
+    return delegate.flush();
   }
 
   /** Shutdown the exporter. */
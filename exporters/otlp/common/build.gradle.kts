@@ -20,10 +20,12 @@ dependencies {
   compileOnly(project(":sdk:metrics"))
   compileOnly(project(":sdk:trace"))
   compileOnly(project(":sdk:logs"))
+  compileOnly(project(":extensions:incubator"))
 
   testImplementation(project(":sdk:metrics"))
   testImplementation(project(":sdk:trace"))
   testImplementation(project(":sdk:logs"))
+  testImplementation(project(":extensions:incubator"))
   testImplementation(project(":sdk:testing"))
 
   testImplementation("com.fasterxml.jackson.core:jackson-databind")
@@ -31,6 +33,8 @@ dependencies {
   testImplementation("io.opentelemetry.proto:opentelemetry-proto")
 
   jmhImplementation(project(":sdk:testing"))
+  jmhImplementation(project(":sdk:logs"))
+  jmhImplementation(project(":extensions:incubator"))
   jmhImplementation("com.fasterxml.jackson.core:jackson-core")
   jmhImplementation("io.opentelemetry.proto:opentelemetry-proto")
   jmhImplementation("io.grpc:grpc-netty")
@@ -0,0 +1,139 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
+import io.opentelemetry.extension.incubator.logs.AnyValue;
+import io.opentelemetry.extension.incubator.logs.ExtendedLogRecordBuilder;
+import io.opentelemetry.extension.incubator.logs.KeyAnyValue;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares marshaling log records whose structured payload was flattened into a JSON string body by
+ * the appender with log records whose payload is an {@link AnyValue} body. The JSON variant
+ * includes the cost of writing the JSON string, which the backend also has to parse again.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LogsRequestMarshalerBenchmark {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final int LOG_RECORDS = 100;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    private final List<LogRecordData> emitted = new ArrayList<>();
+    private SdkLoggerProvider loggerProvider;
+
+    @Setup
+    public void setup() {
+      loggerProvider =
+          SdkLoggerProvider.builder()
+              .addLogRecordProcessor(
+                  (context, logRecord) -> emitted.add(logRecord.toLogRecordData()))
+              .build();
+    }
+
+    private List<LogRecordData> emit(boolean structured) {
+      emitted.clear();
+      for (int i = 0; i < LOG_RECORDS; i++) {
+        ExtendedLogRecordBuilder builder =
+            (ExtendedLogRecordBuilder) loggerProvider.get("benchmark").logRecordBuilder();
+        if (structured) {
+          builder.setBody(anyValuePayload(i));
+        } else {
+          builder.setBody(jsonPayload(i));
+        }
+        builder.emit();
+      }
+      return emitted;
+    }
+  }
+
+  private static AnyValue<?> anyValuePayload(int i) {
+    return AnyValue.ofKeyValues(
+        KeyAnyValue.of("event", AnyValue.of("order_placed")),
+        KeyAnyValue.of("orderId", AnyValue.of(i)),
+        KeyAnyValue.of("amount", AnyValue.of(19.99)),
+        KeyAnyValue.of("express", AnyValue.of(true)),
+        KeyAnyValue.of(
+            "items", AnyValue.of(AnyValue.of("sku-1"), AnyValue.of("sku-2"), AnyValue.of("sku-3"))),
+        KeyAnyValue.of(
+            "customer",
+            AnyValue.ofKeyValues(
+                KeyAnyValue.of("id", AnyValue.of("c-42")),
+                KeyAnyValue.of("tier", AnyValue.of("gold")))));
+  }
+
+  private static String jsonPayload(int i) {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      generator.writeStartObject();
+      generator.writeStringField("event", "order_placed");
+      generator.writeNumberField("orderId", i);
+      generator.writeNumberField("amount", 19.99);
+      generator.writeBooleanField("express", true);
+      generator.writeArrayFieldStart("items");
+      generator.writeString("sku-1");
+      generator.writeString("sku-2");
+      generator.writeString("sku-3");
+      generator.writeEndArray();
+      generator.writeObjectFieldStart("customer");
+      generator.writeStringField("id", "c-42");
+      generator.writeStringField("tier", "gold");
+      generator.writeEndObject();
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
+  }
+
+  private static ByteArrayOutputStream marshal(List<LogRecordData> logs) throws IOException {
+    LogsRequestMarshaler requestMarshaler = LogsRequestMarshaler.create(logs);
+    ByteArrayOutputStream output =
+        new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+    requestMarshaler.writeBinaryTo(output);
+    return output;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream jsonStringBody(BenchmarkState state) throws IOException {
+    return marshal(state.emit(false));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream anyValueBody(BenchmarkState state) throws IOException {
+    return marshal(state.emit(true));
+  }
+}
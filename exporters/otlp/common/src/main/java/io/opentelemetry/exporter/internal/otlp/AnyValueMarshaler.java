@@ -0,0 +1,169 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.marshal.CodedOutputStream;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
+import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.extension.incubator.logs.AnyValue;
+import io.opentelemetry.extension.incubator.logs.KeyAnyValue;
+import io.opentelemetry.proto.common.v1.internal.ArrayValue;
+import io.opentelemetry.proto.common.v1.internal.KeyValue;
+import io.opentelemetry.proto.common.v1.internal.KeyValueList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Creates Marshalers of structured {@link AnyValue}, such as log record bodies, which are encoded
+ * as the matching OTLP {@code AnyValue} instead of as a string.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AnyValueMarshaler {
+
+  private AnyValueMarshaler() {}
+
+  /** Returns a Marshaler of the given value. */
+  @SuppressWarnings("unchecked")
+  public static MarshalerWithSize create(AnyValue<?> anyValue) {
+    switch (anyValue.getType()) {
+      case STRING:
+        return new StringAnyValueMarshaler(MarshalerUtil.toBytes((String) anyValue.getValue()));
+      case BOOLEAN:
+        return new KeyValueMarshaler.BoolAnyValueMarshaler((boolean) anyValue.getValue());
+      case LONG:
+        return new KeyValueMarshaler.Int64AnyValueMarshaler((long) anyValue.getValue());
+      case DOUBLE:
+        return new KeyValueMarshaler.AnyDoubleFieldMarshaler((double) anyValue.getValue());
+      case ARRAY:
+        return new MessageAnyValueMarshaler(
+            io.opentelemetry.proto.common.v1.internal.AnyValue.ARRAY_VALUE,
+            new RepeatedMessageMarshaler(
+                ArrayValue.VALUES, createRepeated((List<AnyValue<?>>) anyValue.getValue())));
+      case KEY_VALUE_LIST:
+        return new MessageAnyValueMarshaler(
+            io.opentelemetry.proto.common.v1.internal.AnyValue.KVLIST_VALUE,
+            new RepeatedMessageMarshaler(
+                KeyValueList.VALUES,
+                createRepeatedKeyValues((List<KeyAnyValue>) anyValue.getValue())));
+      case BYTES:
+        ByteBuffer buffer = (ByteBuffer) anyValue.getValue();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new BytesAnyValueMarshaler(bytes);
+    }
+    // Error prone ensures the switch statement is complete, otherwise only can happen with
+    // unaligned versions which are not supported.
+    throw new IllegalArgumentException("Unsupported AnyValue type.");
+  }
+
+  private static Marshaler[] createRepeated(List<AnyValue<?>> values) {
+    int len = values.size();
+    Marshaler[] marshalers = new Marshaler[len];
+    for (int i = 0; i < len; i++) {
+      marshalers[i] = create(values.get(i));
+    }
+    return marshalers;
+  }
+
+  private static Marshaler[] createRepeatedKeyValues(List<KeyAnyValue> values) {
+    int len = values.size();
+    Marshaler[] marshalers = new Marshaler[len];
+    for (int i = 0; i < len; i++) {
+      KeyAnyValue keyAnyValue = values.get(i);
+      marshalers[i] =
+          new KeyAnyValueMarshaler(
+              MarshalerUtil.toBytes(keyAnyValue.getKey()), create(keyAnyValue.getAnyValue()));
+    }
+    return marshalers;
+  }
+
+  private static final class BytesAnyValueMarshaler extends MarshalerWithSize {
+
+    private final byte[] value;
+
+    private BytesAnyValueMarshaler(byte[] value) {
+      super(calculateSize(value));
+      this.value = value;
+    }
+
+    @Override
+    public void writeTo(Serializer output) throws IOException {
+      // Do not call serialize* method because we always have to write the message tag even if the
+      // value is empty since it's a oneof.
+      output.writeBytes(io.opentelemetry.proto.common.v1.internal.AnyValue.BYTES_VALUE, value);
+    }
+
+    private static int calculateSize(byte[] value) {
+      return io.opentelemetry.proto.common.v1.internal.AnyValue.BYTES_VALUE.getTagSize()
+          + CodedOutputStream.computeByteArraySizeNoTag(value);
+    }
+  }
+
+  /** An {@code AnyValue} whose value is a message, an array or a key-value list. */
+  private static final class MessageAnyValueMarshaler extends MarshalerWithSize {
+
+    private final ProtoFieldInfo field;
+    private final Marshaler value;
+
+    private MessageAnyValueMarshaler(ProtoFieldInfo field, Marshaler value) {
+      super(MarshalerUtil.sizeMessage(field, value));
+      this.field = field;
+      this.value = value;
+    }
+
+    @Override
+    public void writeTo(Serializer output) throws IOException {
+      output.serializeMessage(field, value);
+    }
+  }
+
+  /** An {@code ArrayValue} or a {@code KeyValueList}, which only have one repeated field. */
+  private static final class RepeatedMessageMarshaler extends MarshalerWithSize {
+
+    private final ProtoFieldInfo field;
+    private final Marshaler[] values;
+
+    private RepeatedMessageMarshaler(ProtoFieldInfo field, Marshaler[] values) {
+      super(MarshalerUtil.sizeRepeatedMessage(field, values));
+      this.field = field;
+      this.values = values;
+    }
+
+    @Override
+    public void writeTo(Serializer output) throws IOException {
+      output.serializeRepeatedMessage(field, values);
+    }
+  }
+
+  private static final class KeyAnyValueMarshaler extends MarshalerWithSize {
+
+    private final byte[] keyUtf8;
+    private final Marshaler value;
+
+    private KeyAnyValueMarshaler(byte[] keyUtf8, Marshaler value) {
+      super(calculateSize(keyUtf8, value));
+      this.keyUtf8 = keyUtf8;
+      this.value = value;
+    }
+
+    @Override
+    public void writeTo(Serializer output) throws IOException {
+      output.serializeString(KeyValue.KEY, keyUtf8);
+      output.serializeMessage(KeyValue.VALUE, value);
+    }
+
+    private static int calculateSize(byte[] keyUtf8, Marshaler value) {
+      return MarshalerUtil.sizeBytes(KeyValue.KEY, keyUtf8)
+          + MarshalerUtil.sizeMessage(KeyValue.VALUE, value);
+    }
+  }
+}
@@ -115,7 +115,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
     return size;
   }
 
-  private static class BoolAnyValueMarshaler extends MarshalerWithSize {
+  static class BoolAnyValueMarshaler extends MarshalerWithSize {
 
     private final boolean value;
 
@@ -136,7 +136,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
     }
   }
 
-  private static class Int64AnyValueMarshaler extends MarshalerWithSize {
+  static class Int64AnyValueMarshaler extends MarshalerWithSize {
 
     private final long value;
 
@@ -157,7 +157,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
     }
   }
 
-  private static class AnyDoubleFieldMarshaler extends MarshalerWithSize {
+  static class AnyDoubleFieldMarshaler extends MarshalerWithSize {
 
     private final double value;
 
@@ -14,11 +14,14 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.otlp.AnyValueMarshaler;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
 import io.opentelemetry.exporter.internal.otlp.StringAnyValueMarshaler;
 import io.opentelemetry.proto.logs.v1.internal.LogRecord;
 import io.opentelemetry.proto.logs.v1.internal.SeverityNumber;
+import io.opentelemetry.sdk.logs.data.Body;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.AnyValueBody;
 import java.io.IOException;
 import javax.annotation.Nullable;
 
@@ -41,9 +44,12 @@ final class LogMarshaler extends MarshalerWithSize {
     KeyValueMarshaler[] attributeMarshalers =
         KeyValueMarshaler.createRepeated(logRecordData.getAttributes());
 
-    // For now, map all the bodies to String AnyValue.
-    StringAnyValueMarshaler anyValueMarshaler =
-        new StringAnyValueMarshaler(MarshalerUtil.toBytes(logRecordData.getBody().asString()));
+    // Structured bodies are encoded as is, all other bodies as String AnyValue.
+    Body body = logRecordData.getBody();
+    MarshalerWithSize anyValueMarshaler =
+        body instanceof AnyValueBody
+            ? AnyValueMarshaler.create(((AnyValueBody) body).asAnyValue())
+            : new StringAnyValueMarshaler(MarshalerUtil.toBytes(body.asString()));
 
     SpanContext spanContext = logRecordData.getSpanContext();
     return new LogMarshaler(
@@ -5,12 +5,14 @@
 
 package io.opentelemetry.exporter.internal.otlp.traces;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
 import io.opentelemetry.proto.trace.v1.internal.Span;
 import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.internal.data.SpanEventList;
 import java.io.IOException;
 import java.util.List;
 
@@ -27,6 +29,20 @@ final class SpanEventMarshaler extends MarshalerWithSize {
     }
 
     SpanEventMarshaler[] result = new SpanEventMarshaler[events.size()];
+    if (events instanceof SpanEventList) {
+      // Read the columns of the SDK's events, without creating an EventData for each event.
+      SpanEventList eventList = (SpanEventList) events;
+      for (int i = 0; i < result.length; i++) {
+        result[i] =
+            create(
+                eventList.getEpochNanos(i),
+                eventList.getName(i),
+                eventList.getAttributes(i),
+                eventList.getTotalAttributeCount(i));
+      }
+      return result;
+    }
+
     int pos = 0;
     for (EventData event : events) {
       result[pos++] = create(event);
@@ -37,11 +53,20 @@ final class SpanEventMarshaler extends MarshalerWithSize {
 
   // Visible for testing
   static SpanEventMarshaler create(EventData event) {
-    return new SpanEventMarshaler(
+    return create(
         event.getEpochNanos(),
-        MarshalerUtil.toBytes(event.getName()),
-        KeyValueMarshaler.createRepeated(event.getAttributes()),
-        event.getTotalAttributeCount() - event.getAttributes().size());
+        event.getName(),
+        event.getAttributes(),
+        event.getTotalAttributeCount());
+  }
+
+  private static SpanEventMarshaler create(
+      long epochNanos, String name, Attributes attributes, int totalAttributeCount) {
+    return new SpanEventMarshaler(
+        epochNanos,
+        MarshalerUtil.toBytes(name),
+        KeyValueMarshaler.createRepeated(attributes),
+        totalAttributeCount - attributes.size());
   }
 
   private SpanEventMarshaler(
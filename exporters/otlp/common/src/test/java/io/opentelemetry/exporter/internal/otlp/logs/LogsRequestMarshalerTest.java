@@ -21,13 +21,19 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.extension.incubator.logs.ExtendedLogRecordBuilder;
+import io.opentelemetry.extension.incubator.logs.KeyAnyValue;
 import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
 import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.common.v1.KeyValueList;
 import io.opentelemetry.proto.logs.v1.LogRecord;
 import io.opentelemetry.proto.logs.v1.ResourceLogs;
 import io.opentelemetry.proto.logs.v1.ScopeLogs;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
 import java.io.ByteArrayOutputStream;
@@ -38,6 +44,7 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class LogsRequestMarshalerTest {
@@ -160,6 +167,85 @@ class LogsRequestMarshalerTest {
     assertThat(logRecord.getObservedTimeUnixNano()).isEqualTo(6789);
   }
 
+  @Test
+  void toProtoLogRecord_AnyValueBody() {
+    LogRecord logRecord =
+        parse(
+            LogRecord.getDefaultInstance(),
+            LogMarshaler.create(
+                emitWithBody(
+                    io.opentelemetry.extension.incubator.logs.AnyValue.ofKeyValues(
+                        KeyAnyValue.of(
+                            "string", io.opentelemetry.extension.incubator.logs.AnyValue.of("")),
+                        KeyAnyValue.of(
+                            "bool", io.opentelemetry.extension.incubator.logs.AnyValue.of(false)),
+                        KeyAnyValue.of(
+                            "long", io.opentelemetry.extension.incubator.logs.AnyValue.of(0L)),
+                        KeyAnyValue.of(
+                            "double", io.opentelemetry.extension.incubator.logs.AnyValue.of(1.5)),
+                        KeyAnyValue.of(
+                            "bytes",
+                            io.opentelemetry.extension.incubator.logs.AnyValue.of(
+                                new byte[] {1, 2, 3})),
+                        KeyAnyValue.of(
+                            "array",
+                            io.opentelemetry.extension.incubator.logs.AnyValue.of(
+                                io.opentelemetry.extension.incubator.logs.AnyValue.of("a"),
+                                io.opentelemetry.extension.incubator.logs.AnyValue.of(2L))),
+                        KeyAnyValue.of(
+                            "empty",
+                            io.opentelemetry.extension.incubator.logs.AnyValue.of(
+                                new io.opentelemetry.extension.incubator.logs.AnyValue<?>[0]))))));
+
+    assertThat(logRecord.getBody())
+        .isEqualTo(
+            AnyValue.newBuilder()
+                .setKvlistValue(
+                    KeyValueList.newBuilder()
+                        .addValues(keyValue("string", AnyValue.newBuilder().setStringValue("")))
+                        .addValues(keyValue("bool", AnyValue.newBuilder().setBoolValue(false)))
+                        .addValues(keyValue("long", AnyValue.newBuilder().setIntValue(0)))
+                        .addValues(keyValue("double", AnyValue.newBuilder().setDoubleValue(1.5)))
+                        .addValues(
+                            keyValue(
+                                "bytes",
+                                AnyValue.newBuilder()
+                                    .setBytesValue(ByteString.copyFrom(new byte[] {1, 2, 3}))))
+                        .addValues(
+                            keyValue(
+                                "array",
+                                AnyValue.newBuilder()
+                                    .setArrayValue(
+                                        ArrayValue.newBuilder()
+                                            .addValues(AnyValue.newBuilder().setStringValue("a"))
+                                            .addValues(AnyValue.newBuilder().setIntValue(2)))))
+                        .addValues(
+                            keyValue(
+                                "empty",
+                                AnyValue.newBuilder()
+                                    .setArrayValue(ArrayValue.getDefaultInstance()))))
+                .build());
+  }
+
+  private static KeyValue keyValue(String key, AnyValue.Builder value) {
+    return KeyValue.newBuilder().setKey(key).setValue(value).build();
+  }
+
+  private static LogRecordData emitWithBody(
+      io.opentelemetry.extension.incubator.logs.AnyValue<?> body) {
+    AtomicReference<LogRecordData> emitted = new AtomicReference<>();
+    ExtendedLogRecordBuilder logRecordBuilder =
+        (ExtendedLogRecordBuilder)
+            SdkLoggerProvider.builder()
+                .addLogRecordProcessor(
+                    (context, logRecord) -> emitted.set(logRecord.toLogRecordData()))
+                .build()
+                .get("test")
+                .logRecordBuilder();
+    logRecordBuilder.setBody(body).emit();
+    return emitted.get();
+  }
+
   @SuppressWarnings("unchecked")
   private static <T extends Message> T parse(T prototype, Marshaler marshaler) {
     byte[] serialized = toByteArray(marshaler);
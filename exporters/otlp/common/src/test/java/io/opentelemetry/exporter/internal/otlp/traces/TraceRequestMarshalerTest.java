@@ -40,11 +40,15 @@ import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.SpanDataSizeEstimator;
+import io.opentelemetry.sdk.trace.internal.data.SpanEventColumns;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Locale;
@@ -304,6 +308,35 @@ class TraceRequestMarshalerTest {
                 .build());
   }
 
+  @Test
+  void toProtoSpanEvents_FromColumns() {
+    SpanEventColumns columns = new SpanEventColumns(10);
+    columns.add(12345, "test_with_attributes", Attributes.of(stringKey("key_string"), "string"), 5);
+    columns.add(EventData.create(12346, "test_without_attributes", Attributes.empty()));
+
+    SpanEventMarshaler[] marshalers = SpanEventMarshaler.createRepeated(columns.toList());
+
+    assertThat(marshalers).hasSize(2);
+    assertThat(parse(Span.Event.getDefaultInstance(), marshalers[0]))
+        .isEqualTo(
+            Span.Event.newBuilder()
+                .setTimeUnixNano(12345)
+                .setName("test_with_attributes")
+                .addAttributes(
+                    KeyValue.newBuilder()
+                        .setKey("key_string")
+                        .setValue(AnyValue.newBuilder().setStringValue("string").build())
+                        .build())
+                .setDroppedAttributesCount(4)
+                .build());
+    assertThat(parse(Span.Event.getDefaultInstance(), marshalers[1]))
+        .isEqualTo(
+            Span.Event.newBuilder()
+                .setTimeUnixNano(12346)
+                .setName("test_without_attributes")
+                .build());
+  }
+
   @Test
   void toProtoSpanLink_WithoutAttributes() {
     assertThat(
@@ -340,6 +373,76 @@ class TraceRequestMarshalerTest {
                 .build());
   }
 
+  @Test
+  void spanDataSizeEstimatorMatchesMarshaler() {
+    SpanData spanData =
+        TestSpanData.builder()
+            .setHasEnded(true)
+            .setSpanContext(SPAN_CONTEXT)
+            .setParentSpanContext(SPAN_CONTEXT)
+            .setName("GET /api/\u00e9ndpoint/\u4e2d\ud83d\ude00")
+            .setKind(SpanKind.CLIENT)
+            .setStartEpochNanos(12345)
+            .setEndEpochNanos(12349)
+            .setAttributes(
+                Attributes.builder()
+                    .put("key", true)
+                    .put("", "empty key")
+                    .put("string", "")
+                    .put("int", 100L)
+                    .put("negative", -1L)
+                    .put("double", 100.3)
+                    .put("string_array", "string1", "", "\u00e9")
+                    .put("long_array", 12L, 1L << 40)
+                    .put("double_array", 12.3, 23.1)
+                    .put("boolean_array", true, false)
+                    .put("sql", repeat("SELECT * FROM t WHERE x = ? ", 1000))
+                    .build())
+            .setTotalAttributeCount(300)
+            .setEvents(
+                Arrays.asList(
+                    EventData.create(12347, "my_event", Attributes.empty()),
+                    EventData.create(
+                        12348, "exception", Attributes.of(stringKey("stack"), "at foo"), 10)))
+            .setTotalRecordedEvents(200)
+            .setLinks(
+                Arrays.asList(
+                    LinkData.create(SPAN_CONTEXT),
+                    LinkData.create(
+                        SpanContext.create(
+                            TRACE_ID, SPAN_ID, TraceFlags.getDefault(), TraceState.getDefault()),
+                        Attributes.of(stringKey("key_string"), "string"),
+                        5)))
+            .setTotalRecordedLinks(2)
+            .setStatus(StatusData.create(StatusCode.ERROR, "\u00e9rror"))
+            .build();
+
+    assertThat(SpanDataSizeEstimator.estimateSize(spanData))
+        .isEqualTo(SpanMarshaler.create(spanData).getBinarySerializedSize());
+
+    SpanData minimal =
+        TestSpanData.builder()
+            .setHasEnded(true)
+            .setSpanContext(SPAN_CONTEXT)
+            .setName("")
+            .setKind(SpanKind.INTERNAL)
+            .setStartEpochNanos(0)
+            .setEndEpochNanos(0)
+            .setStatus(StatusData.unset())
+            .build();
+
+    assertThat(SpanDataSizeEstimator.estimateSize(minimal))
+        .isEqualTo(SpanMarshaler.create(minimal).getBinarySerializedSize());
+  }
+
+  private static String repeat(String s, int times) {
+    StringBuilder sb = new StringBuilder(s.length() * times);
+    for (int i = 0; i < times; i++) {
+      sb.append(s);
+    }
+    return sb.toString();
+  }
+
   @SuppressWarnings("unchecked")
   private static <T extends Message> T parse(T prototype, Marshaler marshaler) {
     byte[] serialized = toByteArray(marshaler);
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A structured value of a log record body, which can be a primitive value, an array of values, a
+ * list of key-value pairs or bytes. Log bridges can set a structured body with {@link
+ * ExtendedLogRecordBuilder#setBody(AnyValue)} instead of converting it to a string, so that
+ * exporters can encode it in its structured form.
+ *
+ * <p>Primitive values are stored unboxed, and {@link #getValue()} only boxes them when called.
+ *
+ * @param <T> the type of the value returned by {@link #getValue()}.
+ */
+public interface AnyValue<T> {
+
+  /** Returns an {@link AnyValue} for a {@link String} value. */
+  static AnyValue<String> of(String value) {
+    return AnyValueString.create(value);
+  }
+
+  /** Returns an {@link AnyValue} for a {@code boolean} value. */
+  static AnyValue<Boolean> of(boolean value) {
+    return AnyValueBoolean.create(value);
+  }
+
+  /** Returns an {@link AnyValue} for a {@code long} value. */
+  static AnyValue<Long> of(long value) {
+    return AnyValueLong.create(value);
+  }
+
+  /** Returns an {@link AnyValue} for a {@code double} value. */
+  static AnyValue<Double> of(double value) {
+    return AnyValueDouble.create(value);
+  }
+
+  /** Returns an {@link AnyValue} for a byte array value, which is copied. */
+  static AnyValue<ByteBuffer> of(byte[] value) {
+    return AnyValueBytes.create(value);
+  }
+
+  /** Returns an {@link AnyValue} for an array of values. */
+  static AnyValue<List<AnyValue<?>>> of(AnyValue<?>... value) {
+    return AnyValueArray.create(Arrays.asList(value.clone()));
+  }
+
+  /** Returns an {@link AnyValue} for a list of values. */
+  static AnyValue<List<AnyValue<?>>> of(List<AnyValue<?>> value) {
+    return AnyValueArray.create(new ArrayList<>(value));
+  }
+
+  /** Returns an {@link AnyValue} for a list of key-value pairs. */
+  static AnyValue<List<KeyAnyValue>> ofKeyValues(KeyAnyValue... value) {
+    return KeyAnyValueList.create(Arrays.asList(value.clone()));
+  }
+
+  /**
+   * Returns an {@link AnyValue} for a list of key-value pairs, with the entries of {@code value} in
+   * its iteration order.
+   */
+  static AnyValue<List<KeyAnyValue>> of(Map<String, AnyValue<?>> value) {
+    List<KeyAnyValue> list = new ArrayList<>(value.size());
+    for (Map.Entry<String, AnyValue<?>> entry : value.entrySet()) {
+      list.add(KeyAnyValue.of(entry.getKey(), entry.getValue()));
+    }
+    return KeyAnyValueList.create(list);
+  }
+
+  /** Returns the type of this value. */
+  AnyValueType getType();
+
+  /**
+   * Returns the value, which is a {@link String}, {@link Boolean}, {@link Long}, {@link Double}, a
+   * read-only {@link ByteBuffer}, a {@code List<AnyValue<?>>} or a {@code List<KeyAnyValue>}
+   * depending on {@link #getType()}.
+   */
+  T getValue();
+
+  /**
+   * Returns a string representation of the value, which is the value itself for strings, base64 for
+   * bytes, and a bracketed, comma-separated list for arrays and key-value lists. Only meant for
+   * consumers which can't handle structured values.
+   */
+  String asString();
+}
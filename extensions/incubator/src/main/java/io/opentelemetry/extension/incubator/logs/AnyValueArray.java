@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+final class AnyValueArray implements AnyValue<List<AnyValue<?>>> {
+
+  private final List<AnyValue<?>> value;
+
+  private AnyValueArray(List<AnyValue<?>> value) {
+    this.value = value;
+  }
+
+  /** Returns an array of the values of {@code value}, which must not be modified afterwards. */
+  static AnyValue<List<AnyValue<?>>> create(List<AnyValue<?>> value) {
+    return new AnyValueArray(Collections.unmodifiableList(value));
+  }
+
+  @Override
+  public AnyValueType getType() {
+    return AnyValueType.ARRAY;
+  }
+
+  @Override
+  public List<AnyValue<?>> getValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return value.stream().map(AnyValue::asString).collect(joining(", ", "[", "]"));
+  }
+
+  @Override
+  public String toString() {
+    return "AnyValueArray{" + asString() + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValue)
+        && ((AnyValue<?>) o).getType() == AnyValueType.ARRAY
+        && value.equals(((AnyValue<?>) o).getValue());
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import javax.annotation.Nullable;
+
+final class AnyValueBoolean implements AnyValue<Boolean> {
+
+  private static final AnyValueBoolean TRUE = new AnyValueBoolean(true);
+  private static final AnyValueBoolean FALSE = new AnyValueBoolean(false);
+
+  private final boolean value;
+
+  private AnyValueBoolean(boolean value) {
+    this.value = value;
+  }
+
+  static AnyValue<Boolean> create(boolean value) {
+    return value ? TRUE : FALSE;
+  }
+
+  @Override
+  public AnyValueType getType() {
+    return AnyValueType.BOOLEAN;
+  }
+
+  @Override
+  public Boolean getValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return String.valueOf(value);
+  }
+
+  @Override
+  public String toString() {
+    return "AnyValueBoolean{" + asString() + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValue)
+        && ((AnyValue<?>) o).getType() == AnyValueType.BOOLEAN
+        && ((AnyValue<?>) o).getValue().equals(value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Boolean.hashCode(value);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import javax.annotation.Nullable;
+
+final class AnyValueDouble implements AnyValue<Double> {
+
+  private final double value;
+
+  private AnyValueDouble(double value) {
+    this.value = value;
+  }
+
+  static AnyValue<Double> create(double value) {
+    return new AnyValueDouble(value);
+  }
+
+  @Override
+  public AnyValueType getType() {
+    return AnyValueType.DOUBLE;
+  }
+
+  @Override
+  public Double getValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return String.valueOf(value);
+  }
+
+  @Override
+  public String toString() {
+    return "AnyValueDouble{" + asString() + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValue)
+        && ((AnyValue<?>) o).getType() == AnyValueType.DOUBLE
+        && ((AnyValue<?>) o).getValue().equals(value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Double.hashCode(value);
+  }
+}
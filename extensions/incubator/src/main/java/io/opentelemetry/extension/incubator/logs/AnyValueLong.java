@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import javax.annotation.Nullable;
+
+final class AnyValueLong implements AnyValue<Long> {
+
+  private final long value;
+
+  private AnyValueLong(long value) {
+    this.value = value;
+  }
+
+  static AnyValue<Long> create(long value) {
+    return new AnyValueLong(value);
+  }
+
+  @Override
+  public AnyValueType getType() {
+    return AnyValueType.LONG;
+  }
+
+  @Override
+  public Long getValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return String.valueOf(value);
+  }
+
+  @Override
+  public String toString() {
+    return "AnyValueLong{" + asString() + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValue)
+        && ((AnyValue<?>) o).getType() == AnyValueType.LONG
+        && ((AnyValue<?>) o).getValue().equals(value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(value);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+final class AnyValueString implements AnyValue<String> {
+
+  private final String value;
+
+  private AnyValueString(String value) {
+    this.value = value;
+  }
+
+  static AnyValue<String> create(String value) {
+    return new AnyValueString(value);
+  }
+
+  @Override
+  public AnyValueType getType() {
+    return AnyValueType.STRING;
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "AnyValueString{" + value + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValue)
+        && ((AnyValue<?>) o).getType() == AnyValueType.STRING
+        && Objects.equals(value, ((AnyValue<?>) o).getValue());
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+/**
+ * The type of an {@link AnyValue}, one of the types of the value of {@code AnyValue} in the
+ * OpenTelemetry protocol.
+ */
+public enum AnyValueType {
+  STRING,
+  BOOLEAN,
+  LONG,
+  DOUBLE,
+  ARRAY,
+  KEY_VALUE_LIST,
+  BYTES
+}
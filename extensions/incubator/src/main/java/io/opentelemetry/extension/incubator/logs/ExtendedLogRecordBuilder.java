@@ -0,0 +1,18 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import io.opentelemetry.api.logs.LogRecordBuilder;
+
+/** Extended {@link LogRecordBuilder} with experimental APIs. */
+public interface ExtendedLogRecordBuilder extends LogRecordBuilder {
+
+  /**
+   * Sets a structured body, which exporters encode as is instead of as a string. Replaces a body
+   * set with {@link #setBody(String)}.
+   */
+  ExtendedLogRecordBuilder setBody(AnyValue<?> body);
+}
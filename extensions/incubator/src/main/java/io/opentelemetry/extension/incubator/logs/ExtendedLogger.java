@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.context.Context;
+
+/** Extended {@link Logger} with experimental APIs. */
+public interface ExtendedLogger extends Logger {
+
+  /**
+   * Returns whether log records with the given severity, emitted in the given context, would be
+   * processed by this logger. Log bridges can call this before building a log record to skip
+   * building records which would be discarded when emitted.
+   *
+   * <p>If {@code false} is returned, emitting such a record has no effect. Implementations return
+   * {@code true} if they can't tell.
+   */
+  default boolean isEnabled(Severity severity, Context context) {
+    return true;
+  }
+
+  /**
+   * Returns whether log records with the given severity, emitted in the current context, would be
+   * processed by this logger. See {@link #isEnabled(Severity, Context)} for details.
+   */
+  default boolean isEnabled(Severity severity) {
+    return isEnabled(severity, Context.current());
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+/** A key-value pair of an {@link AnyValue} of type {@link AnyValueType#KEY_VALUE_LIST}. */
+public interface KeyAnyValue {
+
+  /** Returns a key-value pair with the given key and value. */
+  static KeyAnyValue of(String key, AnyValue<?> value) {
+    return KeyAnyValueImpl.create(key, value);
+  }
+
+  /** Returns the key. */
+  String getKey();
+
+  /** Returns the value. */
+  AnyValue<?> getAnyValue();
+}
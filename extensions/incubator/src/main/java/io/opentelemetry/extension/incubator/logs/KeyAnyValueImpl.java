@@ -0,0 +1,55 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import javax.annotation.Nullable;
+
+final class KeyAnyValueImpl implements KeyAnyValue {
+
+  private final String key;
+  private final AnyValue<?> value;
+
+  private KeyAnyValueImpl(String key, AnyValue<?> value) {
+    this.key = key;
+    this.value = value;
+  }
+
+  static KeyAnyValue create(String key, AnyValue<?> value) {
+    return new KeyAnyValueImpl(key, value);
+  }
+
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  @Override
+  public AnyValue<?> getAnyValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "KeyAnyValueImpl{key=" + key + ", value=" + value + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof KeyAnyValue)) {
+      return false;
+    }
+    KeyAnyValue that = (KeyAnyValue) o;
+    return key.equals(that.getKey()) && value.equals(that.getAnyValue());
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * key.hashCode() + value.hashCode();
+  }
+}
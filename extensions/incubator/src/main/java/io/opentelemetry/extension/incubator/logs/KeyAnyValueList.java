@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+final class KeyAnyValueList implements AnyValue<List<KeyAnyValue>> {
+
+  private final List<KeyAnyValue> value;
+
+  private KeyAnyValueList(List<KeyAnyValue> value) {
+    this.value = value;
+  }
+
+  /** Returns a list of the pairs of {@code value}, which must not be modified afterwards. */
+  static AnyValue<List<KeyAnyValue>> create(List<KeyAnyValue> value) {
+    return new KeyAnyValueList(Collections.unmodifiableList(value));
+  }
+
+  @Override
+  public AnyValueType getType() {
+    return AnyValueType.KEY_VALUE_LIST;
+  }
+
+  @Override
+  public List<KeyAnyValue> getValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return value.stream()
+        .map(item -> item.getKey() + "=" + item.getAnyValue().asString())
+        .collect(joining(", ", "[", "]"));
+  }
+
+  @Override
+  public String toString() {
+    return "KeyAnyValueList{" + asString() + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValue)
+        && ((AnyValue<?>) o).getType() == AnyValueType.KEY_VALUE_LIST
+        && value.equals(((AnyValue<?>) o).getValue());
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+
+/**
+ * {@link SpanTemplateBuilder} for tracers which do not implement {@link SpanTemplateTracer}, which
+ * applies the template to a new {@link SpanBuilder} of the tracer for each span.
+ */
+final class DefaultSpanTemplateBuilder implements SpanTemplateBuilder {
+
+  private final Tracer tracer;
+  private final String spanName;
+  private final AttributesBuilder attributes = Attributes.builder();
+  private SpanKind spanKind = SpanKind.INTERNAL;
+
+  DefaultSpanTemplateBuilder(Tracer tracer, String spanName) {
+    this.tracer = tracer;
+    this.spanName = spanName;
+  }
+
+  @Override
+  public SpanTemplateBuilder setSpanKind(SpanKind spanKind) {
+    if (spanKind != null) {
+      this.spanKind = spanKind;
+    }
+    return this;
+  }
+
+  @Override
+  public <T> SpanTemplateBuilder setAttribute(AttributeKey<T> key, T value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return this;
+    }
+    attributes.put(key, value);
+    return this;
+  }
+
+  @Override
+  public SpanTemplate build() {
+    return new DefaultSpanTemplate(tracer, spanName, spanKind, attributes.build());
+  }
+
+  private static final class DefaultSpanTemplate implements SpanTemplate {
+
+    private final Tracer tracer;
+    private final String spanName;
+    private final SpanKind spanKind;
+    private final Attributes attributes;
+
+    private DefaultSpanTemplate(
+        Tracer tracer, String spanName, SpanKind spanKind, Attributes attributes) {
+      this.tracer = tracer;
+      this.spanName = spanName;
+      this.spanKind = spanKind;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public SpanBuilder spanBuilder() {
+      return tracer.spanBuilder(spanName).setSpanKind(spanKind).setAllAttributes(attributes);
+    }
+  }
+}
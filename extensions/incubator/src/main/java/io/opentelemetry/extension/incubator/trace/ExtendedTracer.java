@@ -12,7 +12,7 @@ import io.opentelemetry.context.Scope;
 import java.util.concurrent.Callable;
 
 /** Provides easy mechanisms for wrapping standard Java constructs with an OpenTelemetry Span. */
-public final class ExtendedTracer implements Tracer {
+public final class ExtendedTracer implements SpanTemplateTracer {
 
   private final Tracer delegate;
 
@@ -55,4 +55,17 @@ public final class ExtendedTracer implements Tracer {
   public SpanBuilder spanBuilder(String spanName) {
     return delegate.spanBuilder(spanName);
   }
+
+  /**
+   * Returns a builder of a {@link SpanTemplate} for spans with the provided name. If the wrapped
+   * Tracer implements {@link SpanTemplateTracer}, the template is created by it, otherwise the
+   * template configures a new {@link SpanBuilder} of the wrapped Tracer for every span.
+   */
+  @Override
+  public SpanTemplateBuilder spanTemplateBuilder(String spanName) {
+    if (delegate instanceof SpanTemplateTracer) {
+      return ((SpanTemplateTracer) delegate).spanTemplateBuilder(spanName);
+    }
+    return new DefaultSpanTemplateBuilder(delegate, spanName);
+  }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+
+/**
+ * A reusable description of spans which share a name, kind and a set of constant attributes.
+ *
+ * <p>Implementations may validate and apply limits to the constant attributes once when the
+ * template is built, so that starting a span from the template is cheaper than configuring a new
+ * {@link SpanBuilder} each time. Instances are thread safe and meant to be stored, e.g. in a static
+ * field of an instrumentation.
+ */
+public interface SpanTemplate {
+
+  /**
+   * Returns a new {@link SpanBuilder} preconfigured with the name, kind and attributes of this
+   * template. Attributes set on the returned builder override the template attributes with the same
+   * key.
+   */
+  SpanBuilder spanBuilder();
+
+  /** Starts a new {@link Span} from this template, with the current context as parent. */
+  default Span startSpan() {
+    return spanBuilder().startSpan();
+  }
+}
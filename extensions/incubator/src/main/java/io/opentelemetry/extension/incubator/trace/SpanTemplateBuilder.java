@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+
+/** Builder of {@link SpanTemplate}. */
+public interface SpanTemplateBuilder {
+
+  /**
+   * Sets the {@link SpanKind} of spans started from the template. Defaults to {@link
+   * SpanKind#INTERNAL}.
+   */
+  SpanTemplateBuilder setSpanKind(SpanKind spanKind);
+
+  /**
+   * Sets a constant attribute on spans started from the template. Null or empty keys and null
+   * values are ignored.
+   */
+  <T> SpanTemplateBuilder setAttribute(AttributeKey<T> key, T value);
+
+  /** Sets all of the given attributes as constant attributes of the template. */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  default SpanTemplateBuilder setAllAttributes(Attributes attributes) {
+    if (attributes == null || attributes.isEmpty()) {
+      return this;
+    }
+    attributes.forEach((key, value) -> setAttribute((AttributeKey) key, value));
+    return this;
+  }
+
+  /** Returns a {@link SpanTemplate} with the configuration of this builder. */
+  SpanTemplate build();
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.Tracer;
+
+/** A {@link Tracer} which can create {@link SpanTemplate}s. */
+public interface SpanTemplateTracer extends Tracer {
+
+  /** Returns a builder of a {@link SpanTemplate} for spans with the given name. */
+  SpanTemplateBuilder spanTemplateBuilder(String spanName);
+}
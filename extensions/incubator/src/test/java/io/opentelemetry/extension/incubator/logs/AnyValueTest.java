@@ -0,0 +1,100 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AnyValueTest {
+
+  @Test
+  void primitives() {
+    assertThat(AnyValue.of("value").getType()).isEqualTo(AnyValueType.STRING);
+    assertThat(AnyValue.of("value").getValue()).isEqualTo("value");
+    assertThat(AnyValue.of("value").asString()).isEqualTo("value");
+
+    assertThat(AnyValue.of(true).getType()).isEqualTo(AnyValueType.BOOLEAN);
+    assertThat(AnyValue.of(true).getValue()).isTrue();
+    assertThat(AnyValue.of(true)).isSameAs(AnyValue.of(true));
+    assertThat(AnyValue.of(false).asString()).isEqualTo("false");
+
+    assertThat(AnyValue.of(42L).getType()).isEqualTo(AnyValueType.LONG);
+    assertThat(AnyValue.of(42L).getValue()).isEqualTo(42L);
+    assertThat(AnyValue.of(42L).asString()).isEqualTo("42");
+
+    assertThat(AnyValue.of(1.5).getType()).isEqualTo(AnyValueType.DOUBLE);
+    assertThat(AnyValue.of(1.5).getValue()).isEqualTo(1.5);
+    assertThat(AnyValue.of(1.5).asString()).isEqualTo("1.5");
+  }
+
+  @Test
+  void bytes() {
+    byte[] raw = "hello".getBytes(StandardCharsets.UTF_8);
+    AnyValue<ByteBuffer> value = AnyValue.of(raw);
+    // The value is a copy.
+    raw[0] = 'j';
+
+    assertThat(value.getType()).isEqualTo(AnyValueType.BYTES);
+    assertThat(value.getValue())
+        .isEqualTo(ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+    assertThat(value.getValue().isReadOnly()).isTrue();
+    assertThat(value.asString()).isEqualTo("aGVsbG8=");
+    assertThat(value).isEqualTo(AnyValue.of("hello".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void array() {
+    AnyValue<?>[] values = {AnyValue.of("a"), AnyValue.of(1L)};
+    AnyValue<?> value = AnyValue.of(values);
+    values[0] = AnyValue.of("changed");
+
+    assertThat(value.getType()).isEqualTo(AnyValueType.ARRAY);
+    assertThat(value.getValue()).isEqualTo(Arrays.asList(AnyValue.of("a"), AnyValue.of(1L)));
+    assertThat(value.asString()).isEqualTo("[a, 1]");
+    assertThat(value).isEqualTo(AnyValue.of(Arrays.asList(AnyValue.of("a"), AnyValue.of(1L))));
+    assertThat(AnyValue.of(new AnyValue<?>[0]).asString()).isEqualTo("[]");
+    assertThat(AnyValue.of().getType()).isEqualTo(AnyValueType.ARRAY);
+    assertThatThrownBy(() -> AnyValue.of(values).getValue().clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void keyValueList() {
+    AnyValue<?> value =
+        AnyValue.ofKeyValues(
+            KeyAnyValue.of("name", AnyValue.of("value")),
+            KeyAnyValue.of(
+                "nested", AnyValue.ofKeyValues(KeyAnyValue.of("flag", AnyValue.of(true)))));
+
+    assertThat(value.getType()).isEqualTo(AnyValueType.KEY_VALUE_LIST);
+    assertThat(value.asString()).isEqualTo("[name=value, nested=[flag=true]]");
+
+    Map<String, AnyValue<?>> map = new LinkedHashMap<>();
+    map.put("name", AnyValue.of("value"));
+    map.put("nested", AnyValue.ofKeyValues(KeyAnyValue.of("flag", AnyValue.of(true))));
+    assertThat(AnyValue.of(map)).isEqualTo(value);
+    assertThat(AnyValue.of(Collections.emptyMap()).asString()).isEqualTo("[]");
+    assertThat(AnyValue.ofKeyValues().getType()).isEqualTo(AnyValueType.KEY_VALUE_LIST);
+  }
+
+  @Test
+  void equality() {
+    assertThat(AnyValue.of("1")).isNotEqualTo(AnyValue.of(1L));
+    assertThat(AnyValue.of(1L)).isNotEqualTo(AnyValue.of(1.0));
+    assertThat(AnyValue.of(1L)).isEqualTo(AnyValue.of(1L)).hasSameHashCodeAs(AnyValue.of(1L));
+    assertThat(KeyAnyValue.of("key", AnyValue.of("value")))
+        .isEqualTo(KeyAnyValue.of("key", AnyValue.of("value")))
+        .isNotEqualTo(KeyAnyValue.of("key", AnyValue.of("other")));
+  }
+}
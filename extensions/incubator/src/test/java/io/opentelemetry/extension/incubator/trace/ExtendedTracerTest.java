@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
 import org.junit.jupiter.api.Test;
@@ -114,4 +115,62 @@ class ExtendedTracerTest {
                             .hasName("throwingCallable")
                             .hasAttributes(Attributes.of(AttributeKey.longKey("one"), 1L))));
   }
+
+  @Test
+  void spanTemplate() {
+    SpanTemplate template =
+        ExtendedTracer.create(tracer)
+            .spanTemplateBuilder("templateSpan")
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(AttributeKey.stringKey("db.system"), "postgresql")
+            .build();
+
+    template.startSpan().end();
+    template.spanBuilder().setAttribute("one", 1).startSpan().end();
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            traceAssert ->
+                traceAssert.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("templateSpan")
+                            .hasKind(SpanKind.CLIENT)
+                            .hasAttributes(
+                                Attributes.of(AttributeKey.stringKey("db.system"), "postgresql"))),
+            traceAssert ->
+                traceAssert.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("templateSpan")
+                            .hasKind(SpanKind.CLIENT)
+                            .hasAttributes(
+                                Attributes.of(
+                                    AttributeKey.stringKey("db.system"),
+                                    "postgresql",
+                                    AttributeKey.longKey("one"),
+                                    1L))));
+  }
+
+  @Test
+  void spanTemplate_tracerWithoutTemplates() {
+    Tracer plainTracer = spanName -> tracer.spanBuilder(spanName);
+
+    ExtendedTracer.create(plainTracer)
+        .spanTemplateBuilder("templateSpan")
+        .setSpanKind(SpanKind.SERVER)
+        .setAttribute(AttributeKey.longKey("one"), 1L)
+        .build()
+        .startSpan()
+        .end();
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            traceAssert ->
+                traceAssert.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("templateSpan")
+                            .hasKind(SpanKind.SERVER)
+                            .hasAttributes(Attributes.of(AttributeKey.longKey("one"), 1L))));
+  }
 }
@@ -4,6 +4,7 @@ plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
 
+  id("otel.jmh-conventions")
   id("otel.animalsniffer-conventions")
 
   id("de.undercouch.download")
@@ -32,6 +33,12 @@ dependencies {
   testImplementation(project(":sdk-extensions:autoconfigure"))
 
   testImplementation("com.google.guava:guava-testlib")
+
+  jmh(project(":sdk:testing")) {
+    // JMH doesn't handle dependencies that are duplicated between the main and jmh
+    // configurations properly, so exclude the transitive dependencies which main already has.
+    isTransitive = false
+  }
 }
 
 // The following tasks download the JSON Schema files from open-telemetry/opentelemetry-configuration and generate classes from the type definitions which are used with jackson-databind to parse JSON / YAML to the configuration schema.
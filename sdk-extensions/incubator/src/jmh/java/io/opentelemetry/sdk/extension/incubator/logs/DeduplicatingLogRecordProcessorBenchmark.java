@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures emitting the same error with varying numbers in its message from several threads, as
+ * during an incident, into a {@link BatchLogRecordProcessor} with and without a {@link
+ * DeduplicatingLogRecordProcessor} in front of it.
+ */
+@State(Scope.Benchmark)
+public class DeduplicatingLogRecordProcessorBenchmark {
+
+  @Param({"false", "true"})
+  private boolean deduplicate;
+
+  private SdkLoggerProvider loggerProvider;
+  private Logger logger;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    LogRecordProcessor processor =
+        BatchLogRecordProcessor.builder(new DiscardingExporter()).build();
+    if (deduplicate) {
+      processor = DeduplicatingLogRecordProcessor.builder(processor).build();
+    }
+    loggerProvider = SdkLoggerProvider.builder().addLogRecordProcessor(processor).build();
+    logger = loggerProvider.get("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public final void tearDown() {
+    loggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void emitRepeatedError() {
+    logger
+        .logRecordBuilder()
+        .setSeverity(Severity.ERROR)
+        .setBody(
+            "Request " + ThreadLocalRandom.current().nextInt(100_000) + " failed: connection reset")
+        .emit();
+  }
+
+  private static final class DiscardingExporter implements LogRecordExporter {
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
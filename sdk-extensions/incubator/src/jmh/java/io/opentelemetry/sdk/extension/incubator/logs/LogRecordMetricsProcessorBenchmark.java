@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link LogRecordMetricsProcessor#onEmit(Context, ReadWriteLogRecord)} for
+ * log records of 20 loggers and 4 severities, with and without recording an attribute as a
+ * dimension.
+ */
+@State(Scope.Benchmark)
+public class LogRecordMetricsProcessorBenchmark {
+
+  private static final AttributeKey<String> EVENT_DOMAIN = AttributeKey.stringKey("event.domain");
+  private static final Severity[] SEVERITIES = {
+    Severity.DEBUG, Severity.INFO, Severity.WARN, Severity.ERROR
+  };
+  private static final int LOGGERS = 20;
+  private static final int LOG_RECORDS = LOGGERS * 4;
+
+  @Param({"false", "true"})
+  private boolean dimensions;
+
+  private SdkMeterProvider meterProvider;
+  private LogRecordMetricsProcessor processor;
+  private ReadWriteLogRecord[] logRecords;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    LogRecordMetricsProcessorBuilder builder = LogRecordMetricsProcessor.builder(meterProvider);
+    if (dimensions) {
+      builder.addDimension(EVENT_DOMAIN);
+    }
+    processor = builder.build();
+
+    // Captures the log records the SDK emits, so the benchmark reads them as the processor would.
+    logRecords = new ReadWriteLogRecord[LOG_RECORDS];
+    int[] index = new int[1];
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor((context, logRecord) -> logRecords[index[0]++] = logRecord)
+            .build();
+    for (int i = 0; i < LOGGERS; i++) {
+      for (Severity severity : SEVERITIES) {
+        loggerProvider
+            .get("io.opentelemetry.benchmark.logger" + i)
+            .logRecordBuilder()
+            .setSeverity(severity)
+            .setBody("log message body")
+            .setAttribute(EVENT_DOMAIN, "domain" + (i % 2))
+            .emit();
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public final void tearDown() {
+    meterProvider.close();
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void onEmit() {
+    processor.onEmit(Context.root(), logRecords[ThreadLocalRandom.current().nextInt(LOG_RECORDS)]);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-call cost of {@link AdaptiveThroughputSampler} with {@link
+ * Sampler#traceIdRatioBased(double)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class AdaptiveThroughputSamplerBenchmark {
+
+  private static final String[] SPAN_NAMES = {"GET /users", "GET /orders", "POST /orders"};
+  private static final int NUM_TRACE_IDS = 1024;
+
+  @Param({"traceIdRatioBased", "adaptive", "adaptivePerSpanName"})
+  private String samplerType;
+
+  private Sampler sampler;
+  private final String[] traceIds = new String[NUM_TRACE_IDS];
+
+  @Setup
+  public void setup() {
+    switch (samplerType) {
+      case "traceIdRatioBased":
+        sampler = Sampler.traceIdRatioBased(0.1);
+        break;
+      case "adaptive":
+        sampler = AdaptiveThroughputSampler.builder(1000).build();
+        break;
+      case "adaptivePerSpanName":
+        sampler = AdaptiveThroughputSampler.builder(1000).setPerSpanName(true).build();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown sampler type: " + samplerType);
+    }
+    IdGenerator idGenerator = IdGenerator.random();
+    for (int i = 0; i < NUM_TRACE_IDS; i++) {
+      traceIds[i] = idGenerator.generateTraceId();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public SamplingResult shouldSample_1Thread() {
+    return shouldSample();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public SamplingResult shouldSample_4Threads() {
+    return shouldSample();
+  }
+
+  private SamplingResult shouldSample() {
+    int i = ThreadLocalRandom.current().nextInt(NUM_TRACE_IDS);
+    return sampler.shouldSample(
+        Context.root(),
+        traceIds[i],
+        SPAN_NAMES[i % SPAN_NAMES.length],
+        SpanKind.SERVER,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of reading {@link CoarseClock} and of starting and ending a span with it, with
+ * the default system clock. The {@code errorNanos} aux counter accumulates how far behind the
+ * system clock the clock read in {@link #nanoTimeError(ErrorCounters)} is, so dividing it by the
+ * number of operations gives the average error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(1)
+public class CoarseClockBenchmark {
+
+  @Param({"system", "coarse100us", "coarse1ms"})
+  private String clockType;
+
+  private Clock clock;
+  private Tracer tracer;
+
+  @Setup
+  public void setup() {
+    switch (clockType) {
+      case "system":
+        clock = Clock.getDefault();
+        break;
+      case "coarse100us":
+        clock = CoarseClock.create(Duration.ofNanos(100_000));
+        break;
+      case "coarse1ms":
+        clock = CoarseClock.create(Duration.ofMillis(1));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown clock type: " + clockType);
+    }
+    tracer = SdkTracerProvider.builder().setClock(clock).build().get("benchmark");
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (clock instanceof CoarseClock) {
+      ((CoarseClock) clock).close();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ErrorCounters {
+    public long errorNanos;
+  }
+
+  @Benchmark
+  public long now() {
+    return clock.now();
+  }
+
+  @Benchmark
+  public long nanoTime() {
+    return clock.nanoTime();
+  }
+
+  /** Also reads the system clock, so only its aux counter is meaningful. */
+  @Benchmark
+  public long nanoTimeError(ErrorCounters counters) {
+    long nanoTime = clock.nanoTime();
+    counters.errorNanos += System.nanoTime() - nanoTime;
+    return nanoTime;
+  }
+
+  @Benchmark
+  public void spanStartEnd() {
+    Span span = tracer.spanBuilder("span").startSpan();
+    span.end();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.internal.LongIdGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares {@link BufferedRandomIdGenerator} with {@link IdGenerator#random()}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+  @Param({"random", "buffered"})
+  private String type;
+
+  private LongIdGenerator generator;
+
+  @Setup
+  public void setup() {
+    generator =
+        type.equals("random")
+            ? (LongIdGenerator) IdGenerator.random()
+            : BufferedRandomIdGenerator.create();
+  }
+
+  @Benchmark
+  public long generateSpanIdLong() {
+    return generator.generateSpanIdLong();
+  }
+
+  @Benchmark
+  public String generateTraceId() {
+    return generator.generateTraceId();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures starting and ending a span without leak detection ({@code sampleInterval=0}) and with
+ * leak detection tracking every span or one in 100 spans.
+ */
+@State(Scope.Benchmark)
+public class LeakDetectingSpanProcessorBenchmark {
+
+  @Param({"0", "1", "100"})
+  private int sampleInterval;
+
+  private SdkMeterProvider meterProvider;
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    if (sampleInterval == 0) {
+      tracerProvider = SdkTracerProvider.builder().build();
+    } else {
+      tracerProvider =
+          SdkTracerProvider.builder()
+              .addSpanProcessor(
+                  LeakDetectingSpanProcessor.builder()
+                      .setSampleInterval(sampleInterval)
+                      .setMeterProvider(meterProvider)
+                      .build())
+              .build();
+    }
+    tracer = tracerProvider.get("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public final void tearDown() {
+    tracerProvider.close();
+    meterProvider.close();
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void startAndEndSpan() {
+    tracer.spanBuilder("span").startSpan().end();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link SpanMetricsProcessor#onEnd(ReadableSpan)} for ended server spans
+ * spread over 20 routes, with and without recording the route and method as dimensions.
+ */
+@State(Scope.Benchmark)
+public class SpanMetricsProcessorBenchmark {
+
+  private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+  private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+  private static final int ROUTES = 20;
+
+  @Param({"false", "true"})
+  private boolean dimensions;
+
+  private SdkMeterProvider meterProvider;
+  private SpanMetricsProcessor processor;
+  private ReadableSpan[] spans;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    SpanMetricsProcessorBuilder builder = SpanMetricsProcessor.builder(meterProvider);
+    if (dimensions) {
+      builder.addDimension(HTTP_ROUTE).addDimension(HTTP_METHOD);
+    }
+    processor = builder.build();
+
+    Tracer tracer = SdkTracerProvider.builder().build().get("benchmark");
+    spans = new ReadableSpan[ROUTES];
+    for (int i = 0; i < ROUTES; i++) {
+      Span span =
+          tracer
+              .spanBuilder("GET /route" + i)
+              .setSpanKind(SpanKind.SERVER)
+              .setAttribute(HTTP_ROUTE, "/route" + i)
+              .setAttribute(HTTP_METHOD, "GET")
+              .setAttribute("http.status_code", 200L)
+              .startSpan();
+      span.end();
+      spans[i] = (ReadableSpan) span;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public final void tearDown() {
+    meterProvider.close();
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void onEnd() {
+    processor.onEnd(spans[ThreadLocalRandom.current().nextInt(ROUTES)]);
+  }
+}
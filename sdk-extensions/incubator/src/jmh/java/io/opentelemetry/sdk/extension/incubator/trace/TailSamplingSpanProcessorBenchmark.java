@@ -0,0 +1,135 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the span throughput of {@link TailSamplingSpanProcessor}. Each operation ends one span
+ * of a trace of {@code spansPerTrace} spans, one percent of which contain an error, so the results
+ * are in spans per second.
+ */
+public class TailSamplingSpanProcessorBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"1000", "100000"})
+    private int maxBufferedSpans;
+
+    private final SpanProcessor downstream = new NoopSpanProcessor();
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @Setup(Level.Iteration)
+    public final void setup() {
+      TailSamplingSpanProcessor processor =
+          TailSamplingSpanProcessor.builder(downstream)
+              .addPolicy(TailSamplingPolicy.errors())
+              .addPolicy(TailSamplingPolicy.rateLimiting(100))
+              .setDecisionWait(Duration.ofSeconds(1))
+              .setMaxBufferedSpans(maxBufferedSpans)
+              .build();
+      tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+      tracer = tracerProvider.get("benchmark");
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    @Param({"10"})
+    private int spansPerTrace;
+
+    private BenchmarkState benchmarkState;
+    private Span root;
+    private Context rootContext;
+    private int spanCount;
+    private long traceCount;
+
+    @Setup(Level.Iteration)
+    public final void setup(BenchmarkState benchmarkState) {
+      this.benchmarkState = benchmarkState;
+      root = null;
+      spanCount = 0;
+    }
+
+    private void endSpan() {
+      if (root == null) {
+        root = benchmarkState.tracer.spanBuilder("root").startSpan();
+        rootContext = Context.root().with(root);
+      }
+      if (++spanCount < spansPerTrace) {
+        Span child = benchmarkState.tracer.spanBuilder("child").setParent(rootContext).startSpan();
+        if (traceCount % 100 == 0 && spanCount == 1) {
+          child.setStatus(StatusCode.ERROR);
+        }
+        child.end();
+      } else {
+        root.end();
+        root = null;
+        spanCount = 0;
+        traceCount++;
+      }
+    }
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void endSpan(ThreadState threadState) {
+    threadState.endSpan();
+  }
+
+  private static final class NoopSpanProcessor implements SpanProcessor {
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+      return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {}
+
+    @Override
+    public boolean isEndRequired() {
+      return true;
+    }
+  }
+}
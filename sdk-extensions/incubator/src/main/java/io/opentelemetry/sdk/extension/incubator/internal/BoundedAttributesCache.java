@@ -0,0 +1,184 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * Caches the attributes of the metric series recorded by processors which derive metrics from
+ * telemetry, so that recording does not build the same {@link Attributes} again for every record.
+ *
+ * <p>A series is identified by a name, such as a span name, a shape, a small index standing for
+ * other fields such as the span kind and status code, and the values of the configured dimension
+ * attributes. The number of distinct series is bounded. Once the bound is reached, new series are
+ * recorded with {@link #OVERFLOW_ATTRIBUTES} instead.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class BoundedAttributesCache {
+
+  /** The attributes of all series beyond the bound. */
+  public static final Attributes OVERFLOW_ATTRIBUTES =
+      Attributes.of(booleanKey("otel.metric.overflow"), true);
+
+  private final AttributeKey<?>[] dimensions;
+  private final int shapes;
+  private final int maxCardinality;
+  private final SeriesAttributes seriesAttributes;
+  // Without dimensions, the attributes of each name, indexed by shape.
+  private final ConcurrentHashMap<String, AtomicReferenceArray<Attributes>> seriesByName =
+      new ConcurrentHashMap<>();
+  // With dimensions, whose values are part of the key.
+  private final ConcurrentHashMap<SeriesKey, Attributes> series = new ConcurrentHashMap<>();
+  private final AtomicInteger seriesCount = new AtomicInteger();
+
+  /**
+   * Creates a cache.
+   *
+   * @param dimensions the attributes whose values are added to the attributes of each series.
+   * @param shapes the number of shapes, which are between 0 and {@code shapes - 1}.
+   * @param maxCardinality the maximum number of distinct series.
+   * @param seriesAttributes builds the attributes of a series from its name and shape.
+   */
+  public BoundedAttributesCache(
+      List<AttributeKey<?>> dimensions,
+      int shapes,
+      int maxCardinality,
+      SeriesAttributes seriesAttributes) {
+    this.dimensions = dimensions.toArray(new AttributeKey<?>[0]);
+    this.shapes = shapes;
+    this.maxCardinality = maxCardinality;
+    this.seriesAttributes = seriesAttributes;
+  }
+
+  /** Returns the attributes of a series without dimensions. */
+  public Attributes get(String name, int shape) {
+    AtomicReferenceArray<Attributes> attributesByShape = seriesByName.get(name);
+    if (attributesByShape != null) {
+      Attributes attributes = attributesByShape.get(shape);
+      if (attributes != null) {
+        return attributes;
+      }
+    }
+    if (!reserve()) {
+      return OVERFLOW_ATTRIBUTES;
+    }
+    if (attributesByShape == null) {
+      attributesByShape =
+          seriesByName.computeIfAbsent(name, unused -> new AtomicReferenceArray<>(shapes));
+    }
+    Attributes attributes = seriesAttributes.create(name, shape);
+    if (!attributesByShape.compareAndSet(shape, null, attributes)) {
+      seriesCount.decrementAndGet();
+      return attributesByShape.get(shape);
+    }
+    return attributes;
+  }
+
+  /**
+   * Returns the attributes of a series with the given values of the dimensions, in the order they
+   * were configured in, {@code null} for dimensions without a value. The array must not be changed
+   * afterwards.
+   */
+  public Attributes get(String name, int shape, Object[] dimensionValues) {
+    SeriesKey key = new SeriesKey(name, shape, dimensionValues);
+    Attributes attributes = series.get(key);
+    if (attributes != null) {
+      return attributes;
+    }
+    if (!reserve()) {
+      return OVERFLOW_ATTRIBUTES;
+    }
+    attributes = toAttributes(key);
+    Attributes existing = series.putIfAbsent(key, attributes);
+    if (existing != null) {
+      seriesCount.decrementAndGet();
+      return existing;
+    }
+    return attributes;
+  }
+
+  /** Returns the number of distinct series. */
+  public int size() {
+    return seriesCount.get();
+  }
+
+  private boolean reserve() {
+    if (seriesCount.incrementAndGet() > maxCardinality) {
+      seriesCount.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Attributes toAttributes(SeriesKey key) {
+    AttributesBuilder builder = seriesAttributes.create(key.name, key.shape).toBuilder();
+    for (int i = 0; i < dimensions.length; i++) {
+      Object value = key.dimensionValues[i];
+      if (value != null) {
+        builder.put((AttributeKey) dimensions[i], value);
+      }
+    }
+    return builder.build();
+  }
+
+  /** Builds the attributes of a series, before adding the values of its dimensions. */
+  @FunctionalInterface
+  public interface SeriesAttributes {
+
+    /** Returns the attributes of the series with the given name and shape. */
+    Attributes create(String name, int shape);
+  }
+
+  private static final class SeriesKey {
+    private final String name;
+    private final int shape;
+    private final Object[] dimensionValues;
+    private final int hashCode;
+
+    private SeriesKey(String name, int shape, Object[] dimensionValues) {
+      this.name = name;
+      this.shape = shape;
+      this.dimensionValues = dimensionValues;
+      int hashCode = name.hashCode();
+      hashCode = 31 * hashCode + shape;
+      hashCode = 31 * hashCode + Arrays.hashCode(dimensionValues);
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SeriesKey)) {
+        return false;
+      }
+      SeriesKey that = (SeriesKey) o;
+      return hashCode == that.hashCode
+          && shape == that.shape
+          && name.equals(that.name)
+          && Arrays.equals(dimensionValues, that.dimensionValues);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
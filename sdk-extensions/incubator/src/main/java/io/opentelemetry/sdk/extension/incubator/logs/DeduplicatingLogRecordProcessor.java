@@ -0,0 +1,474 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.Body;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link LogRecordProcessor} which collapses bursts of repeated log records, such as the same
+ * error logged for every request during an incident. Only the first occurrence of a log record is
+ * passed to the downstream {@link LogRecordProcessor}, typically a {@code BatchLogRecordProcessor}.
+ * Repeats are counted, and once per window a summary log record with the attribute {@value
+ * #REPEAT_COUNT_ATTRIBUTE} set to the number of repeats since the previous summary is passed on in
+ * their place.
+ *
+ * <p>Log records are repeats of each other if they have the same severity, instrumentation scope
+ * and body, where runs of digits in the body are ignored so that messages formatted from the same
+ * template with different numbers, such as IDs or durations, are treated as repeats. Attributes and
+ * trace context are not compared, and summaries have the attributes of the first occurrence. Once a
+ * log record has not been repeated for a whole window, its next occurrence is passed on as a first
+ * occurrence again.
+ *
+ * <p>Repeats are counted without locking. The number of distinct log records tracked is bounded,
+ * and log records beyond the bound are passed on without deduplication.
+ */
+public final class DeduplicatingLogRecordProcessor implements LogRecordProcessor {
+
+  /** The attribute of summary log records holding the number of repeats they replace. */
+  public static final String REPEAT_COUNT_ATTRIBUTE = "log.record.repeat_count";
+
+  private static final AttributeKey<Long> REPEAT_COUNT =
+      AttributeKey.longKey(REPEAT_COUNT_ATTRIBUTE);
+  private static final String WORKER_THREAD_NAME =
+      DeduplicatingLogRecordProcessor.class.getSimpleName() + "_WorkerThread";
+  private static final Logger logger =
+      Logger.getLogger(DeduplicatingLogRecordProcessor.class.getName());
+  // Reused by each thread to look fingerprints up without allocating a key for every log record.
+  private static final ThreadLocal<FingerprintKey> lookupKey =
+      ThreadLocal.withInitial(FingerprintKey::new);
+
+  private final LogRecordProcessor downstream;
+  private final long windowNanos;
+  private final int maxFingerprints;
+  private final Clock clock;
+
+  private final ConcurrentHashMap<FingerprintKey, Fingerprint> fingerprints =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger fingerprintCount = new AtomicInteger();
+  private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+  @Nullable private final ScheduledExecutorService scheduler;
+
+  /**
+   * Returns a new Builder for {@link DeduplicatingLogRecordProcessor}.
+   *
+   * @param downstream the {@link LogRecordProcessor} to which first occurrences and summaries are
+   *     passed.
+   * @return a new {@link DeduplicatingLogRecordProcessorBuilder}.
+   * @throws NullPointerException if the {@code downstream} is {@code null}.
+   */
+  public static DeduplicatingLogRecordProcessorBuilder builder(LogRecordProcessor downstream) {
+    return new DeduplicatingLogRecordProcessorBuilder(downstream);
+  }
+
+  DeduplicatingLogRecordProcessor(
+      LogRecordProcessor downstream,
+      long windowNanos,
+      int maxFingerprints,
+      Clock clock,
+      boolean startWorker) {
+    this.downstream = downstream;
+    this.windowNanos = windowNanos;
+    this.maxFingerprints = maxFingerprints;
+    this.clock = clock;
+    if (startWorker) {
+      scheduler = Executors.newScheduledThreadPool(1, new DaemonThreadFactory(WORKER_THREAD_NAME));
+      scheduler.scheduleWithFixedDelay(
+          this::reportRepeats, windowNanos, windowNanos, TimeUnit.NANOSECONDS);
+    } else {
+      scheduler = null;
+    }
+  }
+
+  @Override
+  public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+    if (isShutdown.get()) {
+      return;
+    }
+    Severity severity;
+    InstrumentationScopeInfo scope;
+    String body;
+    LogRecordData data = null;
+    if (logRecord instanceof ExtendedReadWriteLogRecord) {
+      ExtendedReadWriteLogRecord extendedLogRecord = (ExtendedReadWriteLogRecord) logRecord;
+      severity = extendedLogRecord.getSeverity();
+      scope = extendedLogRecord.getInstrumentationScopeInfo();
+      body = extendedLogRecord.getBody().asString();
+    } else {
+      data = logRecord.toLogRecordData();
+      severity = data.getSeverity();
+      scope = data.getInstrumentationScopeInfo();
+      body = data.getBody().asString();
+    }
+    long hash = fingerprint(severity, scope, body);
+    Fingerprint fingerprint = lookup(hash);
+    if (fingerprint == null) {
+      if (fingerprintCount.incrementAndGet() > maxFingerprints) {
+        // Too many distinct log records to track, pass it on as is.
+        fingerprintCount.decrementAndGet();
+        downstream.onEmit(context, logRecord);
+        return;
+      }
+      // Only first occurrences are converted, as summaries are built from them.
+      if (data == null) {
+        data = logRecord.toLogRecordData();
+      }
+      fingerprint = new Fingerprint(data, body, clock.nanoTime());
+      Fingerprint existing = fingerprints.putIfAbsent(new FingerprintKey(hash), fingerprint);
+      if (existing == null) {
+        downstream.onEmit(context, logRecord);
+        return;
+      }
+      fingerprintCount.decrementAndGet();
+      fingerprint = existing;
+    }
+    if (!fingerprint.matches(severity, scope, body)) {
+      // A different log record with the same hash. Collisions are too rare to be worth tracking
+      // both, so the log record is passed on without deduplication.
+      downstream.onEmit(context, logRecord);
+      return;
+    }
+    fingerprint.repeats.increment();
+    if (lookup(hash) != fingerprint) {
+      // Forgotten concurrently, possibly after its last summary was taken. The repeat is reported
+      // here instead of being lost, and only once as repeats are taken atomically.
+      reportRepeats(fingerprint);
+    }
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (isShutdown.getAndSet(true)) {
+      return CompletableResultCode.ofSuccess();
+    }
+    if (scheduler != null) {
+      scheduler.shutdown();
+    }
+    reportAllRepeats();
+    return downstream.shutdown();
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    reportAllRepeats();
+    return downstream.forceFlush();
+  }
+
+  @Nullable
+  private Fingerprint lookup(long hash) {
+    FingerprintKey key = lookupKey.get();
+    key.hash = hash;
+    return fingerprints.get(key);
+  }
+
+  // Visible for testing
+  int getFingerprintCount() {
+    return fingerprintCount.get();
+  }
+
+  /**
+   * Passes on a summary for each log record repeated since the previous summary, and forgets the
+   * log records which were not repeated for a whole window.
+   */
+  // Visible for testing
+  void reportRepeats() {
+    try {
+      for (Iterator<Fingerprint> it = fingerprints.values().iterator(); it.hasNext(); ) {
+        Fingerprint fingerprint = it.next();
+        if (!reportRepeats(fingerprint)
+            && clock.nanoTime() - fingerprint.lastActiveNanos >= windowNanos) {
+          it.remove();
+          fingerprintCount.decrementAndGet();
+          // Report repeats counted by threads which looked the fingerprint up before its removal.
+          reportRepeats(fingerprint);
+        }
+      }
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Exception thrown while reporting repeated log records.", e);
+    }
+  }
+
+  private void reportAllRepeats() {
+    for (Fingerprint fingerprint : fingerprints.values()) {
+      reportRepeats(fingerprint);
+    }
+  }
+
+  /** Passes on a summary if the log record was repeated and returns whether it was. */
+  private boolean reportRepeats(Fingerprint fingerprint) {
+    long repeats = fingerprint.takeRepeats();
+    if (repeats == 0) {
+      return false;
+    }
+    fingerprint.lastActiveNanos = clock.nanoTime();
+    SummaryLogRecordData data = new SummaryLogRecordData(fingerprint.first, clock.now(), repeats);
+    downstream.onEmit(Context.root(), new SummaryLogRecord(data));
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "DeduplicatingLogRecordProcessor{"
+        + "downstream="
+        + downstream
+        + ", windowNanos="
+        + windowNanos
+        + ", maxFingerprints="
+        + maxFingerprints
+        + '}';
+  }
+
+  /**
+   * Returns a 64-bit hash of the severity, instrumentation scope and body of a log record, ignoring
+   * runs of digits in the body, computed without allocating the normalized body.
+   */
+  // Visible for testing
+  static long fingerprint(Severity severity, InstrumentationScopeInfo scope, String body) {
+    long hash = severity.ordinal();
+    hash = 31 * hash + scope.getName().hashCode();
+    String version = scope.getVersion();
+    hash = 31 * hash + (version == null ? 0 : version.hashCode());
+    boolean inDigits = false;
+    for (int i = 0; i < body.length(); i++) {
+      char c = body.charAt(i);
+      boolean isDigit = isDigit(c);
+      if (isDigit && inDigits) {
+        continue;
+      }
+      inDigits = isDigit;
+      // A run of digits contributes a single placeholder character.
+      hash = 31 * hash + (isDigit ? '#' : c);
+    }
+    // Spread the bits, as 31 multiplications alone mix the last characters poorly.
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /**
+   * Returns whether the bodies are equal once each run of digits is replaced with the placeholder
+   * character {@link #fingerprint} hashes it as, compared without allocating the normalized bodies.
+   */
+  // Visible for testing
+  static boolean normalizedBodiesEqual(String a, String b) {
+    int i = 0;
+    int j = 0;
+    while (i < a.length() && j < b.length()) {
+      char ca = a.charAt(i++);
+      char cb = b.charAt(j++);
+      if (isDigit(ca)) {
+        ca = '#';
+        while (i < a.length() && isDigit(a.charAt(i))) {
+          i++;
+        }
+      }
+      if (isDigit(cb)) {
+        cb = '#';
+        while (j < b.length() && isDigit(b.charAt(j))) {
+          j++;
+        }
+      }
+      if (ca != cb) {
+        return false;
+      }
+    }
+    return i == a.length() && j == b.length();
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * The hash of a tracked log record. Keys in the map are never changed, only the lookup key of
+   * each thread is.
+   */
+  private static final class FingerprintKey {
+    private long hash;
+
+    private FingerprintKey() {}
+
+    private FingerprintKey(long hash) {
+      this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      return o instanceof FingerprintKey && ((FingerprintKey) o).hash == hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(hash);
+    }
+  }
+
+  /** A tracked log record, with the number of its repeats. */
+  private static final class Fingerprint {
+    private final LogRecordData first;
+    private final String firstBody;
+    private final LongAdder repeats = new LongAdder();
+    private long reportedRepeats;
+    private volatile long lastActiveNanos;
+
+    private Fingerprint(LogRecordData first, String firstBody, long nowNanos) {
+      this.first = first;
+      this.firstBody = firstBody;
+      this.lastActiveNanos = nowNanos;
+    }
+
+    private boolean matches(Severity severity, InstrumentationScopeInfo scope, String body) {
+      return first.getSeverity() == severity
+          && first.getInstrumentationScopeInfo().equals(scope)
+          && normalizedBodiesEqual(firstBody, body);
+    }
+
+    /** Returns the number of repeats since the previous call. */
+    private synchronized long takeRepeats() {
+      // The adder is never reset, so concurrent increments are never lost.
+      long total = repeats.sum();
+      long taken = total - reportedRepeats;
+      reportedRepeats = total;
+      return taken;
+    }
+  }
+
+  /** A summary log record, passed to the downstream processor in place of repeats. */
+  private static final class SummaryLogRecord implements ReadWriteLogRecord {
+    private SummaryLogRecordData data;
+
+    private SummaryLogRecord(SummaryLogRecordData data) {
+      this.data = data;
+    }
+
+    @Override
+    public synchronized <T> ReadWriteLogRecord setAttribute(AttributeKey<T> key, T value) {
+      if (key == null || key.getKey().isEmpty() || value == null) {
+        return this;
+      }
+      data = data.withAttribute(key, value);
+      return this;
+    }
+
+    @Override
+    public synchronized LogRecordData toLogRecordData() {
+      return data;
+    }
+  }
+
+  /**
+   * The data of a summary log record, which is the first occurrence with the time of the summary,
+   * without trace context, and with the repeat count attribute.
+   */
+  private static final class SummaryLogRecordData implements LogRecordData {
+    private final LogRecordData first;
+    private final long epochNanos;
+    private final Attributes attributes;
+
+    private SummaryLogRecordData(LogRecordData first, long epochNanos, long repeats) {
+      this(first, epochNanos, first.getAttributes().toBuilder().put(REPEAT_COUNT, repeats).build());
+    }
+
+    private SummaryLogRecordData(LogRecordData first, long epochNanos, Attributes attributes) {
+      this.first = first;
+      this.epochNanos = epochNanos;
+      this.attributes = attributes;
+    }
+
+    private <T> SummaryLogRecordData withAttribute(AttributeKey<T> key, T value) {
+      return new SummaryLogRecordData(
+          first, epochNanos, attributes.toBuilder().put(key, value).build());
+    }
+
+    @Override
+    public Resource getResource() {
+      return first.getResource();
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+      return first.getInstrumentationScopeInfo();
+    }
+
+    @Override
+    public long getTimestampEpochNanos() {
+      return epochNanos;
+    }
+
+    @Override
+    public long getObservedTimestampEpochNanos() {
+      return epochNanos;
+    }
+
+    @Override
+    public SpanContext getSpanContext() {
+      return SpanContext.getInvalid();
+    }
+
+    @Override
+    public Severity getSeverity() {
+      return first.getSeverity();
+    }
+
+    @Nullable
+    @Override
+    public String getSeverityText() {
+      return first.getSeverityText();
+    }
+
+    @Override
+    public Body getBody() {
+      return first.getBody();
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return attributes;
+    }
+
+    @Override
+    public int getTotalAttributeCount() {
+      return first.getTotalAttributeCount() - first.getAttributes().size() + attributes.size();
+    }
+
+    @Override
+    public String toString() {
+      return "SummaryLogRecordData{"
+          + "first="
+          + first
+          + ", epochNanos="
+          + epochNanos
+          + ", attributes="
+          + attributes
+          + '}';
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link DeduplicatingLogRecordProcessor}. */
+public final class DeduplicatingLogRecordProcessorBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_WINDOW_MILLIS = 10_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_FINGERPRINTS = 10_000;
+
+  private final LogRecordProcessor downstream;
+  private long windowNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_WINDOW_MILLIS);
+  private int maxFingerprints = DEFAULT_MAX_FINGERPRINTS;
+  private Clock clock = Clock.getDefault();
+  private boolean startWorker = true;
+
+  DeduplicatingLogRecordProcessorBuilder(LogRecordProcessor downstream) {
+    this.downstream = requireNonNull(downstream, "downstream");
+  }
+
+  /**
+   * Sets the window at the end of which a summary of the repeats of a log record is passed on, and
+   * after which a log record which was not repeated is forgotten. If unset, defaults to {@value
+   * DEFAULT_WINDOW_MILLIS}ms.
+   */
+  public DeduplicatingLogRecordProcessorBuilder setWindow(long window, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(window > 0, "window must be positive.");
+    windowNanos = unit.toNanos(window);
+    return this;
+  }
+
+  /**
+   * Sets the window at the end of which a summary of the repeats of a log record is passed on, and
+   * after which a log record which was not repeated is forgotten. If unset, defaults to {@value
+   * DEFAULT_WINDOW_MILLIS}ms.
+   */
+  public DeduplicatingLogRecordProcessorBuilder setWindow(Duration window) {
+    requireNonNull(window, "window");
+    return setWindow(window.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getWindowNanos() {
+    return windowNanos;
+  }
+
+  /**
+   * Sets the maximum number of distinct log records tracked. Log records which are not tracked
+   * because the maximum was reached are passed on without deduplication. If unset, defaults to
+   * {@value DEFAULT_MAX_FINGERPRINTS}.
+   */
+  public DeduplicatingLogRecordProcessorBuilder setMaxFingerprints(int maxFingerprints) {
+    checkArgument(maxFingerprints > 0, "maxFingerprints must be positive.");
+    this.maxFingerprints = maxFingerprints;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxFingerprints() {
+    return maxFingerprints;
+  }
+
+  // Visible for testing
+  DeduplicatingLogRecordProcessorBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  // Visible for testing
+  DeduplicatingLogRecordProcessorBuilder setStartWorker(boolean startWorker) {
+    this.startWorker = startWorker;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link DeduplicatingLogRecordProcessor} that passes first occurrences and
+   * summaries of repeats to the downstream {@link LogRecordProcessor}.
+   *
+   * @return a new {@link DeduplicatingLogRecordProcessor}.
+   */
+  public DeduplicatingLogRecordProcessor build() {
+    return new DeduplicatingLogRecordProcessor(
+        downstream, windowNanos, maxFingerprints, clock, startWorker);
+  }
+}
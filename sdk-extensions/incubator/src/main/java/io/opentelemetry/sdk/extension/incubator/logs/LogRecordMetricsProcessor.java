@@ -0,0 +1,147 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.extension.incubator.internal.BoundedAttributesCache;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link LogRecordProcessor} which counts emitted log records by severity and instrumentation
+ * scope, so that log rates, such as the rate of error logs of each logger, stay exact when log
+ * records are sampled or dropped before they are exported.
+ *
+ * <p>For every emitted log record, the {@value #LOG_RECORDS_METRIC_NAME} counter of the given
+ * {@link MeterProvider} is incremented with the severity of the log record, the name of its
+ * instrumentation scope and the values of the configured dimension attributes of the log record.
+ * The severity is recorded by its short name, such as {@code ERROR} for all of {@link
+ * Severity#ERROR} to {@link Severity#ERROR4}, or {@code UNSPECIFIED} for log records without a
+ * severity.
+ *
+ * <p>The number of distinct attribute sets is bounded. Once the bound is reached, log records with
+ * a new attribute set are recorded with the single attribute {@code otel.metric.overflow=true}.
+ *
+ * <p>Register this processor with the {@code SdkLoggerProviderBuilder} next to, not behind, the
+ * processors which sample log records, so that it sees all of them. Log records below the minimum
+ * severity of their logger are discarded before they reach any processor and are not counted.
+ */
+public final class LogRecordMetricsProcessor implements LogRecordProcessor {
+
+  static final String INSTRUMENTATION_SCOPE_NAME = "io.opentelemetry.sdk.logmetrics";
+  static final String LOG_RECORDS_METRIC_NAME = "logs.log_record.metrics.count";
+
+  static final AttributeKey<String> SEVERITY = stringKey("log.severity");
+  static final AttributeKey<String> SCOPE_NAME = stringKey("otel.scope.name");
+
+  // Indexed by (severity number + 3) / 4, so that each severity range shares its short name.
+  private static final String[] SEVERITY_NAMES = {
+    "UNSPECIFIED", "TRACE", "DEBUG", "INFO", "WARN", "ERROR", "FATAL"
+  };
+
+  private final LongCounter logRecords;
+  private final AttributeKey<?>[] dimensions;
+  private final int maxCardinality;
+  private final BoundedAttributesCache series;
+
+  /**
+   * Returns a new Builder for {@link LogRecordMetricsProcessor}.
+   *
+   * @param meterProvider the {@link MeterProvider} to record the metrics with.
+   * @return a new {@link LogRecordMetricsProcessorBuilder}.
+   * @throws NullPointerException if the {@code meterProvider} is {@code null}.
+   */
+  public static LogRecordMetricsProcessorBuilder builder(MeterProvider meterProvider) {
+    return new LogRecordMetricsProcessorBuilder(meterProvider);
+  }
+
+  LogRecordMetricsProcessor(
+      MeterProvider meterProvider, List<AttributeKey<?>> dimensions, int maxCardinality) {
+    Meter meter = meterProvider.get(INSTRUMENTATION_SCOPE_NAME);
+    this.logRecords =
+        meter
+            .counterBuilder(LOG_RECORDS_METRIC_NAME)
+            .setDescription("The number of emitted log records.")
+            .setUnit("{log_record}")
+            .build();
+    this.dimensions = dimensions.toArray(new AttributeKey<?>[0]);
+    this.maxCardinality = maxCardinality;
+    this.series =
+        new BoundedAttributesCache(
+            dimensions,
+            SEVERITY_NAMES.length,
+            maxCardinality,
+            LogRecordMetricsProcessor::seriesAttributes);
+  }
+
+  @Override
+  public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+    logRecords.add(1, attributesFor(logRecord));
+  }
+
+  private Attributes attributesFor(ReadWriteLogRecord logRecord) {
+    String scopeName;
+    Severity severity;
+    Object[] dimensionValues = null;
+    if (logRecord instanceof ExtendedReadWriteLogRecord) {
+      ExtendedReadWriteLogRecord extendedLogRecord = (ExtendedReadWriteLogRecord) logRecord;
+      scopeName = extendedLogRecord.getInstrumentationScopeInfo().getName();
+      severity = extendedLogRecord.getSeverity();
+      if (dimensions.length > 0) {
+        dimensionValues = new Object[dimensions.length];
+        for (int i = 0; i < dimensions.length; i++) {
+          dimensionValues[i] = extendedLogRecord.getAttribute(dimensions[i]);
+        }
+      }
+    } else {
+      LogRecordData data = logRecord.toLogRecordData();
+      scopeName = data.getInstrumentationScopeInfo().getName();
+      severity = data.getSeverity();
+      if (dimensions.length > 0) {
+        Attributes logAttributes = data.getAttributes();
+        dimensionValues = new Object[dimensions.length];
+        for (int i = 0; i < dimensions.length; i++) {
+          dimensionValues[i] = logAttributes.get(dimensions[i]);
+        }
+      }
+    }
+    int severityIndex = (severity.getSeverityNumber() + 3) / 4;
+    return dimensionValues == null
+        ? series.get(scopeName, severityIndex)
+        : series.get(scopeName, severityIndex, dimensionValues);
+  }
+
+  private static Attributes seriesAttributes(String scopeName, int severityIndex) {
+    return Attributes.of(SEVERITY, SEVERITY_NAMES[severityIndex], SCOPE_NAME, scopeName);
+  }
+
+  // Visible for testing
+  int getSeriesCount() {
+    return series.size();
+  }
+
+  @Override
+  public String toString() {
+    return "LogRecordMetricsProcessor{"
+        + "dimensions="
+        + Arrays.toString(dimensions)
+        + ", maxCardinality="
+        + maxCardinality
+        + '}';
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link LogRecordProcessor} which samples log records consistently with traces, before they are
+ * passed to the downstream {@link LogRecordProcessor}, typically a {@code BatchLogRecordProcessor},
+ * so that dropped log records never take up space in its queue.
+ *
+ * <p>Log records emitted within a sampled span are always kept, so the logs of every exported trace
+ * are complete. Other log records are sampled by the rule configured for their severity: first by
+ * ratio, then by a budget of log records per second. For log records emitted within an unsampled
+ * span, the ratio decision is based on the trace ID, so that all log records of a trace are kept or
+ * dropped together. Log records without a rule are always kept.
+ */
+public final class SamplingLogRecordProcessor implements LogRecordProcessor {
+
+  private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final LogRecordProcessor downstream;
+  // Indexed by severity number, null for severities without a rule.
+  private final SeverityRule[] rules;
+  private final Clock clock;
+
+  /**
+   * Returns a new Builder for {@link SamplingLogRecordProcessor}.
+   *
+   * @param downstream the {@link LogRecordProcessor} to which kept log records are passed.
+   * @return a new {@link SamplingLogRecordProcessorBuilder}.
+   * @throws NullPointerException if the {@code downstream} is {@code null}.
+   */
+  public static SamplingLogRecordProcessorBuilder builder(LogRecordProcessor downstream) {
+    return new SamplingLogRecordProcessorBuilder(downstream);
+  }
+
+  SamplingLogRecordProcessor(LogRecordProcessor downstream, SeverityRule[] rules, Clock clock) {
+    this.downstream = downstream;
+    this.rules = rules;
+    this.clock = clock;
+  }
+
+  @Override
+  public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+    Severity severity;
+    SpanContext spanContext;
+    if (logRecord instanceof ExtendedReadWriteLogRecord) {
+      ExtendedReadWriteLogRecord extendedLogRecord = (ExtendedReadWriteLogRecord) logRecord;
+      severity = extendedLogRecord.getSeverity();
+      spanContext = extendedLogRecord.getSpanContext();
+    } else {
+      LogRecordData data = logRecord.toLogRecordData();
+      severity = data.getSeverity();
+      spanContext = data.getSpanContext();
+    }
+    if (spanContext.isSampled()) {
+      downstream.onEmit(context, logRecord);
+      return;
+    }
+    SeverityRule rule = rules[severity.getSeverityNumber()];
+    if (rule == null || rule.shouldKeep(spanContext, clock)) {
+      downstream.onEmit(context, logRecord);
+    }
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    return downstream.shutdown();
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    return downstream.forceFlush();
+  }
+
+  @Override
+  public String toString() {
+    return "SamplingLogRecordProcessor{downstream=" + downstream + '}';
+  }
+
+  /** The sampling rule of the log records with a severity in a range. */
+  static final class SeverityRule {
+    private final long idUpperBound;
+    private final int maxPerSecond;
+    private final AtomicLong windowStartNanos;
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    /**
+     * Creates a rule keeping the given ratio of log records, of which at most {@code maxPerSecond}
+     * per second, or any number if negative.
+     */
+    SeverityRule(double ratio, int maxPerSecond, long nowNanos) {
+      // The same bound as TraceIdRatioBasedSampler, which never samples with a ratio of 0.
+      if (ratio == 0.0) {
+        idUpperBound = Long.MIN_VALUE;
+      } else if (ratio == 1.0) {
+        idUpperBound = Long.MAX_VALUE;
+      } else {
+        idUpperBound = (long) (ratio * Long.MAX_VALUE);
+      }
+      this.maxPerSecond = maxPerSecond;
+      this.windowStartNanos = new AtomicLong(nowNanos);
+    }
+
+    private boolean shouldKeep(SpanContext spanContext, Clock clock) {
+      if (idUpperBound != Long.MAX_VALUE && Math.abs(randomPart(spanContext)) >= idUpperBound) {
+        return false;
+      }
+      return maxPerSecond < 0 || tryAcquire(clock.nanoTime());
+    }
+
+    private boolean tryAcquire(long nowNanos) {
+      long windowStart = windowStartNanos.get();
+      if (nowNanos - windowStart >= SECOND_NANOS
+          && windowStartNanos.compareAndSet(windowStart, nowNanos)) {
+        windowCount.set(0);
+      }
+      // Once the budget is used up the count keeps growing, but not by enough within a second to
+      // overflow.
+      return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    private static long randomPart(SpanContext spanContext) {
+      if (spanContext.isValid()) {
+        return OtelEncodingUtils.longFromBase16String(spanContext.getTraceId(), 16);
+      }
+      return ThreadLocalRandom.current().nextLong();
+    }
+  }
+}
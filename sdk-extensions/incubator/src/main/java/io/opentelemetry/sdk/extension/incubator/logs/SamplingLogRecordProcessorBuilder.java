@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.extension.incubator.logs.SamplingLogRecordProcessor.SeverityRule;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import java.util.Map;
+import java.util.TreeMap;
+
+/** Builder class for {@link SamplingLogRecordProcessor}. */
+public final class SamplingLogRecordProcessorBuilder {
+
+  private static final int MAX_SEVERITY_NUMBER = Severity.FATAL4.getSeverityNumber();
+
+  private final LogRecordProcessor downstream;
+  // Keyed by the severity number from which the rule applies.
+  private final TreeMap<Integer, RuleConfig> rules = new TreeMap<>();
+  private Clock clock = Clock.getDefault();
+
+  SamplingLogRecordProcessorBuilder(LogRecordProcessor downstream) {
+    this.downstream = requireNonNull(downstream, "downstream");
+  }
+
+  /**
+   * Sets the ratio of log records with a severity of at least {@code minimumSeverity}, and below
+   * the next higher severity a rule is set for, which are kept unless emitted within a sampled
+   * span. For example, {@code setRatio(Severity.TRACE, 0.01).setRatio(Severity.INFO, 0.1)
+   * .setRatio(Severity.WARN, 1.0)} keeps 1% of trace and debug logs, 10% of info logs and all
+   * warnings and errors. If unset for all lower severities, all log records are kept.
+   */
+  public SamplingLogRecordProcessorBuilder setRatio(Severity minimumSeverity, double ratio) {
+    requireNonNull(minimumSeverity, "minimumSeverity");
+    checkArgument(ratio >= 0.0 && ratio <= 1.0, "ratio must be in range [0.0, 1.0]");
+    ruleConfig(minimumSeverity).ratio = ratio;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of log records per second with a severity of at least {@code
+   * minimumSeverity}, and below the next higher severity a rule is set for, which are kept unless
+   * emitted within a sampled span. The budget is shared by all these severities and applies after
+   * the ratio set with {@link #setRatio(Severity, double)}, if any.
+   */
+  public SamplingLogRecordProcessorBuilder setMaxPerSecond(
+      Severity minimumSeverity, int maxPerSecond) {
+    requireNonNull(minimumSeverity, "minimumSeverity");
+    checkArgument(maxPerSecond >= 0, "maxPerSecond must be non-negative.");
+    ruleConfig(minimumSeverity).maxPerSecond = maxPerSecond;
+    return this;
+  }
+
+  private RuleConfig ruleConfig(Severity minimumSeverity) {
+    return rules.computeIfAbsent(minimumSeverity.getSeverityNumber(), unused -> new RuleConfig());
+  }
+
+  // Visible for testing
+  SamplingLogRecordProcessorBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  /**
+   * Returns a new {@link SamplingLogRecordProcessor} that passes kept log records to the downstream
+   * {@link LogRecordProcessor}.
+   *
+   * @return a new {@link SamplingLogRecordProcessor}.
+   */
+  public SamplingLogRecordProcessor build() {
+    SeverityRule[] severityRules = new SeverityRule[MAX_SEVERITY_NUMBER + 1];
+    long nowNanos = clock.nanoTime();
+    for (Map.Entry<Integer, RuleConfig> entry : rules.entrySet()) {
+      int from = entry.getKey();
+      Integer next = rules.higherKey(from);
+      int to = next == null ? MAX_SEVERITY_NUMBER + 1 : next;
+      RuleConfig config = entry.getValue();
+      SeverityRule rule = new SeverityRule(config.ratio, config.maxPerSecond, nowNanos);
+      for (int severityNumber = from; severityNumber < to; severityNumber++) {
+        severityRules[severityNumber] = rule;
+      }
+    }
+    return new SamplingLogRecordProcessor(downstream, severityRules, clock);
+  }
+
+  private static final class RuleConfig {
+    private double ratio = 1.0;
+    private int maxPerSecond = -1;
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.doubleKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Sampler} which targets a number of sampled spans per second, either for all spans or
+ * for each span name, by periodically adjusting its sampling probability to the observed rate of
+ * {@link #shouldSample} calls. Unlike {@link Sampler#traceIdRatioBased(double)}, the number of
+ * sampled spans stays constant as traffic grows.
+ *
+ * <p>Within an adjustment interval the probability is fixed, and the decision is made from the
+ * trace ID like {@link Sampler#traceIdRatioBased(double)}, so spans of the same trace sampled
+ * with the same probability get the same decision. The probability starts at {@code 1.0} and is
+ * recomputed after each interval as the target rate divided by the observed rate, capped at
+ * {@code 1.0}.
+ *
+ * <p>Sampled spans get a {@code sampler.type} attribute of {@value #TYPE} and a {@code
+ * sampler.param} attribute holding the effective probability, so that backends can weight them.
+ *
+ * <p>To honor the decisions of parent spans, wrap this sampler with {@link
+ * Sampler#parentBased(Sampler)}; only root spans then count against the target.
+ */
+public final class AdaptiveThroughputSampler implements Sampler {
+
+  static final String TYPE = "adaptive";
+  static final AttributeKey<String> SAMPLER_TYPE = stringKey("sampler.type");
+  static final AttributeKey<Double> SAMPLER_PARAM = doubleKey("sampler.param");
+
+  private static final SamplingResult NEGATIVE_SAMPLING_RESULT = SamplingResult.drop();
+
+  private final double targetSpansPerSecond;
+  private final long adjustmentIntervalNanos;
+  private final boolean perSpanName;
+  private final int maxSpanNames;
+  private final Clock clock;
+  private final String description;
+  private final Bucket defaultBucket;
+  private final ConcurrentHashMap<String, Bucket> spanNameBuckets = new ConcurrentHashMap<>();
+
+  /**
+   * Returns a new Builder for {@link AdaptiveThroughputSampler}.
+   *
+   * @param targetSpansPerSecond the number of spans per second to sample, for all spans or for
+   *     each span name.
+   * @return a new {@link AdaptiveThroughputSamplerBuilder}.
+   */
+  public static AdaptiveThroughputSamplerBuilder builder(double targetSpansPerSecond) {
+    return new AdaptiveThroughputSamplerBuilder(targetSpansPerSecond);
+  }
+
+  AdaptiveThroughputSampler(
+      double targetSpansPerSecond,
+      long adjustmentIntervalNanos,
+      boolean perSpanName,
+      int maxSpanNames,
+      Clock clock) {
+    this.targetSpansPerSecond = targetSpansPerSecond;
+    this.adjustmentIntervalNanos = adjustmentIntervalNanos;
+    this.perSpanName = perSpanName;
+    this.maxSpanNames = maxSpanNames;
+    this.clock = clock;
+    this.description =
+        "AdaptiveThroughputSampler{"
+            + decimalFormat(targetSpansPerSecond)
+            + (perSpanName ? ", perSpanName" : "")
+            + "}";
+    this.defaultBucket = new Bucket(clock.nanoTime());
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    long nowNanos = clock.nanoTime();
+    Bucket bucket = perSpanName ? bucketFor(name, nowNanos) : defaultBucket;
+    return bucket.shouldSample(traceId, nowNanos);
+  }
+
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+
+  // Visible for testing
+  double getProbability(String name) {
+    Bucket bucket = perSpanName ? spanNameBuckets.getOrDefault(name, defaultBucket) : defaultBucket;
+    return bucket.ratio.probability;
+  }
+
+  private Bucket bucketFor(String name, long nowNanos) {
+    Bucket bucket = spanNameBuckets.get(name);
+    if (bucket != null) {
+      return bucket;
+    }
+    if (spanNameBuckets.size() >= maxSpanNames) {
+      // Span names beyond the limit share the default bucket.
+      return defaultBucket;
+    }
+    return spanNameBuckets.computeIfAbsent(name, unused -> new Bucket(nowNanos));
+  }
+
+  /** Counts the arrivals of a group of spans and holds their current sampling probability. */
+  private final class Bucket {
+    private final LongAdder arrivals = new LongAdder();
+    private final AtomicLong intervalStartNanos;
+    private volatile Ratio ratio = Ratio.create(1.0);
+
+    private Bucket(long nowNanos) {
+      this.intervalStartNanos = new AtomicLong(nowNanos);
+    }
+
+    private SamplingResult shouldSample(String traceId, long nowNanos) {
+      arrivals.increment();
+      long intervalStart = intervalStartNanos.get();
+      long elapsedNanos = nowNanos - intervalStart;
+      if (elapsedNanos >= adjustmentIntervalNanos
+          && intervalStartNanos.compareAndSet(intervalStart, nowNanos)) {
+        adjust(elapsedNanos);
+      }
+      Ratio current = ratio;
+      return Math.abs(getTraceIdRandomPart(traceId)) < current.idUpperBound
+          ? current.positiveSamplingResult
+          : NEGATIVE_SAMPLING_RESULT;
+    }
+
+    private void adjust(long elapsedNanos) {
+      double spansPerSecond = arrivals.sumThenReset() * 1e9 / elapsedNanos;
+      double probability =
+          spansPerSecond <= targetSpansPerSecond ? 1.0 : targetSpansPerSecond / spansPerSecond;
+      if (probability != ratio.probability) {
+        ratio = Ratio.create(probability);
+      }
+    }
+  }
+
+  /** A sampling probability with its precomputed trace ID bound and sampling result. */
+  private static final class Ratio {
+    private final double probability;
+    private final long idUpperBound;
+    private final SamplingResult positiveSamplingResult;
+
+    private static Ratio create(double probability) {
+      // Same bound as TraceIdRatioBasedSampler, see there for the special case of 1.0.
+      long idUpperBound =
+          probability == 1.0 ? Long.MAX_VALUE : (long) (probability * Long.MAX_VALUE);
+      return new Ratio(probability, idUpperBound);
+    }
+
+    private Ratio(double probability, long idUpperBound) {
+      this.probability = probability;
+      this.idUpperBound = idUpperBound;
+      this.positiveSamplingResult =
+          SamplingResult.create(
+              SamplingDecision.RECORD_AND_SAMPLE,
+              Attributes.of(SAMPLER_TYPE, TYPE, SAMPLER_PARAM, probability));
+    }
+  }
+
+  private static long getTraceIdRandomPart(String traceId) {
+    return OtelEncodingUtils.longFromBase16String(traceId, 16);
+  }
+
+  private static String decimalFormat(double value) {
+    DecimalFormatSymbols decimalFormatSymbols = DecimalFormatSymbols.getInstance();
+    decimalFormatSymbols.setDecimalSeparator('.');
+
+    DecimalFormat decimalFormat = new DecimalFormat("0.00", decimalFormatSymbols);
+    return decimalFormat.format(value);
+  }
+}
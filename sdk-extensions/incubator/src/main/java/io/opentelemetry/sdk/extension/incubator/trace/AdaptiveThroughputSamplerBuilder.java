@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link AdaptiveThroughputSampler}. */
+public final class AdaptiveThroughputSamplerBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_ADJUSTMENT_INTERVAL_MILLIS = 5000;
+  // Visible for testing
+  static final int DEFAULT_MAX_SPAN_NAMES = 1000;
+
+  private final double targetSpansPerSecond;
+  private long adjustmentIntervalNanos =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_ADJUSTMENT_INTERVAL_MILLIS);
+  private boolean perSpanName;
+  private int maxSpanNames = DEFAULT_MAX_SPAN_NAMES;
+  private Clock clock = Clock.getDefault();
+
+  AdaptiveThroughputSamplerBuilder(double targetSpansPerSecond) {
+    checkArgument(targetSpansPerSecond > 0, "targetSpansPerSecond must be positive.");
+    this.targetSpansPerSecond = targetSpansPerSecond;
+  }
+
+  /**
+   * Sets the interval after which the sampling probability is recomputed from the observed rate.
+   * If unset, defaults to {@value DEFAULT_ADJUSTMENT_INTERVAL_MILLIS}ms.
+   */
+  public AdaptiveThroughputSamplerBuilder setAdjustmentInterval(long interval, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(interval > 0, "interval must be positive.");
+    adjustmentIntervalNanos = unit.toNanos(interval);
+    return this;
+  }
+
+  /**
+   * Sets the interval after which the sampling probability is recomputed from the observed rate.
+   * If unset, defaults to {@value DEFAULT_ADJUSTMENT_INTERVAL_MILLIS}ms.
+   */
+  public AdaptiveThroughputSamplerBuilder setAdjustmentInterval(Duration interval) {
+    requireNonNull(interval, "interval");
+    return setAdjustmentInterval(interval.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getAdjustmentIntervalNanos() {
+    return adjustmentIntervalNanos;
+  }
+
+  /**
+   * Sets whether the target applies to each span name separately instead of to all spans. If
+   * unset, defaults to {@code false}.
+   */
+  public AdaptiveThroughputSamplerBuilder setPerSpanName(boolean perSpanName) {
+    this.perSpanName = perSpanName;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of span names tracked separately when the target applies per span
+   * name. Spans with other names share a single target. If unset, defaults to {@value
+   * DEFAULT_MAX_SPAN_NAMES}.
+   */
+  public AdaptiveThroughputSamplerBuilder setMaxSpanNames(int maxSpanNames) {
+    checkArgument(maxSpanNames > 0, "maxSpanNames must be positive.");
+    this.maxSpanNames = maxSpanNames;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxSpanNames() {
+    return maxSpanNames;
+  }
+
+  // Visible for testing
+  AdaptiveThroughputSamplerBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  /** Returns a new {@link AdaptiveThroughputSampler}. */
+  public AdaptiveThroughputSampler build() {
+    return new AdaptiveThroughputSampler(
+        targetSpansPerSecond, adjustmentIntervalNanos, perSpanName, maxSpanNames, clock);
+  }
+}
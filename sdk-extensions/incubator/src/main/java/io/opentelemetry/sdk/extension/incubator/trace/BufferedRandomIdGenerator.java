@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.internal.LongIdGenerator;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IdGenerator} which generates random IDs like {@link IdGenerator#random()}, but draws
+ * random values in blocks kept per thread instead of one at a time. Created through {@link
+ * IdGenerators#bufferedRandom(int)}.
+ *
+ * <p>Span IDs are produced as primitive {@code long}s, so spans only encode them to hexadecimal
+ * when needed.
+ */
+final class BufferedRandomIdGenerator implements LongIdGenerator {
+
+  // Visible for testing
+  static final int DEFAULT_BLOCK_SIZE = 64;
+
+  private static final long INVALID_ID = 0;
+  private static final Supplier<Random> randomSupplier = RandomSupplier.platformDefault();
+
+  private final ThreadLocal<RandomBlock> blocks;
+  private final int blockSize;
+
+  static BufferedRandomIdGenerator create() {
+    return create(DEFAULT_BLOCK_SIZE);
+  }
+
+  static BufferedRandomIdGenerator create(int blockSize) {
+    checkArgument(blockSize > 0, "blockSize must be positive.");
+    return new BufferedRandomIdGenerator(blockSize);
+  }
+
+  private BufferedRandomIdGenerator(int blockSize) {
+    this.blockSize = blockSize;
+    this.blocks = ThreadLocal.withInitial(() -> new RandomBlock(blockSize));
+  }
+
+  @Override
+  public long generateSpanIdLong() {
+    RandomBlock block = blocks.get();
+    long id;
+    do {
+      id = block.next();
+    } while (id == INVALID_ID);
+    return id;
+  }
+
+  @Override
+  public String generateTraceId() {
+    RandomBlock block = blocks.get();
+    long idHi = block.next();
+    long idLo;
+    do {
+      idLo = block.next();
+    } while (idLo == INVALID_ID);
+    return TraceId.fromLongs(idHi, idLo);
+  }
+
+  @Override
+  public String toString() {
+    return "BufferedRandomIdGenerator{blockSize=" + blockSize + "}";
+  }
+
+  /** Random values of a single thread, refilled when exhausted. */
+  private static final class RandomBlock {
+    private final long[] values;
+    private int position;
+
+    private RandomBlock(int size) {
+      values = new long[size];
+      position = size;
+    }
+
+    private long next() {
+      if (position == values.length) {
+        Random random = randomSupplier.get();
+        for (int i = 0; i < values.length; i++) {
+          values[i] = random.nextLong();
+        }
+        position = 0;
+      }
+      return values[position++];
+    }
+  }
+}
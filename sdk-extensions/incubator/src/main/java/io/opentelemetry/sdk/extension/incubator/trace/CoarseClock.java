@@ -0,0 +1,123 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link Clock} whose time is updated by a background thread at a fixed resolution, so reading
+ * it is a single volatile read instead of a call into the system clock. Use it for span timestamps
+ * with {@link io.opentelemetry.sdk.trace.SdkTracerProviderBuilder#setClock(Clock)}:
+ *
+ * <pre>{@code
+ * CoarseClock clock = CoarseClock.create(Duration.ofNanos(100_000));
+ * SdkTracerProvider tracerProvider = SdkTracerProvider.builder().setClock(clock).build();
+ * }</pre>
+ *
+ * <p>Timestamps lag behind the system clock by up to the resolution, plus however late the
+ * background thread is scheduled, and spans shorter than the resolution may have a zero duration.
+ * The clock never goes backwards.
+ *
+ * <p>The background thread runs until {@link #close()} is called.
+ */
+public final class CoarseClock implements Clock, Closeable {
+
+  private static final String WORKER_THREAD_NAME = CoarseClock.class.getSimpleName() + "_Ticker";
+
+  private final Clock delegate;
+  private final long resolutionNanos;
+  private final Thread ticker;
+
+  private volatile long now;
+  private volatile long nanoTime;
+  private volatile boolean closed;
+
+  /**
+   * Returns a new {@link CoarseClock} reading the system clock every {@code resolution}.
+   *
+   * @param resolution how often the time is updated.
+   */
+  public static CoarseClock create(Duration resolution) {
+    return create(Clock.getDefault(), resolution);
+  }
+
+  /**
+   * Returns a new {@link CoarseClock} reading {@code delegate} every {@code resolution}.
+   *
+   * @param delegate the {@link Clock} to read the time from.
+   * @param resolution how often the time is updated.
+   */
+  public static CoarseClock create(Clock delegate, Duration resolution) {
+    requireNonNull(delegate, "delegate");
+    requireNonNull(resolution, "resolution");
+    checkArgument(!resolution.isNegative() && !resolution.isZero(), "resolution must be positive.");
+    CoarseClock clock = new CoarseClock(delegate, resolution.toNanos());
+    clock.ticker.start();
+    return clock;
+  }
+
+  private CoarseClock(Clock delegate, long resolutionNanos) {
+    this.delegate = delegate;
+    this.resolutionNanos = resolutionNanos;
+    this.now = delegate.now();
+    this.nanoTime = delegate.nanoTime();
+    this.ticker = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(this::run);
+  }
+
+  @Override
+  public long now() {
+    return now;
+  }
+
+  @Override
+  public long nanoTime() {
+    return nanoTime;
+  }
+
+  /** Returns how often the time is updated, in nanoseconds. */
+  public long getResolutionNanos() {
+    return resolutionNanos;
+  }
+
+  /** Stops the background thread. The clock keeps returning the last time it read. */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(ticker);
+  }
+
+  private void run() {
+    while (!closed) {
+      tick();
+      LockSupport.parkNanos(this, resolutionNanos);
+    }
+  }
+
+  // Visible for testing
+  void tick() {
+    // Wall time may be adjusted backwards, never let the clock do so.
+    long currentNow = delegate.now();
+    if (currentNow > now) {
+      now = currentNow;
+    }
+    long currentNanoTime = delegate.nanoTime();
+    if (currentNanoTime - nanoTime > 0) {
+      nanoTime = currentNanoTime;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CoarseClock{resolutionNanos=" + resolutionNanos + ", delegate=" + delegate + "}";
+  }
+}
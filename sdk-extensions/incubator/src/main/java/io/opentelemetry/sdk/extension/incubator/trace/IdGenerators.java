@@ -0,0 +1,36 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.sdk.trace.IdGenerator;
+
+/** Factories of {@link IdGenerator}s which are not yet part of the SDK. */
+public final class IdGenerators {
+
+  /**
+   * Returns an {@link IdGenerator} which generates random IDs like {@link IdGenerator#random()},
+   * but draws 64 random values at a time and keeps them per thread instead of drawing them one at
+   * a time.
+   */
+  public static IdGenerator bufferedRandom() {
+    return BufferedRandomIdGenerator.create();
+  }
+
+  /**
+   * Returns an {@link IdGenerator} which generates random IDs like {@link IdGenerator#random()},
+   * but draws {@code blockSize} random values at a time and keeps them per thread. This trades a
+   * small amount of memory per thread for fewer calls to the random number generator, which helps
+   * on platforms where the default generator is shared between threads.
+   *
+   * @param blockSize the number of random values drawn at a time.
+   * @throws IllegalArgumentException if {@code blockSize} is not positive.
+   */
+  public static IdGenerator bufferedRandom(int blockSize) {
+    return BufferedRandomIdGenerator.create(blockSize);
+  }
+
+  private IdGenerators() {}
+}
@@ -5,8 +5,15 @@
 
 package io.opentelemetry.sdk.extension.incubator.trace;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static java.lang.Thread.currentThread;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.internal.shaded.WeakConcurrentMap;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
@@ -16,20 +23,31 @@ import java.lang.ref.Reference;
 import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * A {@link SpanProcessor} which will detect spans that are never ended. It will detect spans that
  * are garbage collected without ever having `end()` called on them.
  *
- * <p>Note: using this SpanProcessor will definitely impact the performance of your application. It
- * is not recommended for production use, as it uses additional memory for each span to track where
- * a leaked span was created.
+ * <p>Note: by default, using this SpanProcessor will definitely impact the performance of your
+ * application, as it tracks every span and captures the stack trace where it was started. To leave
+ * it enabled in production, use {@link LeakDetectingSpanProcessorBuilder#setSampleInterval(int)} to
+ * only track some of the spans and {@link LeakDetectingSpanProcessorBuilder#setMeterProvider} to
+ * count leaked spans with the {@value #LEAKED_METRIC_NAME} metric instead of logging them.
  */
 public final class LeakDetectingSpanProcessor implements SpanProcessor {
-  private static final Logger logger = Logger.getLogger(LeakDetectingSpanProcessor.class.getName());
-
+  static final String INSTRUMENTATION_SCOPE_NAME = "io.opentelemetry.sdk.leakdetection";
+  static final String TRACKED_METRIC_NAME = "otel.sdk.span.leak_detection.tracked";
+  static final String LEAKED_METRIC_NAME = "otel.sdk.span.leaked";
+  static final AttributeKey<String> SPAN_NAME = stringKey("span.name");
+
+  private static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
+
+  private final int sampleInterval;
+  private final boolean captureStackTraces;
+  @Nullable private final LongCounter trackedCounter;
+  @Nullable private final LongCounter leakedCounter;
+  private final BiConsumer<String, Throwable> reporter;
   private final PendingSpans pendingSpans;
 
   /**
@@ -37,26 +55,68 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
    * garbage collected.
    */
   public static LeakDetectingSpanProcessor create() {
-    return new LeakDetectingSpanProcessor(
-        (message, throwable) ->
-            logger.log(Level.WARNING, "Span garbage collected before being ended.", throwable));
+    return builder().build();
+  }
+
+  /**
+   * Returns a new Builder for {@link LeakDetectingSpanProcessor}.
+   *
+   * @return a new {@link LeakDetectingSpanProcessorBuilder}.
+   */
+  public static LeakDetectingSpanProcessorBuilder builder() {
+    return new LeakDetectingSpanProcessorBuilder();
   }
 
   // Visible for testing
   LeakDetectingSpanProcessor(BiConsumer<String, Throwable> reporter) {
-    pendingSpans = PendingSpans.create(reporter);
+    this(/* sampleInterval= */ 1, /* captureStackTraces= */ true, null, reporter);
+  }
+
+  LeakDetectingSpanProcessor(
+      int sampleInterval,
+      boolean captureStackTraces,
+      @Nullable MeterProvider meterProvider,
+      BiConsumer<String, Throwable> reporter) {
+    this.sampleInterval = sampleInterval;
+    this.captureStackTraces = captureStackTraces;
+    this.reporter = reporter;
+    if (meterProvider != null) {
+      Meter meter = meterProvider.get(INSTRUMENTATION_SCOPE_NAME);
+      trackedCounter =
+          meter
+              .counterBuilder(TRACKED_METRIC_NAME)
+              .setUnit("{span}")
+              .setDescription("The number of started spans tracked for leaks.")
+              .build();
+      leakedCounter =
+          meter
+              .counterBuilder(LEAKED_METRIC_NAME)
+              .setUnit("{span}")
+              .setDescription("The number of tracked spans garbage collected before being ended.")
+              .build();
+    } else {
+      trackedCounter = null;
+      leakedCounter = null;
+    }
+    pendingSpans = PendingSpans.create(this);
   }
 
   @Override
   public void onStart(Context parentContext, ReadWriteSpan span) {
-    CallerStackTrace caller = new CallerStackTrace(span);
-    StackTraceElement[] stackTrace = caller.getStackTrace();
-
-    // take off the first 3 stack frames, as they are from the SDK itself.
-    caller.setStackTrace(
-        Arrays.copyOfRange(stackTrace, Math.min(3, stackTrace.length), stackTrace.length));
-
-    pendingSpans.put(span, caller);
+    if (!isTracked(span)) {
+      return;
+    }
+    StackTraceElement[] stackTrace = EMPTY_STACK_TRACE;
+    if (captureStackTraces) {
+      stackTrace = new Throwable().getStackTrace();
+      // take off the first 3 stack frames, as they are from the SDK itself.
+      stackTrace =
+          Arrays.copyOfRange(stackTrace, Math.min(3, stackTrace.length), stackTrace.length);
+    }
+    pendingSpans.put(span, new TrackedSpan(span, stackTrace));
+    if (trackedCounter != null) {
+      trackedCounter.add(1);
+    }
   }
 
   @Override
@@ -66,7 +126,13 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
 
   @Override
   public void onEnd(ReadableSpan span) {
-    pendingSpans.remove(span).ended = true;
+    if (!isTracked(span)) {
+      return;
+    }
+    TrackedSpan tracked = pendingSpans.remove(span);
+    if (tracked != null) {
+      tracked.ended = true;
+    }
   }
 
   @Override
@@ -74,14 +140,31 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
     return true;
   }
 
-  private static class PendingSpans extends WeakConcurrentMap<ReadableSpan, CallerStackTrace> {
+  /**
+   * Returns whether the span is tracked. The identity hash code is a random number stored in the
+   * object header, so it selects spans uniformly without extra state and gives the same answer on
+   * start and end.
+   */
+  // Visible for testing
+  boolean isTracked(ReadableSpan span) {
+    return sampleInterval == 1 || System.identityHashCode(span) % sampleInterval == 0;
+  }
 
-    private final ConcurrentHashMap<WeakKey<ReadableSpan>, CallerStackTrace> map;
-    private final BiConsumer<String, Throwable> reporter;
+  private void onLeak(TrackedSpan tracked) {
+    if (leakedCounter != null) {
+      leakedCounter.add(1, Attributes.of(SPAN_NAME, tracked.spanName));
+    }
+    reporter.accept("Span garbage collected before being ended.", callerError(tracked));
+  }
+
+  private static class PendingSpans extends WeakConcurrentMap<ReadableSpan, TrackedSpan> {
+
+    private final ConcurrentHashMap<WeakKey<ReadableSpan>, TrackedSpan> map;
+    private final LeakDetectingSpanProcessor processor;
 
     @SuppressWarnings("ThreadPriorityCheck")
-    private static PendingSpans create(BiConsumer<String, Throwable> reporter) {
-      PendingSpans pendingSpans = new PendingSpans(new ConcurrentHashMap<>(), reporter);
+    private static PendingSpans create(LeakDetectingSpanProcessor processor) {
+      PendingSpans pendingSpans = new PendingSpans(new ConcurrentHashMap<>(), processor);
       // Start cleaner thread ourselves to make sure it runs after initializing our fields.
       Thread thread = new Thread(pendingSpans);
       thread.setName("weak-ref-cleaner-leakingspandetector");
@@ -92,11 +175,11 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
     }
 
     private PendingSpans(
-        ConcurrentHashMap<WeakKey<ReadableSpan>, CallerStackTrace> map,
-        BiConsumer<String, Throwable> reporter) {
+        ConcurrentHashMap<WeakKey<ReadableSpan>, TrackedSpan> map,
+        LeakDetectingSpanProcessor processor) {
       super(/* cleanerThread= */ false, /* reuseKeys= */ false, map);
       this.map = map;
-      this.reporter = reporter;
+      this.processor = processor;
     }
 
     // Called by cleaner thread.
@@ -106,9 +189,9 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
         while (!Thread.interrupted()) {
           // call blocks until something is GC'd.
           Reference<? extends ReadableSpan> gcdReference = remove();
-          CallerStackTrace caller = map.remove(gcdReference);
-          if (caller != null && !caller.ended) {
-            reporter.accept("Span garbage collected before being ended.", callerError(caller));
+          TrackedSpan tracked = map.remove(gcdReference);
+          if (tracked != null && !tracked.ended) {
+            processor.onLeak(tracked);
           }
         }
       } catch (InterruptedException ignored) {
@@ -117,30 +200,36 @@ public final class LeakDetectingSpanProcessor implements SpanProcessor {
     }
   }
 
-  private static class CallerStackTrace extends Throwable {
-
-    private static final long serialVersionUID = 1234567896L;
+  /**
+   * Where a tracked span was started. The span information is only rendered if the span leaks.
+   */
+  private static final class TrackedSpan {
 
     final String threadName = currentThread().getName();
-    final String spanInformation;
+    final String spanName;
+    final SpanContext spanContext;
+    final StackTraceElement[] stackTrace;
 
     volatile boolean ended;
 
-    CallerStackTrace(ReadableSpan span) {
-      super("Thread [" + currentThread().getName() + "] started span : " + span + " here:");
-      this.spanInformation = span.getName() + " [" + span.getSpanContext() + "]";
+    TrackedSpan(ReadableSpan span, StackTraceElement[] stackTrace) {
+      this.spanName = span.getName();
+      this.spanContext = span.getSpanContext();
+      this.stackTrace = stackTrace;
     }
   }
 
-  private static AssertionError callerError(CallerStackTrace caller) {
+  private static AssertionError callerError(TrackedSpan tracked) {
     AssertionError toThrow =
         new AssertionError(
             "Span garbage collected before being ended. Thread: ["
-                + caller.threadName
+                + tracked.threadName
                 + "] started span : "
-                + caller.spanInformation
-                + " here:");
-    toThrow.setStackTrace(caller.getStackTrace());
+                + tracked.spanName
+                + " ["
+                + tracked.spanContext
+                + "] here:");
+    toThrow.setStackTrace(tracked.stackTrace);
     return toThrow;
   }
 }
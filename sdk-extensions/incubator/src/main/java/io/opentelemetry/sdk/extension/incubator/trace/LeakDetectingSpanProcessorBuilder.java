@@ -0,0 +1,87 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/** Builder class for {@link LeakDetectingSpanProcessor}. */
+public final class LeakDetectingSpanProcessorBuilder {
+
+  private static final Logger logger = Logger.getLogger(LeakDetectingSpanProcessor.class.getName());
+
+  private int sampleInterval = 1;
+  private boolean captureStackTraces = true;
+  @Nullable private MeterProvider meterProvider;
+
+  LeakDetectingSpanProcessorBuilder() {}
+
+  /**
+   * Sets the interval at which spans are tracked: one in {@code sampleInterval} started spans is
+   * tracked, chosen at random. Spans which are not tracked are not checked for leaks and cost
+   * almost nothing. If unset, defaults to {@code 1}, which tracks every span.
+   */
+  public LeakDetectingSpanProcessorBuilder setSampleInterval(int sampleInterval) {
+    checkArgument(sampleInterval > 0, "sampleInterval must be positive.");
+    this.sampleInterval = sampleInterval;
+    return this;
+  }
+
+  // Visible for testing
+  int getSampleInterval() {
+    return sampleInterval;
+  }
+
+  /**
+   * Sets whether the stack trace where a tracked span was started is captured and included in the
+   * report of a leak. Capturing the stack trace is the most expensive part of tracking a span. If
+   * unset, defaults to {@code true}.
+   */
+  public LeakDetectingSpanProcessorBuilder setCaptureStackTraces(boolean captureStackTraces) {
+    this.captureStackTraces = captureStackTraces;
+    return this;
+  }
+
+  // Visible for testing
+  boolean getCaptureStackTraces() {
+    return captureStackTraces;
+  }
+
+  /**
+   * Sets the {@link MeterProvider} to count tracked and leaked spans with. When set, leaks are
+   * counted with the {@value LeakDetectingSpanProcessor#LEAKED_METRIC_NAME} metric by span name and
+   * only logged at {@link Level#FINE}. If unset, leaks are logged at {@link Level#WARNING}.
+   */
+  public LeakDetectingSpanProcessorBuilder setMeterProvider(MeterProvider meterProvider) {
+    requireNonNull(meterProvider, "meterProvider");
+    this.meterProvider = meterProvider;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link LeakDetectingSpanProcessor} that will report tracked spans that get
+   * garbage collected without being ended.
+   *
+   * @return a new {@link LeakDetectingSpanProcessor}.
+   */
+  public LeakDetectingSpanProcessor build() {
+    Level level = meterProvider == null ? Level.WARNING : Level.FINE;
+    BiConsumer<String, Throwable> reporter =
+        (message, throwable) -> {
+          if (logger.isLoggable(level)) {
+            logger.log(level, message, throwable);
+          }
+        };
+    return new LeakDetectingSpanProcessor(
+        sampleInterval, captureStackTraces, meterProvider, reporter);
+  }
+}
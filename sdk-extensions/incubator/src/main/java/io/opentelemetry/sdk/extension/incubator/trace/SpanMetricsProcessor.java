@@ -0,0 +1,160 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.extension.incubator.internal.BoundedAttributesCache;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.ExtendedReadableSpan;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link SpanProcessor} which records request rate, error rate and duration metrics of ended
+ * spans, so that these metrics stay accurate when only a fraction of the spans is exported.
+ *
+ * <p>For every ended span, the {@value #CALLS_METRIC_NAME} counter is incremented and the span
+ * duration in milliseconds is recorded to the {@value #DURATION_METRIC_NAME} histogram, using the
+ * aggregations of the given {@link MeterProvider}. Both are recorded with the span name, kind and
+ * status code, and with the values of the configured dimension attributes of the span.
+ *
+ * <p>The number of distinct attribute sets is bounded. Once the bound is reached, spans with a new
+ * attribute set are recorded with the single attribute {@code otel.metric.overflow=true}.
+ *
+ * <p>Only spans that are recording are passed to span processors. To derive metrics from spans that
+ * are not exported, use a sampler that returns {@code RECORD_ONLY} for them: they are seen by this
+ * processor but not exported by a {@code BatchSpanProcessor}.
+ */
+public final class SpanMetricsProcessor implements SpanProcessor {
+
+  static final String INSTRUMENTATION_SCOPE_NAME = "io.opentelemetry.sdk.spanmetrics";
+  static final String CALLS_METRIC_NAME = "traces.span.metrics.calls";
+  static final String DURATION_METRIC_NAME = "traces.span.metrics.duration";
+
+  static final AttributeKey<String> SPAN_NAME = stringKey("span.name");
+  static final AttributeKey<String> SPAN_KIND = stringKey("span.kind");
+  static final AttributeKey<String> STATUS_CODE = stringKey("status.code");
+
+  private static final SpanKind[] SPAN_KINDS = SpanKind.values();
+  private static final StatusCode[] STATUS_CODES = StatusCode.values();
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final LongCounter calls;
+  private final DoubleHistogram duration;
+  private final AttributeKey<?>[] dimensions;
+  private final int maxCardinality;
+  private final BoundedAttributesCache series;
+
+  /**
+   * Returns a new Builder for {@link SpanMetricsProcessor}.
+   *
+   * @param meterProvider the {@link MeterProvider} to record the metrics with.
+   * @return a new {@link SpanMetricsProcessorBuilder}.
+   * @throws NullPointerException if the {@code meterProvider} is {@code null}.
+   */
+  public static SpanMetricsProcessorBuilder builder(MeterProvider meterProvider) {
+    return new SpanMetricsProcessorBuilder(meterProvider);
+  }
+
+  SpanMetricsProcessor(
+      MeterProvider meterProvider, List<AttributeKey<?>> dimensions, int maxCardinality) {
+    Meter meter = meterProvider.get(INSTRUMENTATION_SCOPE_NAME);
+    this.calls =
+        meter
+            .counterBuilder(CALLS_METRIC_NAME)
+            .setDescription("The number of ended spans.")
+            .setUnit("{span}")
+            .build();
+    this.duration =
+        meter
+            .histogramBuilder(DURATION_METRIC_NAME)
+            .setDescription("The duration of ended spans.")
+            .setUnit("ms")
+            .build();
+    this.dimensions = dimensions.toArray(new AttributeKey<?>[0]);
+    this.maxCardinality = maxCardinality;
+    this.series =
+        new BoundedAttributesCache(
+            dimensions,
+            SPAN_KINDS.length * STATUS_CODES.length,
+            maxCardinality,
+            SpanMetricsProcessor::seriesAttributes);
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    int shape = span.getKind().ordinal() * STATUS_CODES.length + getStatusCode(span).ordinal();
+    Attributes attributes;
+    if (dimensions.length == 0) {
+      attributes = series.get(span.getName(), shape);
+    } else {
+      Object[] dimensionValues = new Object[dimensions.length];
+      for (int i = 0; i < dimensions.length; i++) {
+        dimensionValues[i] = span.getAttribute(dimensions[i]);
+      }
+      attributes = series.get(span.getName(), shape, dimensionValues);
+    }
+    calls.add(1, attributes);
+    duration.record(span.getLatencyNanos() / NANOS_PER_MILLI, attributes);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  private static StatusCode getStatusCode(ReadableSpan span) {
+    StatusData status =
+        span instanceof ExtendedReadableSpan
+            ? ((ExtendedReadableSpan) span).getStatus()
+            : span.toSpanData().getStatus();
+    return status.getStatusCode();
+  }
+
+  private static Attributes seriesAttributes(String spanName, int shape) {
+    return Attributes.builder()
+        .put(SPAN_NAME, spanName)
+        .put(SPAN_KIND, "SPAN_KIND_" + SPAN_KINDS[shape / STATUS_CODES.length].name())
+        .put(STATUS_CODE, "STATUS_CODE_" + STATUS_CODES[shape % STATUS_CODES.length].name())
+        .build();
+  }
+
+  // Visible for testing
+  int getSeriesCount() {
+    return series.size();
+  }
+
+  @Override
+  public String toString() {
+    return "SpanMetricsProcessor{"
+        + "dimensions="
+        + Arrays.toString(dimensions)
+        + ", maxCardinality="
+        + maxCardinality
+        + '}';
+  }
+}
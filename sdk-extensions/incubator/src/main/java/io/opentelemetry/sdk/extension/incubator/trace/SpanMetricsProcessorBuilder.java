@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Builder class for {@link SpanMetricsProcessor}. */
+public final class SpanMetricsProcessorBuilder {
+
+  // Visible for testing
+  static final int DEFAULT_MAX_CARDINALITY = 1000;
+
+  private final MeterProvider meterProvider;
+  private final List<AttributeKey<?>> dimensions = new ArrayList<>();
+  private int maxCardinality = DEFAULT_MAX_CARDINALITY;
+
+  SpanMetricsProcessorBuilder(MeterProvider meterProvider) {
+    this.meterProvider = requireNonNull(meterProvider, "meterProvider");
+  }
+
+  /**
+   * Adds a span attribute whose value is recorded as an attribute of the metrics. Spans without
+   * the attribute are recorded without it.
+   */
+  public SpanMetricsProcessorBuilder addDimension(AttributeKey<?> key) {
+    requireNonNull(key, "key");
+    if (!dimensions.contains(key)) {
+      dimensions.add(key);
+    }
+    return this;
+  }
+
+  // Visible for testing
+  List<AttributeKey<?>> getDimensions() {
+    return dimensions;
+  }
+
+  /**
+   * Sets the maximum number of distinct attribute sets the metrics are recorded with. Spans which
+   * would add an attribute set beyond this are recorded with the overflow attribute set instead.
+   * If unset, defaults to {@value DEFAULT_MAX_CARDINALITY}.
+   */
+  public SpanMetricsProcessorBuilder setMaxCardinality(int maxCardinality) {
+    checkArgument(maxCardinality > 0, "maxCardinality must be positive.");
+    this.maxCardinality = maxCardinality;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxCardinality() {
+    return maxCardinality;
+  }
+
+  /**
+   * Returns a new {@link SpanMetricsProcessor} that records metrics of ended spans with the {@link
+   * MeterProvider}.
+   *
+   * @return a new {@link SpanMetricsProcessor}.
+   */
+  public SpanMetricsProcessor build() {
+    return new SpanMetricsProcessor(
+        meterProvider, Collections.unmodifiableList(new ArrayList<>(dimensions)), maxCardinality);
+  }
+}
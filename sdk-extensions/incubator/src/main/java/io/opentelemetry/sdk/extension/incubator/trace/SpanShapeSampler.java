@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.regex.Pattern;
+
+/**
+ * Decides whether a span is sampled from its name, its kind and whether its parent span context is
+ * valid, remote and sampled, without reading the trace ID, the attributes or the links of the span.
+ *
+ * <p>The SDK caches the results of the {@link Sampler} returned by {@link
+ * #toSampler(SpanShapeSampler, String)} for each span name, kind and parent flags, also when it is
+ * wrapped with {@link Sampler#parentBased(Sampler)}, and doesn't build the attributes view and the
+ * links of the spans it samples. Caching costs a map lookup per span, so it pays off for decisions
+ * more expensive than that, such as matching the span name against patterns.
+ */
+@FunctionalInterface
+public interface SpanShapeSampler {
+
+  /**
+   * Returns a {@link Sampler} which drops spans whose name matches {@code spanNamePattern}, and
+   * records and samples the others. Its results are cached by the SDK, so the pattern is matched
+   * once per span name.
+   */
+  static Sampler dropSpanNames(Pattern spanNamePattern) {
+    return SpanShapeSamplers.dropSpanNames(spanNamePattern);
+  }
+
+  /**
+   * Returns a {@link Sampler} calling {@code sampler}, whose results the SDK caches.
+   *
+   * @param sampler the {@link SpanShapeSampler} deciding whether spans are sampled.
+   * @param description the description of the returned {@link Sampler}.
+   */
+  static Sampler toSampler(SpanShapeSampler sampler, String description) {
+    return SpanShapeSamplers.toSampler(sampler, description);
+  }
+
+  /**
+   * Returns the sampling result for a span. Must return an equivalent result for the same name,
+   * kind, and parent validity, remoteness and sampled flag.
+   *
+   * @param name the name of the new span.
+   * @param spanKind the {@link SpanKind} of the span.
+   * @param parentSpanContext the parent span's {@link SpanContext}, which is invalid for a root
+   *     span.
+   */
+  SamplingResult shouldSample(String name, SpanKind spanKind, SpanContext parentSpanContext);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.regex.Pattern;
+
+/** Implementations of the {@link SpanShapeSampler} factory methods. */
+final class SpanShapeSamplers {
+
+  private static final SamplingResult DROP = SamplingResult.drop();
+  private static final SamplingResult RECORD_AND_SAMPLE = SamplingResult.recordAndSample();
+
+  static Sampler dropSpanNames(Pattern spanNamePattern) {
+    requireNonNull(spanNamePattern, "spanNamePattern");
+    return toSampler(
+        (name, spanKind, parentSpanContext) ->
+            spanNamePattern.matcher(name).matches() ? DROP : RECORD_AND_SAMPLE,
+        "DropSpanNames{" + spanNamePattern.pattern() + "}");
+  }
+
+  static Sampler toSampler(SpanShapeSampler sampler, String description) {
+    requireNonNull(sampler, "sampler");
+    requireNonNull(description, "description");
+    return new CachedSampler(sampler, description);
+  }
+
+  // The SDK caches the results of CacheableSamplers, and of ParentBased samplers delegating to
+  // them.
+  private static final class CachedSampler implements CacheableSampler {
+
+    private final SpanShapeSampler sampler;
+    private final String description;
+
+    private CachedSampler(SpanShapeSampler sampler, String description) {
+      this.sampler = sampler;
+      this.description = description;
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+        String name, SpanKind spanKind, SpanContext parentSpanContext) {
+      return sampler.shouldSample(name, spanKind, parentSpanContext);
+    }
+
+    @Override
+    public String getDescription() {
+      return description;
+    }
+
+    @Override
+    public String toString() {
+      return getDescription();
+    }
+  }
+
+  private SpanShapeSamplers() {}
+}
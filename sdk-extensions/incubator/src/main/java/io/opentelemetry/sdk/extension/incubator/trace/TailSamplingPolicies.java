@@ -0,0 +1,95 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.ExtendedReadableSpan;
+import java.time.Duration;
+import java.util.List;
+
+/** Implementations of the {@link TailSamplingPolicy} factory methods. */
+final class TailSamplingPolicies {
+
+  static TailSamplingPolicy errors() {
+    return spans -> {
+      for (int i = 0; i < spans.size(); i++) {
+        if (getStatus(spans.get(i)).getStatusCode() == StatusCode.ERROR) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  static TailSamplingPolicy latency(Duration threshold) {
+    requireNonNull(threshold, "threshold");
+    long thresholdNanos = threshold.toNanos();
+    return spans -> {
+      long start = Long.MAX_VALUE;
+      long end = Long.MIN_VALUE;
+      for (int i = 0; i < spans.size(); i++) {
+        ReadableSpan span = spans.get(i);
+        long spanStart = getStartEpochNanos(span);
+        // The spans have ended, so their latency is fixed.
+        start = Math.min(start, spanStart);
+        end = Math.max(end, spanStart + span.getLatencyNanos());
+      }
+      return !spans.isEmpty() && end - start >= thresholdNanos;
+    };
+  }
+
+  static <T> TailSamplingPolicy attributeEquals(AttributeKey<T> key, T value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    return spans -> {
+      for (int i = 0; i < spans.size(); i++) {
+        if (value.equals(spans.get(i).getAttribute(key))) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  static TailSamplingPolicy rateLimiting(double tracesPerSecond, Clock clock) {
+    checkArgument(tracesPerSecond > 0, "tracesPerSecond must be positive.");
+    RateLimiter rateLimiter = new RateLimiter(tracesPerSecond, tracesPerSecond, clock);
+    return spans -> rateLimiter.trySpend(1.0);
+  }
+
+  static boolean shouldKeep(List<TailSamplingPolicy> policies, List<ReadableSpan> spans) {
+    for (int i = 0; i < policies.size(); i++) {
+      if (policies.get(i).shouldKeep(spans)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static StatusData getStatus(ReadableSpan span) {
+    if (span instanceof ExtendedReadableSpan) {
+      return ((ExtendedReadableSpan) span).getStatus();
+    }
+    return span.toSpanData().getStatus();
+  }
+
+  private static long getStartEpochNanos(ReadableSpan span) {
+    if (span instanceof ExtendedReadableSpan) {
+      return ((ExtendedReadableSpan) span).getStartEpochNanos();
+    }
+    return span.toSpanData().getStartEpochNanos();
+  }
+
+  private TailSamplingPolicies() {}
+}
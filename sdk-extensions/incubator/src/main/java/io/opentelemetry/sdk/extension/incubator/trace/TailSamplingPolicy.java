@@ -0,0 +1,55 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Decides whether a buffered trace is kept by a {@link TailSamplingSpanProcessor}.
+ *
+ * <p>Policies are called with all ended spans of the trace that were buffered when the decision was
+ * made, and may be called concurrently for different traces.
+ */
+@FunctionalInterface
+public interface TailSamplingPolicy {
+
+  /** Returns a policy that keeps traces containing at least one span with an error status. */
+  static TailSamplingPolicy errors() {
+    return TailSamplingPolicies.errors();
+  }
+
+  /**
+   * Returns a policy that keeps traces whose duration, from the earliest span start to the latest
+   * span end, is at least {@code threshold}.
+   */
+  static TailSamplingPolicy latency(Duration threshold) {
+    return TailSamplingPolicies.latency(threshold);
+  }
+
+  /**
+   * Returns a policy that keeps traces containing at least one span with the attribute {@code key}
+   * set to {@code value}.
+   */
+  static <T> TailSamplingPolicy attributeEquals(AttributeKey<T> key, T value) {
+    return TailSamplingPolicies.attributeEquals(key, value);
+  }
+
+  /**
+   * Returns a policy that keeps at most {@code tracesPerSecond} traces per second, regardless of
+   * their content. When listed after other policies, it keeps a baseline of traces that none of the
+   * other policies selected.
+   */
+  static TailSamplingPolicy rateLimiting(double tracesPerSecond) {
+    return TailSamplingPolicies.rateLimiting(tracesPerSecond, Clock.getDefault());
+  }
+
+  /** Returns {@code true} if the trace made of {@code spans} should be kept. */
+  boolean shouldKeep(List<ReadableSpan> spans);
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SpanProcessor} which buffers ended spans per trace and decides whether to keep each
+ * trace once all of its spans are known, instead of when its root span starts. Only the spans of
+ * kept traces are passed to the downstream {@link SpanProcessor}, typically a {@code
+ * BatchSpanProcessor}.
+ *
+ * <p>A trace is decided by the configured {@link TailSamplingPolicy policies}, in order, and kept
+ * if any of them selects it. The decision is made when the local root span of the trace ends, or
+ * once no span of the trace has ended for the decision wait. Spans of a trace that end after its
+ * decision follow that decision, as long as it is still remembered.
+ *
+ * <p>The number of buffered spans is bounded. When the bound is reached, the oldest buffered trace
+ * is decided early with the spans it has so far. Flushing or shutting down the processor likewise
+ * decides all pending traces before flushing or shutting down the downstream processor.
+ *
+ * <p>Only sampled spans are buffered, so this processor should be used with a sampler that samples
+ * every trace it may want to keep, such as {@code Sampler.alwaysOn()}. The downstream processor is
+ * only notified of span ends.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+
+  private static final String WORKER_THREAD_NAME =
+      TailSamplingSpanProcessor.class.getSimpleName() + "_WorkerThread";
+  private static final Logger logger = Logger.getLogger(TailSamplingSpanProcessor.class.getName());
+
+  private final SpanProcessor downstream;
+  private final List<TailSamplingPolicy> policies;
+  private final long decisionWaitNanos;
+  private final int maxBufferedSpans;
+  private final int maxDecidedTraces;
+  private final Clock clock;
+
+  private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+  // Traces in the order they were first seen, used to evict the oldest pending trace.
+  private final ConcurrentLinkedQueue<TraceBuffer> pendingOrder = new ConcurrentLinkedQueue<>();
+  // Decided traces in the order they were decided, used to forget the oldest decision.
+  private final ConcurrentLinkedQueue<TraceBuffer> decidedOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger bufferedSpans = new AtomicInteger();
+  private final AtomicInteger decidedTraces = new AtomicInteger();
+  private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+  @Nullable private final ScheduledExecutorService scheduler;
+
+  /**
+   * Returns a new Builder for {@link TailSamplingSpanProcessor}.
+   *
+   * @param downstream the {@link SpanProcessor} to which the spans of kept traces are passed.
+   * @return a new {@link TailSamplingSpanProcessorBuilder}.
+   * @throws NullPointerException if the {@code downstream} is {@code null}.
+   */
+  public static TailSamplingSpanProcessorBuilder builder(SpanProcessor downstream) {
+    return new TailSamplingSpanProcessorBuilder(downstream);
+  }
+
+  TailSamplingSpanProcessor(
+      SpanProcessor downstream,
+      List<TailSamplingPolicy> policies,
+      long decisionWaitNanos,
+      int maxBufferedSpans,
+      int maxDecidedTraces,
+      Clock clock,
+      boolean startWorker) {
+    this.downstream = downstream;
+    this.policies = policies;
+    this.decisionWaitNanos = decisionWaitNanos;
+    this.maxBufferedSpans = maxBufferedSpans;
+    this.maxDecidedTraces = maxDecidedTraces;
+    this.clock = clock;
+    if (startWorker) {
+      scheduler = Executors.newScheduledThreadPool(1, new DaemonThreadFactory(WORKER_THREAD_NAME));
+      long checkIntervalNanos = Math.max(1, decisionWaitNanos / 4);
+      scheduler.scheduleWithFixedDelay(
+          this::decideQuietTraces, checkIntervalNanos, checkIntervalNanos, TimeUnit.NANOSECONDS);
+    } else {
+      scheduler = null;
+    }
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    SpanContext spanContext = span.getSpanContext();
+    if (!spanContext.isSampled() || isShutdown.get()) {
+      return;
+    }
+    TraceBuffer trace = traces.computeIfAbsent(spanContext.getTraceId(), this::newTraceBuffer);
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    boolean isLocalRoot = !parentSpanContext.isValid() || parentSpanContext.isRemote();
+
+    Boolean decision = trace.add(span, clock.nanoTime());
+    if (decision != null) {
+      // The trace was already decided, the span follows the decision.
+      if (decision) {
+        downstream.onEnd(span);
+      }
+      return;
+    }
+    bufferedSpans.incrementAndGet();
+    if (isLocalRoot) {
+      decide(trace);
+    }
+    while (bufferedSpans.get() > maxBufferedSpans) {
+      TraceBuffer oldest = pendingOrder.poll();
+      if (oldest == null) {
+        break;
+      }
+      decide(oldest);
+    }
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (isShutdown.getAndSet(true)) {
+      return CompletableResultCode.ofSuccess();
+    }
+    if (scheduler != null) {
+      scheduler.shutdown();
+    }
+    decidePendingTraces();
+    return downstream.shutdown();
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    decidePendingTraces();
+    return downstream.forceFlush();
+  }
+
+  // Visible for testing
+  int getBufferedSpanCount() {
+    return bufferedSpans.get();
+  }
+
+  /** Decides the traces none of whose spans ended during the decision wait. */
+  // Visible for testing
+  void decideQuietTraces() {
+    long now = clock.nanoTime();
+    try {
+      for (Iterator<TraceBuffer> it = pendingOrder.iterator(); it.hasNext(); ) {
+        TraceBuffer trace = it.next();
+        if (trace.isDecided()) {
+          // Decided when its root span ended or by eviction.
+          it.remove();
+        } else if (now - trace.getLastUpdateNanos() >= decisionWaitNanos) {
+          it.remove();
+          decide(trace);
+        }
+      }
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Exception thrown while deciding traces.", e);
+    }
+  }
+
+  private void decidePendingTraces() {
+    TraceBuffer trace;
+    while ((trace = pendingOrder.poll()) != null) {
+      decide(trace);
+    }
+  }
+
+  private TraceBuffer newTraceBuffer(String traceId) {
+    TraceBuffer trace = new TraceBuffer(traceId);
+    pendingOrder.add(trace);
+    return trace;
+  }
+
+  private void decide(TraceBuffer trace) {
+    List<ReadableSpan> spans = trace.decide(policies);
+    if (spans == null) {
+      // Already decided by another thread.
+      return;
+    }
+    // The trace is removed from pendingOrder lazily, by the next check for quiet traces.
+    bufferedSpans.addAndGet(-spans.size());
+    if (trace.isKept()) {
+      for (int i = 0; i < spans.size(); i++) {
+        downstream.onEnd(spans.get(i));
+      }
+    }
+    decidedOrder.add(trace);
+    if (decidedTraces.incrementAndGet() > maxDecidedTraces) {
+      TraceBuffer forgotten = decidedOrder.poll();
+      if (forgotten != null) {
+        decidedTraces.decrementAndGet();
+        traces.remove(forgotten.traceId, forgotten);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "TailSamplingSpanProcessor{"
+        + "downstream="
+        + downstream
+        + ", policies="
+        + policies
+        + ", decisionWaitNanos="
+        + decisionWaitNanos
+        + ", maxBufferedSpans="
+        + maxBufferedSpans
+        + '}';
+  }
+
+  /** The spans of a trace until it is decided, and the decision afterwards. */
+  private static final class TraceBuffer {
+    private final String traceId;
+    @Nullable private List<ReadableSpan> spans = new ArrayList<>();
+    private volatile long lastUpdateNanos;
+    private boolean kept;
+
+    private TraceBuffer(String traceId) {
+      this.traceId = traceId;
+    }
+
+    /**
+     * Buffers the span and returns {@code null} if the trace is pending, otherwise returns whether
+     * the trace was kept.
+     */
+    @Nullable
+    synchronized Boolean add(ReadableSpan span, long nowNanos) {
+      if (spans == null) {
+        return kept;
+      }
+      spans.add(span);
+      lastUpdateNanos = nowNanos;
+      return null;
+    }
+
+    long getLastUpdateNanos() {
+      return lastUpdateNanos;
+    }
+
+    synchronized boolean isDecided() {
+      return spans == null;
+    }
+
+    synchronized boolean isKept() {
+      return kept;
+    }
+
+    /** Decides the trace and returns its buffered spans, or {@code null} if already decided. */
+    @Nullable
+    synchronized List<ReadableSpan> decide(List<TailSamplingPolicy> policies) {
+      List<ReadableSpan> buffered = spans;
+      if (buffered == null) {
+        return null;
+      }
+      spans = null;
+      kept = TailSamplingPolicies.shouldKeep(policies, Collections.unmodifiableList(buffered));
+      return buffered;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link TailSamplingSpanProcessor}. */
+public final class TailSamplingSpanProcessorBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_DECISION_WAIT_MILLIS = 5000;
+  // Visible for testing
+  static final int DEFAULT_MAX_BUFFERED_SPANS = 100_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_DECIDED_TRACES = 50_000;
+
+  private final SpanProcessor downstream;
+  private final List<TailSamplingPolicy> policies = new ArrayList<>();
+  private long decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECISION_WAIT_MILLIS);
+  private int maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+  private int maxDecidedTraces = DEFAULT_MAX_DECIDED_TRACES;
+  private Clock clock = Clock.getDefault();
+  private boolean startWorker = true;
+
+  TailSamplingSpanProcessorBuilder(SpanProcessor downstream) {
+    this.downstream = requireNonNull(downstream, "downstream");
+  }
+
+  /**
+   * Adds a {@link TailSamplingPolicy}. A trace is kept if any of the policies keeps it, and
+   * policies are called in the order they were added until one does. If no policy is added, every
+   * trace is dropped.
+   */
+  public TailSamplingSpanProcessorBuilder addPolicy(TailSamplingPolicy policy) {
+    requireNonNull(policy, "policy");
+    policies.add(policy);
+    return this;
+  }
+
+  /**
+   * Sets the time after the last span of a trace ended at which the trace is decided, if its local
+   * root span has not ended yet. If unset, defaults to {@value DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(long decisionWait, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(decisionWait > 0, "decisionWait must be positive.");
+    decisionWaitNanos = unit.toNanos(decisionWait);
+    return this;
+  }
+
+  /**
+   * Sets the time after the last span of a trace ended at which the trace is decided, if its local
+   * root span has not ended yet. If unset, defaults to {@value DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(Duration decisionWait) {
+    requireNonNull(decisionWait, "decisionWait");
+    return setDecisionWait(decisionWait.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getDecisionWaitNanos() {
+    return decisionWaitNanos;
+  }
+
+  /**
+   * Sets the maximum number of spans buffered across all pending traces. When exceeded, the oldest
+   * pending trace is decided early. If unset, defaults to {@value DEFAULT_MAX_BUFFERED_SPANS}.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxBufferedSpans(int maxBufferedSpans) {
+    checkArgument(maxBufferedSpans > 0, "maxBufferedSpans must be positive.");
+    this.maxBufferedSpans = maxBufferedSpans;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxBufferedSpans() {
+    return maxBufferedSpans;
+  }
+
+  /**
+   * Sets the maximum number of decided traces whose decision is remembered for spans ending after
+   * the decision. Spans of a trace whose decision was forgotten start a new pending trace. If
+   * unset, defaults to {@value DEFAULT_MAX_DECIDED_TRACES}.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxDecidedTraces(int maxDecidedTraces) {
+    checkArgument(maxDecidedTraces >= 0, "maxDecidedTraces must be non-negative.");
+    this.maxDecidedTraces = maxDecidedTraces;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxDecidedTraces() {
+    return maxDecidedTraces;
+  }
+
+  // Visible for testing
+  TailSamplingSpanProcessorBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  // Visible for testing
+  TailSamplingSpanProcessorBuilder setStartWorker(boolean startWorker) {
+    this.startWorker = startWorker;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessor} that passes the spans of kept traces to the
+   * downstream {@link SpanProcessor}.
+   *
+   * @return a new {@link TailSamplingSpanProcessor}.
+   */
+  public TailSamplingSpanProcessor build() {
+    return new TailSamplingSpanProcessor(
+        downstream,
+        Collections.unmodifiableList(new ArrayList<>(policies)),
+        decisionWaitNanos,
+        maxBufferedSpans,
+        maxDecidedTraces,
+        clock,
+        startWorker);
+  }
+}
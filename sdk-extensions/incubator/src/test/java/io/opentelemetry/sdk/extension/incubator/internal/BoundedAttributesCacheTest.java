@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class BoundedAttributesCacheTest {
+
+  private static final AttributeKey<String> NAME = stringKey("name");
+  private static final AttributeKey<Long> SHAPE = longKey("shape");
+  private static final AttributeKey<String> TENANT = stringKey("tenant");
+
+  private static Attributes seriesAttributes(String name, int shape) {
+    return Attributes.of(NAME, name, SHAPE, (long) shape);
+  }
+
+  @Test
+  void withoutDimensions() {
+    BoundedAttributesCache cache =
+        new BoundedAttributesCache(
+            Collections.emptyList(), 2, 2, BoundedAttributesCacheTest::seriesAttributes);
+
+    Attributes first = cache.get("a", 0);
+    assertThat(first).isEqualTo(Attributes.of(NAME, "a", SHAPE, 0L));
+    assertThat(cache.get("a", 0)).isSameAs(first);
+    assertThat(cache.get("a", 1)).isEqualTo(Attributes.of(NAME, "a", SHAPE, 1L));
+    assertThat(cache.size()).isEqualTo(2);
+
+    assertThat(cache.get("b", 0)).isSameAs(BoundedAttributesCache.OVERFLOW_ATTRIBUTES);
+    assertThat(cache.get("a", 0)).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void withDimensions() {
+    BoundedAttributesCache cache =
+        new BoundedAttributesCache(
+            Arrays.asList(TENANT, longKey("missing")),
+            1,
+            2,
+            BoundedAttributesCacheTest::seriesAttributes);
+
+    Attributes first = cache.get("a", 0, new Object[] {"t1", null});
+    assertThat(first).isEqualTo(Attributes.of(NAME, "a", SHAPE, 0L, TENANT, "t1"));
+    assertThat(cache.get("a", 0, new Object[] {"t1", null})).isSameAs(first);
+    assertThat(cache.get("a", 0, new Object[] {null, null}))
+        .isEqualTo(Attributes.of(NAME, "a", SHAPE, 0L));
+    assertThat(cache.size()).isEqualTo(2);
+
+    assertThat(cache.get("a", 0, new Object[] {"t2", null}))
+        .isSameAs(BoundedAttributesCache.OVERFLOW_ATTRIBUTES);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+}
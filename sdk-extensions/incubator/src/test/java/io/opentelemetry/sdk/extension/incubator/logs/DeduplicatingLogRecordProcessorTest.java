@@ -0,0 +1,288 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DeduplicatingLogRecordProcessorTest {
+
+  private static final AttributeKey<Long> REPEAT_COUNT =
+      AttributeKey.longKey(DeduplicatingLogRecordProcessor.REPEAT_COUNT_ATTRIBUTE);
+
+  private final TestClock clock = TestClock.create();
+  private final InMemoryLogRecordExporter exporter = InMemoryLogRecordExporter.create();
+
+  private SdkLoggerProvider loggerProvider;
+  private Logger logger;
+  private DeduplicatingLogRecordProcessor processor;
+
+  @AfterEach
+  void tearDown() {
+    if (loggerProvider != null) {
+      loggerProvider.shutdown();
+    }
+  }
+
+  private void setUp(DeduplicatingLogRecordProcessorBuilder builder) {
+    processor = builder.setClock(clock).setStartWorker(false).build();
+    loggerProvider =
+        SdkLoggerProvider.builder().setClock(clock).addLogRecordProcessor(processor).build();
+    logger = loggerProvider.get("test");
+  }
+
+  private static DeduplicatingLogRecordProcessorBuilder builder(
+      InMemoryLogRecordExporter exporter) {
+    return DeduplicatingLogRecordProcessor.builder(SimpleLogRecordProcessor.create(exporter));
+  }
+
+  private void emit(Severity severity, String body) {
+    logger.logRecordBuilder().setSeverity(severity).setBody(body).emit();
+  }
+
+  @Test
+  void configTest_EmptyOptions() {
+    DeduplicatingLogRecordProcessorBuilder builder = builder(exporter);
+    assertThat(builder.getWindowNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                DeduplicatingLogRecordProcessorBuilder.DEFAULT_WINDOW_MILLIS));
+    assertThat(builder.getMaxFingerprints())
+        .isEqualTo(DeduplicatingLogRecordProcessorBuilder.DEFAULT_MAX_FINGERPRINTS);
+  }
+
+  @Test
+  void configTest_Options() {
+    DeduplicatingLogRecordProcessorBuilder builder =
+        builder(exporter).setWindow(Duration.ofSeconds(1)).setMaxFingerprints(10);
+    assertThat(builder.getWindowNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    assertThat(builder.getMaxFingerprints()).isEqualTo(10);
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> DeduplicatingLogRecordProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("downstream");
+    assertThatThrownBy(() -> builder(exporter).setWindow(0, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("window must be positive.");
+    assertThatThrownBy(() -> builder(exporter).setWindow(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+    assertThatThrownBy(() -> builder(exporter).setWindow(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("window");
+    assertThatThrownBy(() -> builder(exporter).setMaxFingerprints(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxFingerprints must be positive.");
+  }
+
+  @Test
+  void repeats_collapsedIntoSummary() {
+    setUp(builder(exporter).setWindow(10, TimeUnit.SECONDS));
+
+    logger
+        .logRecordBuilder()
+        .setSeverity(Severity.ERROR)
+        .setBody("Connection to db-1 failed after 30ms")
+        .setAttribute(AttributeKey.stringKey("db"), "orders")
+        .emit();
+    for (int i = 0; i < 99; i++) {
+      emit(Severity.ERROR, "Connection to db-1 failed after " + i + "ms");
+    }
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(1);
+
+    clock.advance(Duration.ofSeconds(10));
+    processor.reportRepeats();
+
+    List<LogRecordData> logs = exporter.getFinishedLogRecordItems();
+    assertThat(logs).hasSize(2);
+    assertThat(logs.get(1))
+        .hasSeverity(Severity.ERROR)
+        .hasBody("Connection to db-1 failed after 30ms")
+        .hasTimestamp(clock.now())
+        .hasSpanContext(SpanContext.getInvalid())
+        .hasAttributes(Attributes.of(AttributeKey.stringKey("db"), "orders", REPEAT_COUNT, 99L));
+    assertThat(processor.getFingerprintCount()).isEqualTo(1);
+  }
+
+  @Test
+  void distinctRecords_passedOn() {
+    setUp(builder(exporter));
+
+    emit(Severity.ERROR, "failed");
+    emit(Severity.WARN, "failed");
+    emit(Severity.ERROR, "failed again");
+    loggerProvider
+        .get("other")
+        .logRecordBuilder()
+        .setSeverity(Severity.ERROR)
+        .setBody("failed")
+        .emit();
+
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(4);
+    assertThat(processor.getFingerprintCount()).isEqualTo(4);
+
+    processor.reportRepeats();
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(4);
+  }
+
+  @Test
+  void quietRecords_forgotten() {
+    setUp(builder(exporter).setWindow(10, TimeUnit.SECONDS));
+
+    emit(Severity.ERROR, "failed");
+    emit(Severity.ERROR, "failed");
+    clock.advance(Duration.ofSeconds(10));
+    processor.reportRepeats();
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(2);
+    assertThat(processor.getFingerprintCount()).isEqualTo(1);
+
+    // Not repeated for a whole window.
+    clock.advance(Duration.ofSeconds(10));
+    processor.reportRepeats();
+    assertThat(processor.getFingerprintCount()).isEqualTo(0);
+
+    emit(Severity.ERROR, "failed");
+    List<LogRecordData> logs = exporter.getFinishedLogRecordItems();
+    assertThat(logs).hasSize(3);
+    assertThat(logs.get(2).getAttributes().get(REPEAT_COUNT)).isNull();
+  }
+
+  @Test
+  void maxFingerprints() {
+    setUp(builder(exporter).setMaxFingerprints(2));
+
+    for (int i = 0; i < 2; i++) {
+      emit(Severity.ERROR, "first");
+      emit(Severity.ERROR, "second");
+      emit(Severity.ERROR, "third");
+    }
+
+    // Repeats of the untracked record are passed on.
+    assertThat(exporter.getFinishedLogRecordItems())
+        .extracting(log -> log.getBody().asString())
+        .containsExactly("first", "second", "third", "third");
+    assertThat(processor.getFingerprintCount()).isEqualTo(2);
+  }
+
+  @Test
+  void forceFlush_reportsRepeats() {
+    setUp(builder(exporter));
+
+    emit(Severity.ERROR, "failed");
+    emit(Severity.ERROR, "failed");
+    assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    List<LogRecordData> logs = exporter.getFinishedLogRecordItems();
+    assertThat(logs).hasSize(2);
+    assertThat(logs.get(1).getAttributes().get(REPEAT_COUNT)).isEqualTo(1L);
+  }
+
+  @Test
+  void shutdown_reportsRepeats() {
+    setUp(builder(exporter));
+
+    emit(Severity.ERROR, "failed");
+    emit(Severity.ERROR, "failed");
+    assertThat(processor.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(2);
+    emit(Severity.ERROR, "failed");
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(2);
+  }
+
+  @Test
+  void fingerprint_ignoresDigits() {
+    assertThat(fingerprint(Severity.ERROR, "took 5ms"))
+        .isEqualTo(fingerprint(Severity.ERROR, "took 1234ms"));
+    assertThat(fingerprint(Severity.ERROR, "took 5ms"))
+        .isNotEqualTo(fingerprint(Severity.ERROR, "took 5s"));
+    assertThat(fingerprint(Severity.ERROR, "took 5ms"))
+        .isNotEqualTo(fingerprint(Severity.WARN, "took 5ms"));
+  }
+
+  @Test
+  void normalizedBodiesEqual_ignoresDigits() {
+    assertThat(DeduplicatingLogRecordProcessor.normalizedBodiesEqual("took 5ms", "took 1234ms"))
+        .isTrue();
+    assertThat(DeduplicatingLogRecordProcessor.normalizedBodiesEqual("id 12-3", "id 4-56"))
+        .isTrue();
+    assertThat(DeduplicatingLogRecordProcessor.normalizedBodiesEqual("took 5ms", "took 5s"))
+        .isFalse();
+    assertThat(DeduplicatingLogRecordProcessor.normalizedBodiesEqual("took 5ms", "took ms"))
+        .isFalse();
+    assertThat(DeduplicatingLogRecordProcessor.normalizedBodiesEqual("took 5", "took 5ms"))
+        .isFalse();
+  }
+
+  @Test
+  void repeats_notConverted() {
+    LogRecordProcessor downstream = mock(LogRecordProcessor.class);
+    processor =
+        DeduplicatingLogRecordProcessor.builder(downstream)
+            .setClock(clock)
+            .setStartWorker(false)
+            .build();
+    LogRecordData data = captureLogRecord(Severity.ERROR, "failed");
+    ExtendedReadWriteLogRecord logRecord = mock(ExtendedReadWriteLogRecord.class);
+    when(logRecord.getSeverity()).thenReturn(data.getSeverity());
+    when(logRecord.getInstrumentationScopeInfo()).thenReturn(data.getInstrumentationScopeInfo());
+    when(logRecord.getBody()).thenReturn(data.getBody());
+    when(logRecord.toLogRecordData()).thenReturn(data);
+
+    for (int i = 0; i < 3; i++) {
+      processor.onEmit(Context.root(), logRecord);
+    }
+
+    // Only the first occurrence is converted, to build summaries from.
+    verify(logRecord, times(1)).toLogRecordData();
+    verify(downstream, times(1)).onEmit(Context.root(), logRecord);
+  }
+
+  private long fingerprint(Severity severity, String body) {
+    LogRecordData data = captureLogRecord(severity, body);
+    return DeduplicatingLogRecordProcessor.fingerprint(
+        data.getSeverity(), data.getInstrumentationScopeInfo(), data.getBody().asString());
+  }
+
+  private static LogRecordData captureLogRecord(Severity severity, String body) {
+    InMemoryLogRecordExporter captured = InMemoryLogRecordExporter.create();
+    SdkLoggerProvider.builder()
+        .addLogRecordProcessor(SimpleLogRecordProcessor.create(captured))
+        .build()
+        .get("test")
+        .logRecordBuilder()
+        .setSeverity(severity)
+        .setBody(body)
+        .emit();
+    return captured.getFinishedLogRecordItems().get(0);
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.extension.incubator.internal.BoundedAttributesCache;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LogRecordMetricsProcessorTest {
+
+  private static final AttributeKey<String> EVENT_DOMAIN = stringKey("event.domain");
+
+  private InMemoryMetricReader metricReader;
+  private SdkMeterProvider meterProvider;
+
+  @BeforeEach
+  void setUp() {
+    metricReader = InMemoryMetricReader.create();
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    meterProvider.close();
+  }
+
+  private static SdkLoggerProvider loggerProvider(LogRecordMetricsProcessor processor) {
+    return SdkLoggerProvider.builder().addLogRecordProcessor(processor).build();
+  }
+
+  @Test
+  void countsBySeverityAndScope() {
+    SdkLoggerProvider loggerProvider =
+        loggerProvider(
+            LogRecordMetricsProcessor.builder(meterProvider).addDimension(EVENT_DOMAIN).build());
+    Logger http = loggerProvider.get("http");
+    Logger db = loggerProvider.get("db");
+
+    http.logRecordBuilder().setSeverity(Severity.ERROR).emit();
+    http.logRecordBuilder().setSeverity(Severity.ERROR3).emit();
+    http.logRecordBuilder().setSeverity(Severity.INFO).emit();
+    http
+        .logRecordBuilder()
+        .setSeverity(Severity.ERROR)
+        .setAttribute(EVENT_DOMAIN, "browser")
+        .emit();
+    db.logRecordBuilder().setSeverity(Severity.ERROR).emit();
+    db.logRecordBuilder().setBody("no severity").emit();
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName(LogRecordMetricsProcessor.LOG_RECORDS_METRIC_NAME)
+                    .hasUnit("{log_record}")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point.hasValue(2).hasAttributes(series("ERROR", "http")),
+                                    point ->
+                                        point.hasValue(1).hasAttributes(series("INFO", "http")),
+                                    point ->
+                                        point
+                                            .hasValue(1)
+                                            .hasAttributes(
+                                                Attributes.builder()
+                                                    .putAll(series("ERROR", "http"))
+                                                    .put(EVENT_DOMAIN, "browser")
+                                                    .build()),
+                                    point -> point.hasValue(1).hasAttributes(series("ERROR", "db")),
+                                    point ->
+                                        point
+                                            .hasValue(1)
+                                            .hasAttributes(series("UNSPECIFIED", "db")))));
+  }
+
+  @Test
+  void readsLogRecordData() {
+    LogRecordMetricsProcessor processor =
+        LogRecordMetricsProcessor.builder(meterProvider).addDimension(EVENT_DOMAIN).build();
+    ReadWriteLogRecord logRecord = mock(ReadWriteLogRecord.class);
+    when(logRecord.toLogRecordData())
+        .thenReturn(
+            TestLogRecordData.builder()
+                .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("custom"))
+                .setSeverity(Severity.FATAL4)
+                .setAttributes(Attributes.of(EVENT_DOMAIN, "device"))
+                .build());
+
+    processor.onEmit(Context.root(), logRecord);
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(1)
+                                        .hasAttributes(
+                                            Attributes.builder()
+                                                .putAll(series("FATAL", "custom"))
+                                                .put(EVENT_DOMAIN, "device")
+                                                .build()))));
+  }
+
+  @Test
+  void overflow() {
+    LogRecordMetricsProcessor processor =
+        LogRecordMetricsProcessor.builder(meterProvider).setMaxCardinality(2).build();
+    SdkLoggerProvider loggerProvider = loggerProvider(processor);
+
+    loggerProvider.get("a").logRecordBuilder().setSeverity(Severity.WARN).emit();
+    loggerProvider.get("b").logRecordBuilder().setSeverity(Severity.WARN).emit();
+    loggerProvider.get("c").logRecordBuilder().setSeverity(Severity.WARN).emit();
+    loggerProvider.get("a").logRecordBuilder().setSeverity(Severity.ERROR).emit();
+    loggerProvider.get("a").logRecordBuilder().setSeverity(Severity.WARN2).emit();
+
+    assertThat(processor.getSeriesCount()).isEqualTo(2);
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point -> point.hasValue(2).hasAttributes(series("WARN", "a")),
+                                point -> point.hasValue(1).hasAttributes(series("WARN", "b")),
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(
+                                            BoundedAttributesCache.OVERFLOW_ATTRIBUTES))));
+  }
+
+  private static Attributes series(String severity, String scopeName) {
+    return Attributes.builder()
+        .put(LogRecordMetricsProcessor.SEVERITY, severity)
+        .put(LogRecordMetricsProcessor.SCOPE_NAME, scopeName)
+        .build();
+  }
+
+  @Test
+  void builderDefaults() {
+    LogRecordMetricsProcessorBuilder builder = LogRecordMetricsProcessor.builder(meterProvider);
+
+    assertThat(builder.getDimensions()).isEmpty();
+    assertThat(builder.getMaxCardinality())
+        .isEqualTo(LogRecordMetricsProcessorBuilder.DEFAULT_MAX_CARDINALITY);
+  }
+
+  @Test
+  void builderInvalidConfig() {
+    assertThatThrownBy(() -> LogRecordMetricsProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("meterProvider");
+    assertThatThrownBy(() -> LogRecordMetricsProcessor.builder(meterProvider).addDimension(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("key");
+    assertThatThrownBy(() -> LogRecordMetricsProcessor.builder(meterProvider).setMaxCardinality(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxCardinality must be positive.");
+  }
+}
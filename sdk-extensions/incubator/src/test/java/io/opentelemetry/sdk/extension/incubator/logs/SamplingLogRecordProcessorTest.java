@@ -0,0 +1,167 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SamplingLogRecordProcessorTest {
+
+  // The random part of a trace ID is its second half, kept by any ratio above 0.
+  private static final String LOW_TRACE_ID = "ffffffffffffffff0000000000000001";
+  // Only kept with a ratio of 1.
+  private static final String HIGH_TRACE_ID = "00000000000000007ffffffffffffffe";
+
+  private final TestClock clock = TestClock.create();
+  private final InMemoryLogRecordExporter exporter = InMemoryLogRecordExporter.create();
+
+  private SdkLoggerProvider loggerProvider;
+  private Logger logger;
+
+  @AfterEach
+  void tearDown() {
+    if (loggerProvider != null) {
+      loggerProvider.shutdown();
+    }
+  }
+
+  private void setUp(SamplingLogRecordProcessorBuilder builder) {
+    loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(builder.setClock(clock).build())
+            .build();
+    logger = loggerProvider.get("test");
+  }
+
+  private static SamplingLogRecordProcessorBuilder builder(InMemoryLogRecordExporter exporter) {
+    return SamplingLogRecordProcessor.builder(SimpleLogRecordProcessor.create(exporter));
+  }
+
+  private void emit(Severity severity, Context context) {
+    logger.logRecordBuilder().setSeverity(severity).setContext(context).setBody("log").emit();
+  }
+
+  private static Context spanContext(String traceId, TraceFlags traceFlags) {
+    return Context.root()
+        .with(
+            Span.wrap(
+                SpanContext.create(
+                    traceId, "0000000000000001", traceFlags, TraceState.getDefault())));
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> SamplingLogRecordProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("downstream");
+    assertThatThrownBy(() -> builder(exporter).setRatio(null, 0.5))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("minimumSeverity");
+    assertThatThrownBy(() -> builder(exporter).setRatio(Severity.INFO, 1.5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("ratio must be in range [0.0, 1.0]");
+    assertThatThrownBy(() -> builder(exporter).setMaxPerSecond(Severity.INFO, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxPerSecond must be non-negative.");
+  }
+
+  @Test
+  void noRules_keepsAll() {
+    setUp(builder(exporter));
+
+    emit(Severity.DEBUG, Context.root());
+    emit(Severity.ERROR, Context.root());
+
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(2);
+  }
+
+  @Test
+  void ratioBySeverity() {
+    setUp(builder(exporter).setRatio(Severity.TRACE, 0.0).setRatio(Severity.WARN, 1.0));
+
+    emit(Severity.UNDEFINED_SEVERITY_NUMBER, Context.root());
+    emit(Severity.TRACE, Context.root());
+    emit(Severity.DEBUG4, Context.root());
+    emit(Severity.INFO, Context.root());
+    emit(Severity.WARN, Context.root());
+    emit(Severity.FATAL4, Context.root());
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .extracting(LogRecordData::getSeverity)
+        .containsExactly(Severity.UNDEFINED_SEVERITY_NUMBER, Severity.WARN, Severity.FATAL4);
+  }
+
+  @Test
+  void sampledSpan_alwaysKept() {
+    setUp(builder(exporter).setRatio(Severity.TRACE, 0.0).setMaxPerSecond(Severity.TRACE, 0));
+
+    emit(Severity.DEBUG, spanContext(HIGH_TRACE_ID, TraceFlags.getSampled()));
+    emit(Severity.DEBUG, spanContext(HIGH_TRACE_ID, TraceFlags.getDefault()));
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .extracting(LogRecordData::getSpanContext)
+        .extracting(SpanContext::isSampled)
+        .containsExactly(true);
+  }
+
+  @Test
+  void unsampledSpan_ratioByTraceId() {
+    setUp(builder(exporter).setRatio(Severity.TRACE, 0.5));
+
+    for (int i = 0; i < 10; i++) {
+      emit(Severity.DEBUG, spanContext(LOW_TRACE_ID, TraceFlags.getDefault()));
+      emit(Severity.DEBUG, spanContext(HIGH_TRACE_ID, TraceFlags.getDefault()));
+    }
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .hasSize(10)
+        .extracting(log -> log.getSpanContext().getTraceId())
+        .containsOnly(LOW_TRACE_ID);
+  }
+
+  @Test
+  void maxPerSecond() {
+    setUp(builder(exporter).setMaxPerSecond(Severity.TRACE, 2).setRatio(Severity.ERROR, 1.0));
+
+    for (int i = 0; i < 5; i++) {
+      emit(Severity.DEBUG, Context.root());
+      emit(Severity.INFO, Context.root());
+      emit(Severity.ERROR, Context.root());
+    }
+    // The budget is shared by the severities the rule applies to.
+    assertThat(exporter.getFinishedLogRecordItems())
+        .extracting(LogRecordData::getSeverity)
+        .containsExactly(
+            Severity.DEBUG,
+            Severity.INFO,
+            Severity.ERROR,
+            Severity.ERROR,
+            Severity.ERROR,
+            Severity.ERROR,
+            Severity.ERROR);
+
+    exporter.reset();
+    clock.advance(Duration.ofSeconds(1));
+    emit(Severity.DEBUG, Context.root());
+    assertThat(exporter.getFinishedLogRecordItems()).hasSize(1);
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveThroughputSamplerTest {
+
+  private static final String SPAN_NAME = "MySpanName";
+
+  private final TestClock clock = TestClock.create();
+  private final Random random = new Random(1234);
+
+  @Test
+  void configTest_EmptyOptions() {
+    AdaptiveThroughputSamplerBuilder builder = AdaptiveThroughputSampler.builder(10);
+    assertThat(builder.getAdjustmentIntervalNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                AdaptiveThroughputSamplerBuilder.DEFAULT_ADJUSTMENT_INTERVAL_MILLIS));
+    assertThat(builder.getMaxSpanNames())
+        .isEqualTo(AdaptiveThroughputSamplerBuilder.DEFAULT_MAX_SPAN_NAMES);
+  }
+
+  @Test
+  @SuppressWarnings("PreferJavaTimeOverload")
+  void invalidConfig() {
+    assertThatThrownBy(() -> AdaptiveThroughputSampler.builder(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("targetSpansPerSecond must be positive.");
+    assertThatThrownBy(
+            () -> AdaptiveThroughputSampler.builder(1).setAdjustmentInterval(0, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("interval must be positive.");
+    assertThatThrownBy(() -> AdaptiveThroughputSampler.builder(1).setAdjustmentInterval(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+    assertThatThrownBy(() -> AdaptiveThroughputSampler.builder(1).setAdjustmentInterval(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("interval");
+    assertThatThrownBy(() -> AdaptiveThroughputSampler.builder(1).setMaxSpanNames(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxSpanNames must be positive.");
+  }
+
+  @Test
+  void description() {
+    assertThat(AdaptiveThroughputSampler.builder(10).build().getDescription())
+        .isEqualTo("AdaptiveThroughputSampler{10.00}");
+    assertThat(AdaptiveThroughputSampler.builder(0.5).setPerSpanName(true).build().toString())
+        .isEqualTo("AdaptiveThroughputSampler{0.50, perSpanName}");
+  }
+
+  @Test
+  void startsSamplingEverything() {
+    AdaptiveThroughputSampler sampler = newSampler();
+
+    SamplingResult result = shouldSample(sampler, SPAN_NAME);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(result.getAttributes())
+        .isEqualTo(
+            Attributes.of(
+                AdaptiveThroughputSampler.SAMPLER_TYPE,
+                AdaptiveThroughputSampler.TYPE,
+                AdaptiveThroughputSampler.SAMPLER_PARAM,
+                1.0));
+  }
+
+  @Test
+  void adjustsProbabilityToObservedRate() {
+    AdaptiveThroughputSampler sampler = newSampler();
+
+    // 1000 spans per second against a target of 10.
+    for (int i = 0; i < 999; i++) {
+      shouldSample(sampler, SPAN_NAME);
+    }
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, SPAN_NAME);
+    assertThat(sampler.getProbability(SPAN_NAME)).isCloseTo(0.01, within(1e-9));
+
+    int sampled = 0;
+    for (int i = 0; i < 10_000; i++) {
+      SamplingResult result = shouldSample(sampler, SPAN_NAME);
+      if (result.getDecision() == SamplingDecision.RECORD_AND_SAMPLE) {
+        sampled++;
+        assertThat(result.getAttributes().get(AdaptiveThroughputSampler.SAMPLER_PARAM))
+            .isCloseTo(0.01, within(1e-9));
+      }
+    }
+    assertThat(sampled).isCloseTo(100, within(50));
+
+    // Traffic drops below the target.
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, SPAN_NAME);
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, SPAN_NAME);
+    assertThat(sampler.getProbability(SPAN_NAME)).isEqualTo(1.0);
+  }
+
+  @Test
+  void sameTraceGetsSameDecision() {
+    AdaptiveThroughputSampler sampler = newSampler();
+    for (int i = 0; i < 999; i++) {
+      shouldSample(sampler, SPAN_NAME);
+    }
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, SPAN_NAME);
+
+    for (int i = 0; i < 100; i++) {
+      String traceId = randomTraceId();
+      assertThat(shouldSample(sampler, traceId, "first").getDecision())
+          .isEqualTo(shouldSample(sampler, traceId, "second").getDecision());
+    }
+  }
+
+  @Test
+  void perSpanName() {
+    AdaptiveThroughputSampler sampler =
+        AdaptiveThroughputSampler.builder(10)
+            .setAdjustmentInterval(Duration.ofSeconds(1))
+            .setPerSpanName(true)
+            .setMaxSpanNames(2)
+            .setClock(clock)
+            .build();
+
+    shouldSample(sampler, "quiet");
+    for (int i = 0; i < 99; i++) {
+      shouldSample(sampler, "busy");
+      shouldSample(sampler, "overflow");
+    }
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, "busy");
+    shouldSample(sampler, "quiet");
+    shouldSample(sampler, "overflow");
+
+    assertThat(sampler.getProbability("busy")).isCloseTo(0.1, within(1e-9));
+    assertThat(sampler.getProbability("quiet")).isEqualTo(1.0);
+    // Names beyond the limit share a single target.
+    assertThat(sampler.getProbability("overflow")).isCloseTo(0.1, within(1e-9));
+    assertThat(sampler.getProbability("other")).isCloseTo(0.1, within(1e-9));
+  }
+
+  @Test
+  void parentBased() {
+    AdaptiveThroughputSampler sampler = newSampler();
+    Sampler parentBased = Sampler.parentBased(sampler);
+    for (int i = 0; i < 999; i++) {
+      shouldSample(sampler, SPAN_NAME);
+    }
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, SPAN_NAME);
+
+    SpanContext parent =
+        SpanContext.create(
+            randomTraceId(), "0102030405060708", TraceFlags.getSampled(), TraceState.getDefault());
+    for (int i = 0; i < 100; i++) {
+      assertThat(
+              parentBased
+                  .shouldSample(
+                      Context.root().with(Span.wrap(parent)),
+                      parent.getTraceId(),
+                      SPAN_NAME,
+                      SpanKind.INTERNAL,
+                      Attributes.empty(),
+                      Collections.emptyList())
+                  .getDecision())
+          .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    }
+  }
+
+  private AdaptiveThroughputSampler newSampler() {
+    return AdaptiveThroughputSampler.builder(10)
+        .setAdjustmentInterval(Duration.ofSeconds(1))
+        .setClock(clock)
+        .build();
+  }
+
+  private SamplingResult shouldSample(Sampler sampler, String name) {
+    return shouldSample(sampler, randomTraceId(), name);
+  }
+
+  private static SamplingResult shouldSample(Sampler sampler, String traceId, String name) {
+    return sampler.shouldSample(
+        Context.root(),
+        traceId,
+        name,
+        SpanKind.INTERNAL,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+
+  private String randomTraceId() {
+    return TraceId.fromLongs(random.nextLong(), random.nextLong());
+  }
+}
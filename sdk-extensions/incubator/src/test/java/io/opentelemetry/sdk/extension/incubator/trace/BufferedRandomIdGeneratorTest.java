@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class BufferedRandomIdGeneratorTest {
+
+  @Test
+  void generatesValidIds() {
+    BufferedRandomIdGenerator generator = BufferedRandomIdGenerator.create(3);
+
+    // Can't assert values but can assert they're valid and spread over several refills.
+    Set<String> spanIds = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      String traceId = generator.generateTraceId();
+      assertThat(TraceId.isValid(traceId)).isTrue();
+      assertThat(traceId).isNotEqualTo(TraceId.getInvalid());
+
+      String spanId = generator.generateSpanId();
+      assertThat(SpanId.isValid(spanId)).isTrue();
+      assertThat(spanId).isNotEqualTo(SpanId.getInvalid());
+      spanIds.add(spanId);
+
+      assertThat(generator.generateSpanIdLong()).isNotZero();
+    }
+    assertThat(spanIds).hasSize(1000);
+  }
+
+  @Test
+  void invalidBlockSize() {
+    assertThatThrownBy(() -> IdGenerators.bufferedRandom(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("blockSize must be positive.");
+  }
+
+  @Test
+  void usedBySdk() {
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder().setIdGenerator(IdGenerators.bufferedRandom()).build();
+
+    Span span = tracerProvider.get("test").spanBuilder("span").startSpan();
+    SpanContext spanContext = span.getSpanContext();
+    assertThat(spanContext.isValid()).isTrue();
+    assertThat(SpanId.isValid(spanContext.getSpanId())).isTrue();
+    assertThat(spanContext)
+        .isEqualTo(
+            SpanContext.create(
+                spanContext.getTraceId(),
+                spanContext.getSpanId(),
+                spanContext.getTraceFlags(),
+                spanContext.getTraceState()));
+    span.end();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> CoarseClock.create(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("resolution");
+    assertThatThrownBy(() -> CoarseClock.create(null, Duration.ofMillis(1)))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("delegate");
+    assertThatThrownBy(() -> CoarseClock.create(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("resolution must be positive.");
+  }
+
+  @Test
+  void updatesOnTick() {
+    TestClock testClock = TestClock.create(Instant.ofEpochSecond(100));
+    CoarseClock clock = CoarseClock.create(testClock, Duration.ofDays(1));
+    clock.close();
+    assertThat(clock.getResolutionNanos()).isEqualTo(Duration.ofDays(1).toNanos());
+    assertThat(clock.now()).isEqualTo(testClock.now());
+    assertThat(clock.nanoTime()).isEqualTo(testClock.nanoTime());
+
+    testClock.advance(Duration.ofMillis(1));
+    clock.tick();
+    assertThat(clock.now()).isEqualTo(testClock.now());
+    assertThat(clock.nanoTime()).isEqualTo(testClock.nanoTime());
+  }
+
+  @Test
+  void neverGoesBackwards() {
+    TestClock testClock = TestClock.create(Instant.ofEpochSecond(100));
+    CoarseClock clock = CoarseClock.create(testClock, Duration.ofDays(1));
+    clock.close();
+    long now = clock.now();
+
+    testClock.setTime(Instant.ofEpochSecond(50));
+    clock.tick();
+    assertThat(clock.now()).isEqualTo(now);
+  }
+
+  @Test
+  void ticksInBackground() {
+    CoarseClock clock = CoarseClock.create(Duration.ofMillis(1));
+    try {
+      long start = clock.nanoTime();
+      await()
+          .atMost(Duration.ofSeconds(10))
+          .untilAsserted(() -> assertThat(clock.nanoTime()).isGreaterThan(start));
+      assertThat(Math.abs(clock.now() - Clock.getDefault().now()))
+          .isLessThan(Duration.ofSeconds(1).toNanos());
+    } finally {
+      clock.close();
+    }
+  }
+}
@@ -5,12 +5,16 @@
 
 package io.opentelemetry.sdk.extension.incubator.trace;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import com.google.common.testing.GcFinalization;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import java.lang.ref.WeakReference;
 import java.time.Duration;
@@ -76,4 +80,101 @@ public class LeakDetectingSpanProcessorTest {
 
     assertThat(logs).isEmpty();
   }
+
+  @Test
+  void garbageCollectedUnendedSpan_metrics() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    LeakDetectingSpanProcessor spanProcessor =
+        LeakDetectingSpanProcessor.builder()
+            .setMeterProvider(meterProvider)
+            .setCaptureStackTraces(false)
+            .build();
+
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder().addSpanProcessor(spanProcessor).build();
+
+    Tracer tracer = tracerProvider.get("test");
+
+    tracer.spanBuilder("testSpan").startSpan();
+    tracer.spanBuilder("endedSpan").startSpan().end();
+
+    await()
+        .atMost(Duration.ofSeconds(30))
+        .untilAsserted(
+            () -> {
+              System.gc();
+              assertThat(metricReader.collectAllMetrics())
+                  .anySatisfy(
+                      metric ->
+                          assertThat(metric)
+                              .hasName(LeakDetectingSpanProcessor.LEAKED_METRIC_NAME)
+                              .hasLongSumSatisfying(
+                                  sum ->
+                                      sum.hasPointsSatisfying(
+                                          point ->
+                                              point
+                                                  .hasValue(1)
+                                                  .hasAttributes(
+                                                      Attributes.of(
+                                                          LeakDetectingSpanProcessor.SPAN_NAME,
+                                                          "testSpan")))));
+            });
+    meterProvider.close();
+  }
+
+  @Test
+  void sampleInterval() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    LeakDetectingSpanProcessor spanProcessor =
+        LeakDetectingSpanProcessor.builder()
+            .setSampleInterval(4)
+            .setMeterProvider(meterProvider)
+            .build();
+
+    SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder().addSpanProcessor(spanProcessor).build();
+
+    Tracer tracer = tracerProvider.get("test");
+
+    long expectedTracked = 0;
+    for (int i = 0; i < 100; i++) {
+      Span span = tracer.spanBuilder("testSpan").startSpan();
+      if (System.identityHashCode(span) % 4 == 0) {
+        expectedTracked++;
+      }
+      span.end();
+    }
+
+    long tracked = expectedTracked;
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName(LeakDetectingSpanProcessor.TRACKED_METRIC_NAME)
+                    .hasLongSumSatisfying(
+                        sum -> sum.hasPointsSatisfying(point -> point.hasValue(tracked))));
+    meterProvider.close();
+  }
+
+  @Test
+  void builderDefaults() {
+    LeakDetectingSpanProcessorBuilder builder = LeakDetectingSpanProcessor.builder();
+
+    assertThat(builder.getSampleInterval()).isEqualTo(1);
+    assertThat(builder.getCaptureStackTraces()).isTrue();
+  }
+
+  @Test
+  void builderInvalidConfig() {
+    assertThatThrownBy(() -> LeakDetectingSpanProcessor.builder().setSampleInterval(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("sampleInterval must be positive.");
+    assertThatThrownBy(() -> LeakDetectingSpanProcessor.builder().setMeterProvider(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("meterProvider");
+  }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.extension.incubator.internal.BoundedAttributesCache;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.ExtendedReadableSpan;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpanMetricsProcessorTest {
+
+  private static final AttributeKey<String> HTTP_ROUTE = stringKey("http.route");
+  private static final AttributeKey<Long> HTTP_STATUS_CODE = longKey("http.status_code");
+
+  private InMemoryMetricReader metricReader;
+  private SdkMeterProvider meterProvider;
+
+  @BeforeEach
+  void setUp() {
+    metricReader = InMemoryMetricReader.create();
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    meterProvider.close();
+  }
+
+  private Tracer tracer(SpanMetricsProcessor processor) {
+    return SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+  }
+
+  @Test
+  void recordsCallsAndDuration() {
+    Tracer tracer =
+        tracer(SpanMetricsProcessor.builder(meterProvider).addDimension(HTTP_ROUTE).build());
+
+    for (int i = 0; i < 3; i++) {
+      tracer
+          .spanBuilder("GET")
+          .setSpanKind(SpanKind.SERVER)
+          .setAttribute(HTTP_ROUTE, "/users")
+          .setAttribute(HTTP_STATUS_CODE, 200L)
+          .setStartTimestamp(1000, TimeUnit.MILLISECONDS)
+          .startSpan()
+          .end(1010, TimeUnit.MILLISECONDS);
+    }
+    tracer
+        .spanBuilder("GET")
+        .setSpanKind(SpanKind.SERVER)
+        .setAttribute(HTTP_ROUTE, "/users")
+        .setStartTimestamp(1000, TimeUnit.MILLISECONDS)
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end(1030, TimeUnit.MILLISECONDS);
+
+    Attributes ok =
+        Attributes.builder()
+            .put(SpanMetricsProcessor.SPAN_NAME, "GET")
+            .put(SpanMetricsProcessor.SPAN_KIND, "SPAN_KIND_SERVER")
+            .put(SpanMetricsProcessor.STATUS_CODE, "STATUS_CODE_UNSET")
+            .put(HTTP_ROUTE, "/users")
+            .build();
+    Attributes error =
+        ok.toBuilder().put(SpanMetricsProcessor.STATUS_CODE, "STATUS_CODE_ERROR").build();
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName(SpanMetricsProcessor.CALLS_METRIC_NAME)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .hasPointsSatisfying(
+                                    point -> point.hasValue(3).hasAttributes(ok),
+                                    point -> point.hasValue(1).hasAttributes(error))),
+            metric ->
+                assertThat(metric)
+                    .hasName(SpanMetricsProcessor.DURATION_METRIC_NAME)
+                    .hasUnit("ms")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point -> point.hasCount(3).hasSum(30).hasAttributes(ok),
+                                point -> point.hasCount(1).hasSum(30).hasAttributes(error))));
+  }
+
+  @Test
+  void missingDimension() {
+    Tracer tracer =
+        tracer(SpanMetricsProcessor.builder(meterProvider).addDimension(HTTP_ROUTE).build());
+
+    tracer.spanBuilder("internal").startSpan().end();
+
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName(SpanMetricsProcessor.CALLS_METRIC_NAME)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point ->
+                                    point.hasValue(1).hasAttributes(internalSpan("internal")))));
+  }
+
+  @Test
+  void overflow() {
+    SpanMetricsProcessor processor =
+        SpanMetricsProcessor.builder(meterProvider).setMaxCardinality(2).build();
+    Tracer tracer = tracer(processor);
+
+    tracer.spanBuilder("a").startSpan().end();
+    tracer.spanBuilder("b").startSpan().end();
+    tracer.spanBuilder("c").startSpan().end();
+    tracer.spanBuilder("d").startSpan().end();
+    tracer.spanBuilder("a").startSpan().end();
+
+    assertThat(processor.getSeriesCount()).isEqualTo(2);
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName(SpanMetricsProcessor.CALLS_METRIC_NAME)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point -> point.hasValue(2).hasAttributes(internalSpan("a")),
+                                point -> point.hasValue(1).hasAttributes(internalSpan("b")),
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(
+                                            BoundedAttributesCache.OVERFLOW_ATTRIBUTES))));
+  }
+
+  @Test
+  void doesNotConvertSpans() {
+    SpanMetricsProcessor processor = SpanMetricsProcessor.builder(meterProvider).build();
+    ExtendedReadableSpan span = mock(ExtendedReadableSpan.class);
+    when(span.getName()).thenReturn("GET");
+    when(span.getKind()).thenReturn(SpanKind.SERVER);
+    when(span.getStatus()).thenReturn(StatusData.error());
+    when(span.getLatencyNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(20));
+
+    processor.onEnd(span);
+    processor.onEnd(span);
+
+    verify(span, never()).toSpanData();
+    assertThat(processor.getSeriesCount()).isEqualTo(1);
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName(SpanMetricsProcessor.DURATION_METRIC_NAME)
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(2)
+                                        .hasSum(40)
+                                        .hasAttributes(
+                                            Attributes.builder()
+                                                .put(SpanMetricsProcessor.SPAN_NAME, "GET")
+                                                .put(
+                                                    SpanMetricsProcessor.SPAN_KIND,
+                                                    "SPAN_KIND_SERVER")
+                                                .put(
+                                                    SpanMetricsProcessor.STATUS_CODE,
+                                                    "STATUS_CODE_ERROR")
+                                                .build()))));
+  }
+
+  private static Attributes internalSpan(String spanName) {
+    return Attributes.builder()
+        .put(SpanMetricsProcessor.SPAN_NAME, spanName)
+        .put(SpanMetricsProcessor.SPAN_KIND, "SPAN_KIND_INTERNAL")
+        .put(SpanMetricsProcessor.STATUS_CODE, "STATUS_CODE_UNSET")
+        .build();
+  }
+
+  @Test
+  void builderDefaults() {
+    SpanMetricsProcessorBuilder builder = SpanMetricsProcessor.builder(meterProvider);
+
+    assertThat(builder.getDimensions()).isEmpty();
+    assertThat(builder.getMaxCardinality())
+        .isEqualTo(SpanMetricsProcessorBuilder.DEFAULT_MAX_CARDINALITY);
+  }
+
+  @Test
+  void builderInvalidConfig() {
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("meterProvider");
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder(meterProvider).addDimension(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("key");
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder(meterProvider).setMaxCardinality(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxCardinality must be positive.");
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class SpanShapeSamplerTest {
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> SpanShapeSampler.dropSpanNames(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanNamePattern");
+    assertThatThrownBy(() -> SpanShapeSampler.toSampler(null, "description"))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("sampler");
+    assertThatThrownBy(
+            () ->
+                SpanShapeSampler.toSampler(
+                    (name, spanKind, parentSpanContext) -> SamplingResult.drop(), null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("description");
+  }
+
+  @Test
+  void cacheable() {
+    Sampler sampler = SpanShapeSampler.dropSpanNames(Pattern.compile("health.*"));
+    assertThat(sampler.getDescription()).isEqualTo("DropSpanNames{health.*}");
+    assertThat(((CacheableSampler) sampler).isCacheable()).isTrue();
+    assertThat(((CacheableSampler) Sampler.parentBased(sampler)).isCacheable()).isTrue();
+  }
+
+  @Test
+  void dropSpanNames() {
+    Tracer tracer =
+        SdkTracerProvider.builder()
+            .setSampler(
+                Sampler.parentBased(SpanShapeSampler.dropSpanNames(Pattern.compile("health.*"))))
+            .build()
+            .get("test");
+
+    assertThat(tracer.spanBuilder("healthcheck").startSpan().getSpanContext().isSampled())
+        .isFalse();
+    Span span = tracer.spanBuilder("checkout").startSpan();
+    assertThat(span.getSpanContext().isSampled()).isTrue();
+    span.end();
+  }
+
+  @Test
+  void resultsAreCached() {
+    AtomicInteger calls = new AtomicInteger();
+    Tracer tracer =
+        SdkTracerProvider.builder()
+            .setSampler(
+                SpanShapeSampler.toSampler(
+                    (name, spanKind, parentSpanContext) -> {
+                      calls.incrementAndGet();
+                      return SamplingResult.recordAndSample();
+                    },
+                    "Counting"))
+            .build()
+            .get("test");
+
+    for (int i = 0; i < 10; i++) {
+      tracer.spanBuilder("span").startSpan().end();
+    }
+    tracer.spanBuilder("other").startSpan().end();
+
+    assertThat(calls.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.ExtendedReadableSpan;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TailSamplingSpanProcessorTest {
+
+  private static final AttributeKey<String> TENANT = AttributeKey.stringKey("tenant");
+
+  private final TestClock clock = TestClock.create();
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+  private TailSamplingSpanProcessor processor;
+
+  @AfterEach
+  void tearDown() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown();
+    }
+  }
+
+  private void setUp(TailSamplingSpanProcessorBuilder builder) {
+    processor = builder.setClock(clock).setStartWorker(false).build();
+    tracerProvider =
+        SdkTracerProvider.builder().setClock(clock).addSpanProcessor(processor).build();
+    tracer = tracerProvider.get("test");
+  }
+
+  private TailSamplingSpanProcessorBuilder builder() {
+    return TailSamplingSpanProcessor.builder(SimpleSpanProcessor.create(exporter));
+  }
+
+  @Test
+  void basics() {
+    setUp(builder());
+    assertThat(processor.isStartRequired()).isFalse();
+    assertThat(processor.isEndRequired()).isTrue();
+  }
+
+  @Test
+  void configTest_EmptyOptions() {
+    TailSamplingSpanProcessorBuilder builder = builder();
+    assertThat(builder.getDecisionWaitNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                TailSamplingSpanProcessorBuilder.DEFAULT_DECISION_WAIT_MILLIS));
+    assertThat(builder.getMaxBufferedSpans())
+        .isEqualTo(TailSamplingSpanProcessorBuilder.DEFAULT_MAX_BUFFERED_SPANS);
+    assertThat(builder.getMaxDecidedTraces())
+        .isEqualTo(TailSamplingSpanProcessorBuilder.DEFAULT_MAX_DECIDED_TRACES);
+  }
+
+  @Test
+  @SuppressWarnings("PreferJavaTimeOverload")
+  void invalidConfig() {
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("downstream");
+    assertThatThrownBy(() -> builder().addPolicy(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("policy");
+    assertThatThrownBy(() -> builder().setDecisionWait(0, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("decisionWait must be positive.");
+    assertThatThrownBy(() -> builder().setDecisionWait(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("unit");
+    assertThatThrownBy(() -> builder().setDecisionWait(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("decisionWait");
+    assertThatThrownBy(() -> builder().setMaxBufferedSpans(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBufferedSpans must be positive.");
+    assertThatThrownBy(() -> builder().setMaxDecidedTraces(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxDecidedTraces must be non-negative.");
+    assertThatThrownBy(() -> TailSamplingPolicy.rateLimiting(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("tracesPerSecond must be positive.");
+  }
+
+  @Test
+  void keepsErroredTraces() {
+    setUp(builder().addPolicy(TailSamplingPolicy.errors()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer
+        .spanBuilder("child")
+        .setParent(Context.current().with(root))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    root.end();
+
+    Span okRoot = tracer.spanBuilder("okRoot").startSpan();
+    tracer.spanBuilder("okChild").setParent(Context.current().with(okRoot)).startSpan().end();
+    okRoot.end();
+
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child", "root");
+    assertThat(processor.getBufferedSpanCount()).isZero();
+  }
+
+  @Test
+  void keepsSlowTraces() {
+    setUp(builder().addPolicy(TailSamplingPolicy.latency(Duration.ofSeconds(1))));
+
+    Span slow = tracer.spanBuilder("slow").startSpan();
+    clock.advance(Duration.ofSeconds(2));
+    slow.end();
+    Span fast = tracer.spanBuilder("fast").startSpan();
+    clock.advance(Duration.ofMillis(10));
+    fast.end();
+
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("slow");
+  }
+
+  @Test
+  void policiesDoNotConvertSpans() {
+    ExtendedReadableSpan span = mock(ExtendedReadableSpan.class);
+    when(span.getStatus()).thenReturn(StatusData.error());
+    when(span.getStartEpochNanos()).thenReturn(1_000L);
+    when(span.getLatencyNanos()).thenReturn(TimeUnit.SECONDS.toNanos(2));
+    List<ReadableSpan> spans = Collections.singletonList(span);
+
+    assertThat(TailSamplingPolicy.errors().shouldKeep(spans)).isTrue();
+    assertThat(TailSamplingPolicy.latency(Duration.ofSeconds(1)).shouldKeep(spans)).isTrue();
+    assertThat(TailSamplingPolicy.latency(Duration.ofSeconds(3)).shouldKeep(spans)).isFalse();
+    verify(span, never()).toSpanData();
+  }
+
+  @Test
+  void keepsMatchingAttributes() {
+    setUp(builder().addPolicy(TailSamplingPolicy.attributeEquals(TENANT, "gold")));
+
+    tracer.spanBuilder("gold").setAttribute(TENANT, "gold").startSpan().end();
+    tracer.spanBuilder("silver").setAttribute(TENANT, "silver").startSpan().end();
+    tracer.spanBuilder("none").startSpan().end();
+
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("gold");
+  }
+
+  @Test
+  void rateLimitsTraces() {
+    setUp(
+        builder()
+            .addPolicy(TailSamplingPolicy.errors())
+            .addPolicy(TailSamplingPolicies.rateLimiting(1, clock)));
+
+    tracer.spanBuilder("first").startSpan().end();
+    tracer.spanBuilder("second").startSpan().end();
+    tracer.spanBuilder("error").startSpan().setStatus(StatusCode.ERROR).end();
+    clock.advance(Duration.ofSeconds(1));
+    tracer.spanBuilder("third").startSpan().end();
+
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("first", "error", "third");
+  }
+
+  @Test
+  void decidesQuietTraces() {
+    setUp(
+        builder()
+            .addPolicy(TailSamplingPolicy.errors())
+            .setDecisionWait(Duration.ofSeconds(5)));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer
+        .spanBuilder("child")
+        .setParent(Context.current().with(root))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+
+    clock.advance(Duration.ofSeconds(4));
+    processor.decideQuietTraces();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    assertThat(processor.getBufferedSpanCount()).isEqualTo(1);
+
+    clock.advance(Duration.ofSeconds(1));
+    processor.decideQuietTraces();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child");
+    assertThat(processor.getBufferedSpanCount()).isZero();
+
+    // Spans ending after the decision follow it.
+    root.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child", "root");
+  }
+
+  @Test
+  void evictsOldestTraceWhenBufferIsFull() {
+    setUp(
+        builder()
+            .addPolicy(TailSamplingPolicy.attributeEquals(TENANT, "gold"))
+            .setMaxBufferedSpans(2));
+
+    Span first = tracer.spanBuilder("first").startSpan();
+    tracer
+        .spanBuilder("firstChild")
+        .setParent(Context.current().with(first))
+        .setAttribute(TENANT, "gold")
+        .startSpan()
+        .end();
+    Span second = tracer.spanBuilder("second").startSpan();
+    tracer.spanBuilder("secondChild").setParent(Context.current().with(second)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    Span third = tracer.spanBuilder("third").startSpan();
+    tracer.spanBuilder("thirdChild").setParent(Context.current().with(third)).startSpan().end();
+
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("firstChild");
+    assertThat(processor.getBufferedSpanCount()).isEqualTo(2);
+  }
+
+  @Test
+  void forgetsOldestDecisions() {
+    setUp(
+        builder()
+            .addPolicy(TailSamplingPolicy.attributeEquals(TENANT, "gold"))
+            .setMaxDecidedTraces(1));
+
+    Span first = tracer.spanBuilder("first").startSpan();
+    tracer
+        .spanBuilder("firstChild")
+        .setParent(Context.current().with(first))
+        .setAttribute(TENANT, "gold")
+        .startSpan()
+        .end();
+    clock.advance(Duration.ofMillis(TailSamplingSpanProcessorBuilder.DEFAULT_DECISION_WAIT_MILLIS));
+    processor.decideQuietTraces();
+    tracer.spanBuilder("second").startSpan().end();
+
+    // The decision for the first trace was forgotten, so its root starts a new pending trace.
+    first.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("firstChild");
+  }
+
+  @Test
+  void forceFlushDecidesPendingTraces() {
+    SpanProcessor downstream = mock(SpanProcessor.class);
+    when(downstream.forceFlush()).thenReturn(CompletableResultCode.ofSuccess());
+    setUp(TailSamplingSpanProcessor.builder(downstream).addPolicy(TailSamplingPolicy.errors()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer
+        .spanBuilder("child")
+        .setParent(Context.current().with(root))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    Span okRoot = tracer.spanBuilder("okRoot").startSpan();
+    tracer.spanBuilder("okChild").setParent(Context.current().with(okRoot)).startSpan().end();
+    verify(downstream, never()).onEnd(any());
+
+    assertThat(processor.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    ArgumentCaptor<ReadableSpan> span = ArgumentCaptor.forClass(ReadableSpan.class);
+    verify(downstream).onEnd(span.capture());
+    assertThat(span.getValue().getName()).isEqualTo("child");
+    verify(downstream).forceFlush();
+    assertThat(processor.getBufferedSpanCount()).isZero();
+
+    // Spans ending after the flush follow the decisions made by it.
+    root.end();
+    okRoot.end();
+    verify(downstream, times(2)).onEnd(span.capture());
+    assertThat(span.getValue().getName()).isEqualTo("root");
+  }
+
+  @Test
+  void shutdownDecidesPendingTraces() {
+    SpanProcessor downstream = mock(SpanProcessor.class);
+    when(downstream.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    setUp(TailSamplingSpanProcessor.builder(downstream).addPolicy(TailSamplingPolicy.errors()));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer
+        .spanBuilder("child")
+        .setParent(Context.current().with(root))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    verify(downstream, never()).onEnd(any());
+
+    assertThat(processor.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    ArgumentCaptor<ReadableSpan> span = ArgumentCaptor.forClass(ReadableSpan.class);
+    verify(downstream).onEnd(span.capture());
+    assertThat(span.getValue().getName()).isEqualTo("child");
+    verify(downstream).shutdown();
+
+    root.end();
+    verify(downstream).onEnd(any());
+  }
+}
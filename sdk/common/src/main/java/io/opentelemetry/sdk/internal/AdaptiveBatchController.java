@@ -0,0 +1,111 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+/**
+ * Tunes the schedule delay and export batch size of a batch processor from the outcome of its
+ * exports, within configured bounds.
+ *
+ * <p>The delay follows additive-increase / multiplicative-decrease on the export rate:
+ *
+ * <ul>
+ *   <li>A failed export, or one slower than the latency threshold, doubles the delay and halves the
+ *       batch size, backing off from a struggling exporter.
+ *   <li>A successful export that leaves at least a batch worth of items queued means the processor
+ *       is falling behind, so the delay shrinks and the batch size grows by one step.
+ *   <li>A successful export of less than half a batch means traffic is quiet, so the delay grows by
+ *       one step to let larger batches accumulate.
+ * </ul>
+ *
+ * <p>A step is a tenth of the configured range. Instances are only accessed by the worker thread of
+ * the processor and are not thread safe.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AdaptiveBatchController {
+
+  private static final int STEPS = 10;
+
+  private final long minScheduleDelayNanos;
+  private final long maxScheduleDelayNanos;
+  private final int minExportBatchSize;
+  private final int maxExportBatchSize;
+  private final long latencyThresholdNanos;
+  private final long delayStepNanos;
+  private final int batchSizeStep;
+
+  private long scheduleDelayNanos;
+  private int exportBatchSize;
+
+  /**
+   * Creates a new controller starting at the maximum delay and batch size.
+   *
+   * @param minScheduleDelayNanos the lower bound of the schedule delay.
+   * @param maxScheduleDelayNanos the upper bound of the schedule delay.
+   * @param minExportBatchSize the lower bound of the export batch size.
+   * @param maxExportBatchSize the upper bound of the export batch size.
+   * @param latencyThresholdNanos exports taking longer than this are treated like failures.
+   */
+  public AdaptiveBatchController(
+      long minScheduleDelayNanos,
+      long maxScheduleDelayNanos,
+      int minExportBatchSize,
+      int maxExportBatchSize,
+      long latencyThresholdNanos) {
+    this.minScheduleDelayNanos = Math.min(minScheduleDelayNanos, maxScheduleDelayNanos);
+    this.maxScheduleDelayNanos = maxScheduleDelayNanos;
+    this.minExportBatchSize = Math.min(minExportBatchSize, maxExportBatchSize);
+    this.maxExportBatchSize = maxExportBatchSize;
+    this.latencyThresholdNanos = latencyThresholdNanos;
+    this.delayStepNanos =
+        Math.max(1, (this.maxScheduleDelayNanos - this.minScheduleDelayNanos) / STEPS);
+    this.batchSizeStep = Math.max(1, (this.maxExportBatchSize - this.minExportBatchSize) / STEPS);
+    this.scheduleDelayNanos = maxScheduleDelayNanos;
+    this.exportBatchSize = maxExportBatchSize;
+  }
+
+  /** Returns the lower bound of the schedule delay. */
+  public long getMinScheduleDelayNanos() {
+    return minScheduleDelayNanos;
+  }
+
+  /** Returns the lower bound of the export batch size. */
+  public int getMinExportBatchSize() {
+    return minExportBatchSize;
+  }
+
+  /** Returns the delay to wait before the next scheduled export. */
+  public long getScheduleDelayNanos() {
+    return scheduleDelayNanos;
+  }
+
+  /** Returns the number of items that triggers an export. */
+  public int getExportBatchSize() {
+    return exportBatchSize;
+  }
+
+  /**
+   * Records the outcome of an export and adjusts the delay and batch size.
+   *
+   * @param exportedCount the number of items in the exported batch.
+   * @param queueDepth the number of items still queued after the export.
+   * @param latencyNanos the time the export took.
+   * @param success whether the export succeeded.
+   */
+  public void recordExport(int exportedCount, int queueDepth, long latencyNanos, boolean success) {
+    if (!success || latencyNanos > latencyThresholdNanos) {
+      scheduleDelayNanos =
+          Math.min(maxScheduleDelayNanos, Math.max(scheduleDelayNanos, delayStepNanos) * 2);
+      exportBatchSize = Math.max(minExportBatchSize, exportBatchSize / 2);
+    } else if (queueDepth >= exportBatchSize) {
+      scheduleDelayNanos = Math.max(minScheduleDelayNanos, scheduleDelayNanos - delayStepNanos);
+      exportBatchSize = Math.min(maxExportBatchSize, exportBatchSize + batchSizeStep);
+    } else if (exportedCount < exportBatchSize / 2) {
+      scheduleDelayNanos = Math.min(maxScheduleDelayNanos, scheduleDelayNanos + delayStepNanos);
+    }
+  }
+}
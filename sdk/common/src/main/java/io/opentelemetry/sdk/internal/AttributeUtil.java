@@ -55,7 +55,11 @@ public final class AttributeUtil {
     return result.build();
   }
 
-  private static boolean isValidLength(Object value, int lengthLimit) {
+  /**
+   * Returns whether the attribute {@code value} is within the {@code lengthLimit}, i.e. {@link
+   * #applyAttributeLengthLimit(Object, int)} would not truncate it.
+   */
+  public static boolean isValidLength(Object value, int lengthLimit) {
     if (value instanceof List) {
       return allMatch((List<?>) value, entry -> isValidLength(entry, lengthLimit));
     } else if (value instanceof String) {
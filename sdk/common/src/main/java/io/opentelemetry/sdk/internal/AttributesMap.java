@@ -8,9 +8,11 @@ package io.opentelemetry.sdk.internal;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 
@@ -18,6 +20,14 @@ import javax.annotation.Nullable;
  * A map with a fixed capacity that drops attributes when the map gets full, and which truncates
  * string and array string attribute values to the {@link #lengthLimit}.
  *
+ * <p>Values exceeding the length limit are stored as is and only truncated when the attributes are
+ * first read, so that attributes of spans and log records which are never read, for example because
+ * they are dropped, are not truncated. All methods of {@link Attributes} and {@link
+ * #immutableCopy()} return truncated values, as do the {@link Map} methods reading values, such as
+ * {@link #get(Object)}, {@link #entrySet()}, {@link #values()}, {@link #equals(Object)} and {@link
+ * #hashCode()}. Owners which hand this map out to other threads must call {@link
+ * #applyLengthLimit()} before doing so, while they still guard the map.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -28,6 +38,8 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
   private final long capacity;
   private final int lengthLimit;
   private int totalAddedValues = 0;
+  // Whether a value exceeding the length limit was put since the length limit was last applied.
+  private boolean hasValuesToTruncate;
 
   private AttributesMap(long capacity, int lengthLimit) {
     this.capacity = capacity;
@@ -50,7 +62,47 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
     if (size() >= capacity && !containsKey(key)) {
       return;
     }
-    super.put(key, AttributeUtil.applyAttributeLengthLimit(value, lengthLimit));
+    if (lengthLimit != Integer.MAX_VALUE && !AttributeUtil.isValidLength(value, lengthLimit)) {
+      hasValuesToTruncate = true;
+    }
+    super.put(key, value);
+  }
+
+  /**
+   * Add attribute key value pairs whose values are known to be within the length limit, such as
+   * attributes prepared ahead of time, without applying the length limit again. The capacity limit
+   * is still applied.
+   *
+   * @param keys the attribute keys
+   * @param values the attribute values, in the same order as the keys
+   * @param addedValues the number of values to count as added, including any that were dropped
+   *     while preparing the arrays
+   */
+  public void putAllPrevalidated(AttributeKey<?>[] keys, Object[] values, int addedValues) {
+    totalAddedValues += addedValues;
+    for (int i = 0; i < keys.length; i++) {
+      if (size() >= capacity && !containsKey(keys[i])) {
+        continue;
+      }
+      super.put(keys[i], values[i]);
+    }
+  }
+
+  /**
+   * Truncates the values which exceed the length limit. This is done automatically when the
+   * attributes are read, but modifies the map, so it must also be called while the map is still
+   * guarded before it is read by other threads.
+   */
+  public void applyLengthLimit() {
+    if (!hasValuesToTruncate) {
+      return;
+    }
+    hasValuesToTruncate = false;
+    super.replaceAll(
+        (key, value) ->
+            AttributeUtil.isValidLength(value, lengthLimit)
+                ? value
+                : AttributeUtil.applyAttributeLengthLimit(value, lengthLimit));
   }
 
   /** Get the total number of attributes added, including those dropped for capcity limits. */
@@ -62,11 +114,44 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
   @Override
   @Nullable
   public <T> T get(AttributeKey<T> key) {
+    applyLengthLimit();
     return (T) super.get(key);
   }
 
+  @Override
+  @Nullable
+  public Object get(Object key) {
+    applyLengthLimit();
+    return super.get(key);
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    applyLengthLimit();
+    return super.getOrDefault(key, defaultValue);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    applyLengthLimit();
+    return super.containsValue(value);
+  }
+
+  @Override
+  public Collection<Object> values() {
+    applyLengthLimit();
+    return super.values();
+  }
+
+  @Override
+  public Set<Map.Entry<AttributeKey<?>, Object>> entrySet() {
+    applyLengthLimit();
+    return super.entrySet();
+  }
+
   @Override
   public Map<AttributeKey<?>, Object> asMap() {
+    applyLengthLimit();
     // Because Attributes is marked Immutable, IDEs may recognize this as redundant usage. However,
     // this class is private and is actually mutable, so we need to wrap with unmodifiableMap
     // anyways. We implement the immutable Attributes for this class to support the
@@ -77,6 +162,7 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
 
   @Override
   public AttributesBuilder toBuilder() {
+    applyLengthLimit();
     return Attributes.builder().putAll(this);
   }
 
@@ -85,11 +171,25 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
     // https://github.com/open-telemetry/opentelemetry-java/issues/4161
     // Help out android desugaring by having an explicit call to HashMap.forEach, when forEach is
     // just called through Attributes.forEach desugaring is unable to correctly handle it.
+    applyLengthLimit();
     super.forEach(action);
   }
 
+  @Override
+  public boolean equals(@Nullable Object o) {
+    applyLengthLimit();
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    applyLengthLimit();
+    return super.hashCode();
+  }
+
   @Override
   public String toString() {
+    applyLengthLimit();
     return "AttributesMap{"
         + "data="
         + super.toString()
@@ -102,6 +202,7 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
 
   /** Create an immutable copy of the attributes in this map. */
   public Attributes immutableCopy() {
+    applyLengthLimit();
     return Attributes.builder().putAll(this).build();
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchControllerTest {
+
+  private static final long MIN_DELAY = 100;
+  private static final long MAX_DELAY = 1100;
+  private static final long LATENCY_THRESHOLD = 50;
+
+  private final AdaptiveBatchController controller =
+      new AdaptiveBatchController(MIN_DELAY, MAX_DELAY, 10, 110, LATENCY_THRESHOLD);
+
+  @Test
+  void startsAtMaximums() {
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MAX_DELAY);
+    assertThat(controller.getExportBatchSize()).isEqualTo(110);
+  }
+
+  @Test
+  void backlog_shortensDelayAndGrowsBatch() {
+    controller.recordExport(10, 0, 1, false);
+    assertThat(controller.getExportBatchSize()).isEqualTo(55);
+
+    controller.recordExport(55, 55, 1, true);
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MAX_DELAY - 100);
+    assertThat(controller.getExportBatchSize()).isEqualTo(65);
+
+    for (int i = 0; i < 20; i++) {
+      controller.recordExport(110, 1000, 1, true);
+    }
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MIN_DELAY);
+    assertThat(controller.getExportBatchSize()).isEqualTo(110);
+  }
+
+  @Test
+  void quietTraffic_lengthensDelay() {
+    for (int i = 0; i < 20; i++) {
+      controller.recordExport(110, 1000, 1, true);
+    }
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MIN_DELAY);
+
+    controller.recordExport(1, 0, 1, true);
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MIN_DELAY + 100);
+    assertThat(controller.getExportBatchSize()).isEqualTo(110);
+
+    for (int i = 0; i < 20; i++) {
+      controller.recordExport(1, 0, 1, true);
+    }
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MAX_DELAY);
+  }
+
+  @Test
+  void failuresAndSlowExports_backOff() {
+    for (int i = 0; i < 20; i++) {
+      controller.recordExport(110, 1000, 1, true);
+    }
+
+    controller.recordExport(110, 1000, 1, false);
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(2 * MIN_DELAY);
+    assertThat(controller.getExportBatchSize()).isEqualTo(55);
+
+    controller.recordExport(55, 1000, LATENCY_THRESHOLD + 1, true);
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(4 * MIN_DELAY);
+    assertThat(controller.getExportBatchSize()).isEqualTo(27);
+
+    for (int i = 0; i < 10; i++) {
+      controller.recordExport(10, 1000, 1, false);
+    }
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MAX_DELAY);
+    assertThat(controller.getExportBatchSize()).isEqualTo(10);
+  }
+
+  @Test
+  void steadyTraffic_keepsSettings() {
+    controller.recordExport(60, 10, 1, true);
+    assertThat(controller.getScheduleDelayNanos()).isEqualTo(MAX_DELAY);
+    assertThat(controller.getExportBatchSize()).isEqualTo(110);
+  }
+}
@@ -6,9 +6,16 @@
 package io.opentelemetry.sdk.internal;
 
 import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class AttributesMapTest {
@@ -22,4 +29,55 @@ class AttributesMapTest {
     assertThat(attributesMap.asMap())
         .containsOnly(entry(longKey("one"), 1L), entry(longKey("two"), 2L));
   }
+
+  @Test
+  void lengthLimit_appliedOnRead() {
+    AttributeKey<String> stringKey = stringKey("string");
+    AttributeKey<List<String>> arrayKey = stringArrayKey("array");
+    AttributesMap attributesMap = AttributesMap.create(10, 3);
+    attributesMap.put(stringKey, "abcdef");
+    attributesMap.put(arrayKey, Arrays.asList("ab", "abcdef"));
+    attributesMap.put(longKey("long"), 123456L);
+
+    assertThat(attributesMap.get(stringKey)).isEqualTo("abc");
+    assertThat(attributesMap.immutableCopy())
+        .isEqualTo(
+            Attributes.builder()
+                .put(stringKey, "abc")
+                .put(arrayKey, Arrays.asList("ab", "abc"))
+                .put(longKey("long"), 123456L)
+                .build());
+  }
+
+  @Test
+  void lengthLimit_appliedOnMapRead() {
+    AttributesMap truncated = AttributesMap.create(10, 3);
+    truncated.put(stringKey("string"), "abc");
+
+    assertThat(((Map<?, ?>) oversized()).get(stringKey("string"))).isEqualTo("abc");
+    assertThat(oversized().getOrDefault(stringKey("string"), null)).isEqualTo("abc");
+    assertThat(oversized().containsValue("abc")).isTrue();
+    assertThat(oversized().values()).containsExactly("abc");
+    assertThat(oversized().entrySet()).extracting(Map.Entry::getValue).containsExactly("abc");
+    assertThat(oversized().equals(truncated)).isTrue();
+    assertThat(oversized().hashCode()).isEqualTo(truncated.hashCode());
+  }
+
+  private static AttributesMap oversized() {
+    AttributesMap attributesMap = AttributesMap.create(10, 3);
+    attributesMap.put(stringKey("string"), "abcdef");
+    return attributesMap;
+  }
+
+  @Test
+  void applyLengthLimit() {
+    AttributeKey<String> key = stringKey("string");
+    AttributesMap attributesMap = AttributesMap.create(10, 3);
+    attributesMap.put(key, "abcdef");
+
+    attributesMap.applyLengthLimit();
+
+    assertThat(((Map<?, ?>) attributesMap).get(key)).isEqualTo("abc");
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(1);
+  }
 }
@@ -14,10 +14,14 @@ dependencies {
   api(project(":sdk:common"))
 
   implementation(project(":api:events"))
+  compileOnly(project(":extensions:incubator"))
 
   annotationProcessor("com.google.auto.value:auto-value")
 
+  testImplementation(project(":extensions:incubator"))
   testImplementation(project(":sdk:testing"))
 
   testImplementation("org.awaitility:awaitility")
+
+  jmh(project(":extensions:incubator"))
 }
@@ -7,7 +7,11 @@ package io.opentelemetry.sdk.logs;
 
 import static java.util.stream.Collectors.joining;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.extension.incubator.logs.ExtendedLogger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -19,6 +23,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -45,6 +50,34 @@ public class LogsBenchmarks {
                 })
             .build();
 
+    private final ExtendedLogger infoLogger =
+        (ExtendedLogger)
+            SdkLoggerProvider.builder()
+                .addLogRecordProcessor(
+                    (context, logRecord) -> {
+                      // Do nothing
+                    })
+                .setLogLevelRules(
+                    LogLevelRules.builder().setMinimumSeverity("*", Severity.INFO).build())
+                .build()
+                .get("benchmark");
+
+    // A library whose debug logs are discarded by a log level rule, and one disabled by a rule.
+    private final SdkLoggerProvider rulesSdk =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                (context, logRecord) -> {
+                  // Do nothing
+                })
+            .setLogLevelRules(
+                LogLevelRules.builder()
+                    .setMinimumSeverity("com.noisy.*", Severity.WARN)
+                    .setEnabled("com.silent.*", false)
+                    .build())
+            .build();
+    private final Logger noisyLogger = rulesSdk.get("com.noisy.library");
+    private final Logger silentLogger = rulesSdk.get("com.silent.library");
+
     private List<String> loggerNames;
 
     @Setup
@@ -60,6 +93,32 @@ public class LogsBenchmarks {
     }
   }
 
+  @State(Scope.Benchmark)
+  public static class AttributesState {
+
+    @Param({"0", "5", "20"})
+    private int attributeCount;
+
+    // Reads every log record the way a batch processor does, so the cost of the attributes is
+    // included.
+    private final Logger logger =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor((context, logRecord) -> logRecord.toLogRecordData())
+            .build()
+            .get("benchmark");
+
+    private AttributeKey<String>[] keys;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+      keys = new AttributeKey[attributeCount];
+      for (int i = 0; i < attributeCount; i++) {
+        keys[i] = AttributeKey.stringKey("key" + i);
+      }
+    }
+  }
+
   /**
    * Simulates the behavior of a log appender implementation, which has to bridge logs from logging
    * frameworks (Log4j, Logback, etc). The name of the logger being bridged is used as the
@@ -78,4 +137,66 @@ public class LogsBenchmarks {
         .setSeverity(Severity.DEBUG)
         .emit();
   }
+
+  /** A log appender bridging a log below the minimum severity, without checking it first. */
+  @Benchmark
+  @Threads(1)
+  public void emitDisabledLog(BenchmarkState benchmarkState) {
+    benchmarkState
+        .infoLogger
+        .logRecordBuilder()
+        .setBody("log message body")
+        .setSeverity(Severity.DEBUG)
+        .emit();
+  }
+
+  /** A log appender bridging a log below the minimum severity, skipping it after checking. */
+  @Benchmark
+  @Threads(1)
+  public void emitDisabledLogIfEnabled(BenchmarkState benchmarkState) {
+    ExtendedLogger logger = benchmarkState.infoLogger;
+    if (logger.isEnabled(Severity.DEBUG)) {
+      logger.logRecordBuilder().setBody("log message body").setSeverity(Severity.DEBUG).emit();
+    }
+  }
+
+  /** A log appender bridging a log below the minimum severity of a log level rule. */
+  @Benchmark
+  @Threads(1)
+  public void emitLogDiscardedByRule(BenchmarkState benchmarkState) {
+    benchmarkState
+        .noisyLogger
+        .logRecordBuilder()
+        .setBody("log message body")
+        .setSeverity(Severity.DEBUG)
+        .emit();
+  }
+
+  /** A log appender bridging a log of a scope disabled by a log level rule. */
+  @Benchmark
+  @Threads(1)
+  public void emitLogDisabledByRule(BenchmarkState benchmarkState) {
+    benchmarkState
+        .silentLogger
+        .logRecordBuilder()
+        .setBody("log message body")
+        .setSeverity(Severity.DEBUG)
+        .emit();
+  }
+
+  /** A log appender bridging a log with attributes, such as the MDC of the logging framework. */
+  @Benchmark
+  @Threads(1)
+  public void emitLogWithAttributes(AttributesState attributesState) {
+    LogRecordBuilder builder =
+        attributesState
+            .logger
+            .logRecordBuilder()
+            .setBody("log message body")
+            .setSeverity(Severity.INFO);
+    for (AttributeKey<String> key : attributesState.keys) {
+      builder.setAttribute(key, "value");
+    }
+    builder.emit();
+  }
 }
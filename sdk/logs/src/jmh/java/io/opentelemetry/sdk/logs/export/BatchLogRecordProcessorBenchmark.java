@@ -0,0 +1,211 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.export;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/*
+ * Compares BatchLogRecordProcessor with and without the ring buffer. Run with "-prof gc" to compare
+ * the allocation rate per log record. The exporter reads every field of the log records like a
+ * serializing exporter would, and the aux counter reports the number of exported log records, which
+ * is lower than the number of operations if log records were dropped.
+ */
+public class BatchLogRecordProcessorBenchmark {
+
+  private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+  private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+  private static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.status_code");
+  // 1000 log records every millisecond, 1M log records per second.
+  private static final int RECORDS_PER_MILLI = 1000;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"false", "true"})
+    private boolean ringBuffer;
+
+    private FieldReadingLogRecordExporter exporter;
+    private BatchLogRecordProcessor processor;
+    private Logger logger;
+    private int threads;
+    private long exportedLogs;
+
+    @Setup(Level.Iteration)
+    public final void setup(BenchmarkParams params) {
+      threads = params.getThreads();
+      exporter = new FieldReadingLogRecordExporter();
+      processor =
+          BatchLogRecordProcessor.builder(exporter)
+              .setMaxQueueSize(16_384)
+              .setMaxExportBatchSize(512)
+              .setScheduleDelay(100, TimeUnit.MILLISECONDS)
+              .setRingBuffer(ringBuffer)
+              .build();
+      logger =
+          SdkLoggerProvider.builder()
+              .addLogRecordProcessor(processor)
+              .build()
+              .get("benchmarkLogger");
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      processor.shutdown().join(10, TimeUnit.SECONDS);
+      exportedLogs = exporter.exportedLogs.get();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ThreadState {
+    BenchmarkState benchmarkState;
+    long nextBatchNanos;
+
+    @Setup(Level.Iteration)
+    public final void setup() {
+      nextBatchNanos = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public final void recordMetrics(BenchmarkState benchmarkState) {
+      this.benchmarkState = benchmarkState;
+    }
+
+    // Reported by every thread, so that the sum over all threads is the exported log records.
+    public long exportedLogs() {
+      return benchmarkState.exportedLogs / benchmarkState.threads;
+    }
+  }
+
+  private static void emitLog(BenchmarkState benchmarkState) {
+    benchmarkState
+        .logger
+        .logRecordBuilder()
+        .setSeverity(Severity.INFO)
+        .setBody("request handled")
+        .setAttribute(HTTP_METHOD, "GET")
+        .setAttribute(HTTP_ROUTE, "/api/users/{id}")
+        .setAttribute(HTTP_STATUS, 200L)
+        .emit();
+  }
+
+  /** Emits log records as fast as a single thread can. */
+  @Benchmark
+  @Fork(1)
+  @Threads(1)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void emit_01Thread(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
+    emitLog(benchmarkState);
+  }
+
+  /** Emits log records as fast as four threads can. */
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void emit_04Threads(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
+    emitLog(benchmarkState);
+  }
+
+  /**
+   * Emits a steady 1M log records per second from a single thread, in bursts of {@value
+   * RECORDS_PER_MILLI} log records every millisecond, to compare the allocation rate and the
+   * dropped log records at that rate.
+   */
+  @Benchmark
+  @Fork(1)
+  @Threads(1)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(RECORDS_PER_MILLI)
+  public void emit_1MPerSecond(BenchmarkState benchmarkState, ThreadState threadState) {
+    for (int i = 0; i < RECORDS_PER_MILLI; i++) {
+      emitLog(benchmarkState);
+    }
+    threadState.nextBatchNanos += TimeUnit.MILLISECONDS.toNanos(1);
+    long waitNanos = threadState.nextBatchNanos - System.nanoTime();
+    if (waitNanos > 0) {
+      LockSupport.parkNanos(waitNanos);
+    }
+  }
+
+  private static final class FieldReadingLogRecordExporter implements LogRecordExporter {
+
+    private final AtomicLong exportedLogs = new AtomicLong();
+    // Sum of the read values, so that reading the fields can't be optimized away.
+    private long checksum;
+    private final BiConsumer<AttributeKey<?>, Object> attributeReader =
+        (key, value) -> checksum += key.getKey().length();
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      for (LogRecordData log : logs) {
+        checksum += log.getTimestampEpochNanos();
+        checksum += log.getObservedTimestampEpochNanos();
+        checksum += log.getSeverity().getSeverityNumber();
+        checksum += log.getBody().asString().length();
+        checksum += log.getSpanContext().getTraceId().length();
+        checksum += log.getInstrumentationScopeInfo().getName().length();
+        checksum += log.getResource().getAttributes().size();
+        log.getAttributes().forEach(attributeReader);
+        checksum += log.getTotalAttributeCount();
+      }
+      exportedLogs.addAndGet(logs.size());
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public String toString() {
+      return "FieldReadingLogRecordExporter{checksum=" + checksum + '}';
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.events.EventEmitter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link EventEmitter#emit(String, Attributes)} for the calling thread, with
+ * events emitted synchronously or buffered and emitted in batches by a worker thread. Log records
+ * are converted to log record data, as a batch processor would. When the worker can't keep up with
+ * the emitting threads, events are dropped and only the cost of the attempt is measured.
+ */
+@State(Scope.Benchmark)
+public class EventEmitterBenchmark {
+
+  private static final Attributes ATTRIBUTES =
+      Attributes.of(
+          AttributeKey.stringKey("page"), "/checkout", AttributeKey.longKey("durationMs"), 42L);
+
+  @Param({"false", "true"})
+  private boolean async;
+
+  private SdkEventEmitterProvider eventEmitterProvider;
+  private EventEmitter eventEmitter;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor((context, logRecord) -> logRecord.toLogRecordData())
+            .build();
+    eventEmitterProvider =
+        async
+            ? SdkEventEmitterProvider.createAsync(
+                loggerProvider,
+                Clock.getDefault(),
+                MeterProvider.noop(),
+                8192,
+                Duration.ofMillis(10))
+            : SdkEventEmitterProvider.create(loggerProvider);
+    eventEmitter =
+        eventEmitterProvider.eventEmitterBuilder("benchmark").setEventDomain("browser").build();
+  }
+
+  @TearDown(Level.Trial)
+  public final void tearDown() {
+    eventEmitterProvider.shutdown();
+  }
+
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void emit() {
+    eventEmitter.emit("page_view", ATTRIBUTES);
+  }
+}
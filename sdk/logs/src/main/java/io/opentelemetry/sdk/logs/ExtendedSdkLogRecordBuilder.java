@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.extension.incubator.logs.AnyValue;
+import io.opentelemetry.extension.incubator.logs.ExtendedLogRecordBuilder;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.internal.AnyValueBody;
+
+/**
+ * {@link SdkLogRecordBuilder} implementing {@link ExtendedLogRecordBuilder}, only used if the API
+ * incubator is on the classpath.
+ */
+final class ExtendedSdkLogRecordBuilder extends SdkLogRecordBuilder
+    implements ExtendedLogRecordBuilder {
+
+  ExtendedSdkLogRecordBuilder(
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      Severity minimumSeverity) {
+    super(loggerSharedState, instrumentationScopeInfo, minimumSeverity);
+  }
+
+  @Override
+  public ExtendedSdkLogRecordBuilder setBody(AnyValue<?> body) {
+    setBody(AnyValueBody.create(body));
+    return this;
+  }
+}
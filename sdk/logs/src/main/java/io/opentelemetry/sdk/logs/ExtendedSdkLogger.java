@@ -0,0 +1,23 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.extension.incubator.logs.ExtendedLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+
+/**
+ * {@link SdkLogger} implementing {@link ExtendedLogger}, only used if the API incubator is on the
+ * classpath. The severity check is inherited from {@link SdkLogger}.
+ */
+final class ExtendedSdkLogger extends SdkLogger implements ExtendedLogger {
+
+  ExtendedSdkLogger(
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      LoggerConfig config) {
+    super(loggerSharedState, instrumentationScopeInfo, config);
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+
+/**
+ * Creates the SDK implementations of the API incubator interfaces. Kept apart from {@link
+ * SdkLogger} so that the incubator classes are only loaded if the incubator is on the classpath.
+ */
+final class IncubatingUtil {
+
+  static SdkLogger createExtendedLogger(
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      LoggerConfig config) {
+    return new ExtendedSdkLogger(loggerSharedState, instrumentationScopeInfo, config);
+  }
+
+  static SdkLogRecordBuilder createExtendedLogRecordBuilder(
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      Severity minimumSeverity) {
+    return new ExtendedSdkLogRecordBuilder(
+        loggerSharedState, instrumentationScopeInfo, minimumSeverity);
+  }
+
+  private IncubatingUtil() {}
+}
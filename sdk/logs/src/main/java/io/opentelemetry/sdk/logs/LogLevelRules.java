@@ -0,0 +1,180 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.logs.Severity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Rules configuring the log level of {@link io.opentelemetry.api.logs.Logger}s by the name of their
+ * instrumentation scope. Each rule applies to a scope pattern, which is either the name of a scope
+ * or a prefix of names followed by {@code *}, such as {@code com.example.*}. A rule can set the
+ * minimum {@link Severity} of the log records to process, and whether log records are processed at
+ * all. The rule of the empty prefix {@code *} applies to all scopes, and scopes without any
+ * matching rule process log records of all severities.
+ *
+ * <p>When several patterns match the name of a scope, each setting is taken from the most specific
+ * pattern which sets it. A name is more specific than a prefix of the same length, and a longer
+ * prefix is more specific than a shorter one.
+ *
+ * <p>Rules are evaluated when a logger is created, and again for all loggers when the rules of an
+ * {@link SdkLoggerProvider} are replaced with {@link SdkLoggerProvider#setLogLevelRules}.
+ *
+ * @since 1.30.0
+ */
+@Immutable
+public final class LogLevelRules {
+
+  private static final LogLevelRules EMPTY = new LogLevelRules(Collections.emptyMap());
+
+  // In the order the patterns were added.
+  private final Map<String, Rule> rulesByPattern;
+  // Most specific first.
+  private final Rule[] rules;
+
+  /** Returns {@link LogLevelRules} without any rule. */
+  public static LogLevelRules empty() {
+    return EMPTY;
+  }
+
+  /** Returns a new {@link LogLevelRulesBuilder} without any rule. */
+  public static LogLevelRulesBuilder builder() {
+    return new LogLevelRulesBuilder(Collections.emptyMap());
+  }
+
+  LogLevelRules(Map<String, Rule> rulesByPattern) {
+    this.rulesByPattern = Collections.unmodifiableMap(new LinkedHashMap<>(rulesByPattern));
+    List<Rule> sorted = new ArrayList<>(rulesByPattern.values());
+    sorted.sort(
+        (a, b) -> {
+          if (a.prefix.length() != b.prefix.length()) {
+            return Integer.compare(b.prefix.length(), a.prefix.length());
+          }
+          return Boolean.compare(a.isPrefix, b.isPrefix);
+        });
+    this.rules = sorted.toArray(new Rule[0]);
+  }
+
+  /** Returns a new {@link LogLevelRulesBuilder} initialized with the rules of this instance. */
+  public LogLevelRulesBuilder toBuilder() {
+    return new LogLevelRulesBuilder(rulesByPattern);
+  }
+
+  /**
+   * Returns whether log records of the scope named {@code scopeName} are processed according to
+   * these rules, which is {@code true} if no matching rule sets it.
+   */
+  boolean isEnabled(String scopeName) {
+    for (Rule rule : rules) {
+      if (rule.enabled != null && rule.matches(scopeName)) {
+        return rule.enabled;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the minimum severity of log records of the scope named {@code scopeName} according to
+   * these rules, or {@code defaultSeverity} if no matching rule sets it.
+   */
+  Severity getMinimumSeverity(String scopeName, Severity defaultSeverity) {
+    for (Rule rule : rules) {
+      if (rule.minimumSeverity != null && rule.matches(scopeName)) {
+        return rule.minimumSeverity;
+      }
+    }
+    return defaultSeverity;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LogLevelRules)) {
+      return false;
+    }
+    return rulesByPattern.equals(((LogLevelRules) o).rulesByPattern);
+  }
+
+  @Override
+  public int hashCode() {
+    return rulesByPattern.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "LogLevelRules{" + rulesByPattern.values() + '}';
+  }
+
+  /** The settings of a scope pattern. Settings which are {@code null} are not set by the rule. */
+  @Immutable
+  static final class Rule {
+    private final String pattern;
+    private final String prefix;
+    private final boolean isPrefix;
+    @Nullable private final Boolean enabled;
+    @Nullable private final Severity minimumSeverity;
+
+    Rule(String pattern, @Nullable Boolean enabled, @Nullable Severity minimumSeverity) {
+      this.pattern = pattern;
+      this.isPrefix = pattern.endsWith("*");
+      this.prefix = isPrefix ? pattern.substring(0, pattern.length() - 1) : pattern;
+      this.enabled = enabled;
+      this.minimumSeverity = minimumSeverity;
+    }
+
+    Rule withEnabled(boolean enabled) {
+      return new Rule(pattern, enabled, minimumSeverity);
+    }
+
+    Rule withMinimumSeverity(Severity minimumSeverity) {
+      return new Rule(pattern, enabled, minimumSeverity);
+    }
+
+    private boolean matches(String scopeName) {
+      return isPrefix ? scopeName.startsWith(prefix) : scopeName.equals(prefix);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Rule)) {
+        return false;
+      }
+      Rule that = (Rule) o;
+      return pattern.equals(that.pattern)
+          && Objects.equals(enabled, that.enabled)
+          && minimumSeverity == that.minimumSeverity;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(pattern, enabled, minimumSeverity);
+    }
+
+    @Override
+    public String toString() {
+      return "Rule{"
+          + "pattern="
+          + pattern
+          + ", enabled="
+          + enabled
+          + ", minimumSeverity="
+          + minimumSeverity
+          + '}';
+    }
+  }
+}
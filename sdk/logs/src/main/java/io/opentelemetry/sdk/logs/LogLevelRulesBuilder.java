@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.logs.Severity;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builder for {@link LogLevelRules}.
+ *
+ * @since 1.30.0
+ */
+public final class LogLevelRulesBuilder {
+
+  private final Map<String, LogLevelRules.Rule> rulesByPattern;
+
+  LogLevelRulesBuilder(Map<String, LogLevelRules.Rule> rulesByPattern) {
+    this.rulesByPattern = new LinkedHashMap<>(rulesByPattern);
+  }
+
+  /**
+   * Sets the minimum {@link Severity} of log records to process for the scopes matching {@code
+   * scopePattern}. Log records with a lower severity are discarded when emitted. Log records
+   * without a severity are always processed.
+   *
+   * @param scopePattern the name of a scope, or a prefix of scope names followed by {@code *}
+   * @param minimumSeverity the minimum severity of log records to process
+   * @return this
+   */
+  public LogLevelRulesBuilder setMinimumSeverity(String scopePattern, Severity minimumSeverity) {
+    requireNonNull(minimumSeverity, "minimumSeverity");
+    rulesByPattern.put(scopePattern, ruleFor(scopePattern).withMinimumSeverity(minimumSeverity));
+    return this;
+  }
+
+  /**
+   * Sets whether log records of the scopes matching {@code scopePattern} are processed. A disabled
+   * scope is disabled even if a more specific pattern sets a minimum severity for it.
+   *
+   * @param scopePattern the name of a scope, or a prefix of scope names followed by {@code *}
+   * @param enabled whether log records are processed
+   * @return this
+   */
+  public LogLevelRulesBuilder setEnabled(String scopePattern, boolean enabled) {
+    rulesByPattern.put(scopePattern, ruleFor(scopePattern).withEnabled(enabled));
+    return this;
+  }
+
+  /**
+   * Removes the rule of {@code scopePattern}, so that the scopes matching it are configured by less
+   * specific patterns again.
+   *
+   * @param scopePattern the pattern of the rule to remove
+   * @return this
+   */
+  public LogLevelRulesBuilder removeRule(String scopePattern) {
+    requireNonNull(scopePattern, "scopePattern");
+    rulesByPattern.remove(scopePattern);
+    return this;
+  }
+
+  private LogLevelRules.Rule ruleFor(String scopePattern) {
+    requireNonNull(scopePattern, "scopePattern");
+    int wildcard = scopePattern.indexOf('*');
+    checkArgument(
+        wildcard == -1 || wildcard == scopePattern.length() - 1,
+        "scopePattern may only contain '*' at its end.");
+    LogLevelRules.Rule rule = rulesByPattern.get(scopePattern);
+    return rule != null ? rule : new LogLevelRules.Rule(scopePattern, null, null);
+  }
+
+  /** Returns {@link LogLevelRules} with the rules of this builder. */
+  public LogLevelRules build() {
+    return new LogLevelRules(rulesByPattern);
+  }
+}
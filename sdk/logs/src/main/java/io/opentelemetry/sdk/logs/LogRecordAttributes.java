@@ -0,0 +1,190 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.sdk.internal.AttributeUtil;
+import io.opentelemetry.sdk.internal.AttributesMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * The attributes of a log record, stored in parallel arrays of keys and values, which applies the
+ * {@link LogLimits} like {@link AttributesMap} does. Log records have few attributes and are almost
+ * always built and emitted by a single thread, so a linear scan for existing keys is cheaper than
+ * the hash map, and the arrays grow on demand up to the maximum number of attributes.
+ *
+ * <p>Values exceeding the length limit are stored as is and truncated whenever they are read,
+ * instead of in place, so reading never modifies an instance. This class is not thread-safe, but
+ * once an instance is no longer modified it can be read by any number of threads without locking.
+ */
+final class LogRecordAttributes implements Attributes {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private final int capacity;
+  private final int lengthLimit;
+  private AttributeKey<?>[] keys;
+  private Object[] values;
+  private int size;
+  private int totalAddedValues;
+
+  private LogRecordAttributes(int capacity, int lengthLimit, int arrayLength) {
+    this.capacity = capacity;
+    this.lengthLimit = lengthLimit;
+    this.keys = new AttributeKey<?>[arrayLength];
+    this.values = new Object[arrayLength];
+  }
+
+  /** Returns empty attributes applying the attribute limits of {@code logLimits}. */
+  static LogRecordAttributes create(LogLimits logLimits) {
+    int capacity = logLimits.getMaxNumberOfAttributes();
+    return new LogRecordAttributes(
+        capacity, logLimits.getMaxAttributeValueLength(), Math.min(INITIAL_CAPACITY, capacity));
+  }
+
+  /** Returns a copy of these attributes, which can be modified independently. */
+  LogRecordAttributes copy() {
+    LogRecordAttributes copy =
+        new LogRecordAttributes(capacity, lengthLimit, Math.min(size + 1, capacity));
+    System.arraycopy(keys, 0, copy.keys, 0, size);
+    System.arraycopy(values, 0, copy.values, 0, size);
+    copy.size = size;
+    copy.totalAddedValues = totalAddedValues;
+    return copy;
+  }
+
+  /** Add the attribute key value pair, applying the capacity limit. */
+  <T> void put(AttributeKey<T> key, T value) {
+    totalAddedValues++;
+    for (int i = 0; i < size; i++) {
+      if (keys[i].equals(key)) {
+        values[i] = value;
+        return;
+      }
+    }
+    if (size >= capacity) {
+      return;
+    }
+    if (size == keys.length) {
+      int arrayLength = (int) Math.min(size * 2L, capacity);
+      keys = Arrays.copyOf(keys, arrayLength);
+      values = Arrays.copyOf(values, arrayLength);
+    }
+    keys[size] = key;
+    values[size] = value;
+    size++;
+  }
+
+  /** Get the total number of attributes added, including those dropped for capacity limits. */
+  int getTotalAddedValues() {
+    return totalAddedValues;
+  }
+
+  /** Create an immutable copy of these attributes, with the length limit applied. */
+  Attributes immutableCopy() {
+    if (size == 0) {
+      return Attributes.empty();
+    }
+    return Attributes.builder().putAll(this).build();
+  }
+
+  private Object limitLength(Object value) {
+    if (lengthLimit == Integer.MAX_VALUE || AttributeUtil.isValidLength(value, lengthLimit)) {
+      return value;
+    }
+    return AttributeUtil.applyAttributeLengthLimit(value, lengthLimit);
+  }
+
+  @Nullable
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(AttributeKey<T> key) {
+    for (int i = 0; i < size; i++) {
+      if (keys[i].equals(key)) {
+        return (T) limitLength(values[i]);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> consumer) {
+    for (int i = 0; i < size; i++) {
+      consumer.accept(keys[i], limitLength(values[i]));
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Map<AttributeKey<?>, Object> asMap() {
+    Map<AttributeKey<?>, Object> map = new LinkedHashMap<>();
+    forEach(map::put);
+    return Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  public AttributesBuilder toBuilder() {
+    return Attributes.builder().putAll(this);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LogRecordAttributes)) {
+      return false;
+    }
+    LogRecordAttributes that = (LogRecordAttributes) o;
+    if (size != that.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!limitLength(values[i]).equals(that.get(keys[i]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Consistent with the hash code of asMap(), which is independent of the order of the attributes.
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (int i = 0; i < size; i++) {
+      result += keys[i].hashCode() ^ limitLength(values[i]).hashCode();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "LogRecordAttributes{"
+        + "data="
+        + asMap()
+        + ", capacity="
+        + capacity
+        + ", totalAddedValues="
+        + totalAddedValues
+        + '}';
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import io.opentelemetry.api.logs.Severity;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The configuration of a {@link SdkLogger}, computed from the {@link LogLevelRules} of its {@link
+ * SdkLoggerProvider} when the logger is created and each time the rules are replaced.
+ */
+@Immutable
+final class LoggerConfig {
+
+  private final boolean enabled;
+  private final Severity minimumSeverity;
+  private final LogLevelRules logLevelRules;
+
+  LoggerConfig(boolean enabled, Severity minimumSeverity, LogLevelRules logLevelRules) {
+    this.enabled = enabled;
+    this.minimumSeverity = minimumSeverity;
+    this.logLevelRules = logLevelRules;
+  }
+
+  /** Returns whether the logger processes any log records. */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Returns the minimum severity of the log records the logger processes. */
+  Severity getMinimumSeverity() {
+    return minimumSeverity;
+  }
+
+  /** Returns the rules this configuration was computed from. */
+  LogLevelRules getLogLevelRules() {
+    return logLevelRules;
+  }
+}
@@ -11,32 +11,37 @@ import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
-import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.logs.data.Body;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
 /** SDK implementation of {@link LogRecordBuilder}. */
-final class SdkLogRecordBuilder implements LogRecordBuilder {
+class SdkLogRecordBuilder implements LogRecordBuilder {
 
   private final LoggerSharedState loggerSharedState;
   private final LogLimits logLimits;
 
   private final InstrumentationScopeInfo instrumentationScopeInfo;
+  private final Severity minimumSeverity;
   private long timestampEpochNanos;
   private long observedTimestampEpochNanos;
   @Nullable private Context context;
   private Severity severity = Severity.UNDEFINED_SEVERITY_NUMBER;
   @Nullable private String severityText;
   private Body body = Body.empty();
-  @Nullable private AttributesMap attributes;
+  @Nullable private LogRecordAttributes attributes;
+  // Whether the attributes were handed to an emitted log record, which must not see later changes.
+  private boolean attributesEmitted;
 
   SdkLogRecordBuilder(
-      LoggerSharedState loggerSharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      Severity minimumSeverity) {
     this.loggerSharedState = loggerSharedState;
     this.logLimits = loggerSharedState.getLogLimits();
     this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.minimumSeverity = minimumSeverity;
   }
 
   @Override
@@ -89,15 +94,20 @@ final class SdkLogRecordBuilder implements LogRecordBuilder {
     return this;
   }
 
+  void setBody(Body body) {
+    this.body = body;
+  }
+
   @Override
   public <T> SdkLogRecordBuilder setAttribute(AttributeKey<T> key, T value) {
     if (key == null || key.getKey().isEmpty() || value == null) {
       return this;
     }
     if (this.attributes == null) {
-      this.attributes =
-          AttributesMap.create(
-              logLimits.getMaxNumberOfAttributes(), logLimits.getMaxAttributeValueLength());
+      this.attributes = LogRecordAttributes.create(logLimits);
+    } else if (attributesEmitted) {
+      this.attributes = this.attributes.copy();
+      attributesEmitted = false;
     }
     this.attributes.put(key, value);
     return this;
@@ -105,10 +115,12 @@ final class SdkLogRecordBuilder implements LogRecordBuilder {
 
   @Override
   public void emit() {
-    if (loggerSharedState.hasBeenShutdown()) {
+    if (loggerSharedState.hasBeenShutdown()
+        || !SdkLogger.isSeverityEnabled(severity, minimumSeverity)) {
       return;
     }
     Context context = this.context == null ? Context.current() : this.context;
+    attributesEmitted = attributes != null;
     long observedTimestampEpochNanos =
         this.observedTimestampEpochNanos == 0
             ? this.loggerSharedState.getClock().now()
@@ -7,23 +7,92 @@ package io.opentelemetry.sdk.logs;
 
 import io.opentelemetry.api.logs.LogRecordBuilder;
 import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.LoggerProvider;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 
 /** SDK implementation of {@link Logger}. */
-final class SdkLogger implements Logger {
+class SdkLogger implements Logger {
+
+  private static final Logger NOOP_LOGGER = LoggerProvider.noop().get("noop");
+
+  private static final boolean INCUBATOR_AVAILABLE;
+
+  static {
+    boolean incubatorAvailable = false;
+    try {
+      Class.forName("io.opentelemetry.extension.incubator.logs.ExtendedLogger");
+      incubatorAvailable = true;
+    } catch (ClassNotFoundException e) {
+      // Not available
+    }
+    INCUBATOR_AVAILABLE = incubatorAvailable;
+  }
 
   private final LoggerSharedState loggerSharedState;
   private final InstrumentationScopeInfo instrumentationScopeInfo;
+  // Recomputed each time the log level rules of the provider are replaced.
+  private volatile LoggerConfig config;
 
   SdkLogger(
-      LoggerSharedState loggerSharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      LoggerConfig config) {
     this.loggerSharedState = loggerSharedState;
     this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.config = config;
+  }
+
+  /**
+   * Returns a new {@link SdkLogger}, which also implements the logger interfaces of the API
+   * incubator if it is on the classpath.
+   */
+  static SdkLogger create(
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      LoggerConfig config) {
+    return INCUBATOR_AVAILABLE
+        ? IncubatingUtil.createExtendedLogger(loggerSharedState, instrumentationScopeInfo, config)
+        : new SdkLogger(loggerSharedState, instrumentationScopeInfo, config);
   }
 
   @Override
   public LogRecordBuilder logRecordBuilder() {
-    return new SdkLogRecordBuilder(loggerSharedState, instrumentationScopeInfo);
+    LoggerConfig config = this.config;
+    if (!config.isEnabled()) {
+      return NOOP_LOGGER.logRecordBuilder();
+    }
+    return INCUBATOR_AVAILABLE
+        ? IncubatingUtil.createExtendedLogRecordBuilder(
+            loggerSharedState, instrumentationScopeInfo, config.getMinimumSeverity())
+        : new SdkLogRecordBuilder(
+            loggerSharedState, instrumentationScopeInfo, config.getMinimumSeverity());
+  }
+
+  /**
+   * Returns whether log records with {@code severity} would be processed, which {@link
+   * ExtendedSdkLogger} exposes through the API incubator.
+   */
+  public boolean isEnabled(Severity severity, Context context) {
+    LoggerConfig config = this.config;
+    return config.isEnabled()
+        && isSeverityEnabled(severity, config.getMinimumSeverity())
+        && !loggerSharedState.hasBeenShutdown();
+  }
+
+  /** Returns whether log records with {@code severity} are processed. */
+  static boolean isSeverityEnabled(Severity severity, Severity minimumSeverity) {
+    return severity == Severity.UNDEFINED_SEVERITY_NUMBER
+        || severity.getSeverityNumber() >= minimumSeverity.getSeverityNumber();
+  }
+
+  LoggerConfig getConfig() {
+    return config;
+  }
+
+  void setConfig(LoggerConfig config) {
+    this.config = config;
   }
 
   // VisibleForTesting
@@ -12,12 +12,17 @@ import javax.annotation.Nullable;
 
 final class SdkLoggerBuilder implements LoggerBuilder {
 
+  private final SdkLoggerProvider loggerProvider;
   private final ComponentRegistry<SdkLogger> registry;
   private final String instrumentationScopeName;
   @Nullable private String instrumentationScopeVersion;
   @Nullable private String schemaUrl;
 
-  SdkLoggerBuilder(ComponentRegistry<SdkLogger> registry, String instrumentationScopeName) {
+  SdkLoggerBuilder(
+      SdkLoggerProvider loggerProvider,
+      ComponentRegistry<SdkLogger> registry,
+      String instrumentationScopeName) {
+    this.loggerProvider = loggerProvider;
     this.registry = registry;
     this.instrumentationScopeName = instrumentationScopeName;
   }
@@ -36,7 +41,8 @@ final class SdkLoggerBuilder implements LoggerBuilder {
 
   @Override
   public SdkLogger build() {
-    return registry.get(
-        instrumentationScopeName, instrumentationScopeVersion, schemaUrl, Attributes.empty());
+    return loggerProvider.withCurrentConfig(
+        registry.get(
+            instrumentationScopeName, instrumentationScopeVersion, schemaUrl, Attributes.empty()));
   }
 }
@@ -5,12 +5,16 @@
 
 package io.opentelemetry.sdk.logs;
 
+import static java.util.Objects.requireNonNull;
+
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.api.logs.LoggerBuilder;
 import io.opentelemetry.api.logs.LoggerProvider;
+import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ComponentRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import java.io.Closeable;
@@ -34,6 +38,8 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
   private final LoggerSharedState sharedState;
   private final ComponentRegistry<SdkLogger> loggerComponentRegistry;
   private final boolean isNoopLogRecordProcessor;
+  private final Object logLevelRulesLock = new Object();
+  private volatile LogLevelRules logLevelRules;
 
   /**
    * Returns a new {@link SdkLoggerProviderBuilder} for {@link SdkLoggerProvider}.
@@ -48,20 +54,30 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
       Resource resource,
       Supplier<LogLimits> logLimitsSupplier,
       List<LogRecordProcessor> processors,
-      Clock clock) {
+      Clock clock,
+      LogLevelRules logLevelRules) {
     LogRecordProcessor logRecordProcessor = LogRecordProcessor.composite(processors);
     this.sharedState =
         new LoggerSharedState(resource, logLimitsSupplier, logRecordProcessor, clock);
+    this.isNoopLogRecordProcessor = logRecordProcessor instanceof NoopLogRecordProcessor;
+    this.logLevelRules = logLevelRules;
     this.loggerComponentRegistry =
         new ComponentRegistry<>(
-            instrumentationScopeInfo -> new SdkLogger(sharedState, instrumentationScopeInfo));
-    this.isNoopLogRecordProcessor = logRecordProcessor instanceof NoopLogRecordProcessor;
+            instrumentationScopeInfo ->
+                SdkLogger.create(
+                    sharedState,
+                    instrumentationScopeInfo,
+                    loggerConfig(instrumentationScopeInfo, this.logLevelRules)));
   }
 
   @Override
   public Logger get(String instrumentationScopeName) {
-    return loggerComponentRegistry.get(
-        instrumentationNameOrDefault(instrumentationScopeName), null, null, Attributes.empty());
+    return withCurrentConfig(
+        loggerComponentRegistry.get(
+            instrumentationNameOrDefault(instrumentationScopeName),
+            null,
+            null,
+            Attributes.empty()));
   }
 
   @Override
@@ -70,7 +86,7 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
       return LoggerProvider.noop().loggerBuilder(instrumentationScopeName);
     }
     return new SdkLoggerBuilder(
-        loggerComponentRegistry, instrumentationNameOrDefault(instrumentationScopeName));
+        this, loggerComponentRegistry, instrumentationNameOrDefault(instrumentationScopeName));
   }
 
   private static String instrumentationNameOrDefault(@Nullable String instrumentationScopeName) {
@@ -81,6 +97,57 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
     return instrumentationScopeName;
   }
 
+  /**
+   * Replace the {@link LogLevelRules} of this provider. The rules are applied to all loggers
+   * obtained from this provider, including the ones that were already created.
+   *
+   * @param logLevelRules the new log level rules
+   * @since 1.30.0
+   */
+  public void setLogLevelRules(LogLevelRules logLevelRules) {
+    requireNonNull(logLevelRules, "logLevelRules");
+    synchronized (logLevelRulesLock) {
+      this.logLevelRules = logLevelRules;
+      for (SdkLogger logger : loggerComponentRegistry.getComponents()) {
+        logger.setConfig(loggerConfig(logger.getInstrumentationScopeInfo(), logLevelRules));
+      }
+    }
+  }
+
+  /**
+   * Returns the current {@link LogLevelRules} of this provider.
+   *
+   * @since 1.30.0
+   */
+  public LogLevelRules getLogLevelRules() {
+    return logLevelRules;
+  }
+
+  /**
+   * Returns {@code logger} after making sure its configuration was computed from the current log
+   * level rules, which it may not be if it was created while the rules were being replaced.
+   */
+  SdkLogger withCurrentConfig(SdkLogger logger) {
+    if (logger.getConfig().getLogLevelRules() != logLevelRules) {
+      synchronized (logLevelRulesLock) {
+        LogLevelRules current = this.logLevelRules;
+        if (logger.getConfig().getLogLevelRules() != current) {
+          logger.setConfig(loggerConfig(logger.getInstrumentationScopeInfo(), current));
+        }
+      }
+    }
+    return logger;
+  }
+
+  private LoggerConfig loggerConfig(
+      InstrumentationScopeInfo instrumentationScopeInfo, LogLevelRules logLevelRules) {
+    String name = instrumentationScopeInfo.getName();
+    return new LoggerConfig(
+        !isNoopLogRecordProcessor && logLevelRules.isEnabled(name),
+        logLevelRules.getMinimumSeverity(name, Severity.UNDEFINED_SEVERITY_NUMBER),
+        logLevelRules);
+  }
+
   /**
    * Request the active log processor to process all logs that have not yet been processed.
    *
@@ -120,6 +187,8 @@ public final class SdkLoggerProvider implements LoggerProvider, Closeable {
         + sharedState.getLogLimits()
         + ", logRecordProcessor="
         + sharedState.getLogRecordProcessor()
+        + ", logLevelRules="
+        + logLevelRules
         + '}';
   }
 }
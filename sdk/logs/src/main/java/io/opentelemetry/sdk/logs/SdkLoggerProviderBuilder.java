@@ -9,6 +9,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.logs.LogRecordBuilder;
 import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
@@ -29,6 +30,7 @@ public final class SdkLoggerProviderBuilder {
   private Resource resource = Resource.getDefault();
   private Supplier<LogLimits> logLimitsSupplier = LogLimits::getDefault;
   private Clock clock = Clock.getDefault();
+  private LogLevelRules logLevelRules = LogLevelRules.empty();
 
   SdkLoggerProviderBuilder() {}
 
@@ -100,12 +102,38 @@ public final class SdkLoggerProviderBuilder {
     return this;
   }
 
+  /**
+   * Assign the {@link LogLevelRules} configuring the minimum {@link Severity} of the log records to
+   * process, and whether they are processed at all, by the name of the instrumentation scope. Log
+   * records with a lower severity, or of a disabled scope, are discarded when emitted, before they
+   * reach any {@link LogRecordProcessor}, and loggers report it through {@code
+   * ExtendedLogger#isEnabled(Severity, Context)} so log bridges can skip building them. Set a rule
+   * for the pattern {@code *} to configure all scopes. Rules are evaluated once for each {@link
+   * Logger} when it is created, and can be replaced at runtime with {@link
+   * SdkLoggerProvider#setLogLevelRules(LogLevelRules)}. By default, log records of all scopes and
+   * severities are processed.
+   *
+   * @param logLevelRules the log level rules
+   * @return this
+   * @since 1.30.0
+   */
+  public SdkLoggerProviderBuilder setLogLevelRules(LogLevelRules logLevelRules) {
+    requireNonNull(logLevelRules, "logLevelRules");
+    this.logLevelRules = logLevelRules;
+    return this;
+  }
+
   /**
    * Create a {@link SdkLoggerProvider} instance.
    *
    * @return an instance configured with the provided options
    */
   public SdkLoggerProvider build() {
-    return new SdkLoggerProvider(resource, logLimitsSupplier, logRecordProcessors, clock);
+    return new SdkLoggerProvider(
+        resource,
+        logLimitsSupplier,
+        logRecordProcessors,
+        clock,
+        logLevelRules);
   }
 }
@@ -11,15 +11,25 @@ import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
-import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.logs.data.Body;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.internal.MutableLogRecordData;
 import io.opentelemetry.sdk.resources.Resource;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+/**
+ * SDK implementation of {@link ReadWriteLogRecord}.
+ *
+ * <p>Log records are read far more often than processors add attributes to them, so reading takes
+ * no lock. The attributes which are read are never modified: {@link #setAttribute(AttributeKey,
+ * Object)} modifies a private copy in place under a lock, which is only copied again to be
+ * published when the attributes are next read, so adding many attributes in a row copies them
+ * once.
+ */
 @ThreadSafe
-class SdkReadWriteLogRecord implements ReadWriteLogRecord {
+class SdkReadWriteLogRecord implements ExtendedReadWriteLogRecord {
 
   private final LogLimits logLimits;
   private final Resource resource;
@@ -31,10 +41,15 @@ class SdkReadWriteLogRecord implements ReadWriteLogRecord {
   @Nullable private final String severityText;
   private final Body body;
   private final Object lock = new Object();
+  // The attributes which are read, only replaced while holding the lock.
+  @Nullable private volatile LogRecordAttributes attributes;
+
+  // Whether attributes were set since they were last published.
+  private volatile boolean attributesChanged;
 
   @GuardedBy("lock")
   @Nullable
-  private AttributesMap attributes;
+  private LogRecordAttributes changedAttributes;
 
   private SdkReadWriteLogRecord(
       LogLimits logLimits,
@@ -46,7 +61,7 @@ class SdkReadWriteLogRecord implements ReadWriteLogRecord {
       Severity severity,
       @Nullable String severityText,
       Body body,
-      @Nullable AttributesMap attributes) {
+      @Nullable LogRecordAttributes attributes) {
     this.logLimits = logLimits;
     this.resource = resource;
     this.instrumentationScopeInfo = instrumentationScopeInfo;
@@ -70,7 +85,7 @@ class SdkReadWriteLogRecord implements ReadWriteLogRecord {
       Severity severity,
       @Nullable String severityText,
       Body body,
-      @Nullable AttributesMap attributes) {
+      @Nullable LogRecordAttributes attributes) {
     return new SdkReadWriteLogRecord(
         logLimits,
         resource,
@@ -90,39 +105,87 @@ class SdkReadWriteLogRecord implements ReadWriteLogRecord {
       return this;
     }
     synchronized (lock) {
-      if (attributes == null) {
-        attributes =
-            AttributesMap.create(
-                logLimits.getMaxNumberOfAttributes(), logLimits.getMaxAttributeValueLength());
+      if (changedAttributes == null) {
+        LogRecordAttributes current = attributes;
+        changedAttributes =
+            current == null ? LogRecordAttributes.create(logLimits) : current.copy();
       }
-      attributes.put(key, value);
+      changedAttributes.put(key, value);
+      attributesChanged = true;
     }
     return this;
   }
 
-  private Attributes getImmutableAttributes() {
-    synchronized (lock) {
-      if (attributes == null || attributes.isEmpty()) {
-        return Attributes.empty();
+  // Publishes a copy of the attributes set since they were last read, however many were set.
+  @Nullable
+  private LogRecordAttributes readAttributes() {
+    if (attributesChanged) {
+      synchronized (lock) {
+        if (attributesChanged && changedAttributes != null) {
+          attributes = changedAttributes.copy();
+          attributesChanged = false;
+        }
       }
-      return attributes.immutableCopy();
     }
+    return attributes;
   }
 
   @Override
   public LogRecordData toLogRecordData() {
-    synchronized (lock) {
-      return SdkLogRecordData.create(
-          resource,
-          instrumentationScopeInfo,
-          timestampEpochNanos,
-          observedTimestampEpochNanos,
-          spanContext,
-          severity,
-          severityText,
-          body,
-          getImmutableAttributes(),
-          attributes == null ? 0 : attributes.getTotalAddedValues());
-    }
+    LogRecordAttributes attributes = readAttributes();
+    return SdkLogRecordData.create(
+        resource,
+        instrumentationScopeInfo,
+        timestampEpochNanos,
+        observedTimestampEpochNanos,
+        spanContext,
+        severity,
+        severityText,
+        body,
+        attributes == null ? Attributes.empty() : attributes.immutableCopy(),
+        attributes == null ? 0 : attributes.getTotalAddedValues());
+  }
+
+  @Override
+  public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+    return instrumentationScopeInfo;
+  }
+
+  @Override
+  public Severity getSeverity() {
+    return severity;
+  }
+
+  @Override
+  public Body getBody() {
+    return body;
+  }
+
+  @Override
+  public SpanContext getSpanContext() {
+    return spanContext;
+  }
+
+  @Nullable
+  @Override
+  public <T> T getAttribute(AttributeKey<T> key) {
+    LogRecordAttributes attributes = readAttributes();
+    return attributes == null ? null : attributes.get(key);
+  }
+
+  @Override
+  public void copyTo(MutableLogRecordData logRecordData) {
+    LogRecordAttributes attributes = readAttributes();
+    logRecordData.set(
+        resource,
+        instrumentationScopeInfo,
+        timestampEpochNanos,
+        observedTimestampEpochNanos,
+        spanContext,
+        severity,
+        severityText,
+        body,
+        attributes == null ? 0 : attributes.getTotalAddedValues());
+    logRecordData.setAttributes(attributes == null ? Attributes.empty() : attributes);
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.export;
+
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A {@link LogRecordQueue} holding the offered log records, which are converted with {@link
+ * ReadWriteLogRecord#toLogRecordData()} when they are drained.
+ */
+final class ArrayLogRecordQueue implements LogRecordQueue {
+
+  private final Queue<ReadWriteLogRecord> queue;
+
+  ArrayLogRecordQueue(int capacity) {
+    this.queue = new ArrayBlockingQueue<>(capacity); // TODO: use JcTools.newFixedSizeQueue(..)
+  }
+
+  @Override
+  public boolean offer(ReadWriteLogRecord logRecord) {
+    return queue.offer(logRecord);
+  }
+
+  @Override
+  public int size() {
+    return queue.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return queue.isEmpty();
+  }
+
+  @Override
+  public int drainTo(List<LogRecordData> batch, int maxRecords) {
+    int drained = 0;
+    while (drained < maxRecords) {
+      ReadWriteLogRecord logRecord = queue.poll();
+      if (logRecord == null) {
+        break;
+      }
+      batch.add(logRecord.toLogRecordData());
+      drained++;
+    }
+    return drained;
+  }
+
+  @Override
+  public void release() {}
+}
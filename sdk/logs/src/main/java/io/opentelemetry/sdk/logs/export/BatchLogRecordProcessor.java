@@ -12,6 +12,7 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.AdaptiveBatchController;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
@@ -19,7 +20,6 @@ import io.opentelemetry.sdk.logs.data.LogRecordData;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link LogRecordProcessor} that batches logs exported by the SDK then
@@ -38,6 +39,17 @@ import java.util.logging.Logger;
  * when there are {@code maxExportBatchSize} pending logs or {@code scheduleDelayNanos} has passed
  * since the last export finished.
  *
+ * <p>If adaptive batching is enabled with {@link
+ * BatchLogRecordProcessorBuilder#setAdaptiveBatching(long, TimeUnit, int)}, the schedule delay and
+ * the batch size are tuned after each export from the queue depth, export latency and export
+ * failures, between the configured minimums and {@code scheduleDelayNanos} and {@code
+ * maxExportBatchSize}.
+ *
+ * <p>If the ring buffer is enabled with {@link
+ * BatchLogRecordProcessorBuilder#setRingBuffer(boolean)}, the queue is made of preallocated slots
+ * which log records are copied into, and the slots are passed to the exporter without converting
+ * them to new {@link LogRecordData}.
+ *
  * @since 1.27.0
  */
 public final class BatchLogRecordProcessor implements LogRecordProcessor {
@@ -71,7 +83,9 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      @Nullable AdaptiveBatchController adaptiveBatchController,
+      boolean ringBuffer) {
     this.worker =
         new Worker(
             logRecordExporter,
@@ -79,7 +93,10 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
             scheduleDelayNanos,
             maxExportBatchSize,
             exporterTimeoutNanos,
-            new ArrayBlockingQueue<>(maxQueueSize)); // TODO: use JcTools.newFixedSizeQueue(..)
+            adaptiveBatchController,
+            ringBuffer
+                ? new LogRecordRingBuffer(maxQueueSize)
+                : new ArrayLogRecordQueue(maxQueueSize));
     Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     workerThread.start();
   }
@@ -139,10 +156,11 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    @Nullable private final AdaptiveBatchController adaptiveBatchController;
 
     private long nextExportTime;
 
-    private final Queue<ReadWriteLogRecord> queue;
+    private final LogRecordQueue queue;
     // When waiting on the logs queue, exporter thread sets this atomic to the number of more
     // logs it needs before doing an export. Writer threads would then wait for the queue to reach
     // logsNeeded size before notifying the exporter thread about new entries.
@@ -153,7 +171,9 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final BlockingQueue<Boolean> signal;
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
-    private final ArrayList<LogRecordData> batch;
+    private ArrayList<LogRecordData> batch;
+    // Whether an export which timed out still reads log records the queue reuses once released.
+    private volatile boolean awaitingRelease;
 
     private Worker(
         LogRecordExporter logRecordExporter,
@@ -161,11 +181,13 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        Queue<ReadWriteLogRecord> queue) {
+        @Nullable AdaptiveBatchController adaptiveBatchController,
+        LogRecordQueue queue) {
       this.logRecordExporter = logRecordExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.adaptiveBatchController = adaptiveBatchController;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
       Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
@@ -219,13 +241,23 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       updateNextExportTime();
 
       while (continueWork) {
+        if (awaitingRelease) {
+          try {
+            signal.poll(scheduleDelayNanos, TimeUnit.NANOSECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          continue;
+        }
         if (flushRequested.get() != null) {
           flush();
         }
-        while (!queue.isEmpty() && batch.size() < maxExportBatchSize) {
-          batch.add(queue.poll().toLogRecordData());
+        int exportBatchSize = exportBatchSize();
+        if (batch.size() < exportBatchSize) {
+          queue.drainTo(batch, exportBatchSize - batch.size());
         }
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (batch.size() >= exportBatchSize || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
           updateNextExportTime();
         }
@@ -233,7 +265,7 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
           try {
             long pollWaitTime = nextExportTime - System.nanoTime();
             if (pollWaitTime > 0) {
-              logsNeeded.set(maxExportBatchSize - batch.size());
+              logsNeeded.set(exportBatchSize() - batch.size());
               signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
               logsNeeded.set(Integer.MAX_VALUE);
             }
@@ -248,11 +280,22 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private void flush() {
       int logsToFlush = queue.size();
       while (logsToFlush > 0) {
-        ReadWriteLogRecord logRecord = queue.poll();
-        assert logRecord != null;
-        batch.add(logRecord.toLogRecordData());
-        logsToFlush--;
-        if (batch.size() >= maxExportBatchSize) {
+        if (awaitingRelease) {
+          // The flush continues once the exporter released the log records.
+          return;
+        }
+        int exportBatchSize = exportBatchSize();
+        if (batch.size() < exportBatchSize) {
+          int drained =
+              queue.drainTo(batch, Math.min(logsToFlush, exportBatchSize - batch.size()));
+          if (drained == 0) {
+            // The ring buffer counts a claimed slot before the log record is published. The record
+            // is exported with a later batch rather than spinning until it is published.
+            break;
+          }
+          logsToFlush -= drained;
+        }
+        if (batch.size() >= exportBatchSize) {
           exportCurrentBatch();
         }
       }
@@ -265,7 +308,17 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     }
 
     private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+      long delayNanos =
+          adaptiveBatchController == null
+              ? scheduleDelayNanos
+              : adaptiveBatchController.getScheduleDelayNanos();
+      nextExportTime = System.nanoTime() + delayNanos;
+    }
+
+    private int exportBatchSize() {
+      return adaptiveBatchController == null
+          ? maxExportBatchSize
+          : adaptiveBatchController.getExportBatchSize();
     }
 
     private CompletableResultCode shutdown() {
@@ -307,20 +360,50 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         return;
       }
 
+      long startNanos = System.nanoTime();
+      int batchSize = batch.size();
+      boolean success = false;
+      CompletableResultCode result = null;
       try {
-        CompletableResultCode result =
-            logRecordExporter.export(Collections.unmodifiableList(batch));
+        result = logRecordExporter.export(Collections.unmodifiableList(batch));
         result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
         if (result.isSuccess()) {
-          processedLogsCounter.add(batch.size(), exportedAttrs);
+          processedLogsCounter.add(batchSize, exportedAttrs);
+          success = true;
         } else {
           logger.log(Level.FINE, "Exporter failed");
         }
       } catch (RuntimeException e) {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
       } finally {
-        batch.clear();
+        if (adaptiveBatchController != null) {
+          adaptiveBatchController.recordExport(
+              batchSize, queue.size(), System.nanoTime() - startNanos, success);
+        }
+        if (result == null || result.isDone()) {
+          batch.clear();
+          queue.release();
+        } else {
+          releaseWhenComplete(result);
+        }
       }
     }
+
+    // The export timed out but the exporter may still read the batch, so it keeps the batch and the
+    // worker starts a new one. Queues which reuse the drained log records only release them once
+    // the export completed, and nothing is drained until then.
+    private void releaseWhenComplete(CompletableResultCode result) {
+      batch = new ArrayList<>(maxExportBatchSize);
+      if (!queue.reusesDrainedRecords()) {
+        return;
+      }
+      awaitingRelease = true;
+      result.whenComplete(
+          () -> {
+            queue.release();
+            awaitingRelease = false;
+            signal.offer(true);
+          });
+    }
   }
 }
@@ -9,8 +9,12 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.AdaptiveBatchController;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * Builder class for {@link BatchLogRecordProcessor}.
@@ -34,6 +38,10 @@ public final class BatchLogRecordProcessorBuilder {
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
+  private boolean adaptiveBatching;
+  private long minScheduleDelayNanos;
+  private int minExportBatchSize;
+  private boolean ringBuffer;
 
   BatchLogRecordProcessorBuilder(LogRecordExporter logRecordExporter) {
     this.logRecordExporter = requireNonNull(logRecordExporter, "logRecordExporter");
@@ -126,6 +134,76 @@ public final class BatchLogRecordProcessorBuilder {
     return this;
   }
 
+  /**
+   * Enables adaptive batching. After each export, the delay between exports and the number of logs
+   * that triggers an export are tuned from the queue depth, the export latency and export failures:
+   * the processor exports sooner and in larger batches while logs pile up in the queue, waits
+   * longer while traffic is quiet, and backs off with smaller batches while exports fail or take
+   * longer than half of the exporter timeout, unless it is 0.
+   *
+   * <p>The delay stays between {@code minScheduleDelay} and the schedule delay set with {@link
+   * #setScheduleDelay(long, TimeUnit)}, and the batch size stays between {@code
+   * minExportBatchSize} and the size set with {@link #setMaxExportBatchSize(int)}. Adaptive
+   * batching is disabled by default.
+   *
+   * @param minScheduleDelay the minimum delay interval between two consecutive exports.
+   * @param unit the unit of {@code minScheduleDelay}.
+   * @param minExportBatchSize the minimum number of logs that triggers an export.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchLogRecordProcessorBuilder setAdaptiveBatching(
+      long minScheduleDelay, TimeUnit unit, int minExportBatchSize) {
+    requireNonNull(unit, "unit");
+    checkArgument(minScheduleDelay >= 0, "minScheduleDelay must be non-negative");
+    checkArgument(minExportBatchSize > 0, "minExportBatchSize must be positive.");
+    this.adaptiveBatching = true;
+    this.minScheduleDelayNanos = unit.toNanos(minScheduleDelay);
+    this.minExportBatchSize = minExportBatchSize;
+    return this;
+  }
+
+  /**
+   * Enables adaptive batching. See {@link #setAdaptiveBatching(long, TimeUnit, int)} for details.
+   *
+   * @param minScheduleDelay the minimum delay interval between two consecutive exports.
+   * @param minExportBatchSize the minimum number of logs that triggers an export.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchLogRecordProcessorBuilder setAdaptiveBatching(
+      Duration minScheduleDelay, int minExportBatchSize) {
+    requireNonNull(minScheduleDelay, "minScheduleDelay");
+    return setAdaptiveBatching(
+        minScheduleDelay.toNanos(), TimeUnit.NANOSECONDS, minExportBatchSize);
+  }
+
+  /**
+   * Sets whether the queue is a ring buffer of preallocated slots. Log records emitted by the SDK
+   * are copied into the slots, which are passed to the exporter as they are instead of converting
+   * every log record to a new {@link LogRecordData}, so that the processor doesn't allocate per log
+   * record under sustained high log volume. The ring buffer is disabled by default.
+   *
+   * <p>The slots are reused once the export of their batch completed, so the exporter must not
+   * retain the {@link LogRecordData} it was passed, or read them after the returned {@link
+   * CompletableResultCode} completed. The OTLP exporters only read them while serializing the
+   * request. If an export times out, its log records keep counting against the maximum queue size
+   * and no further log records are exported until the export completed.
+   *
+   * @param ringBuffer whether to use a ring buffer as queue.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchLogRecordProcessorBuilder setRingBuffer(boolean ringBuffer) {
+    this.ringBuffer = ringBuffer;
+    return this;
+  }
+
+  // Visible for testing
+  boolean getRingBuffer() {
+    return ringBuffer;
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to batch export. If not set,
    * metrics will not be collected.
@@ -154,6 +232,23 @@ public final class BatchLogRecordProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        exporterTimeoutNanos,
+        createAdaptiveBatchController(),
+        ringBuffer);
+  }
+
+  // Visible for testing
+  @Nullable
+  AdaptiveBatchController createAdaptiveBatchController() {
+    if (!adaptiveBatching) {
+      return null;
+    }
+    return new AdaptiveBatchController(
+        minScheduleDelayNanos,
+        scheduleDelayNanos,
+        minExportBatchSize,
+        maxExportBatchSize,
+        // A timeout of 0 gives no latency threshold, rather than treating every export as slow.
+        exporterTimeoutNanos == 0 ? Long.MAX_VALUE : exporterTimeoutNanos / 2);
   }
 }
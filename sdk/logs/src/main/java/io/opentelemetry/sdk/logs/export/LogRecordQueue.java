@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.export;
+
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.List;
+
+/**
+ * The queue of {@link BatchLogRecordProcessor}, which many threads offer log records to and the
+ * worker thread drains into batches of {@link LogRecordData}.
+ */
+interface LogRecordQueue {
+
+  /** Adds the log record to the queue. Returns {@code false} if the queue is full. */
+  boolean offer(ReadWriteLogRecord logRecord);
+
+  /** Returns the number of log records which were offered but not drained yet. */
+  int size();
+
+  /** Returns whether there are no log records to drain. */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Moves at most {@code maxRecords} log records from the queue to {@code batch}, and returns the
+   * number of log records moved. Must only be called by the worker thread.
+   */
+  int drainTo(List<LogRecordData> batch, int maxRecords);
+
+  /**
+   * Notifies the queue that the log records drained so far were exported and are no longer read.
+   * Must not be called concurrently with {@link #drainTo(List, int)}.
+   */
+  void release();
+
+  /**
+   * Returns whether the drained log records are reused once they are released, in which case
+   * nothing may be drained until the log records of an export which timed out were released.
+   */
+  default boolean reusesDrainedRecords() {
+    return false;
+  }
+}
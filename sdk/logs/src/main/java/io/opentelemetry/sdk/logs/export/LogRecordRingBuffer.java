@@ -0,0 +1,125 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.export;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.internal.MutableLogRecordData;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link LogRecordQueue} made of preallocated {@link MutableLogRecordData} slots. Producers claim
+ * the next sequence number, copy the log record into the slot of that sequence and then publish it.
+ * The worker drains the slots themselves into the batch, and only releases them for reuse once the
+ * export of the batch completed, so once the slots have grown to fit the attributes of the log
+ * records nothing is allocated per log record.
+ *
+ * <p>Log records which aren't created by the SDK are converted with {@link
+ * ReadWriteLogRecord#toLogRecordData()} before being copied into a slot.
+ */
+final class LogRecordRingBuffer implements LogRecordQueue {
+
+  private final int capacity;
+  private final int mask;
+  private final MutableLogRecordData[] slots;
+  // The sequence number last published in each slot, -1 if none was.
+  private final AtomicLongArray published;
+  // The next sequence number to claim.
+  private final AtomicLong claimed = new AtomicLong();
+  // The next sequence number to drain, only written by the worker.
+  private volatile long consumed;
+  // All sequence numbers below this one were exported and their slots can be reused, only written
+  // by one thread at a time, after the worker stopped draining.
+  private volatile long released;
+
+  LogRecordRingBuffer(int capacity) {
+    checkArgument(capacity > 0, "maxQueueSize must be positive.");
+    this.capacity = capacity;
+    int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = length - 1;
+    this.slots = new MutableLogRecordData[length];
+    this.published = new AtomicLongArray(length);
+    for (int i = 0; i < length; i++) {
+      slots[i] = new MutableLogRecordData();
+      published.set(i, -1);
+    }
+  }
+
+  @Override
+  public boolean offer(ReadWriteLogRecord logRecord) {
+    LogRecordData logRecordData =
+        logRecord instanceof ExtendedReadWriteLogRecord ? null : logRecord.toLogRecordData();
+
+    long sequence;
+    do {
+      sequence = claimed.get();
+      if (sequence - released >= capacity) {
+        return false;
+      }
+    } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+    int index = (int) sequence & mask;
+    MutableLogRecordData slot = slots[index];
+    try {
+      if (logRecordData == null) {
+        ((ExtendedReadWriteLogRecord) logRecord).copyTo(slot);
+      } else {
+        slot.setAll(logRecordData);
+      }
+    } finally {
+      // Always published, the worker would otherwise wait for this slot forever.
+      published.lazySet(index, sequence);
+    }
+    return true;
+  }
+
+  @Override
+  public int size() {
+    return (int) (claimed.get() - consumed);
+  }
+
+  @Override
+  public int drainTo(List<LogRecordData> batch, int maxRecords) {
+    long next = consumed;
+    int drained = 0;
+    while (drained < maxRecords) {
+      int index = (int) next & mask;
+      // Stops at a slot which was claimed but is still being written.
+      if (published.get(index) != next) {
+        break;
+      }
+      batch.add(slots[index]);
+      next++;
+      drained++;
+    }
+    consumed = next;
+    return drained;
+  }
+
+  @Override
+  public void release() {
+    long next = consumed;
+    for (long sequence = released; sequence < next; sequence++) {
+      slots[(int) sequence & mask].clear();
+    }
+    released = next;
+  }
+
+  @Override
+  public boolean reusesDrainedRecords() {
+    return true;
+  }
+
+  // Visible for testing
+  int getSlotCount() {
+    return slots.length;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.extension.incubator.logs.AnyValue;
+import io.opentelemetry.sdk.logs.data.Body;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link Body} holding a structured {@link AnyValue}. Exporters which know this class encode the
+ * value as is. For all others it is a {@link Body.Type#STRING} body whose string is {@link
+ * AnyValue#asString()}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@Immutable
+public final class AnyValueBody implements Body {
+
+  private final AnyValue<?> value;
+
+  private AnyValueBody(AnyValue<?> value) {
+    this.value = value;
+  }
+
+  /** Returns a {@link Body} holding the given value. */
+  public static Body create(AnyValue<?> value) {
+    return new AnyValueBody(value);
+  }
+
+  /** Returns the structured value of this body. */
+  public AnyValue<?> asAnyValue() {
+    return value;
+  }
+
+  @Override
+  public String asString() {
+    return value.asString();
+  }
+
+  @Override
+  public Type getType() {
+    return Type.STRING;
+  }
+
+  @Override
+  public String toString() {
+    return "AnyValueBody{" + value.asString() + "}";
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) {
+      return true;
+    }
+    return (o instanceof AnyValueBody) && value.equals(((AnyValueBody) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Buffers emitted events per thread and emits them as log records in batches from a worker thread,
+ * so that emitting an event only costs writing it into a buffer owned by the emitting thread.
+ *
+ * <p>Each buffer has a single producer, its thread, and a single consumer, the worker or a thread
+ * flushing, so it needs no locking. The worker drains all buffers once per flush interval, and is
+ * woken up earlier when a buffer fills up quickly. Events emitted while the buffer of their thread
+ * is full are dropped.
+ */
+final class EventBatcher {
+
+  private static final String WORKER_THREAD_NAME =
+      EventBatcher.class.getSimpleName() + "_WorkerThread";
+  private static final Logger logger = Logger.getLogger(EventBatcher.class.getName());
+  private static final AttributeKey<Boolean> DROPPED_LABEL = AttributeKey.booleanKey("dropped");
+  private static final Attributes DROPPED_ATTRIBUTES = Attributes.of(DROPPED_LABEL, true);
+  private static final Attributes EMITTED_ATTRIBUTES = Attributes.of(DROPPED_LABEL, false);
+
+  private final int bufferSize;
+  private final long flushIntervalNanos;
+  private final LongCounter processedEventsCounter;
+  private final ConcurrentLinkedQueue<ThreadBuffer> buffers = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<ThreadBuffer> threadBuffer = new ThreadLocal<>();
+  // Makes sure each buffer has a single consumer.
+  private final Object drainLock = new Object();
+  @Nullable private final Thread workerThread;
+  private volatile boolean continueWork = true;
+
+  EventBatcher(
+      MeterProvider meterProvider, int bufferSize, long flushIntervalNanos, boolean startWorker) {
+    checkArgument(bufferSize > 0, "bufferSize must be positive.");
+    checkArgument(flushIntervalNanos > 0, "flushInterval must be positive.");
+    this.bufferSize = bufferSize;
+    this.flushIntervalNanos = flushIntervalNanos;
+    Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
+    processedEventsCounter =
+        meter
+            .counterBuilder("processedEvents")
+            .setUnit("1")
+            .setDescription(
+                "The number of events processed by the asynchronous EventEmitter. "
+                    + "[dropped=true if they were dropped due to high throughput]")
+            .build();
+    if (startWorker) {
+      workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(this::run);
+      workerThread.start();
+    } else {
+      workerThread = null;
+    }
+  }
+
+  /**
+   * Buffers the event with the {@link Context} it was emitted in, or drops it if the buffer of the
+   * current thread is full. Once shut down, the event is emitted immediately instead.
+   */
+  void add(
+      BufferedEventEmitter emitter,
+      long epochNanos,
+      Context context,
+      String eventName,
+      Attributes attributes) {
+    if (!continueWork) {
+      emitter.emitNow(epochNanos, context, eventName, attributes);
+      return;
+    }
+    ThreadBuffer buffer = threadBuffer.get();
+    if (buffer == null) {
+      buffer = new ThreadBuffer(Thread.currentThread(), bufferSize);
+      buffers.add(buffer);
+      threadBuffer.set(buffer);
+    }
+    if (!buffer.offer(emitter, epochNanos, context, eventName, attributes)) {
+      processedEventsCounter.add(1, DROPPED_ATTRIBUTES);
+    } else if (!continueWork) {
+      // Shut down while the event was written, so the final flush may have missed it. The write of
+      // tail precedes this read, so either the shutdown flush saw the event or we see the shutdown.
+      flush();
+    } else if (buffer.isHalfFull()) {
+      LockSupport.unpark(workerThread);
+    }
+  }
+
+  /** Emits all buffered events on the current thread. */
+  void flush() {
+    int emitted = 0;
+    synchronized (drainLock) {
+      for (Iterator<ThreadBuffer> it = buffers.iterator(); it.hasNext(); ) {
+        ThreadBuffer buffer = it.next();
+        emitted += buffer.drain();
+        if (buffer.isAbandoned()) {
+          // The thread ended, and the buffer was drained, after which it can't be written again.
+          it.remove();
+        }
+      }
+    }
+    if (emitted > 0) {
+      processedEventsCounter.add(emitted, EMITTED_ATTRIBUTES);
+    }
+  }
+
+  /** Stops the worker and emits the events buffered so far. */
+  void shutdown() {
+    continueWork = false;
+    LockSupport.unpark(workerThread);
+    flush();
+  }
+
+  private void run() {
+    while (continueWork) {
+      try {
+        flush();
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Exception thrown while emitting buffered events.", e);
+      }
+      LockSupport.parkNanos(this, flushIntervalNanos);
+    }
+  }
+
+  /** The events of one thread, in a ring with a single producer and a single consumer. */
+  private static final class ThreadBuffer {
+    private final WeakReference<Thread> owner;
+    private final int capacity;
+    private final int mask;
+    private final BufferedEventEmitter[] emitters;
+    private final long[] epochNanos;
+    private final Context[] contexts;
+    private final String[] eventNames;
+    private final Attributes[] attributes;
+    // The next index to write, only written by the producer.
+    private final AtomicLong tail = new AtomicLong();
+    // The next index to read, only written by the consumer.
+    private final AtomicLong head = new AtomicLong();
+    // The producer's last read of head, to avoid reading it for every event.
+    private long cachedHead;
+
+    private ThreadBuffer(Thread owner, int capacity) {
+      this.owner = new WeakReference<>(owner);
+      this.capacity = capacity;
+      int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+      this.mask = length - 1;
+      this.emitters = new BufferedEventEmitter[length];
+      this.epochNanos = new long[length];
+      this.contexts = new Context[length];
+      this.eventNames = new String[length];
+      this.attributes = new Attributes[length];
+    }
+
+    private boolean offer(
+        BufferedEventEmitter emitter,
+        long epochNanos,
+        Context context,
+        String eventName,
+        Attributes attributes) {
+      long index = tail.get();
+      if (index - cachedHead >= capacity) {
+        cachedHead = head.get();
+        if (index - cachedHead >= capacity) {
+          return false;
+        }
+      }
+      int slot = (int) index & mask;
+      emitters[slot] = emitter;
+      this.epochNanos[slot] = epochNanos;
+      contexts[slot] = context;
+      eventNames[slot] = eventName;
+      this.attributes[slot] = attributes;
+      // Not lazySet, the write must be ordered before the producer reads continueWork.
+      tail.set(index + 1);
+      return true;
+    }
+
+    private boolean isHalfFull() {
+      return tail.get() - cachedHead == capacity / 2 + 1;
+    }
+
+    private boolean isAbandoned() {
+      Thread thread = owner.get();
+      return (thread == null || !thread.isAlive()) && head.get() == tail.get();
+    }
+
+    /** Emits the buffered events and returns their number. */
+    private int drain() {
+      long start = head.get();
+      long end = tail.get();
+      for (long index = start; index < end; index++) {
+        int slot = (int) index & mask;
+        BufferedEventEmitter emitter = emitters[slot];
+        Context context = contexts[slot];
+        String eventName = eventNames[slot];
+        Attributes eventAttributes = attributes[slot];
+        emitters[slot] = null;
+        contexts[slot] = null;
+        eventNames[slot] = null;
+        attributes[slot] = null;
+        try {
+          emitter.emitNow(epochNanos[slot], context, eventName, eventAttributes);
+        } finally {
+          head.lazySet(index + 1);
+        }
+      }
+      return (int) (end - start);
+    }
+  }
+
+  /** An emitter whose events are buffered. */
+  interface BufferedEventEmitter {
+
+    /** Emits the event as a log record with the given timestamp and {@link Context}. */
+    void emitNow(long epochNanos, Context context, String eventName, Attributes attributes);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.Body;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReadWriteLogRecord} whose data can be read without allocating a new {@link
+ * io.opentelemetry.sdk.logs.data.LogRecordData} as {@link #toLogRecordData()} does, by reading
+ * single fields or by copying it into a reusable {@link MutableLogRecordData}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ExtendedReadWriteLogRecord extends ReadWriteLogRecord {
+
+  /** Overwrites all fields of {@code logRecordData} with the data of this log record. */
+  void copyTo(MutableLogRecordData logRecordData);
+
+  /** Returns the instrumentation scope of the logger which emitted this log record. */
+  InstrumentationScopeInfo getInstrumentationScopeInfo();
+
+  /** Returns the severity of this log record. */
+  Severity getSeverity();
+
+  /** Returns the body of this log record. */
+  Body getBody();
+
+  /** Returns the {@link SpanContext} of the span which was current when this log was emitted. */
+  SpanContext getSpanContext();
+
+  /** Returns the value of the attribute with {@code key}, or {@code null} if it isn't set. */
+  @Nullable
+  <T> T getAttribute(AttributeKey<T> key);
+}
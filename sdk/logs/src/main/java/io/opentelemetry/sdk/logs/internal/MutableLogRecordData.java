@@ -0,0 +1,256 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.Body;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link LogRecordData} whose fields are overwritten to reuse it for many log records, such as
+ * the slots of a ring buffer. Attributes are copied into arrays owned by this instance, which only
+ * grow, so once they are large enough copying a log record into it doesn't allocate.
+ *
+ * <p>Unlike other {@link LogRecordData}, instances are not immutable. Readers must not keep
+ * references to an instance, or to its attributes, after the owner reuses it.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MutableLogRecordData implements LogRecordData {
+
+  private static final int INITIAL_ATTRIBUTES_CAPACITY = 8;
+
+  private final ArrayAttributes attributes = new ArrayAttributes();
+  @Nullable private Resource resource;
+  @Nullable private InstrumentationScopeInfo instrumentationScopeInfo;
+  private long timestampEpochNanos;
+  private long observedTimestampEpochNanos;
+  private SpanContext spanContext = SpanContext.getInvalid();
+  private Severity severity = Severity.UNDEFINED_SEVERITY_NUMBER;
+  @Nullable private String severityText;
+  private Body body = Body.empty();
+  private int totalAttributeCount;
+
+  /**
+   * Overwrites the fields of this instance, except for the attributes which are set with {@link
+   * #setAttributes(Attributes)}.
+   */
+  public void set(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long timestampEpochNanos,
+      long observedTimestampEpochNanos,
+      SpanContext spanContext,
+      Severity severity,
+      @Nullable String severityText,
+      Body body,
+      int totalAttributeCount) {
+    this.resource = resource;
+    this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.timestampEpochNanos = timestampEpochNanos;
+    this.observedTimestampEpochNanos = observedTimestampEpochNanos;
+    this.spanContext = spanContext;
+    this.severity = severity;
+    this.severityText = severityText;
+    this.body = body;
+    this.totalAttributeCount = totalAttributeCount;
+  }
+
+  /** Overwrites the attributes of this instance with a copy of {@code attributes}. */
+  public void setAttributes(Attributes attributes) {
+    this.attributes.clear();
+    attributes.forEach(this.attributes);
+  }
+
+  /** Overwrites all fields of this instance with those of {@code logRecordData}. */
+  public void setAll(LogRecordData logRecordData) {
+    set(
+        logRecordData.getResource(),
+        logRecordData.getInstrumentationScopeInfo(),
+        logRecordData.getTimestampEpochNanos(),
+        logRecordData.getObservedTimestampEpochNanos(),
+        logRecordData.getSpanContext(),
+        logRecordData.getSeverity(),
+        logRecordData.getSeverityText(),
+        logRecordData.getBody(),
+        logRecordData.getTotalAttributeCount());
+    setAttributes(logRecordData.getAttributes());
+  }
+
+  /** Drops the references held by this instance, so the data it was set to can be collected. */
+  public void clear() {
+    resource = null;
+    instrumentationScopeInfo = null;
+    spanContext = SpanContext.getInvalid();
+    severityText = null;
+    body = Body.empty();
+    attributes.clear();
+  }
+
+  @Override
+  public Resource getResource() {
+    return resource == null ? Resource.empty() : resource;
+  }
+
+  @Override
+  public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+    return instrumentationScopeInfo == null
+        ? InstrumentationScopeInfo.empty()
+        : instrumentationScopeInfo;
+  }
+
+  @Override
+  public long getTimestampEpochNanos() {
+    return timestampEpochNanos;
+  }
+
+  @Override
+  public long getObservedTimestampEpochNanos() {
+    return observedTimestampEpochNanos;
+  }
+
+  @Override
+  public SpanContext getSpanContext() {
+    return spanContext;
+  }
+
+  @Override
+  public Severity getSeverity() {
+    return severity;
+  }
+
+  @Nullable
+  @Override
+  public String getSeverityText() {
+    return severityText;
+  }
+
+  @Override
+  public Body getBody() {
+    return body;
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return attributes;
+  }
+
+  @Override
+  public int getTotalAttributeCount() {
+    return totalAttributeCount;
+  }
+
+  @Override
+  public String toString() {
+    return "MutableLogRecordData{"
+        + "resource="
+        + resource
+        + ", instrumentationScopeInfo="
+        + instrumentationScopeInfo
+        + ", timestampEpochNanos="
+        + timestampEpochNanos
+        + ", observedTimestampEpochNanos="
+        + observedTimestampEpochNanos
+        + ", spanContext="
+        + spanContext
+        + ", severity="
+        + severity
+        + ", severityText="
+        + severityText
+        + ", body="
+        + body
+        + ", attributes="
+        + attributes
+        + ", totalAttributeCount="
+        + totalAttributeCount
+        + '}';
+  }
+
+  /** Attributes stored in parallel arrays of keys and values, filled through {@link #accept}. */
+  private static final class ArrayAttributes
+      implements Attributes, BiConsumer<AttributeKey<?>, Object> {
+
+    private AttributeKey<?>[] keys = new AttributeKey<?>[INITIAL_ATTRIBUTES_CAPACITY];
+    private Object[] values = new Object[INITIAL_ATTRIBUTES_CAPACITY];
+    private int size;
+
+    @Override
+    public void accept(AttributeKey<?> key, Object value) {
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      keys[size] = key;
+      values[size] = value;
+      size++;
+    }
+
+    private void clear() {
+      Arrays.fill(keys, 0, size, null);
+      Arrays.fill(values, 0, size, null);
+      size = 0;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(AttributeKey<T> key) {
+      for (int i = 0; i < size; i++) {
+        if (keys[i].equals(key)) {
+          return (T) values[i];
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> consumer) {
+      for (int i = 0; i < size; i++) {
+        consumer.accept(keys[i], values[i]);
+      }
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return size == 0;
+    }
+
+    @Override
+    public Map<AttributeKey<?>, Object> asMap() {
+      Map<AttributeKey<?>, Object> map = new LinkedHashMap<>();
+      forEach(map::put);
+      return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public AttributesBuilder toBuilder() {
+      return Attributes.builder().putAll(this);
+    }
+
+    @Override
+    public String toString() {
+      return asMap().toString();
+    }
+  }
+}
@@ -13,14 +13,25 @@ import io.opentelemetry.api.events.EventEmitterProvider;
 import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.api.logs.LoggerBuilder;
 import io.opentelemetry.api.logs.LoggerProvider;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.internal.EventBatcher.BufferedEventEmitter;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * SDK implementation for {@link EventEmitterProvider}.
  *
  * <p>Delegates all calls to the configured {@link LoggerProvider}, and its {@link LoggerBuilder}s,
  * {@link Logger}s.
+ *
+ * <p>Providers created with {@link #createAsync(LoggerProvider, Clock, MeterProvider, int,
+ * Duration)} emit events asynchronously: {@link EventEmitter#emit(String, Attributes)} only writes
+ * the event and the current {@link Context} into a buffer of the calling thread, and a worker
+ * thread emits the buffered events as log records in batches.
  */
 public final class SdkEventEmitterProvider implements EventEmitterProvider {
 
@@ -28,24 +39,77 @@ public final class SdkEventEmitterProvider implements EventEmitterProvider {
 
   private final LoggerProvider delegateLoggerProvider;
   private final Clock clock;
+  @Nullable private final EventBatcher eventBatcher;
 
-  private SdkEventEmitterProvider(LoggerProvider delegateLoggerProvider, Clock clock) {
+  private SdkEventEmitterProvider(
+      LoggerProvider delegateLoggerProvider, Clock clock, @Nullable EventBatcher eventBatcher) {
     this.delegateLoggerProvider = delegateLoggerProvider;
     this.clock = clock;
+    this.eventBatcher = eventBatcher;
   }
 
   /**
    * Create a {@link SdkEventEmitterProvider} which delegates to the {@code delegateLoggerProvider}.
    */
   public static SdkEventEmitterProvider create(LoggerProvider delegateLoggerProvider) {
-    return new SdkEventEmitterProvider(delegateLoggerProvider, Clock.getDefault());
+    return new SdkEventEmitterProvider(delegateLoggerProvider, Clock.getDefault(), null);
   }
 
   /**
    * Create a {@link SdkEventEmitterProvider} which delegates to the {@code delegateLoggerProvider}.
    */
   public static SdkEventEmitterProvider create(LoggerProvider delegateLoggerProvider, Clock clock) {
-    return new SdkEventEmitterProvider(delegateLoggerProvider, clock);
+    return new SdkEventEmitterProvider(delegateLoggerProvider, clock, null);
+  }
+
+  /**
+   * Create a {@link SdkEventEmitterProvider} which delegates to the {@code delegateLoggerProvider}
+   * asynchronously. Each thread emitting events buffers up to {@code bufferSize} events, which are
+   * emitted at least once per {@code flushInterval}. Events emitted while the buffer of their
+   * thread is full are dropped. The number of emitted and dropped events is recorded with the
+   * {@code meterProvider}.
+   */
+  public static SdkEventEmitterProvider createAsync(
+      LoggerProvider delegateLoggerProvider,
+      Clock clock,
+      MeterProvider meterProvider,
+      int bufferSize,
+      Duration flushInterval) {
+    return createAsync(
+        delegateLoggerProvider, clock, meterProvider, bufferSize, flushInterval, true);
+  }
+
+  // Visible for testing
+  static SdkEventEmitterProvider createAsync(
+      LoggerProvider delegateLoggerProvider,
+      Clock clock,
+      MeterProvider meterProvider,
+      int bufferSize,
+      Duration flushInterval,
+      boolean startWorker) {
+    return new SdkEventEmitterProvider(
+        delegateLoggerProvider,
+        clock,
+        new EventBatcher(meterProvider, bufferSize, flushInterval.toNanos(), startWorker));
+  }
+
+  /** Emits the events buffered by asynchronous event emitters so far. */
+  public CompletableResultCode forceFlush() {
+    if (eventBatcher != null) {
+      eventBatcher.flush();
+    }
+    return CompletableResultCode.ofSuccess();
+  }
+
+  /**
+   * Stops asynchronous event emission and emits the events buffered so far. Events emitted
+   * afterwards are emitted synchronously.
+   */
+  public CompletableResultCode shutdown() {
+    if (eventBatcher != null) {
+      eventBatcher.shutdown();
+    }
+    return CompletableResultCode.ofSuccess();
   }
 
   @Override
@@ -58,18 +122,21 @@ public final class SdkEventEmitterProvider implements EventEmitterProvider {
   @Override
   public EventEmitterBuilder eventEmitterBuilder(String instrumentationScopeName) {
     return new SdkEventEmitterBuilder(
-        clock, delegateLoggerProvider.loggerBuilder(instrumentationScopeName));
+        clock, delegateLoggerProvider.loggerBuilder(instrumentationScopeName), eventBatcher);
   }
 
   private static class SdkEventEmitterBuilder implements EventEmitterBuilder {
 
     private final Clock clock;
     private final LoggerBuilder delegateLoggerBuilder;
+    @Nullable private final EventBatcher eventBatcher;
     private String eventDomain = DEFAULT_EVENT_DOMAIN;
 
-    private SdkEventEmitterBuilder(Clock clock, LoggerBuilder delegateLoggerBuilder) {
+    private SdkEventEmitterBuilder(
+        Clock clock, LoggerBuilder delegateLoggerBuilder, @Nullable EventBatcher eventBatcher) {
       this.clock = clock;
       this.delegateLoggerBuilder = delegateLoggerBuilder;
+      this.eventBatcher = eventBatcher;
     }
 
     @Override
@@ -92,11 +159,11 @@ public final class SdkEventEmitterProvider implements EventEmitterProvider {
 
     @Override
     public EventEmitter build() {
-      return new SdkEventEmitter(clock, delegateLoggerBuilder.build(), eventDomain);
+      return new SdkEventEmitter(clock, delegateLoggerBuilder.build(), eventDomain, eventBatcher);
     }
   }
 
-  private static class SdkEventEmitter implements EventEmitter {
+  private static class SdkEventEmitter implements EventEmitter, BufferedEventEmitter {
 
     private static final AttributeKey<String> EVENT_DOMAIN = AttributeKey.stringKey("event.domain");
     private static final AttributeKey<String> EVENT_NAME = AttributeKey.stringKey("event.name");
@@ -104,18 +171,34 @@ public final class SdkEventEmitterProvider implements EventEmitterProvider {
     private final Clock clock;
     private final Logger delegateLogger;
     private final String eventDomain;
+    @Nullable private final EventBatcher eventBatcher;
 
-    private SdkEventEmitter(Clock clock, Logger delegateLogger, String eventDomain) {
+    private SdkEventEmitter(
+        Clock clock,
+        Logger delegateLogger,
+        String eventDomain,
+        @Nullable EventBatcher eventBatcher) {
       this.clock = clock;
       this.delegateLogger = delegateLogger;
       this.eventDomain = eventDomain;
+      this.eventBatcher = eventBatcher;
     }
 
     @Override
     public void emit(String eventName, Attributes attributes) {
+      if (eventBatcher != null) {
+        eventBatcher.add(this, clock.now(), Context.current(), eventName, attributes);
+      } else {
+        emitNow(clock.now(), Context.current(), eventName, attributes);
+      }
+    }
+
+    @Override
+    public void emitNow(long epochNanos, Context context, String eventName, Attributes attributes) {
       delegateLogger
           .logRecordBuilder()
-          .setTimestamp(clock.now(), TimeUnit.NANOSECONDS)
+          .setTimestamp(epochNanos, TimeUnit.NANOSECONDS)
+          .setContext(context)
           .setAllAttributes(attributes)
           .setAttribute(EVENT_DOMAIN, eventDomain)
           .setAttribute(EVENT_NAME, eventName)
@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.logs.Severity;
+import org.junit.jupiter.api.Test;
+
+class LogLevelRulesTest {
+
+  @Test
+  void empty() {
+    assertThat(LogLevelRules.empty().isEnabled("foo")).isTrue();
+    assertThat(LogLevelRules.empty().getMinimumSeverity("foo", Severity.INFO))
+        .isEqualTo(Severity.INFO);
+    assertThat(LogLevelRules.builder().build()).isEqualTo(LogLevelRules.empty());
+  }
+
+  @Test
+  void mostSpecificPatternWins() {
+    LogLevelRules rules =
+        LogLevelRules.builder()
+            .setMinimumSeverity("*", Severity.ERROR)
+            .setMinimumSeverity("com.example.*", Severity.WARN)
+            .setMinimumSeverity("com.example.http*", Severity.INFO)
+            .setMinimumSeverity("com.example.http", Severity.DEBUG)
+            .build();
+
+    assertThat(rules.getMinimumSeverity("org.other", Severity.TRACE)).isEqualTo(Severity.ERROR);
+    assertThat(rules.getMinimumSeverity("com.example.db", Severity.TRACE))
+        .isEqualTo(Severity.WARN);
+    assertThat(rules.getMinimumSeverity("com.example.https", Severity.TRACE))
+        .isEqualTo(Severity.INFO);
+    assertThat(rules.getMinimumSeverity("com.example.http", Severity.TRACE))
+        .isEqualTo(Severity.DEBUG);
+    // A pattern without a wildcard only matches the name itself.
+    assertThat(
+            LogLevelRules.builder()
+                .setMinimumSeverity("com.example", Severity.WARN)
+                .build()
+                .getMinimumSeverity("com.example.db", Severity.TRACE))
+        .isEqualTo(Severity.TRACE);
+  }
+
+  @Test
+  void settingsResolvedIndependently() {
+    LogLevelRules rules =
+        LogLevelRules.builder()
+            .setEnabled("com.example.*", false)
+            .setMinimumSeverity("com.example.*", Severity.WARN)
+            .setMinimumSeverity("com.example.db", Severity.DEBUG)
+            .setEnabled("com.example.http", true)
+            .build();
+
+    // The rule of com.example.db only sets the severity, so it stays disabled.
+    assertThat(rules.isEnabled("com.example.db")).isFalse();
+    assertThat(rules.getMinimumSeverity("com.example.db", Severity.TRACE))
+        .isEqualTo(Severity.DEBUG);
+    assertThat(rules.isEnabled("com.example.http")).isTrue();
+    assertThat(rules.getMinimumSeverity("com.example.http", Severity.TRACE))
+        .isEqualTo(Severity.WARN);
+    assertThat(rules.isEnabled("org.other")).isTrue();
+  }
+
+  @Test
+  void toBuilder() {
+    LogLevelRules rules =
+        LogLevelRules.builder()
+            .setMinimumSeverity("com.example.*", Severity.WARN)
+            .setEnabled("com.example.*", false)
+            .build();
+
+    assertThat(rules.toBuilder().build()).isEqualTo(rules).hasSameHashCodeAs(rules);
+    LogLevelRules updated = rules.toBuilder().setEnabled("com.example.*", true).build();
+    assertThat(updated).isNotEqualTo(rules);
+    assertThat(updated.isEnabled("com.example.db")).isTrue();
+    assertThat(updated.getMinimumSeverity("com.example.db", Severity.TRACE))
+        .isEqualTo(Severity.WARN);
+    assertThat(rules.isEnabled("com.example.db")).isFalse();
+    assertThat(rules.toBuilder().removeRule("com.example.*").build())
+        .isEqualTo(LogLevelRules.empty());
+  }
+
+  @Test
+  void invalidPattern() {
+    assertThatThrownBy(() -> LogLevelRules.builder().setEnabled("com.*.db", false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("scopePattern may only contain '*' at its end.");
+    assertThatThrownBy(() -> LogLevelRules.builder().setMinimumSeverity("**", Severity.INFO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("scopePattern may only contain '*' at its end.");
+    assertThatThrownBy(() -> LogLevelRules.builder().setMinimumSeverity("com.*", null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("minimumSeverity");
+  }
+
+  @Test
+  void toString_Valid() {
+    assertThat(
+            LogLevelRules.builder()
+                .setMinimumSeverity("com.example.*", Severity.WARN)
+                .build()
+                .toString())
+        .isEqualTo(
+            "LogLevelRules{[Rule{pattern=com.example.*, enabled=null, minimumSeverity=WARN}]}");
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LogRecordAttributesTest {
+
+  @Test
+  void put() {
+    LogRecordAttributes attributes = LogRecordAttributes.create(LogLimits.getDefault());
+    assertThat(attributes.isEmpty()).isTrue();
+    assertThat(attributes.immutableCopy()).isSameAs(Attributes.empty());
+
+    attributes.put(longKey("one"), 1L);
+    attributes.put(stringKey("two"), "2");
+    attributes.put(longKey("one"), 11L);
+
+    assertThat(attributes.size()).isEqualTo(2);
+    assertThat(attributes.get(longKey("one"))).isEqualTo(11L);
+    assertThat(attributes.get(longKey("two"))).isNull();
+    assertThat(attributes.getTotalAddedValues()).isEqualTo(3);
+    assertThat(attributes.asMap())
+        .containsExactly(entry(longKey("one"), 11L), entry(stringKey("two"), "2"));
+    assertThat(attributes.immutableCopy())
+        .isEqualTo(Attributes.of(longKey("one"), 11L, stringKey("two"), "2"));
+  }
+
+  @Test
+  void put_growsUpToCapacity() {
+    LogRecordAttributes attributes =
+        LogRecordAttributes.create(LogLimits.builder().setMaxNumberOfAttributes(20).build());
+    for (int i = 0; i < 25; i++) {
+      attributes.put(longKey("key" + i), (long) i);
+    }
+    // Replacing a value is still possible at capacity.
+    attributes.put(longKey("key0"), 100L);
+
+    assertThat(attributes.size()).isEqualTo(20);
+    assertThat(attributes.getTotalAddedValues()).isEqualTo(26);
+    assertThat(attributes.get(longKey("key0"))).isEqualTo(100L);
+    assertThat(attributes.get(longKey("key19"))).isEqualTo(19L);
+    assertThat(attributes.get(longKey("key20"))).isNull();
+  }
+
+  @Test
+  void lengthLimit_appliedOnRead() {
+    AttributeKey<String> stringKey = stringKey("string");
+    AttributeKey<List<String>> arrayKey = stringArrayKey("array");
+    LogRecordAttributes attributes =
+        LogRecordAttributes.create(LogLimits.builder().setMaxAttributeValueLength(3).build());
+    attributes.put(stringKey, "abcdef");
+    attributes.put(arrayKey, Arrays.asList("ab", "abcdef"));
+
+    assertThat(attributes.get(stringKey)).isEqualTo("abc");
+    assertThat(attributes.get(arrayKey)).containsExactly("ab", "abc");
+    assertThat(attributes.immutableCopy())
+        .isEqualTo(Attributes.of(stringKey, "abc", arrayKey, Arrays.asList("ab", "abc")));
+    assertThat(attributes.copy().get(stringKey)).isEqualTo("abc");
+  }
+
+  @Test
+  void copy_isIndependent() {
+    LogRecordAttributes attributes = LogRecordAttributes.create(LogLimits.getDefault());
+    attributes.put(longKey("one"), 1L);
+
+    LogRecordAttributes copy = attributes.copy();
+    copy.put(longKey("two"), 2L);
+    copy.put(longKey("one"), 11L);
+    attributes.put(longKey("three"), 3L);
+
+    assertThat(attributes.asMap())
+        .containsExactly(entry(longKey("one"), 1L), entry(longKey("three"), 3L));
+    assertThat(copy.asMap()).containsExactly(entry(longKey("one"), 11L), entry(longKey("two"), 2L));
+    assertThat(copy.getTotalAddedValues()).isEqualTo(3);
+  }
+
+  @Test
+  void equalsAndHashCode() {
+    LogRecordAttributes attributes =
+        LogRecordAttributes.create(LogLimits.builder().setMaxAttributeValueLength(3).build());
+    attributes.put(longKey("one"), 1L);
+    attributes.put(stringKey("two"), "2222");
+    LogRecordAttributes same =
+        LogRecordAttributes.create(LogLimits.builder().setMaxNumberOfAttributes(20).build());
+    same.put(stringKey("two"), "222");
+    same.put(longKey("one"), 1L);
+    LogRecordAttributes different = same.copy();
+    different.put(longKey("one"), 11L);
+
+    assertThat(attributes).isEqualTo(same).isNotEqualTo(different);
+    assertThat(attributes.hashCode())
+        .isEqualTo(same.hashCode())
+        .isEqualTo(attributes.asMap().hashCode());
+    assertThat(attributes.copy()).isEqualTo(attributes);
+  }
+}
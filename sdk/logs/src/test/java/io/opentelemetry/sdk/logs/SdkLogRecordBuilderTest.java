@@ -16,9 +16,14 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.extension.incubator.logs.AnyValue;
+import io.opentelemetry.extension.incubator.logs.KeyAnyValue;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.logs.data.Body;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.AnyValueBody;
+import io.opentelemetry.sdk.logs.internal.ExtendedReadWriteLogRecord;
 import io.opentelemetry.sdk.resources.Resource;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
@@ -42,7 +47,7 @@ class SdkLogRecordBuilderTest {
   @Mock Clock clock;
 
   private final AtomicReference<ReadWriteLogRecord> emittedLog = new AtomicReference<>();
-  private SdkLogRecordBuilder builder;
+  private ExtendedSdkLogRecordBuilder builder;
 
   @BeforeEach
   void setup() {
@@ -52,7 +57,9 @@ class SdkLogRecordBuilderTest {
     when(loggerSharedState.getResource()).thenReturn(RESOURCE);
     when(loggerSharedState.getClock()).thenReturn(clock);
 
-    builder = new SdkLogRecordBuilder(loggerSharedState, SCOPE_INFO);
+    builder =
+        new ExtendedSdkLogRecordBuilder(
+            loggerSharedState, SCOPE_INFO, Severity.UNDEFINED_SEVERITY_NUMBER);
   }
 
   @Test
@@ -112,4 +119,71 @@ class SdkLogRecordBuilderTest {
         .hasSpanContext(SpanContext.getInvalid())
         .hasSeverity(Severity.UNDEFINED_SEVERITY_NUMBER);
   }
+
+  @Test
+  void emit_AttributesNotChangedAfterEmit() {
+    builder.setAttribute(AttributeKey.stringKey("k1"), "v1");
+    builder.emit();
+    ReadWriteLogRecord first = emittedLog.get();
+
+    builder.setAttribute(AttributeKey.stringKey("k2"), "v2");
+    builder.emit();
+    first.setAttribute(AttributeKey.stringKey("k3"), "v3");
+
+    assertThat(first.toLogRecordData())
+        .hasAttributes(Attributes.builder().put("k1", "v1").put("k3", "v3").build());
+    assertThat(emittedLog.get().toLogRecordData())
+        .hasAttributes(Attributes.builder().put("k1", "v1").put("k2", "v2").build());
+  }
+
+  @Test
+  void emit_ReadWithoutCopy() {
+    builder.setSeverity(Severity.WARN);
+    builder.emit();
+    ExtendedReadWriteLogRecord logRecord = (ExtendedReadWriteLogRecord) emittedLog.get();
+    assertThat(logRecord.getAttribute(AttributeKey.stringKey("k1"))).isNull();
+
+    logRecord.setAttribute(AttributeKey.stringKey("k1"), "v1");
+    assertThat(logRecord.getAttribute(AttributeKey.stringKey("k1"))).isEqualTo("v1");
+    assertThat(logRecord.getAttribute(AttributeKey.longKey("k1"))).isNull();
+    assertThat(logRecord.getInstrumentationScopeInfo()).isEqualTo(SCOPE_INFO);
+    assertThat(logRecord.getSeverity()).isEqualTo(Severity.WARN);
+  }
+
+  @Test
+  void emit_SetAttributesBetweenReads() {
+    builder.setAttribute(AttributeKey.stringKey("k1"), "v1");
+    builder.emit();
+    ReadWriteLogRecord logRecord = emittedLog.get();
+
+    logRecord.setAttribute(AttributeKey.stringKey("k2"), "v2");
+    logRecord.setAttribute(AttributeKey.stringKey("k3"), "v3");
+    LogRecordData first = logRecord.toLogRecordData();
+    logRecord.setAttribute(AttributeKey.stringKey("k1"), "new-v1");
+
+    assertThat(first)
+        .hasAttributes(Attributes.builder().put("k1", "v1").put("k2", "v2").put("k3", "v3").build())
+        .hasTotalAttributeCount(3);
+    assertThat(logRecord.toLogRecordData())
+        .hasAttributes(
+            Attributes.builder().put("k1", "new-v1").put("k2", "v2").put("k3", "v3").build())
+        .hasTotalAttributeCount(4);
+  }
+
+  @Test
+  void emit_AnyValueBody() {
+    AnyValue<?> body =
+        AnyValue.ofKeyValues(
+            KeyAnyValue.of("message", AnyValue.of("hello")),
+            KeyAnyValue.of("count", AnyValue.of(3)));
+
+    builder.setBody(body);
+    builder.emit();
+
+    Body emittedBody = emittedLog.get().toLogRecordData().getBody();
+    assertThat(emittedBody).isInstanceOf(AnyValueBody.class);
+    assertThat(((AnyValueBody) emittedBody).asAnyValue()).isEqualTo(body);
+    assertThat(emittedBody.getType()).isEqualTo(Body.Type.STRING);
+    assertThat(emittedBody.asString()).isEqualTo("[message=hello, count=3]");
+  }
 }
@@ -340,7 +340,8 @@ class SdkLoggerProviderTest {
                 + "clock=SystemClock{}, "
                 + "resource=Resource{schemaUrl=null, attributes={key=\"value\"}}, "
                 + "logLimits=LogLimits{maxNumberOfAttributes=128, maxAttributeValueLength=2147483647}, "
-                + "logRecordProcessor=MockLogRecordProcessor"
+                + "logRecordProcessor=MockLogRecordProcessor, "
+                + "logLevelRules=LogLevelRules{[]}"
                 + "}");
   }
 }
@@ -21,11 +21,16 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.internal.StringUtils;
 import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.extension.incubator.logs.ExtendedLogger;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
@@ -44,7 +49,11 @@ class SdkLoggerTest {
     when(state.getLogRecordProcessor()).thenReturn(logRecordProcessor);
     when(state.getClock()).thenReturn(clock);
 
-    SdkLogger logger = new SdkLogger(state, info);
+    SdkLogger logger =
+        new SdkLogger(
+            state,
+            info,
+            new LoggerConfig(true, Severity.UNDEFINED_SEVERITY_NUMBER, LogLevelRules.empty()));
     LogRecordBuilder logRecordBuilder = logger.logRecordBuilder();
     logRecordBuilder.setBody("foo");
 
@@ -132,4 +141,130 @@ class SdkLoggerTest {
 
     verify(logRecordProcessor, never()).onEmit(any(), any());
   }
+
+  @Test
+  void isEnabled_minimumSeverity() {
+    List<Severity> seenSeverities = new ArrayList<>();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                (context, logRecord) ->
+                    seenSeverities.add(logRecord.toLogRecordData().getSeverity()))
+            .setLogLevelRules(
+                LogLevelRules.builder().setMinimumSeverity("*", Severity.INFO).build())
+            .build();
+    ExtendedLogger logger = (ExtendedLogger) loggerProvider.get("test");
+
+    assertThat(logger.isEnabled(Severity.DEBUG, Context.root())).isFalse();
+    assertThat(logger.isEnabled(Severity.INFO, Context.root())).isTrue();
+    assertThat(logger.isEnabled(Severity.ERROR)).isTrue();
+    assertThat(logger.isEnabled(Severity.UNDEFINED_SEVERITY_NUMBER)).isTrue();
+
+    // Records below the minimum severity are discarded even if emitted.
+    logger.logRecordBuilder().setSeverity(Severity.DEBUG).emit();
+    logger.logRecordBuilder().setSeverity(Severity.WARN).emit();
+    logger.logRecordBuilder().emit();
+    assertThat(seenSeverities).containsExactly(Severity.WARN, Severity.UNDEFINED_SEVERITY_NUMBER);
+  }
+
+  @Test
+  void isEnabled_disabledScope() {
+    LogRecordProcessor logRecordProcessor = mock(LogRecordProcessor.class);
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(logRecordProcessor)
+            .setLogLevelRules(LogLevelRules.builder().setEnabled("noisy*", false).build())
+            .build();
+    ExtendedLogger enabled = (ExtendedLogger) loggerProvider.get("test");
+    ExtendedLogger disabled = (ExtendedLogger) loggerProvider.get("noisy.library");
+
+    assertThat(enabled.isEnabled(Severity.TRACE)).isTrue();
+    assertThat(disabled.isEnabled(Severity.FATAL)).isFalse();
+
+    disabled.logRecordBuilder().setSeverity(Severity.FATAL).setBody("body").emit();
+    verify(logRecordProcessor, never()).onEmit(any(), any());
+  }
+
+  @Test
+  void isEnabled_logLevelRules() {
+    List<String> seenBodies = new ArrayList<>();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                (context, logRecord) ->
+                    seenBodies.add(logRecord.toLogRecordData().getBody().asString()))
+            .setLogLevelRules(
+                LogLevelRules.builder()
+                    .setMinimumSeverity("*", Severity.INFO)
+                    .setMinimumSeverity("com.noisy.*", Severity.WARN)
+                    .setMinimumSeverity("com.noisy.important", Severity.DEBUG)
+                    .setEnabled("com.silent", false)
+                    .build())
+            .build();
+    ExtendedLogger app = (ExtendedLogger) loggerProvider.get("com.app");
+    ExtendedLogger noisy = (ExtendedLogger) loggerProvider.get("com.noisy.library");
+    ExtendedLogger important =
+        (ExtendedLogger) loggerProvider.loggerBuilder("com.noisy.important").build();
+    ExtendedLogger silent = (ExtendedLogger) loggerProvider.get("com.silent");
+
+    assertThat(app.isEnabled(Severity.INFO)).isTrue();
+    assertThat(noisy.isEnabled(Severity.INFO)).isFalse();
+    assertThat(noisy.isEnabled(Severity.WARN)).isTrue();
+    assertThat(important.isEnabled(Severity.DEBUG)).isTrue();
+    assertThat(silent.isEnabled(Severity.FATAL)).isFalse();
+
+    noisy.logRecordBuilder().setSeverity(Severity.INFO).setBody("noisy info").emit();
+    noisy.logRecordBuilder().setSeverity(Severity.ERROR).setBody("noisy error").emit();
+    important.logRecordBuilder().setSeverity(Severity.DEBUG).setBody("important debug").emit();
+    silent.logRecordBuilder().setSeverity(Severity.FATAL).setBody("silent fatal").emit();
+    assertThat(seenBodies).containsExactly("noisy error", "important debug");
+  }
+
+  @Test
+  void isEnabled_logLevelRulesReplaced() {
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(mock(LogRecordProcessor.class))
+            .setLogLevelRules(
+                LogLevelRules.builder().setMinimumSeverity("com.noisy.*", Severity.WARN).build())
+            .build();
+    ExtendedLogger noisy = (ExtendedLogger) loggerProvider.get("com.noisy.library");
+    assertThat(noisy.isEnabled(Severity.INFO)).isFalse();
+
+    // Existing loggers are reconfigured, and new loggers use the new rules.
+    LogLevelRules rules =
+        loggerProvider
+            .getLogLevelRules()
+            .toBuilder()
+            .removeRule("com.noisy.*")
+            .setEnabled("com.noisy.library", false)
+            .setMinimumSeverity("com.other", Severity.ERROR)
+            .build();
+    loggerProvider.setLogLevelRules(rules);
+    assertThat(loggerProvider.getLogLevelRules()).isEqualTo(rules);
+    assertThat(noisy.isEnabled(Severity.FATAL)).isFalse();
+    assertThat(((ExtendedLogger) loggerProvider.get("com.noisy.other")).isEnabled(Severity.INFO))
+        .isTrue();
+    assertThat(((ExtendedLogger) loggerProvider.get("com.other")).isEnabled(Severity.WARN))
+        .isFalse();
+
+    loggerProvider.setLogLevelRules(LogLevelRules.empty());
+    assertThat(noisy.isEnabled(Severity.TRACE)).isTrue();
+  }
+
+  @Test
+  void isEnabled_withoutProcessorsOrAfterShutdown() {
+    SdkLoggerProvider withoutProcessors = SdkLoggerProvider.builder().build();
+    assertThat(((ExtendedLogger) withoutProcessors.get("test")).isEnabled(Severity.INFO)).isFalse();
+
+    LogRecordProcessor logRecordProcessor = mock(LogRecordProcessor.class);
+    when(logRecordProcessor.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(logRecordProcessor).build();
+    ExtendedLogger logger = (ExtendedLogger) loggerProvider.get("test");
+    assertThat(logger.isEnabled(Severity.INFO)).isTrue();
+
+    loggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    assertThat(logger.isEnabled(Severity.INFO)).isFalse();
+  }
 }
@@ -18,8 +18,11 @@ import static org.mockito.Mockito.when;
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.AdaptiveBatchController;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -27,6 +30,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -77,6 +81,7 @@ class BatchLogRecordProcessorTest {
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(
                 BatchLogRecordProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getRingBuffer()).isFalse();
   }
 
   @Test
@@ -110,6 +115,18 @@ class BatchLogRecordProcessorTest {
             () -> BatchLogRecordProcessor.builder(mockLogRecordExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(
+            () ->
+                BatchLogRecordProcessor.builder(mockLogRecordExporter)
+                    .setAdaptiveBatching(-1, TimeUnit.MILLISECONDS, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minScheduleDelay must be non-negative");
+    assertThatThrownBy(
+            () ->
+                BatchLogRecordProcessor.builder(mockLogRecordExporter)
+                    .setAdaptiveBatching(Duration.ofMillis(1), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
   }
 
   @Test
@@ -164,6 +181,108 @@ class BatchLogRecordProcessorTest {
                     .allSatisfy(logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_1)));
   }
 
+  @Test
+  void adaptiveBatching_zeroExporterTimeout() {
+    AdaptiveBatchController controller =
+        BatchLogRecordProcessor.builder(mockLogRecordExporter)
+            .setExporterTimeout(0, TimeUnit.MILLISECONDS)
+            .setMaxExportBatchSize(10)
+            .setAdaptiveBatching(10, TimeUnit.MILLISECONDS, 2)
+            .createAdaptiveBatchController();
+
+    // A slow export does not back off, as there is no latency threshold.
+    controller.recordExport(10, 0, TimeUnit.SECONDS.toNanos(10), true);
+    assertThat(controller.getExportBatchSize()).isEqualTo(10);
+  }
+
+  @Test
+  void emitWithAdaptiveBatching() {
+    WaitingLogRecordExporter waitingLogRecordExporter =
+        new WaitingLogRecordExporter(95, CompletableResultCode.ofSuccess());
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder()
+            .addLogRecordProcessor(
+                BatchLogRecordProcessor.builder(waitingLogRecordExporter)
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxExportBatchSize(10)
+                    .setAdaptiveBatching(10, TimeUnit.MILLISECONDS, 2)
+                    .build())
+            .build();
+
+    for (int i = 0; i < 95; i++) {
+      emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    }
+
+    List<LogRecordData> exported = waitingLogRecordExporter.waitForExport();
+    assertThat(exported)
+        .hasSize(95)
+        .allSatisfy(logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_1));
+  }
+
+  @Test
+  void emitWithRingBuffer() {
+    WaitingLogRecordExporter waitingLogRecordExporter =
+        new WaitingLogRecordExporter(8, CompletableResultCode.ofSuccess());
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(new CopyingLogRecordExporter(waitingLogRecordExporter))
+            .setMaxQueueSize(4)
+            .setMaxExportBatchSize(2)
+            .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+            .setRingBuffer(true)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    // Twice as many logs as slots, flushing before the ring buffer can be full.
+    for (int i = 0; i < 8; i++) {
+      emitLog(sdkLoggerProvider, "log" + i);
+      if (i % 4 == 3) {
+        batchLogRecordProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+      }
+    }
+
+    List<LogRecordData> exported = waitingLogRecordExporter.waitForExport();
+    assertThat(exported)
+        .extracting(logRecordData -> logRecordData.getBody().asString())
+        .containsExactly("log0", "log1", "log2", "log3", "log4", "log5", "log6", "log7");
+  }
+
+  @Test
+  @Timeout(10)
+  void ringBuffer_exportTimesOut() throws InterruptedException {
+    CompletableLogRecordExporter exporter = new CompletableLogRecordExporter();
+    BatchLogRecordProcessor batchLogRecordProcessor =
+        BatchLogRecordProcessor.builder(exporter)
+            .setMaxQueueSize(4)
+            .setMaxExportBatchSize(2)
+            .setScheduleDelay(10, TimeUnit.MILLISECONDS)
+            .setExporterTimeout(10, TimeUnit.MILLISECONDS)
+            .setRingBuffer(true)
+            .build();
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(batchLogRecordProcessor).build();
+
+    emitLog(sdkLoggerProvider, "log0");
+    emitLog(sdkLoggerProvider, "log1");
+    await().untilAsserted(() -> assertThat(exporter.getExported()).hasSize(2));
+
+    // The log records of the export which never completes still count against the queue size.
+    for (int i = 2; i < 6; i++) {
+      emitLog(sdkLoggerProvider, "log" + i);
+    }
+    // Longer than the exporter timeout, the slots of the export are neither cleared nor reused.
+    Thread.sleep(200);
+    assertThat(exporter.getExported())
+        .extracting(logRecordData -> logRecordData.getBody().asString())
+        .containsExactly("log0", "log1");
+
+    exporter.succeed();
+    await().untilAsserted(() -> assertThat(exporter.getExported()).hasSize(4));
+    assertThat(exporter.getExported().subList(2, 4))
+        .extracting(logRecordData -> logRecordData.getBody().asString())
+        .containsExactly("log2", "log3");
+  }
+
   @Test
   void forceEmit() {
     WaitingLogRecordExporter waitingLogRecordExporter =
@@ -534,6 +653,44 @@ class BatchLogRecordProcessorTest {
     }
   }
 
+  /**
+   * Exports copies of the log records, since the log records passed by the processor with a ring
+   * buffer are reused after the export.
+   */
+  private static final class CopyingLogRecordExporter implements LogRecordExporter {
+
+    private final LogRecordExporter delegate;
+
+    private CopyingLogRecordExporter(LogRecordExporter delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      return delegate.export(
+          logs.stream()
+              .map(
+                  logRecordData ->
+                      TestLogRecordData.builder()
+                          .setBody(logRecordData.getBody().asString())
+                          .setSeverity(logRecordData.getSeverity())
+                          .setAttributes(logRecordData.getAttributes().toBuilder().build())
+                          .setTotalAttributeCount(logRecordData.getTotalAttributeCount())
+                          .build())
+              .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return delegate.shutdown();
+    }
+  }
+
   static class WaitingLogRecordExporter implements LogRecordExporter {
 
     private final List<LogRecordData> logRecordDataList = new ArrayList<>();
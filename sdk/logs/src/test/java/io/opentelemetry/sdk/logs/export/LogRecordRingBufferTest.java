@@ -0,0 +1,185 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.export;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.testing.logs.TestLogRecordData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class LogRecordRingBufferTest {
+
+  private static final AttributeKey<String> KEY = stringKey("key");
+
+  @Test
+  void invalidCapacity() {
+    assertThatThrownBy(() -> new LogRecordRingBuffer(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxQueueSize must be positive.");
+  }
+
+  @Test
+  void slotCountIsPowerOfTwo() {
+    assertThat(new LogRecordRingBuffer(1).getSlotCount()).isEqualTo(1);
+    assertThat(new LogRecordRingBuffer(5).getSlotCount()).isEqualTo(8);
+    assertThat(new LogRecordRingBuffer(8).getSlotCount()).isEqualTo(8);
+    assertThat(new LogRecordRingBuffer(2048).getSlotCount()).isEqualTo(2048);
+  }
+
+  @Test
+  void offerAndDrain() {
+    LogRecordRingBuffer ringBuffer = new LogRecordRingBuffer(4);
+    assertThat(ringBuffer.isEmpty()).isTrue();
+
+    assertThat(ringBuffer.offer(sdkLogRecord("first", Attributes.of(KEY, "value")))).isTrue();
+    assertThat(ringBuffer.offer(sdkLogRecord("second", Attributes.empty()))).isTrue();
+    assertThat(ringBuffer.size()).isEqualTo(2);
+
+    List<LogRecordData> batch = new ArrayList<>();
+    assertThat(ringBuffer.drainTo(batch, 10)).isEqualTo(2);
+    assertThat(ringBuffer.isEmpty()).isTrue();
+    assertThat(batch)
+        .satisfiesExactly(
+            logRecordData ->
+                assertThat(logRecordData)
+                    .hasBody("first")
+                    .hasSeverity(Severity.INFO)
+                    .hasAttributes(Attributes.of(KEY, "value"))
+                    .hasTotalAttributeCount(1),
+            logRecordData ->
+                assertThat(logRecordData)
+                    .hasBody("second")
+                    .hasAttributes(Attributes.empty())
+                    .hasTotalAttributeCount(0));
+  }
+
+  @Test
+  void drainTo_maxRecords() {
+    LogRecordRingBuffer ringBuffer = new LogRecordRingBuffer(4);
+    for (int i = 0; i < 3; i++) {
+      ringBuffer.offer(sdkLogRecord("log" + i, Attributes.empty()));
+    }
+
+    List<LogRecordData> batch = new ArrayList<>();
+    assertThat(ringBuffer.drainTo(batch, 2)).isEqualTo(2);
+    assertThat(ringBuffer.size()).isEqualTo(1);
+    assertThat(ringBuffer.drainTo(batch, 2)).isEqualTo(1);
+    assertThat(batch)
+        .satisfiesExactly(
+            logRecordData -> assertThat(logRecordData).hasBody("log0"),
+            logRecordData -> assertThat(logRecordData).hasBody("log1"),
+            logRecordData -> assertThat(logRecordData).hasBody("log2"));
+  }
+
+  @Test
+  void slotsReusedOnlyAfterRelease() {
+    LogRecordRingBuffer ringBuffer = new LogRecordRingBuffer(3);
+    for (int i = 0; i < 3; i++) {
+      assertThat(ringBuffer.offer(sdkLogRecord("log" + i, Attributes.empty()))).isTrue();
+    }
+    assertThat(ringBuffer.offer(sdkLogRecord("dropped", Attributes.empty()))).isFalse();
+
+    List<LogRecordData> batch = new ArrayList<>();
+    ringBuffer.drainTo(batch, 3);
+    // Drained slots are still in use by the batch.
+    assertThat(ringBuffer.offer(sdkLogRecord("dropped", Attributes.empty()))).isFalse();
+    assertThat(batch.get(0)).hasBody("log0");
+
+    batch.clear();
+    ringBuffer.release();
+    for (int i = 3; i < 6; i++) {
+      assertThat(ringBuffer.offer(sdkLogRecord("log" + i, Attributes.empty()))).isTrue();
+    }
+    assertThat(ringBuffer.drainTo(batch, 3)).isEqualTo(3);
+    assertThat(batch)
+        .satisfiesExactly(
+            logRecordData -> assertThat(logRecordData).hasBody("log3"),
+            logRecordData -> assertThat(logRecordData).hasBody("log4"),
+            logRecordData -> assertThat(logRecordData).hasBody("log5"));
+  }
+
+  @Test
+  void slotAttributesGrowAndShrink() {
+    LogRecordRingBuffer ringBuffer = new LogRecordRingBuffer(1);
+    Attributes manyAttributes = Attributes.empty();
+    for (int i = 0; i < 20; i++) {
+      manyAttributes = manyAttributes.toBuilder().put(longKey("key" + i), i).build();
+    }
+    List<LogRecordData> batch = new ArrayList<>();
+
+    ringBuffer.offer(sdkLogRecord("many", manyAttributes));
+    ringBuffer.drainTo(batch, 1);
+    assertThat(batch.get(0)).hasAttributes(manyAttributes);
+    assertThat(batch.get(0).getAttributes().get(longKey("key19"))).isEqualTo(19L);
+    batch.clear();
+    ringBuffer.release();
+
+    ringBuffer.offer(sdkLogRecord("one", Attributes.of(KEY, "value")));
+    ringBuffer.drainTo(batch, 1);
+    assertThat(batch.get(0)).hasAttributes(Attributes.of(KEY, "value"));
+    assertThat(batch.get(0).getAttributes().get(longKey("key19"))).isNull();
+  }
+
+  @Test
+  void offer_nonSdkLogRecord() {
+    LogRecordData logRecordData =
+        TestLogRecordData.builder()
+            .setBody("body")
+            .setSeverity(Severity.WARN)
+            .setAttributes(Attributes.of(KEY, "value"))
+            .setTotalAttributeCount(2)
+            .build();
+    ReadWriteLogRecord logRecord =
+        new ReadWriteLogRecord() {
+          @Override
+          public <T> ReadWriteLogRecord setAttribute(AttributeKey<T> key, T value) {
+            return this;
+          }
+
+          @Override
+          public LogRecordData toLogRecordData() {
+            return logRecordData;
+          }
+        };
+    LogRecordRingBuffer ringBuffer = new LogRecordRingBuffer(1);
+
+    ringBuffer.offer(logRecord);
+    List<LogRecordData> batch = new ArrayList<>();
+    ringBuffer.drainTo(batch, 1);
+
+    assertThat(batch.get(0))
+        .hasBody("body")
+        .hasSeverity(Severity.WARN)
+        .hasAttributes(Attributes.of(KEY, "value"))
+        .hasTotalAttributeCount(2);
+  }
+
+  private static ReadWriteLogRecord sdkLogRecord(String body, Attributes attributes) {
+    AtomicReference<ReadWriteLogRecord> emitted = new AtomicReference<>();
+    SdkLoggerProvider.builder()
+        .addLogRecordProcessor((context, logRecord) -> emitted.set(logRecord))
+        .build()
+        .get("test")
+        .logRecordBuilder()
+        .setBody(body)
+        .setSeverity(Severity.INFO)
+        .setAllAttributes(attributes)
+        .emit();
+    return emitted.get();
+  }
+}
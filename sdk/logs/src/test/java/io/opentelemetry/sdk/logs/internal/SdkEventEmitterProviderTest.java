@@ -9,12 +9,28 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.events.EventEmitter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
@@ -91,4 +107,161 @@ class SdkEventEmitterProviderTest {
                 .put("event.name", "event-name")
                 .build());
   }
+
+  @Test
+  void emitAsync() throws InterruptedException {
+    List<LogRecordData> logs = new CopyOnWriteArrayList<>();
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkEventEmitterProvider asyncProvider =
+        SdkEventEmitterProvider.createAsync(
+            SdkLoggerProvider.builder()
+                .addLogRecordProcessor(
+                    (context, logRecord) -> logs.add(logRecord.toLogRecordData()))
+                .build(),
+            clock,
+            SdkMeterProvider.builder().registerMetricReader(metricReader).build(),
+            2,
+            Duration.ofSeconds(1),
+            /* startWorker= */ false);
+    EventEmitter eventEmitter =
+        asyncProvider.eventEmitterBuilder("test-scope").setEventDomain("event-domain").build();
+
+    when(clock.now()).thenReturn(10L);
+    eventEmitter.emit("first", Attributes.builder().put("key1", "value1").build());
+    when(clock.now()).thenReturn(20L);
+    eventEmitter.emit("second", Attributes.empty());
+    // Dropped, the buffer of the thread is full.
+    eventEmitter.emit("third", Attributes.empty());
+    // Buffered by another thread.
+    Thread thread = new Thread(() -> eventEmitter.emit("fourth", Attributes.empty()));
+    thread.start();
+    thread.join();
+
+    assertThat(logs).isEmpty();
+    assertThat(asyncProvider.forceFlush().isSuccess()).isTrue();
+
+    assertThat(logs)
+        .extracting(log -> log.getAttributes().get(AttributeKey.stringKey("event.name")))
+        .containsExactlyInAnyOrder("first", "second", "fourth");
+    assertThat(logs)
+        .filteredOn(log -> log.getTimestampEpochNanos() == 10L)
+        .singleElement()
+        .satisfies(
+            log ->
+                assertThat(log)
+                    .hasInstrumentationScope(InstrumentationScopeInfo.create("test-scope"))
+                    .hasAttributes(
+                        Attributes.builder()
+                            .put("key1", "value1")
+                            .put("event.domain", "event-domain")
+                            .put("event.name", "first")
+                            .build()));
+    assertThat(metricReader.collectAllMetrics())
+        .singleElement()
+        .satisfies(
+            metric -> {
+              assertThat(metric.getName()).isEqualTo("processedEvents");
+              assertThat(metric.getLongSumData().getPoints())
+                  .extracting(LongPointData::getValue)
+                  .containsExactlyInAnyOrder(3L, 1L);
+            });
+
+    // Emitted synchronously after shutdown.
+    assertThat(asyncProvider.shutdown().isSuccess()).isTrue();
+    eventEmitter.emit("fifth", Attributes.empty());
+    assertThat(logs).hasSize(4);
+  }
+
+  @Test
+  void emitAsync_ConcurrentShutdown() throws InterruptedException {
+    int threadCount = 4;
+    int eventsPerThread = 1000;
+    List<LogRecordData> logs = new CopyOnWriteArrayList<>();
+    SdkEventEmitterProvider asyncProvider =
+        SdkEventEmitterProvider.createAsync(
+            SdkLoggerProvider.builder()
+                .addLogRecordProcessor(
+                    (context, logRecord) -> logs.add(logRecord.toLogRecordData()))
+                .build(),
+            clock,
+            SdkMeterProvider.builder().build(),
+            eventsPerThread,
+            Duration.ofSeconds(1),
+            /* startWorker= */ false);
+    EventEmitter eventEmitter = asyncProvider.get("test-scope");
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+                for (int j = 0; j < eventsPerThread; j++) {
+                  eventEmitter.emit("event", Attributes.empty());
+                }
+              }));
+    }
+    threads.add(
+        new Thread(
+            () -> {
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+              }
+              asyncProvider.shutdown();
+            }));
+    threads.forEach(Thread::start);
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // Buffers are large enough to never drop, so every event is emitted either by the shutdown
+    // flush or directly, without flushing again.
+    assertThat(logs).hasSize(threadCount * eventsPerThread);
+  }
+
+  @Test
+  void emitAsync_KeepsSpanContext() throws InterruptedException {
+    List<LogRecordData> logs = new CopyOnWriteArrayList<>();
+    SdkEventEmitterProvider asyncProvider =
+        SdkEventEmitterProvider.createAsync(
+            SdkLoggerProvider.builder()
+                .addLogRecordProcessor(
+                    (context, logRecord) -> logs.add(logRecord.toLogRecordData()))
+                .build(),
+            clock,
+            SdkMeterProvider.builder().build(),
+            10,
+            Duration.ofSeconds(1),
+            /* startWorker= */ false);
+    EventEmitter eventEmitter = asyncProvider.get("test-scope");
+    SpanContext spanContext =
+        SpanContext.create(
+            "33333333333333333333333333333333",
+            "7777777777777777",
+            TraceFlags.getSampled(),
+            TraceState.getDefault());
+
+    try (Scope unused = Span.wrap(spanContext).makeCurrent()) {
+      eventEmitter.emit("in-span", Attributes.empty());
+    }
+    eventEmitter.emit("no-span", Attributes.empty());
+    // Drained on another thread, where the span isn't current.
+    Thread thread = new Thread(asyncProvider::forceFlush);
+    thread.start();
+    thread.join();
+
+    assertThat(logs).hasSize(2);
+    assertThat(logs.get(0)).hasSpanContext(spanContext);
+    assertThat(logs.get(1)).hasSpanContext(SpanContext.getInvalid());
+  }
 }
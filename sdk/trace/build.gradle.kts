@@ -22,6 +22,7 @@ dependencies {
   api(project(":api:all"))
   api(project(":sdk:common"))
 
+  compileOnly(project(":extensions:incubator"))
   compileOnly(project(":sdk:trace-shaded-deps"))
 
   implementation(project(":semconv"))
@@ -30,10 +31,12 @@ dependencies {
 
   testAnnotationProcessor("com.google.auto.value:auto-value")
 
+  testImplementation(project(":extensions:incubator"))
   testImplementation(project(":sdk:testing"))
   testImplementation("com.google.guava:guava")
   testImplementation("com.google.guava:guava-testlib")
 
+  jmh(project(":extensions:incubator"))
   jmh(project(":sdk:metrics"))
   jmh(project(":sdk:testing")) {
     // JMH doesn"t handle dependencies that are duplicated between the main and jmh
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.trace;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.Tracer;
@@ -26,6 +27,7 @@ import org.openjdk.jmh.annotations.Warmup;
 @State(Scope.Benchmark)
 public class ExceptionBenchmark {
   private static SpanBuilder spanBuilder;
+  private long counter;
 
   @Setup(Level.Trial)
   public final void setup() {
@@ -63,6 +65,42 @@ public class ExceptionBenchmark {
     return span;
   }
 
+  /**
+   * Records an exception thrown from the same place every time and renders its attributes, as an
+   * exporter does, so the stack trace rendering is reused.
+   */
+  @Benchmark
+  @Threads(value = 1)
+  @Fork(1)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @BenchmarkMode(Mode.AverageTime)
+  public Attributes createSpanAndRecordRepeatedExceptionAndExport() {
+    Span span = spanBuilder.startSpan();
+    span.recordException(new RuntimeException());
+    span.end();
+    return ((ReadableSpan) span).toSpanData().getEvents().get(0).getAttributes();
+  }
+
+  /**
+   * Records an exception with a different message every time and renders its attributes, as an
+   * exporter does, so the stack trace is rendered every time.
+   */
+  @Benchmark
+  @Threads(value = 1)
+  @Fork(1)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @BenchmarkMode(Mode.AverageTime)
+  public Attributes createSpanAndRecordUniqueExceptionAndExport() {
+    Span span = spanBuilder.startSpan();
+    span.recordException(new RuntimeException(String.valueOf(counter++)));
+    span.end();
+    return ((ReadableSpan) span).toSpanData().getEvents().get(0).getAttributes();
+  }
+
   @Benchmark
   @Threads(value = 1)
   @Fork(1)
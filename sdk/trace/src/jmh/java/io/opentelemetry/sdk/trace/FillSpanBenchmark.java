@@ -6,7 +6,10 @@
 package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
@@ -25,6 +28,16 @@ public class FillSpanBenchmark {
   private static final SpanBuilder spanBuilder =
       SdkTracerProvider.builder().build().get("benchmark").spanBuilder("benchmark");
 
+  // Spans of this builder truncate attribute values to a quarter of LONG_VALUE.
+  private static final SpanBuilder limitedSpanBuilder =
+      SdkTracerProvider.builder()
+          .setSpanLimits(SpanLimits.builder().setMaxAttributeValueLength(128).build())
+          .build()
+          .get("benchmark")
+          .spanBuilder("benchmark");
+
+  private static final String LONG_VALUE = longValue(512);
+
   private static final AttributeKey<String> KEY1 = AttributeKey.stringKey("key1");
   private static final AttributeKey<String> KEY2 = AttributeKey.stringKey("key2");
   private static final AttributeKey<String> KEY3 = AttributeKey.stringKey("key3");
@@ -39,4 +52,34 @@ public class FillSpanBenchmark {
         .setAttribute(KEY3, "value3")
         .setAttribute(KEY4, "value4");
   }
+
+  /** Spans which are never exported, such as dropped ones, don't truncate their attributes. */
+  @Benchmark
+  public void setFourLongAttributes() {
+    limitedSpanBuilder
+        .startSpan()
+        .setAttribute(KEY1, LONG_VALUE)
+        .setAttribute(KEY2, LONG_VALUE)
+        .setAttribute(KEY3, LONG_VALUE)
+        .setAttribute(KEY4, LONG_VALUE);
+  }
+
+  @Benchmark
+  public SpanData setFourLongAttributesAndExport() {
+    Span span =
+        limitedSpanBuilder
+            .startSpan()
+            .setAttribute(KEY1, LONG_VALUE)
+            .setAttribute(KEY2, LONG_VALUE)
+            .setAttribute(KEY3, LONG_VALUE)
+            .setAttribute(KEY4, LONG_VALUE);
+    span.end();
+    return ((ReadableSpan) span).toSpanData();
+  }
+
+  private static String longValue(int length) {
+    char[] chars = new char[length];
+    Arrays.fill(chars, 'x');
+    return new String(chars);
+  }
 }
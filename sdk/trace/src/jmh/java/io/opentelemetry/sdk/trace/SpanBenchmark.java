@@ -7,15 +7,24 @@ package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -25,6 +34,18 @@ import org.openjdk.jmh.annotations.Warmup;
 @State(Scope.Benchmark)
 public class SpanBenchmark {
   private static SdkSpanBuilder sdkSpanBuilder;
+
+  // "random" keeps span IDs as longs until needed, "hexRandom" encodes and validates them when
+  // generated, like a custom IdGenerator.
+  @Param({"random", "hexRandom"})
+  private String idGenerator;
+
+  // "cached" is parentBased on a sampler matching span names against a pattern, whose results are
+  // cached by span name, kind and parent flags. "uncached" is the same sampler hidden behind a
+  // custom Sampler, which is called with the attributes and links of every span.
+  @Param({"alwaysOn", "cached", "uncached"})
+  private String sampler;
+
   private final Resource serviceResource =
       Resource.create(
           Attributes.builder()
@@ -38,7 +59,9 @@ public class SpanBenchmark {
     SdkTracerProvider tracerProvider =
         SdkTracerProvider.builder()
             .setResource(serviceResource)
-            .setSampler(Sampler.alwaysOn())
+            .setSampler(sampler())
+            .setIdGenerator(
+                idGenerator.equals("random") ? IdGenerator.random() : new HexIdGenerator())
             .build();
 
     Tracer tracerSdk = tracerProvider.get("benchmarkTracer");
@@ -47,6 +70,17 @@ public class SpanBenchmark {
             tracerSdk.spanBuilder("benchmarkSpanBuilder").setAttribute("longAttribute", 33L);
   }
 
+  private Sampler sampler() {
+    switch (sampler) {
+      case "cached":
+        return Sampler.parentBased(new SpanNamePatternSampler());
+      case "uncached":
+        return new UncachedSampler(Sampler.parentBased(new SpanNamePatternSampler()));
+      default:
+        return Sampler.alwaysOn();
+    }
+  }
+
   @Benchmark
   @Threads(value = 1)
   @Fork(1)
@@ -92,4 +126,57 @@ public class SpanBenchmark {
     span.addEvent("testEvent");
     span.end();
   }
+
+  private static final class SpanNamePatternSampler implements CacheableSampler {
+    private static final Pattern DROPPED_SPAN_NAMES = Pattern.compile("(health|ready|live).*");
+
+    @Override
+    public SamplingResult shouldSample(
+        String name, SpanKind spanKind, SpanContext parentSpanContext) {
+      return DROPPED_SPAN_NAMES.matcher(name).matches()
+          ? SamplingResult.drop()
+          : SamplingResult.recordAndSample();
+    }
+
+    @Override
+    public String getDescription() {
+      return "SpanNamePatternSampler";
+    }
+  }
+
+  private static final class UncachedSampler implements Sampler {
+    private final Sampler delegate;
+
+    private UncachedSampler(Sampler delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(
+        Context parentContext,
+        String traceId,
+        String name,
+        SpanKind spanKind,
+        Attributes attributes,
+        List<LinkData> parentLinks) {
+      return delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+      return delegate.getDescription();
+    }
+  }
+
+  private static final class HexIdGenerator implements IdGenerator {
+    @Override
+    public String generateSpanId() {
+      return IdGenerator.random().generateSpanId();
+    }
+
+    @Override
+    public String generateTraceId() {
+      return IdGenerator.random().generateTraceId();
+    }
+  }
 }
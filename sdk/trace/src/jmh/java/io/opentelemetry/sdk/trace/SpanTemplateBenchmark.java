@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.extension.incubator.trace.SpanTemplate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Threads(value = 1)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpanTemplateBenchmark {
+
+  private static final ExtendedSdkTracer tracer =
+      (ExtendedSdkTracer)
+          SdkTracerProvider.builder()
+              .setSpanLimits(SpanLimits.builder().setMaxAttributeValueLength(64).build())
+              .build()
+              .get("benchmark");
+
+  private static final AttributeKey<String> DB_SYSTEM = AttributeKey.stringKey("db.system");
+  private static final AttributeKey<String> DB_NAME = AttributeKey.stringKey("db.name");
+  private static final AttributeKey<String> DB_USER = AttributeKey.stringKey("db.user");
+  private static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation");
+  private static final AttributeKey<String> PEER_NAME = AttributeKey.stringKey("net.peer.name");
+  private static final AttributeKey<Long> PEER_PORT = AttributeKey.longKey("net.peer.port");
+  private static final AttributeKey<String> TRANSPORT = AttributeKey.stringKey("net.transport");
+  private static final AttributeKey<String> POOL = AttributeKey.stringKey("db.pool.name");
+
+  private static final SpanTemplate template =
+      tracer
+          .spanTemplateBuilder("SELECT orders")
+          .setSpanKind(SpanKind.CLIENT)
+          .setAttribute(DB_SYSTEM, "postgresql")
+          .setAttribute(DB_NAME, "orders")
+          .setAttribute(DB_USER, "orders_service")
+          .setAttribute(DB_OPERATION, "SELECT")
+          .setAttribute(PEER_NAME, "orders-db.internal")
+          .setAttribute(PEER_PORT, 5432L)
+          .setAttribute(TRANSPORT, "ip_tcp")
+          .setAttribute(POOL, "primary")
+          .build();
+
+  @Benchmark
+  public Span spanBuilder() {
+    Span span =
+        tracer
+            .spanBuilder("SELECT orders")
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(DB_SYSTEM, "postgresql")
+            .setAttribute(DB_NAME, "orders")
+            .setAttribute(DB_USER, "orders_service")
+            .setAttribute(DB_OPERATION, "SELECT")
+            .setAttribute(PEER_NAME, "orders-db.internal")
+            .setAttribute(PEER_PORT, 5432L)
+            .setAttribute(TRANSPORT, "ip_tcp")
+            .setAttribute(POOL, "primary")
+            .startSpan();
+    span.end();
+    return span;
+  }
+
+  @Benchmark
+  public Span spanTemplate() {
+    Span span = template.startSpan();
+    span.end();
+    return span;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the fixed and adaptive batching modes of {@link BatchSpanProcessor} under bursty
+ * traffic: each operation ends a burst of spans and then pauses, while the exporter completes
+ * exports after a variable latency. The aux counters report how many spans were exported and
+ * dropped, and how many export calls were needed.
+ */
+public class BatchSpanProcessorAdaptiveBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"false", "true"})
+    private boolean adaptive;
+
+    @Param({"1", "10"})
+    private int delayMs;
+
+    @Param({"0", "50"})
+    private int jitterMs;
+
+    @Param({"1000"})
+    private int burstSize;
+
+    @Param({"20"})
+    private int pauseMs;
+
+    private InMemoryMetricReader metricReader;
+    private DelayingSpanExporter exporter;
+    private BatchSpanProcessor processor;
+    private Tracer tracer;
+    private long exportedSpans;
+    private long droppedSpans;
+    private long exportCalls;
+    private int numThreads;
+
+    @Setup(Level.Iteration)
+    public final void setup() {
+      metricReader = InMemoryMetricReader.create();
+      MeterProvider meterProvider =
+          SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+      exporter = new DelayingSpanExporter(delayMs, jitterMs);
+      BatchSpanProcessorBuilder builder =
+          BatchSpanProcessor.builder(exporter)
+              .setMeterProvider(meterProvider)
+              .setScheduleDelay(200, TimeUnit.MILLISECONDS)
+              .setExporterTimeout(100, TimeUnit.MILLISECONDS);
+      if (adaptive) {
+        builder.setAdaptiveBatching(5, TimeUnit.MILLISECONDS, 64);
+      }
+      processor = builder.build();
+      tracer = SdkTracerProvider.builder().build().get("benchmarkTracer");
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      processor.shutdown().join(10, TimeUnit.SECONDS);
+      BatchSpanProcessorMetrics metrics =
+          new BatchSpanProcessorMetrics(metricReader.collectAllMetrics(), numThreads);
+      exportedSpans = metrics.exportedSpans();
+      droppedSpans = metrics.droppedSpans();
+      exportCalls = exporter.getExportCount() / numThreads;
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ThreadState {
+    BenchmarkState benchmarkState;
+
+    @TearDown(Level.Iteration)
+    public final void recordMetrics(BenchmarkState benchmarkState) {
+      this.benchmarkState = benchmarkState;
+    }
+
+    public long exportedSpans() {
+      return benchmarkState.exportedSpans;
+    }
+
+    public long droppedSpans() {
+      return benchmarkState.droppedSpans;
+    }
+
+    public long exportCalls() {
+      return benchmarkState.exportCalls;
+    }
+  }
+
+  /** Ends a burst of spans, then pauses to simulate a quiet period. */
+  @Benchmark
+  @Fork(1)
+  @Threads(5)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 10)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void burst(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState)
+      throws InterruptedException {
+    benchmarkState.numThreads = 5;
+    for (int i = 0; i < benchmarkState.burstSize; i++) {
+      benchmarkState.processor.onEnd(
+          (ReadableSpan) benchmarkState.tracer.spanBuilder("span").startSpan());
+    }
+    Thread.sleep(benchmarkState.pauseMs);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.export;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link BatchSpanProcessor} with and without trace grouping when the spans of several
+ * concurrent traces end interleaved. The exporter marshals every batch to OTLP protobuf, and the
+ * aux counters report the number of export calls and the sum over all batches of the number of
+ * traces in the batch, which is the number of batches a trace is spread across summed over all
+ * traces.
+ */
+public class BatchSpanProcessorTraceGroupingBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"0", "50"})
+    private int groupingWindowMs;
+
+    @Param({"20"})
+    private int concurrentTraces;
+
+    @Param({"10"})
+    private int spansPerTrace;
+
+    private MarshalingSpanExporter exporter;
+    private BatchSpanProcessor processor;
+    private Tracer tracer;
+    private long exportCalls;
+    private long traceBatches;
+
+    @Setup(Level.Iteration)
+    public final void setup() {
+      exporter = new MarshalingSpanExporter();
+      processor =
+          BatchSpanProcessor.builder(exporter)
+              .setScheduleDelay(100, TimeUnit.MILLISECONDS)
+              .setTraceGrouping(groupingWindowMs, TimeUnit.MILLISECONDS)
+              .build();
+      tracer =
+          SdkTracerProvider.builder().addSpanProcessor(processor).build().get("benchmarkTracer");
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      processor.shutdown().join(10, TimeUnit.SECONDS);
+      exportCalls = exporter.exportCalls.get();
+      traceBatches = exporter.traceBatches.get();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ThreadState {
+    BenchmarkState benchmarkState;
+
+    @TearDown(Level.Iteration)
+    public final void recordMetrics(BenchmarkState benchmarkState) {
+      this.benchmarkState = benchmarkState;
+    }
+
+    public long exportCalls() {
+      return benchmarkState.exportCalls;
+    }
+
+    public long traceBatches() {
+      return benchmarkState.traceBatches;
+    }
+  }
+
+  /** Ends the spans of several traces, one span of each trace after another. */
+  @Benchmark
+  @Fork(1)
+  @Threads(1)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public void interleavedTraces(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState) {
+    Tracer tracer = benchmarkState.tracer;
+    Span[] roots = new Span[benchmarkState.concurrentTraces];
+    for (int i = 0; i < roots.length; i++) {
+      roots[i] = tracer.spanBuilder("root").startSpan();
+    }
+    for (int i = 1; i < benchmarkState.spansPerTrace; i++) {
+      for (Span root : roots) {
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+      }
+    }
+    for (Span root : roots) {
+      root.end();
+    }
+  }
+
+  private static final class MarshalingSpanExporter implements SpanExporter {
+
+    private final AtomicLong exportCalls = new AtomicLong();
+    private final AtomicLong traceBatches = new AtomicLong();
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      exportCalls.incrementAndGet();
+      Set<String> traceIds = new HashSet<>();
+      for (SpanData span : spans) {
+        traceIds.add(span.getTraceId());
+      }
+      traceBatches.addAndGet(traceIds.size());
+
+      TraceRequestMarshaler marshaler = TraceRequestMarshaler.create(spans);
+      ByteArrayOutputStream bos = new ByteArrayOutputStream(marshaler.getBinarySerializedSize());
+      try {
+        marshaler.writeBinaryTo(bos);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
@@ -10,7 +10,9 @@ import io.opentelemetry.sdk.trace.data.SpanData;
 import java.util.Collection;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DelayingSpanExporter implements SpanExporter {
 
@@ -18,16 +20,37 @@ public class DelayingSpanExporter implements SpanExporter {
 
   private final int delayMs;
 
+  private final int jitterMs;
+
+  private final AtomicLong exportCount = new AtomicLong();
+
   public DelayingSpanExporter(int delayMs) {
+    this(delayMs, 0);
+  }
+
+  /**
+   * Creates an exporter whose exports complete after a random delay between {@code delayMs} and
+   * {@code delayMs + jitterMs}.
+   */
+  public DelayingSpanExporter(int delayMs, int jitterMs) {
     executor = Executors.newScheduledThreadPool(5);
     this.delayMs = delayMs;
+    this.jitterMs = jitterMs;
+  }
+
+  /** Returns the number of times {@link #export(Collection)} was called. */
+  public long getExportCount() {
+    return exportCount.get();
   }
 
   @SuppressWarnings("FutureReturnValueIgnored")
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
+    exportCount.incrementAndGet();
     CompletableResultCode result = new CompletableResultCode();
-    executor.schedule((Runnable) result::succeed, delayMs, TimeUnit.MILLISECONDS);
+    int delay =
+        jitterMs == 0 ? delayMs : delayMs + ThreadLocalRandom.current().nextInt(jitterMs + 1);
+    executor.schedule((Runnable) result::succeed, delay, TimeUnit.MILLISECONDS);
     return result;
   }
 
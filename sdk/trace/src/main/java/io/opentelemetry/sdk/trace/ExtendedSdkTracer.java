@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.extension.incubator.trace.SpanTemplateBuilder;
+import io.opentelemetry.extension.incubator.trace.SpanTemplateTracer;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+
+/**
+ * {@link SdkTracer} implementing {@link SpanTemplateTracer}, only used if the API incubator is on
+ * the classpath.
+ */
+final class ExtendedSdkTracer extends SdkTracer implements SpanTemplateTracer {
+
+  private final TracerSharedState sharedState;
+
+  ExtendedSdkTracer(
+      TracerSharedState sharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
+    super(sharedState, instrumentationScopeInfo);
+    this.sharedState = sharedState;
+  }
+
+  @Override
+  public SpanTemplateBuilder spanTemplateBuilder(String spanName) {
+    if (spanName == null || spanName.trim().isEmpty()) {
+      spanName = FALLBACK_SPAN_NAME;
+    }
+    return new SdkSpanTemplate.Builder(spanName, getInstrumentationScopeInfo(), sharedState);
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+
+/**
+ * Creates the SDK implementations of the API incubator interfaces. Kept apart from {@link
+ * SdkTracer} so that the incubator classes are only loaded if the incubator is on the classpath.
+ */
+final class IncubatingUtil {
+
+  static SdkTracer createExtendedTracer(
+      TracerSharedState sharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
+    return new ExtendedSdkTracer(sharedState, instrumentationScopeInfo);
+  }
+
+  private IncubatingUtil() {}
+}
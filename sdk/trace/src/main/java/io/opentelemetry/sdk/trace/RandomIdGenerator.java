@@ -5,26 +5,26 @@
 
 package io.opentelemetry.sdk.trace;
 
-import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.trace.internal.LongIdGenerator;
 import java.util.Random;
 import java.util.function.Supplier;
 
-enum RandomIdGenerator implements IdGenerator {
+enum RandomIdGenerator implements LongIdGenerator {
   INSTANCE;
 
   private static final long INVALID_ID = 0;
   private static final Supplier<Random> randomSupplier = RandomSupplier.platformDefault();
 
   @Override
-  public String generateSpanId() {
+  public long generateSpanIdLong() {
     long id;
     Random random = randomSupplier.get();
     do {
       id = random.nextLong();
     } while (id == INVALID_ID);
-    return SpanId.fromLong(id);
+    return id;
   }
 
   @Override
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the results of a {@link CacheableSampler} by span name, span kind and parent flags. The
+ * number of cached span names is bounded, spans with other names are sampled without caching.
+ */
+final class SamplingResultCache {
+
+  // Visible for testing
+  static final int MAX_SPAN_NAMES = 1024;
+
+  private static final int SPAN_KINDS = SpanKind.values().length;
+  // No parent, and sampled or not sampled remote or local parent.
+  private static final int PARENT_STATES = 5;
+
+  private final CacheableSampler sampler;
+  private final ConcurrentHashMap<String, AtomicReferenceArray<SamplingResult>> results =
+      new ConcurrentHashMap<>();
+
+  SamplingResultCache(CacheableSampler sampler) {
+    this.sampler = sampler;
+  }
+
+  SamplingResult shouldSample(String spanName, SpanKind spanKind, SpanContext parentSpanContext) {
+    AtomicReferenceArray<SamplingResult> resultsByShape = results.get(spanName);
+    if (resultsByShape == null) {
+      if (results.size() >= MAX_SPAN_NAMES) {
+        return sampler.shouldSample(spanName, spanKind, parentSpanContext);
+      }
+      resultsByShape =
+          results.computeIfAbsent(
+              spanName, unused -> new AtomicReferenceArray<>(SPAN_KINDS * PARENT_STATES));
+    }
+    int index = spanKind.ordinal() * PARENT_STATES + parentState(parentSpanContext);
+    SamplingResult result = resultsByShape.get(index);
+    if (result == null) {
+      // Concurrent misses compute equivalent results, so either may be kept.
+      result = sampler.shouldSample(spanName, spanKind, parentSpanContext);
+      resultsByShape.set(index, result);
+    }
+    return result;
+  }
+
+  private static int parentState(SpanContext parentSpanContext) {
+    if (!parentSpanContext.isValid()) {
+      return 0;
+    }
+    return (parentSpanContext.isRemote() ? 1 : 3) + (parentSpanContext.isSampled() ? 0 : 1);
+  }
+
+  // Visible for testing
+  int getCachedSpanNames() {
+    return results.size();
+  }
+}
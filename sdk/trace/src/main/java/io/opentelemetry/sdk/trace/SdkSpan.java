@@ -23,8 +23,9 @@ import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.ExtendedReadableSpan;
 import io.opentelemetry.sdk.trace.internal.data.ExceptionEventData;
-import java.util.ArrayList;
+import io.opentelemetry.sdk.trace.internal.data.SpanEventColumns;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -35,7 +36,7 @@ import javax.annotation.concurrent.ThreadSafe;
 
 /** Implementation for the {@link Span} class that records trace events. */
 @ThreadSafe
-final class SdkSpan implements ReadWriteSpan {
+final class SdkSpan implements ReadWriteSpan, ExtendedReadableSpan {
 
   private static final Logger logger = Logger.getLogger(SdkSpan.class.getName());
 
@@ -73,9 +74,10 @@ final class SdkSpan implements ReadWriteSpan {
   @Nullable
   private AttributesMap attributes;
 
-  // List of recorded events.
+  // Recorded events, created when the first event is added.
   @GuardedBy("lock")
-  private final List<EventData> events;
+  @Nullable
+  private SpanEventColumns events;
 
   // Number of events recorded.
   @GuardedBy("lock")
@@ -120,7 +122,6 @@ final class SdkSpan implements ReadWriteSpan {
     this.clock = clock;
     this.startEpochNanos = startEpochNanos;
     this.attributes = attributes;
-    this.events = new ArrayList<>();
     this.spanLimits = spanLimits;
   }
 
@@ -308,7 +309,7 @@ final class SdkSpan implements ReadWriteSpan {
     if (name == null) {
       return this;
     }
-    addTimedEvent(EventData.create(clock.now(), name, Attributes.empty(), 0));
+    addTimedEvent(clock.now(), name, Attributes.empty(), 0);
     return this;
   }
 
@@ -317,7 +318,7 @@ final class SdkSpan implements ReadWriteSpan {
     if (name == null || unit == null) {
       return this;
     }
-    addTimedEvent(EventData.create(unit.toNanos(timestamp), name, Attributes.empty(), 0));
+    addTimedEvent(unit.toNanos(timestamp), name, Attributes.empty(), 0);
     return this;
   }
 
@@ -331,14 +332,13 @@ final class SdkSpan implements ReadWriteSpan {
     }
     int totalAttributeCount = attributes.size();
     addTimedEvent(
-        EventData.create(
-            clock.now(),
-            name,
-            AttributeUtil.applyAttributesLimit(
-                attributes,
-                spanLimits.getMaxNumberOfAttributesPerEvent(),
-                spanLimits.getMaxAttributeValueLength()),
-            totalAttributeCount));
+        clock.now(),
+        name,
+        AttributeUtil.applyAttributesLimit(
+            attributes,
+            spanLimits.getMaxNumberOfAttributesPerEvent(),
+            spanLimits.getMaxAttributeValueLength()),
+        totalAttributeCount);
     return this;
   }
 
@@ -352,30 +352,55 @@ final class SdkSpan implements ReadWriteSpan {
     }
     int totalAttributeCount = attributes.size();
     addTimedEvent(
-        EventData.create(
-            unit.toNanos(timestamp),
-            name,
-            AttributeUtil.applyAttributesLimit(
-                attributes,
-                spanLimits.getMaxNumberOfAttributesPerEvent(),
-                spanLimits.getMaxAttributeValueLength()),
-            totalAttributeCount));
+        unit.toNanos(timestamp),
+        name,
+        AttributeUtil.applyAttributesLimit(
+            attributes,
+            spanLimits.getMaxNumberOfAttributesPerEvent(),
+            spanLimits.getMaxAttributeValueLength()),
+        totalAttributeCount);
     return this;
   }
 
+  private void addTimedEvent(
+      long epochNanos, String name, Attributes attributes, int totalAttributeCount) {
+    synchronized (lock) {
+      if (hasEnded) {
+        logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
+        return;
+      }
+      SpanEventColumns events = events();
+      if (events != null) {
+        events.add(epochNanos, name, attributes, totalAttributeCount);
+      }
+      totalRecordedEvents++;
+    }
+  }
+
   private void addTimedEvent(EventData timedEvent) {
     synchronized (lock) {
       if (hasEnded) {
         logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
         return;
       }
-      if (events.size() < spanLimits.getMaxNumberOfEvents()) {
+      SpanEventColumns events = events();
+      if (events != null) {
         events.add(timedEvent);
       }
       totalRecordedEvents++;
     }
   }
 
+  // Returns null if no events are recorded.
+  @GuardedBy("lock")
+  @Nullable
+  private SpanEventColumns events() {
+    if (events == null && spanLimits.getMaxNumberOfEvents() > 0) {
+      events = new SpanEventColumns(spanLimits.getMaxNumberOfEvents());
+    }
+    return events;
+  }
+
   @Override
   public ReadWriteSpan setStatus(StatusCode statusCode, @Nullable String description) {
     if (statusCode == null) {
@@ -467,27 +492,31 @@ final class SdkSpan implements ReadWriteSpan {
     return kind;
   }
 
-  long getStartEpochNanos() {
+  @Override
+  public long getStartEpochNanos() {
     return startEpochNanos;
   }
 
+  @Override
+  public StatusData getStatus() {
+    synchronized (lock) {
+      return status;
+    }
+  }
+
   int getTotalRecordedLinks() {
     return totalRecordedLinks;
   }
 
   @GuardedBy("lock")
   private List<EventData> getImmutableTimedEvents() {
-    if (events.isEmpty()) {
+    if (events == null || events.size() == 0) {
       return Collections.emptyList();
     }
 
-    // if the span has ended, then the events are unmodifiable
-    // so we can return them directly and save copying all the data.
-    if (hasEnded) {
-      return Collections.unmodifiableList(events);
-    }
-
-    return Collections.unmodifiableList(new ArrayList<>(events));
+    // recorded events are never changed, so a view of them is immutable even if the span is still
+    // recording.
+    return events.toList();
   }
 
   @GuardedBy("lock")
@@ -498,6 +527,8 @@ final class SdkSpan implements ReadWriteSpan {
     // if the span has ended, then the attributes are unmodifiable,
     // so we can return them directly and save copying all the data.
     if (hasEnded) {
+      // Truncate while the lock is held, as readers of the returned attributes don't hold it.
+      attributes.applyLengthLimit();
       return attributes;
     }
     // otherwise, make a copy of the data into an immutable container.
@@ -16,14 +16,17 @@ import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributeUtil;
 import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.LongIdGenerator;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.util.ArrayList;
@@ -154,6 +157,18 @@ final class SdkSpanBuilder implements SpanBuilder {
     return this;
   }
 
+  /**
+   * Sets attributes which were already limited with the {@link SpanLimits} of this builder, such as
+   * the constant attributes of a {@link SdkSpanTemplate}.
+   */
+  SdkSpanBuilder setPrevalidatedAttributes(
+      AttributeKey<?>[] keys, Object[] values, int addedValues) {
+    if (addedValues > 0) {
+      attributes().putAllPrevalidated(keys, values, addedValues);
+    }
+    return this;
+  }
+
   @Override
   public SpanBuilder setStartTimestamp(long startTimestamp, TimeUnit unit) {
     if (startTimestamp < 0 || unit == null) {
@@ -171,7 +186,14 @@ final class SdkSpanBuilder implements SpanBuilder {
     SpanContext parentSpanContext = parentSpan.getSpanContext();
     String traceId;
     IdGenerator idGenerator = tracerSharedState.getIdGenerator();
-    String spanId = idGenerator.generateSpanId();
+    // A span ID generated as a long is only encoded to hex if the span context needs it.
+    long longSpanId = 0;
+    String spanId = null;
+    if (idGenerator instanceof LongIdGenerator) {
+      longSpanId = ((LongIdGenerator) idGenerator).generateSpanIdLong();
+    } else {
+      spanId = idGenerator.generateSpanId();
+    }
     if (!parentSpanContext.isValid()) {
       // New root span.
       traceId = idGenerator.generateTraceId();
@@ -184,24 +206,41 @@ final class SdkSpanBuilder implements SpanBuilder {
     // Avoid any possibility to modify the links list by adding links to the Builder after the
     // startSpan is called. If that happens all the links will be added in a new list.
     links = null;
-    Attributes immutableAttributes = attributes == null ? Attributes.empty() : attributes;
-    SamplingResult samplingResult =
-        tracerSharedState
-            .getSampler()
-            .shouldSample(
-                parentContext, traceId, spanName, spanKind, immutableAttributes, immutableLinks);
+    SamplingResult samplingResult;
+    SamplingResultCache samplingResultCache = tracerSharedState.getSamplingResultCache();
+    if (samplingResultCache != null) {
+      // The sampler reads neither the attributes nor the links, so they are not passed to it.
+      samplingResult = samplingResultCache.shouldSample(spanName, spanKind, parentSpanContext);
+    } else {
+      Attributes immutableAttributes = attributes == null ? Attributes.empty() : attributes;
+      samplingResult =
+          tracerSharedState
+              .getSampler()
+              .shouldSample(
+                  parentContext, traceId, spanName, spanKind, immutableAttributes, immutableLinks);
+    }
     SamplingDecision samplingDecision = samplingResult.getDecision();
 
     TraceState samplingResultTraceState =
         samplingResult.getUpdatedTraceState(parentSpanContext.getTraceState());
-    SpanContext spanContext =
-        ImmutableSpanContext.create(
-            traceId,
-            spanId,
-            isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault(),
-            samplingResultTraceState,
-            /* remote= */ false,
-            tracerSharedState.isIdGeneratorSafeToSkipIdValidation());
+    TraceFlags traceFlags =
+        isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault();
+    boolean skipIdValidation = tracerSharedState.isIdGeneratorSafeToSkipIdValidation();
+    SpanContext spanContext;
+    if (spanId == null && longSpanId != 0 && (skipIdValidation || TraceId.isValid(traceId))) {
+      spanContext =
+          ImmutableSpanContext.create(traceId, longSpanId, traceFlags, samplingResultTraceState);
+    } else {
+      // Returns an invalid span context if the IDs are invalid.
+      spanContext =
+          ImmutableSpanContext.create(
+              traceId,
+              spanId == null ? SpanId.fromLong(longSpanId) : spanId,
+              traceFlags,
+              samplingResultTraceState,
+              /* remote= */ false,
+              skipIdValidation);
+    }
 
     if (!isRecording(samplingDecision)) {
       return Span.wrap(spanContext);
@@ -0,0 +1,166 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.extension.incubator.trace.SpanTemplate;
+import io.opentelemetry.extension.incubator.trace.SpanTemplateBuilder;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.AttributeUtil;
+import java.util.Map;
+
+/**
+ * {@link SdkSpanTemplate} is SDK implementation of {@link SpanTemplate}.
+ *
+ * <p>The constant attributes are limited with the {@link SpanLimits} once and kept as arrays of
+ * keys and values, which are copied into the attributes of each span without checking them again.
+ * They are only prepared again if the span limits of the tracer provider change.
+ */
+final class SdkSpanTemplate implements SpanTemplate {
+
+  private final String spanName;
+  private final SpanKind spanKind;
+  private final Attributes attributes;
+  private final InstrumentationScopeInfo instrumentationScopeInfo;
+  private final TracerSharedState tracerSharedState;
+
+  private volatile PreparedAttributes preparedAttributes;
+
+  private SdkSpanTemplate(
+      String spanName,
+      SpanKind spanKind,
+      Attributes attributes,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      TracerSharedState tracerSharedState) {
+    this.spanName = spanName;
+    this.spanKind = spanKind;
+    this.attributes = attributes;
+    this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.tracerSharedState = tracerSharedState;
+    this.preparedAttributes =
+        PreparedAttributes.create(attributes, tracerSharedState.getSpanLimits());
+  }
+
+  @Override
+  public SpanBuilder spanBuilder() {
+    if (tracerSharedState.hasBeenShutdown()) {
+      return TracerProvider.noop()
+          .get(instrumentationScopeInfo.getName())
+          .spanBuilder(spanName)
+          .setSpanKind(spanKind)
+          .setAllAttributes(attributes);
+    }
+    SpanLimits spanLimits = tracerSharedState.getSpanLimits();
+    PreparedAttributes prepared = preparedAttributes;
+    if (prepared.spanLimits != spanLimits && !prepared.spanLimits.equals(spanLimits)) {
+      prepared = PreparedAttributes.create(attributes, spanLimits);
+      preparedAttributes = prepared;
+    }
+    SdkSpanBuilder spanBuilder =
+        new SdkSpanBuilder(spanName, instrumentationScopeInfo, tracerSharedState, spanLimits);
+    spanBuilder.setSpanKind(spanKind);
+    return spanBuilder.setPrevalidatedAttributes(
+        prepared.keys, prepared.values, prepared.addedValues);
+  }
+
+  // Visible for testing
+  AttributeKey<?>[] getPreparedKeys() {
+    return preparedAttributes.keys;
+  }
+
+  // Visible for testing
+  Object[] getPreparedValues() {
+    return preparedAttributes.values;
+  }
+
+  private static final class PreparedAttributes {
+
+    private static final AttributeKey<?>[] EMPTY_KEYS = new AttributeKey<?>[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private final SpanLimits spanLimits;
+    private final AttributeKey<?>[] keys;
+    private final Object[] values;
+    private final int addedValues;
+
+    private PreparedAttributes(
+        SpanLimits spanLimits, AttributeKey<?>[] keys, Object[] values, int addedValues) {
+      this.spanLimits = spanLimits;
+      this.keys = keys;
+      this.values = values;
+      this.addedValues = addedValues;
+    }
+
+    private static PreparedAttributes create(Attributes attributes, SpanLimits spanLimits) {
+      if (attributes.isEmpty()) {
+        return new PreparedAttributes(spanLimits, EMPTY_KEYS, EMPTY_VALUES, 0);
+      }
+      int size = Math.min(attributes.size(), spanLimits.getMaxNumberOfAttributes());
+      AttributeKey<?>[] keys = new AttributeKey<?>[size];
+      Object[] values = new Object[size];
+      int i = 0;
+      for (Map.Entry<AttributeKey<?>, Object> entry : attributes.asMap().entrySet()) {
+        if (i == size) {
+          break;
+        }
+        keys[i] = entry.getKey();
+        values[i] =
+            AttributeUtil.applyAttributeLengthLimit(
+                entry.getValue(), spanLimits.getMaxAttributeValueLength());
+        i++;
+      }
+      return new PreparedAttributes(spanLimits, keys, values, attributes.size());
+    }
+  }
+
+  /** {@link SpanTemplateBuilder} of {@link SdkSpanTemplate}. */
+  static final class Builder implements SpanTemplateBuilder {
+
+    private final String spanName;
+    private final InstrumentationScopeInfo instrumentationScopeInfo;
+    private final TracerSharedState tracerSharedState;
+    private final AttributesBuilder attributes = Attributes.builder();
+    private SpanKind spanKind = SpanKind.INTERNAL;
+
+    Builder(
+        String spanName,
+        InstrumentationScopeInfo instrumentationScopeInfo,
+        TracerSharedState tracerSharedState) {
+      this.spanName = spanName;
+      this.instrumentationScopeInfo = instrumentationScopeInfo;
+      this.tracerSharedState = tracerSharedState;
+    }
+
+    @Override
+    public SpanTemplateBuilder setSpanKind(SpanKind spanKind) {
+      if (spanKind == null) {
+        return this;
+      }
+      this.spanKind = spanKind;
+      return this;
+    }
+
+    @Override
+    public <T> SpanTemplateBuilder setAttribute(AttributeKey<T> key, T value) {
+      if (key == null || key.getKey().isEmpty() || value == null) {
+        return this;
+      }
+      attributes.put(key, value);
+      return this;
+    }
+
+    @Override
+    public SpanTemplate build() {
+      return new SdkSpanTemplate(
+          spanName, spanKind, attributes.build(), instrumentationScopeInfo, tracerSharedState);
+    }
+  }
+}
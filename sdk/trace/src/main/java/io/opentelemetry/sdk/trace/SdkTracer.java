@@ -11,9 +11,22 @@ import io.opentelemetry.api.trace.TracerProvider;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 
 /** {@link SdkTracer} is SDK implementation of {@link Tracer}. */
-final class SdkTracer implements Tracer {
+class SdkTracer implements Tracer {
   static final String FALLBACK_SPAN_NAME = "<unspecified span name>";
 
+  private static final boolean INCUBATOR_AVAILABLE;
+
+  static {
+    boolean incubatorAvailable = false;
+    try {
+      Class.forName("io.opentelemetry.extension.incubator.trace.SpanTemplateTracer");
+      incubatorAvailable = true;
+    } catch (ClassNotFoundException e) {
+      // Not available
+    }
+    INCUBATOR_AVAILABLE = incubatorAvailable;
+  }
+
   private final TracerSharedState sharedState;
   private final InstrumentationScopeInfo instrumentationScopeInfo;
 
@@ -22,6 +35,17 @@ final class SdkTracer implements Tracer {
     this.instrumentationScopeInfo = instrumentationScopeInfo;
   }
 
+  /**
+   * Returns a new {@link SdkTracer}, which also implements the tracer interfaces of the API
+   * incubator if it is on the classpath.
+   */
+  static SdkTracer create(
+      TracerSharedState sharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
+    return INCUBATOR_AVAILABLE
+        ? IncubatingUtil.createExtendedTracer(sharedState, instrumentationScopeInfo)
+        : new SdkTracer(sharedState, instrumentationScopeInfo);
+  }
+
   @Override
   public SpanBuilder spanBuilder(String spanName) {
     if (spanName == null || spanName.trim().isEmpty()) {
@@ -35,7 +59,6 @@ final class SdkTracer implements Tracer {
         spanName, instrumentationScopeInfo, sharedState, sharedState.getSpanLimits());
   }
 
-  // Visible for testing
   InstrumentationScopeInfo getInstrumentationScopeInfo() {
     return instrumentationScopeInfo;
   }
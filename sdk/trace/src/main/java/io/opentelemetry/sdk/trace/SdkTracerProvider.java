@@ -49,7 +49,7 @@ public final class SdkTracerProvider implements TracerProvider, Closeable {
             clock, idsGenerator, resource, spanLimitsSupplier, sampler, spanProcessors);
     this.tracerSdkComponentRegistry =
         new ComponentRegistry<>(
-            instrumentationScopeInfo -> new SdkTracer(sharedState, instrumentationScopeInfo));
+            instrumentationScopeInfo -> SdkTracer.create(sharedState, instrumentationScopeInfo));
   }
 
   @Override
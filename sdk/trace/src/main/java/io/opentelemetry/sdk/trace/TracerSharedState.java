@@ -8,6 +8,7 @@ package io.opentelemetry.sdk.trace;
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import java.util.List;
 import java.util.function.Supplier;
@@ -24,6 +25,8 @@ final class TracerSharedState {
 
   private final Supplier<SpanLimits> spanLimitsSupplier;
   private final Sampler sampler;
+  // null if the sampler is not cacheable
+  @Nullable private final SamplingResultCache samplingResultCache;
   private final SpanProcessor activeSpanProcessor;
 
   @Nullable private volatile CompletableResultCode shutdownResult = null;
@@ -41,6 +44,10 @@ final class TracerSharedState {
     this.resource = resource;
     this.spanLimitsSupplier = spanLimitsSupplier;
     this.sampler = sampler;
+    this.samplingResultCache =
+        sampler instanceof CacheableSampler && ((CacheableSampler) sampler).isCacheable()
+            ? new SamplingResultCache((CacheableSampler) sampler)
+            : null;
     activeSpanProcessor = SpanProcessor.composite(spanProcessors);
   }
 
@@ -70,6 +77,15 @@ final class TracerSharedState {
     return sampler;
   }
 
+  /**
+   * Returns the cache of the results of the configured {@link Sampler}, or {@code null} if it is
+   * not cacheable.
+   */
+  @Nullable
+  SamplingResultCache getSamplingResultCache() {
+    return samplingResultCache;
+  }
+
   /**
    * Returns the active {@code SpanProcessor}.
    *
@@ -10,8 +10,12 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.AdaptiveBatchController;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.internal.ThrowableUtil;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
@@ -19,18 +23,24 @@ import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.internal.JcTools;
+import io.opentelemetry.sdk.trace.internal.SpanDataSizeEstimator;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link SpanProcessor} that batches spans exported by the SDK then pushes
@@ -40,6 +50,20 @@ import java.util.logging.Logger;
  * {@code maxQueueSize} maximum size, if queue is full spans are dropped). Spans are exported either
  * when there are {@code maxExportBatchSize} pending spans or {@code scheduleDelayNanos} has passed
  * since the last export finished.
+ *
+ * <p>Optionally, batches and the queue can also be bounded by the estimated size in bytes of the
+ * OTLP protobuf encoding of their spans, see {@link
+ * BatchSpanProcessorBuilder#setMaxExportBatchBytes(long)} and {@link
+ * BatchSpanProcessorBuilder#setMaxQueueBytes(long)}.
+ *
+ * <p>If adaptive batching is enabled with {@link
+ * BatchSpanProcessorBuilder#setAdaptiveBatching(long, TimeUnit, int)}, the schedule delay and the
+ * batch size are tuned after each export from the queue depth, export latency and export failures,
+ * between the configured minimums and {@code scheduleDelayNanos} and {@code maxExportBatchSize}.
+ *
+ * <p>If trace grouping is enabled with {@link BatchSpanProcessorBuilder#setTraceGrouping(long,
+ * TimeUnit)}, spans removed from the queue are held for a short window grouped by trace ID, and are
+ * added to the batch one trace after another.
  */
 public final class BatchSpanProcessor implements SpanProcessor {
 
@@ -73,14 +97,22 @@ public final class BatchSpanProcessor implements SpanProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long maxExportBatchBytes,
+      long maxQueueBytes,
+      long exporterTimeoutNanos,
+      long traceGroupingWindowNanos,
+      @Nullable AdaptiveBatchController adaptiveBatchController) {
     this.worker =
         new Worker(
             spanExporter,
             meterProvider,
             scheduleDelayNanos,
             maxExportBatchSize,
+            maxExportBatchBytes,
+            maxQueueBytes,
             exporterTimeoutNanos,
+            traceGroupingWindowNanos,
+            adaptiveBatchController,
             JcTools.newFixedSizeQueue(maxQueueSize));
     Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     workerThread.start();
@@ -130,6 +162,11 @@ public final class BatchSpanProcessor implements SpanProcessor {
     return worker.queue;
   }
 
+  // Visible for testing
+  int getPendingSpans() {
+    return worker.pendingSpans;
+  }
+
   @Override
   public String toString() {
     return "BatchSpanProcessor{"
@@ -139,8 +176,28 @@ public final class BatchSpanProcessor implements SpanProcessor {
         + worker.scheduleDelayNanos
         + ", maxExportBatchSize="
         + worker.maxExportBatchSize
+        + ", maxExportBatchBytes="
+        + worker.maxExportBatchBytes
+        + ", maxQueueBytes="
+        + worker.maxQueueBytes
         + ", exporterTimeoutNanos="
         + worker.exporterTimeoutNanos
+        + ", adaptiveBatching="
+        + adaptiveBatchingToString(worker.adaptiveBatchController)
+        + ", traceGroupingWindowNanos="
+        + worker.traceGroupingWindowNanos
+        + '}';
+  }
+
+  private static String adaptiveBatchingToString(
+      @Nullable AdaptiveBatchController adaptiveBatchController) {
+    if (adaptiveBatchController == null) {
+      return "false";
+    }
+    return "{minScheduleDelayNanos="
+        + adaptiveBatchController.getMinScheduleDelayNanos()
+        + ", minExportBatchSize="
+        + adaptiveBatchController.getMinExportBatchSize()
         + '}';
   }
 
@@ -155,7 +212,11 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final SpanExporter spanExporter;
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
+    private final long maxExportBatchBytes;
+    private final long maxQueueBytes;
     private final long exporterTimeoutNanos;
+    private final long traceGroupingWindowNanos;
+    @Nullable private final AdaptiveBatchController adaptiveBatchController;
 
     private long nextExportTime;
 
@@ -171,18 +232,42 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
     private final ArrayList<SpanData> batch;
+    // Estimated serialized size of the spans in the batch, only tracked if maxExportBatchBytes or
+    // maxQueueBytes is set.
+    private long batchBytes;
+    // Estimated serialized size of the spans in the queue, only tracked if maxQueueBytes is set.
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final boolean trackQueueBytes;
+    private final boolean trackBatchBytes;
+    // Spans removed from the queue but not yet added to the batch, grouped by trace ID in the order
+    // their traces were first seen. Only used if traceGroupingWindowNanos is positive.
+    private final Map<String, TraceGroup> pendingTraces = new LinkedHashMap<>();
+    private final boolean groupTraces;
+    private int pendingSpans;
 
     private Worker(
         SpanExporter spanExporter,
         MeterProvider meterProvider,
         long scheduleDelayNanos,
         int maxExportBatchSize,
+        long maxExportBatchBytes,
+        long maxQueueBytes,
         long exporterTimeoutNanos,
+        long traceGroupingWindowNanos,
+        @Nullable AdaptiveBatchController adaptiveBatchController,
         Queue<ReadableSpan> queue) {
       this.spanExporter = spanExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
+      this.maxExportBatchBytes = maxExportBatchBytes;
+      this.maxQueueBytes = maxQueueBytes;
+      this.trackQueueBytes = maxQueueBytes != BatchSpanProcessorBuilder.UNLIMITED_BYTES;
+      this.trackBatchBytes =
+          trackQueueBytes || maxExportBatchBytes != BatchSpanProcessorBuilder.UNLIMITED_BYTES;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.traceGroupingWindowNanos = traceGroupingWindowNanos;
+      this.groupTraces = traceGroupingWindowNanos > 0;
+      this.adaptiveBatchController = adaptiveBatchController;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
       Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
@@ -221,6 +306,10 @@ public final class BatchSpanProcessor implements SpanProcessor {
     }
 
     private void addSpan(ReadableSpan span) {
+      if (trackQueueBytes) {
+        addSpanWithQueueBytes(span);
+        return;
+      }
       if (!queue.offer(span)) {
         processedSpansCounter.add(1, droppedAttrs);
       } else {
@@ -230,6 +319,31 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    private void addSpanWithQueueBytes(ReadableSpan span) {
+      // The span has ended, so its data and size are stable. They are computed once here and
+      // queued with the span, for the worker to add to the batch.
+      SpanData spanData = span.toSpanData();
+      long spanBytes = SpanDataSizeEstimator.estimateSize(spanData);
+      long newQueuedBytes = queuedBytes.addAndGet(spanBytes);
+      // A span larger than the whole budget is still accepted into an otherwise empty queue so it
+      // is not dropped unconditionally.
+      if (newQueuedBytes > maxQueueBytes && newQueuedBytes != spanBytes) {
+        queuedBytes.addAndGet(-spanBytes);
+        processedSpansCounter.add(1, droppedAttrs);
+        return;
+      }
+      if (!queue.offer(new EstimatedSpan(span, spanData, spanBytes))) {
+        queuedBytes.addAndGet(-spanBytes);
+        processedSpansCounter.add(1, droppedAttrs);
+        return;
+      }
+      // Also wake up the worker if the queue alone holds enough bytes for a full batch.
+      if (queue.size() >= spansNeeded.get()
+          || (spansNeeded.get() != Integer.MAX_VALUE && newQueuedBytes >= maxExportBatchBytes)) {
+        signal.offer(true);
+      }
+    }
+
     @Override
     public void run() {
       updateNextExportTime();
@@ -238,18 +352,28 @@ public final class BatchSpanProcessor implements SpanProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        JcTools.drain(
-            queue, maxExportBatchSize - batch.size(), span -> batch.add(span.toSpanData()));
+        int exportBatchSize = exportBatchSize();
+        if (groupTraces) {
+          JcTools.drain(queue, maxExportBatchSize - pendingSpans, this::addToPending);
+          releasePendingTraces(System.nanoTime() >= nextExportTime);
+        } else {
+          JcTools.drain(queue, exportBatchSize - batch.size(), this::addToBatch);
+        }
 
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (batch.size() >= exportBatchSize
+            || batchBytes >= maxExportBatchBytes
+            || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
           updateNextExportTime();
         }
         if (queue.isEmpty()) {
           try {
-            long pollWaitTime = nextExportTime - System.nanoTime();
+            long pollWaitTime = nextWakeUpTime() - System.nanoTime();
             if (pollWaitTime > 0) {
-              spansNeeded.set(maxExportBatchSize - batch.size());
+              spansNeeded.set(
+                  groupTraces
+                      ? maxExportBatchSize - pendingSpans
+                      : exportBatchSize() - batch.size());
               signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
               spansNeeded.set(Integer.MAX_VALUE);
             }
@@ -266,12 +390,18 @@ public final class BatchSpanProcessor implements SpanProcessor {
       while (spansToFlush > 0) {
         ReadableSpan span = queue.poll();
         assert span != null;
-        batch.add(span.toSpanData());
         spansToFlush--;
-        if (batch.size() >= maxExportBatchSize) {
-          exportCurrentBatch();
+        if (groupTraces) {
+          addToPending(span);
+          releasePendingTraces(/* releaseAll= */ false);
+        } else {
+          addToBatch(span);
+          if (batch.size() >= exportBatchSize()) {
+            exportCurrentBatch();
+          }
         }
       }
+      releasePendingTraces(/* releaseAll= */ true);
       exportCurrentBatch();
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
@@ -280,8 +410,85 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    private void addToBatch(ReadableSpan span) {
+      if (span instanceof EstimatedSpan) {
+        EstimatedSpan estimatedSpan = (EstimatedSpan) span;
+        queuedBytes.addAndGet(-estimatedSpan.estimatedBytes);
+        addToBatch(estimatedSpan.spanData, estimatedSpan.estimatedBytes);
+        return;
+      }
+      SpanData spanData = span.toSpanData();
+      addToBatch(spanData, trackBatchBytes ? SpanDataSizeEstimator.estimateSize(spanData) : 0);
+    }
+
+    private void addToBatch(SpanData spanData, long spanBytes) {
+      if (trackBatchBytes) {
+        if (!batch.isEmpty() && batchBytes + spanBytes > maxExportBatchBytes) {
+          exportCurrentBatch();
+        }
+        batchBytes += spanBytes;
+      }
+      batch.add(spanData);
+    }
+
+    private void addToPending(ReadableSpan span) {
+      String traceId = span.getSpanContext().getTraceId();
+      TraceGroup group = pendingTraces.get(traceId);
+      if (group == null) {
+        group = new TraceGroup(System.nanoTime());
+        pendingTraces.put(traceId, group);
+      }
+      group.spans.add(span);
+      pendingSpans++;
+    }
+
+    /**
+     * Adds the spans of the pending traces whose window has passed to the batch, exporting it
+     * whenever it is full. If {@code releaseAll} is set, or while {@code maxExportBatchSize} spans
+     * are pending, the traces seen first are added before their window passes.
+     */
+    private void releasePendingTraces(boolean releaseAll) {
+      long now = System.nanoTime();
+      Iterator<TraceGroup> groups = pendingTraces.values().iterator();
+      while (groups.hasNext()) {
+        TraceGroup group = groups.next();
+        // Traces are ordered by the time they were first seen, so the remaining ones are newer.
+        if (!releaseAll
+            && pendingSpans < maxExportBatchSize
+            && now - group.firstSeenNanos < traceGroupingWindowNanos) {
+          return;
+        }
+        groups.remove();
+        pendingSpans -= group.spans.size();
+        for (ReadableSpan span : group.spans) {
+          addToBatch(span);
+          if (batch.size() >= exportBatchSize()) {
+            exportCurrentBatch();
+          }
+        }
+      }
+    }
+
+    private long nextWakeUpTime() {
+      if (pendingTraces.isEmpty()) {
+        return nextExportTime;
+      }
+      TraceGroup oldest = pendingTraces.values().iterator().next();
+      return Math.min(nextExportTime, oldest.firstSeenNanos + traceGroupingWindowNanos);
+    }
+
     private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+      long delayNanos =
+          adaptiveBatchController == null
+              ? scheduleDelayNanos
+              : adaptiveBatchController.getScheduleDelayNanos();
+      nextExportTime = System.nanoTime() + delayNanos;
+    }
+
+    private int exportBatchSize() {
+      return adaptiveBatchController == null
+          ? maxExportBatchSize
+          : adaptiveBatchController.getExportBatchSize();
     }
 
     private CompletableResultCode shutdown() {
@@ -323,11 +530,14 @@ public final class BatchSpanProcessor implements SpanProcessor {
         return;
       }
 
+      long startNanos = System.nanoTime();
+      boolean success = false;
       try {
         CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
         result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
         if (result.isSuccess()) {
           processedSpansCounter.add(batch.size(), exportedAttrs);
+          success = true;
         } else {
           logger.log(Level.FINE, "Exporter failed");
         }
@@ -335,8 +545,90 @@ public final class BatchSpanProcessor implements SpanProcessor {
         ThrowableUtil.propagateIfFatal(t);
         logger.log(Level.WARNING, "Exporter threw an Exception", t);
       } finally {
+        if (adaptiveBatchController != null) {
+          adaptiveBatchController.recordExport(
+              batch.size(), queue.size(), System.nanoTime() - startNanos, success);
+        }
         batch.clear();
+        batchBytes = 0;
       }
     }
   }
+
+  private static final class TraceGroup {
+    private final long firstSeenNanos;
+    private final List<ReadableSpan> spans = new ArrayList<>();
+
+    private TraceGroup(long firstSeenNanos) {
+      this.firstSeenNanos = firstSeenNanos;
+    }
+  }
+
+  /**
+   * A span queued with its {@link SpanData} and estimated size, which are computed once when the
+   * span is added to the queue if the queue is bounded in bytes.
+   */
+  private static final class EstimatedSpan implements ReadableSpan {
+    private final ReadableSpan span;
+    private final SpanData spanData;
+    private final long estimatedBytes;
+
+    private EstimatedSpan(ReadableSpan span, SpanData spanData, long estimatedBytes) {
+      this.span = span;
+      this.spanData = spanData;
+      this.estimatedBytes = estimatedBytes;
+    }
+
+    @Override
+    public SpanContext getSpanContext() {
+      return span.getSpanContext();
+    }
+
+    @Override
+    public SpanContext getParentSpanContext() {
+      return span.getParentSpanContext();
+    }
+
+    @Override
+    public String getName() {
+      return span.getName();
+    }
+
+    @Override
+    public SpanData toSpanData() {
+      return spanData;
+    }
+
+    @Override
+    @Deprecated
+    public io.opentelemetry.sdk.common.InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+      return span.getInstrumentationLibraryInfo();
+    }
+
+    @Override
+    public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+      return span.getInstrumentationScopeInfo();
+    }
+
+    @Override
+    public boolean hasEnded() {
+      return span.hasEnded();
+    }
+
+    @Override
+    public long getLatencyNanos() {
+      return span.getLatencyNanos();
+    }
+
+    @Override
+    public SpanKind getKind() {
+      return span.getKind();
+    }
+
+    @Override
+    @Nullable
+    public <T> T getAttribute(AttributeKey<T> key) {
+      return span.getAttribute(key);
+    }
+  }
 }
@@ -9,8 +9,10 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.internal.AdaptiveBatchController;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** Builder class for {@link BatchSpanProcessor}. */
 public final class BatchSpanProcessorBuilder {
@@ -23,11 +25,19 @@ public final class BatchSpanProcessorBuilder {
   static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
   // Visible for testing
   static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+  // Visible for testing
+  static final long UNLIMITED_BYTES = Long.MAX_VALUE;
 
   private final SpanExporter spanExporter;
   private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
   private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+  private long maxExportBatchBytes = UNLIMITED_BYTES;
+  private long maxQueueBytes = UNLIMITED_BYTES;
+  private boolean adaptiveBatching;
+  private long minScheduleDelayNanos;
+  private int minExportBatchSize;
+  private long traceGroupingWindowNanos;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
 
@@ -122,6 +132,143 @@ public final class BatchSpanProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum size in bytes of every export, measured as the estimated size of the OTLP
+   * protobuf encoding of the spans in the batch. A batch is exported as soon as adding the next
+   * span would exceed this size, so batches never exceed it unless a single span is larger on its
+   * own, in which case that span is exported in a batch by itself. The batch is still limited to
+   * {@code maxExportBatchSize} spans.
+   *
+   * <p>By default, batches are not limited by size in bytes.
+   *
+   * @param maxExportBatchBytes the maximum size in bytes of every export.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchSpanProcessorBuilder setMaxExportBatchBytes(long maxExportBatchBytes) {
+    checkArgument(maxExportBatchBytes > 0, "maxExportBatchBytes must be positive.");
+    this.maxExportBatchBytes = maxExportBatchBytes;
+    return this;
+  }
+
+  // Visible for testing
+  long getMaxExportBatchBytes() {
+    return maxExportBatchBytes;
+  }
+
+  /**
+   * Sets the maximum total size in bytes of the spans that are kept in the queue before start
+   * dropping, measured as the estimated size of their OTLP protobuf encoding. This bounds the
+   * memory held by the queue under bursts of large spans, in addition to {@code maxQueueSize}.
+   *
+   * <p>With this limit, every span is converted to {@link
+   * io.opentelemetry.sdk.trace.data.SpanData} and its size is estimated when it ends, on the thread
+   * ending it instead of the export thread, so that it can be accounted for before it is queued.
+   * This adds that cost to ending every span.
+   *
+   * <p>By default, the queue is not limited by size in bytes.
+   *
+   * @param maxQueueBytes the maximum size in bytes of the spans kept in the queue.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchSpanProcessorBuilder setMaxQueueBytes(long maxQueueBytes) {
+    checkArgument(maxQueueBytes > 0, "maxQueueBytes must be positive.");
+    this.maxQueueBytes = maxQueueBytes;
+    return this;
+  }
+
+  // Visible for testing
+  long getMaxQueueBytes() {
+    return maxQueueBytes;
+  }
+
+  /**
+   * Enables adaptive batching. After each export, the delay between exports and the number of
+   * spans that triggers an export are tuned from the queue depth, the export latency and export
+   * failures: the processor exports sooner and in larger batches while spans pile up in the queue,
+   * waits longer while traffic is quiet, and backs off with smaller batches while exports fail or
+   * take longer than half of the exporter timeout, unless it is 0.
+   *
+   * <p>The delay stays between {@code minScheduleDelay} and the schedule delay set with {@link
+   * #setScheduleDelay(long, TimeUnit)}, and the batch size stays between {@code
+   * minExportBatchSize} and the size set with {@link #setMaxExportBatchSize(int)}. Adaptive
+   * batching is disabled by default.
+   *
+   * @param minScheduleDelay the minimum delay interval between two consecutive exports.
+   * @param unit the unit of {@code minScheduleDelay}.
+   * @param minExportBatchSize the minimum number of spans that triggers an export.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchSpanProcessorBuilder setAdaptiveBatching(
+      long minScheduleDelay, TimeUnit unit, int minExportBatchSize) {
+    requireNonNull(unit, "unit");
+    checkArgument(minScheduleDelay >= 0, "minScheduleDelay must be non-negative");
+    checkArgument(minExportBatchSize > 0, "minExportBatchSize must be positive.");
+    this.adaptiveBatching = true;
+    this.minScheduleDelayNanos = unit.toNanos(minScheduleDelay);
+    this.minExportBatchSize = minExportBatchSize;
+    return this;
+  }
+
+  /**
+   * Enables adaptive batching. See {@link #setAdaptiveBatching(long, TimeUnit, int)} for details.
+   *
+   * @param minScheduleDelay the minimum delay interval between two consecutive exports.
+   * @param minExportBatchSize the minimum number of spans that triggers an export.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchSpanProcessorBuilder setAdaptiveBatching(
+      Duration minScheduleDelay, int minExportBatchSize) {
+    requireNonNull(minScheduleDelay, "minScheduleDelay");
+    return setAdaptiveBatching(
+        minScheduleDelay.toNanos(), TimeUnit.NANOSECONDS, minExportBatchSize);
+  }
+
+  /**
+   * Enables grouping of spans by trace. Spans removed from the queue are held for up to {@code
+   * window} after the first span of their trace was seen, so that spans of the same trace which end
+   * shortly after each other are added to the batch next to each other and are usually exported in
+   * the same batch instead of being spread across several ones.
+   *
+   * <p>At most {@code maxExportBatchSize} spans are held, the traces seen first are added to the
+   * batch early when this limit is reached. The window is capped at the schedule delay set with
+   * {@link #setScheduleDelay(long, TimeUnit)}, and all held spans are added to the batch whenever
+   * the schedule delay passes or the processor is flushed, so grouping does not delay exports. Held
+   * spans still count towards the limit set with {@link #setMaxQueueBytes(long)}. Grouping is
+   * disabled by default, or if {@code window} is zero.
+   *
+   * @param window the maximum time spans are held to be grouped with other spans of their trace.
+   * @param unit the unit of {@code window}.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchSpanProcessorBuilder setTraceGrouping(long window, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(window >= 0, "window must be non-negative");
+    this.traceGroupingWindowNanos = unit.toNanos(window);
+    return this;
+  }
+
+  /**
+   * Enables grouping of spans by trace. See {@link #setTraceGrouping(long, TimeUnit)} for details.
+   *
+   * @param window the maximum time spans are held to be grouped with other spans of their trace.
+   * @return this.
+   * @since 1.30.0
+   */
+  public BatchSpanProcessorBuilder setTraceGrouping(Duration window) {
+    requireNonNull(window, "window");
+    return setTraceGrouping(window.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getTraceGroupingWindowNanos() {
+    return Math.min(traceGroupingWindowNanos, scheduleDelayNanos);
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to batch export. If not set,
    * metrics will not be collected.
@@ -150,6 +297,25 @@ public final class BatchSpanProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        maxExportBatchBytes,
+        maxQueueBytes,
+        exporterTimeoutNanos,
+        getTraceGroupingWindowNanos(),
+        createAdaptiveBatchController());
+  }
+
+  // Visible for testing
+  @Nullable
+  AdaptiveBatchController createAdaptiveBatchController() {
+    if (!adaptiveBatching) {
+      return null;
+    }
+    return new AdaptiveBatchController(
+        minScheduleDelayNanos,
+        scheduleDelayNanos,
+        minExportBatchSize,
+        maxExportBatchSize,
+        // A timeout of 0 gives no latency threshold, rather than treating every export as slow.
+        exporterTimeoutNanos == 0 ? Long.MAX_VALUE : exporterTimeoutNanos / 2);
   }
 }
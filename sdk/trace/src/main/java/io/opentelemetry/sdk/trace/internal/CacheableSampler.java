@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+
+/**
+ * A {@link Sampler} whose result only depends on the span name, the span kind and whether the
+ * parent span context is valid, remote and sampled. It reads neither the trace ID, the attributes
+ * nor the links of the span, so the SDK calls {@link #shouldSample(String, SpanKind, SpanContext)}
+ * without building them and reuses the result for spans with the same name, kind and parent flags.
+ *
+ * <p>Caching is only used if {@link #isCacheable()} returns {@code true}. The cache costs a map
+ * lookup per span, so it only pays off for samplers whose decision is more expensive than that.
+ * Samplers with a constant decision implement this interface so that samplers delegating to them
+ * can be cached, but are not cached themselves. Samplers outside the SDK opt in through {@code
+ * SpanShapeSampler} of the SDK incubator.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface CacheableSampler extends Sampler {
+
+  /**
+   * Returns whether the SDK should cache the results of {@link #shouldSample(String, SpanKind,
+   * SpanContext)}, which is only the case if computing them costs more than a cache lookup. Must
+   * always return the same value for the same sampler.
+   */
+  default boolean isCacheable() {
+    return true;
+  }
+
+  /**
+   * Returns the sampling result for a span. Must return an equivalent result for the same name,
+   * kind, and parent validity, remoteness and sampled flag.
+   *
+   * @param name the name of the new {@code Span}.
+   * @param spanKind the {@link SpanKind} of the {@code Span}.
+   * @param parentSpanContext the parent span's {@link SpanContext}, which is invalid for a root
+   *     span.
+   */
+  SamplingResult shouldSample(String name, SpanKind spanKind, SpanContext parentSpanContext);
+
+  @Override
+  default SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return shouldSample(name, spanKind, Span.fromContext(parentContext).getSpanContext());
+  }
+}
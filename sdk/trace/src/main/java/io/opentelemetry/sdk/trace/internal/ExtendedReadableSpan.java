@@ -0,0 +1,26 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+
+/**
+ * A {@link ReadableSpan} whose data can be read without allocating a new {@link SpanData} as
+ * {@link #toSpanData()} does, by reading single fields.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface ExtendedReadableSpan extends ReadableSpan {
+
+  /** Returns the start epoch timestamp in nanos of this span. */
+  long getStartEpochNanos();
+
+  /** Returns the status of this span. */
+  StatusData getStatus();
+}
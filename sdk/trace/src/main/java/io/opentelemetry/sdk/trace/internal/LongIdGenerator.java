@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.trace.IdGenerator;
+
+/**
+ * An {@link IdGenerator} which produces span IDs as primitive {@code long}s. Spans started with
+ * such a generator keep their span ID as a {@code long} and only encode it to its hexadecimal form
+ * when it is needed, for example for propagation or export.
+ *
+ * <p>Implementations should only return valid IDs. The SDK checks that {@link
+ * #generateSpanIdLong()} didn't return {@code 0}, which is cheaper than validating the hexadecimal
+ * form, and validates the generated trace IDs, and starts spans with an invalid span context
+ * otherwise.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface LongIdGenerator extends IdGenerator {
+
+  /** Generates a new valid span ID, which is never {@code 0}. */
+  long generateSpanIdLong();
+
+  @Override
+  default String generateSpanId() {
+    return SpanId.fromLong(generateSpanIdLong());
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Computes the size of the OTLP protobuf encoding of a {@link SpanData} without serializing it.
+ *
+ * <p>The computation follows the field layout used by the OTLP {@code SpanMarshaler} (and its
+ * event, link, status and key-value marshalers) so that the result equals the serialized size of
+ * the {@code Span} message, but it does not allocate byte arrays for strings or marshaler objects.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpanDataSizeEstimator {
+
+  // All fields of Span, Span.Event, Span.Link, Status, KeyValue, AnyValue and ArrayValue have field
+  // numbers below 16, so every tag is encoded in a single byte.
+  private static final int TAG_SIZE = 1;
+  private static final int TRACE_ID_FIELD_SIZE = TAG_SIZE + 1 + 16;
+  private static final int SPAN_ID_FIELD_SIZE = TAG_SIZE + 1 + 8;
+  private static final int FIXED64_FIELD_SIZE = TAG_SIZE + 8;
+
+  /** Returns the size in bytes of the OTLP protobuf {@code Span} message for {@code spanData}. */
+  public static int estimateSize(SpanData spanData) {
+    int size = 0;
+    SpanContext spanContext = spanData.getSpanContext();
+    size += TRACE_ID_FIELD_SIZE;
+    size += SPAN_ID_FIELD_SIZE;
+    size += sizeString(traceStateLength(spanContext.getTraceState()));
+    if (spanData.getParentSpanContext().isValid()) {
+      size += SPAN_ID_FIELD_SIZE;
+    }
+    size += sizeString(utf8Length(spanData.getName()));
+    // SpanKind maps to OTLP enum numbers 1 through 5, which are all encoded in a single byte.
+    size += TAG_SIZE + 1;
+    size += sizeFixed64(spanData.getStartEpochNanos());
+    size += sizeFixed64(spanData.getEndEpochNanos());
+
+    Attributes attributes = spanData.getAttributes();
+    size += sizeAttributes(attributes);
+    size += sizeUInt32(spanData.getTotalAttributeCount() - attributes.size());
+
+    List<EventData> events = spanData.getEvents();
+    for (int i = 0; i < events.size(); i++) {
+      size += sizeMessage(sizeEvent(events.get(i)));
+    }
+    size += sizeUInt32(spanData.getTotalRecordedEvents() - events.size());
+
+    List<LinkData> links = spanData.getLinks();
+    for (int i = 0; i < links.size(); i++) {
+      size += sizeMessage(sizeLink(links.get(i)));
+    }
+    size += sizeUInt32(spanData.getTotalRecordedLinks() - links.size());
+
+    size += sizeMessage(sizeStatus(spanData.getStatus()));
+    return size;
+  }
+
+  private static int sizeEvent(EventData event) {
+    int size = 0;
+    size += sizeFixed64(event.getEpochNanos());
+    size += sizeString(utf8Length(event.getName()));
+    Attributes attributes = event.getAttributes();
+    size += sizeAttributes(attributes);
+    size += sizeUInt32(event.getTotalAttributeCount() - attributes.size());
+    return size;
+  }
+
+  private static int sizeLink(LinkData link) {
+    int size = 0;
+    size += TRACE_ID_FIELD_SIZE;
+    size += SPAN_ID_FIELD_SIZE;
+    size += sizeString(traceStateLength(link.getSpanContext().getTraceState()));
+    Attributes attributes = link.getAttributes();
+    size += sizeAttributes(attributes);
+    size += sizeUInt32(link.getTotalAttributeCount() - attributes.size());
+    return size;
+  }
+
+  private static int sizeStatus(StatusData status) {
+    int size = sizeString(utf8Length(status.getDescription()));
+    if (status.getStatusCode() != StatusCode.UNSET) {
+      size += TAG_SIZE + 1;
+    }
+    return size;
+  }
+
+  private static int sizeAttributes(Attributes attributes) {
+    if (attributes.isEmpty()) {
+      return 0;
+    }
+    AttributesSizer sizer = new AttributesSizer();
+    attributes.forEach(sizer);
+    return sizer.size;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int sizeAnyValue(AttributeKey<?> key, Object value) {
+    switch (key.getType()) {
+      case STRING:
+        return sizeOneofString(utf8Length((String) value));
+      case LONG:
+        return TAG_SIZE + varintSize((long) value);
+      case BOOLEAN:
+        return TAG_SIZE + 1;
+      case DOUBLE:
+        return FIXED64_FIELD_SIZE;
+      case STRING_ARRAY:
+        {
+          int size = 0;
+          for (String element : (List<String>) value) {
+            size += sizeMessage(sizeOneofString(utf8Length(element)));
+          }
+          return sizeMessage(size);
+        }
+      case LONG_ARRAY:
+        {
+          int size = 0;
+          for (Long element : (List<Long>) value) {
+            size += sizeMessage(TAG_SIZE + varintSize(element));
+          }
+          return sizeMessage(size);
+        }
+      case BOOLEAN_ARRAY:
+        return sizeMessage(((List<Boolean>) value).size() * sizeMessage(TAG_SIZE + 1));
+      case DOUBLE_ARRAY:
+        return sizeMessage(((List<Double>) value).size() * sizeMessage(FIXED64_FIELD_SIZE));
+    }
+    // Error prone ensures the switch statement is complete, otherwise only can happen with
+    // unaligned versions which are not supported.
+    throw new IllegalArgumentException("Unsupported attribute type.");
+  }
+
+  private static int traceStateLength(TraceState traceState) {
+    if (traceState.isEmpty()) {
+      return 0;
+    }
+    TraceStateSizer sizer = new TraceStateSizer();
+    traceState.forEach(sizer);
+    return sizer.length;
+  }
+
+  /** Size of a length-delimited field whose payload is {@code length} bytes, omitted if empty. */
+  private static int sizeString(int length) {
+    if (length == 0) {
+      return 0;
+    }
+    return sizeMessage(length);
+  }
+
+  /** Size of a string in a oneof, which is always written even if empty. */
+  private static int sizeOneofString(int length) {
+    return sizeMessage(length);
+  }
+
+  private static int sizeMessage(int messageSize) {
+    return TAG_SIZE + varintSize(messageSize) + messageSize;
+  }
+
+  private static int sizeFixed64(long value) {
+    return value == 0 ? 0 : FIXED64_FIELD_SIZE;
+  }
+
+  private static int sizeUInt32(int value) {
+    return value == 0 ? 0 : TAG_SIZE + varintSize(value & 0xFFFFFFFFL);
+  }
+
+  private static int varintSize(long value) {
+    if (value < 0) {
+      return 10;
+    }
+    int size = 1;
+    while ((value & ~0x7FL) != 0) {
+      size++;
+      value >>>= 7;
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of {@code string}, matching {@link
+   * String#getBytes(java.nio.charset.Charset)} which replaces unpaired surrogates with a single
+   * byte.
+   */
+  private static int utf8Length(String string) {
+    int length = string.length();
+    int utf8Length = length;
+    for (int i = 0; i < length; i++) {
+      char c = string.charAt(i);
+      if (c < 0x80) {
+        continue;
+      }
+      if (c < 0x800) {
+        utf8Length += 1;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(string.charAt(i + 1))) {
+        // Two chars of the surrogate pair encode to four bytes.
+        utf8Length += 2;
+        i++;
+      } else if (!Character.isSurrogate(c)) {
+        utf8Length += 2;
+      }
+    }
+    return utf8Length;
+  }
+
+  private static final class AttributesSizer implements BiConsumer<AttributeKey<?>, Object> {
+    private int size;
+
+    @Override
+    public void accept(AttributeKey<?> key, Object value) {
+      int keyValueSize = 0;
+      keyValueSize += sizeString(utf8Length(key.getKey()));
+      keyValueSize += sizeMessage(sizeAnyValue(key, value));
+      size += sizeMessage(keyValueSize);
+    }
+  }
+
+  private static final class TraceStateSizer implements BiConsumer<String, String> {
+    private int length;
+
+    @Override
+    public void accept(String key, String value) {
+      if (length != 0) {
+        // Entry delimiter.
+        length++;
+      }
+      // Trace state keys and values are restricted to ASCII, separated by '='.
+      length += key.length() + 1 + value.length();
+    }
+  }
+
+  private SpanDataSizeEstimator() {}
+}
@@ -12,8 +12,6 @@ import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.sdk.internal.AttributeUtil;
 import io.opentelemetry.sdk.trace.SpanLimits;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import javax.annotation.concurrent.Immutable;
 
 /** An effectively immutable implementation of {@link ExceptionEventData}. */
@@ -63,11 +61,8 @@ abstract class ImmutableExceptionEventData implements ExceptionEventData {
       attributesBuilder.put(SemanticAttributes.EXCEPTION_MESSAGE, message);
     }
 
-    StringWriter stringWriter = new StringWriter();
-    try (PrintWriter printWriter = new PrintWriter(stringWriter)) {
-      exception.printStackTrace(printWriter);
-    }
-    attributesBuilder.put(SemanticAttributes.EXCEPTION_STACKTRACE, stringWriter.toString());
+    attributesBuilder.put(
+        SemanticAttributes.EXCEPTION_STACKTRACE, StackTraceRenderer.render(exception));
     attributesBuilder.putAll(additionalAttributes);
 
     SpanLimits spanLimits = getSpanLimits();
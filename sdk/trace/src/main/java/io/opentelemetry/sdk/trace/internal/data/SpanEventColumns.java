@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal.data;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.data.EventData;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+/**
+ * The events of a span, stored as parallel arrays of timestamps, names, attributes and total
+ * attribute counts instead of one {@link EventData} object per event. Events whose data is computed
+ * lazily, such as an {@link ExceptionEventData}, are kept as objects in an additional array which
+ * is only allocated when the first such event is added.
+ *
+ * <p>Events are only appended and never changed, so {@link #toList()} returns an immutable view of
+ * the events added so far without copying them. This class is not thread-safe, additions must be
+ * guarded by the lock of the span.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpanEventColumns {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private final int maxEvents;
+  private long[] epochNanos;
+  private String[] names;
+  private Attributes[] attributes;
+  private int[] totalAttributeCounts;
+  @Nullable private EventData[] lazyEvents;
+  private int size;
+
+  /** Creates empty columns holding at most {@code maxEvents} events, which must be positive. */
+  public SpanEventColumns(int maxEvents) {
+    this.maxEvents = maxEvents;
+    int capacity = Math.min(INITIAL_CAPACITY, maxEvents);
+    epochNanos = new long[capacity];
+    names = new String[capacity];
+    attributes = new Attributes[capacity];
+    totalAttributeCounts = new int[capacity];
+  }
+
+  /**
+   * Appends an event with attributes which were already limited. Returns {@code false} if the
+   * maximum number of events was reached.
+   */
+  public boolean add(long epochNanos, String name, Attributes attributes, int totalAttributeCount) {
+    if (!ensureCapacity()) {
+      return false;
+    }
+    this.epochNanos[size] = epochNanos;
+    names[size] = name;
+    this.attributes[size] = attributes;
+    totalAttributeCounts[size] = totalAttributeCount;
+    size++;
+    return true;
+  }
+
+  /**
+   * Appends an event whose data is computed lazily. Returns {@code false} if the maximum number of
+   * events was reached.
+   */
+  public boolean add(EventData event) {
+    if (!ensureCapacity()) {
+      return false;
+    }
+    if (lazyEvents == null) {
+      lazyEvents = new EventData[epochNanos.length];
+    }
+    epochNanos[size] = event.getEpochNanos();
+    names[size] = event.getName();
+    lazyEvents[size] = event;
+    size++;
+    return true;
+  }
+
+  private boolean ensureCapacity() {
+    if (size < epochNanos.length) {
+      return true;
+    }
+    if (size >= maxEvents) {
+      return false;
+    }
+    // Grown into new arrays, so that views keep reading the arrays they were created with.
+    int capacity = (int) Math.min((long) size * 2, maxEvents);
+    epochNanos = Arrays.copyOf(epochNanos, capacity);
+    names = Arrays.copyOf(names, capacity);
+    attributes = Arrays.copyOf(attributes, capacity);
+    totalAttributeCounts = Arrays.copyOf(totalAttributeCounts, capacity);
+    if (lazyEvents != null) {
+      lazyEvents = Arrays.copyOf(lazyEvents, capacity);
+    }
+    return true;
+  }
+
+  /** Returns the number of events. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns an immutable view of the events added so far. */
+  public SpanEventList toList() {
+    return new SpanEventList(epochNanos, names, attributes, totalAttributeCounts, lazyEvents, size);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal.data;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.data.EventData;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable view of the events of {@link SpanEventColumns}. {@link #get(int)} creates an {@link
+ * EventData} for the event, exporters can instead read the fields of an event by its index without
+ * creating it.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpanEventList extends AbstractList<EventData> implements RandomAccess {
+
+  private final long[] epochNanos;
+  private final String[] names;
+  private final Attributes[] attributes;
+  private final int[] totalAttributeCounts;
+  @Nullable private final EventData[] lazyEvents;
+  private final int size;
+
+  SpanEventList(
+      long[] epochNanos,
+      String[] names,
+      Attributes[] attributes,
+      int[] totalAttributeCounts,
+      @Nullable EventData[] lazyEvents,
+      int size) {
+    this.epochNanos = epochNanos;
+    this.names = names;
+    this.attributes = attributes;
+    this.totalAttributeCounts = totalAttributeCounts;
+    this.lazyEvents = lazyEvents;
+    this.size = size;
+  }
+
+  @Override
+  public EventData get(int index) {
+    checkIndex(index);
+    EventData lazyEvent = lazyEvent(index);
+    if (lazyEvent != null) {
+      return lazyEvent;
+    }
+    return EventData.create(
+        epochNanos[index], names[index], attributes[index], totalAttributeCounts[index]);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /** Returns the epoch timestamp in nanos of the event at {@code index}. */
+  public long getEpochNanos(int index) {
+    checkIndex(index);
+    return epochNanos[index];
+  }
+
+  /** Returns the name of the event at {@code index}. */
+  public String getName(int index) {
+    checkIndex(index);
+    return names[index];
+  }
+
+  /** Returns the attributes of the event at {@code index}. */
+  public Attributes getAttributes(int index) {
+    checkIndex(index);
+    EventData lazyEvent = lazyEvent(index);
+    return lazyEvent != null ? lazyEvent.getAttributes() : attributes[index];
+  }
+
+  /** Returns the total number of attributes recorded on the event at {@code index}. */
+  public int getTotalAttributeCount(int index) {
+    checkIndex(index);
+    EventData lazyEvent = lazyEvent(index);
+    return lazyEvent != null ? lazyEvent.getTotalAttributeCount() : totalAttributeCounts[index];
+  }
+
+  @Nullable
+  private EventData lazyEvent(int index) {
+    return lazyEvents == null ? null : lazyEvents[index];
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
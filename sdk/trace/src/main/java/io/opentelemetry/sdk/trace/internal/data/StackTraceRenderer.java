@@ -0,0 +1,153 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal.data;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Renders the stack trace of a {@link Throwable} as {@link Throwable#printStackTrace()} does, and
+ * reuses the result for throwables with the same structure, such as the same exception thrown
+ * repeatedly from the same place.
+ *
+ * <p>The structure of a throwable is everything its stack trace is printed from: the {@code
+ * toString()} and stack frames of the throwable and of its causes and suppressed exceptions,
+ * recursively. Rendered stack traces are kept in a bounded LRU cache keyed by that structure, so a
+ * cached result is identical to rendering the throwable again. Throwables whose printing is
+ * customized by overriding {@link Throwable#printStackTrace(PrintWriter)} or {@link
+ * Throwable#getStackTrace()}, or that reference themselves, are always rendered.
+ */
+final class StackTraceRenderer {
+
+  // Visible for testing
+  static final int MAX_CACHED_STACK_TRACES = 128;
+
+  private static final Map<List<Object>, String> cache =
+      Collections.synchronizedMap(new LruCache(MAX_CACHED_STACK_TRACES));
+
+  /** Returns the stack trace of {@code throwable}, as printed by {@link Throwable}. */
+  static String render(Throwable throwable) {
+    List<Object> structure = structureOf(throwable);
+    if (structure != null) {
+      String cached = cache.get(structure);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    StringWriter stringWriter = new StringWriter();
+    try (PrintWriter printWriter = new PrintWriter(stringWriter)) {
+      throwable.printStackTrace(printWriter);
+    }
+    String rendered = stringWriter.toString();
+    if (structure != null && usesDefaultPrinting(throwable)) {
+      cache.put(structure, rendered);
+    }
+    return rendered;
+  }
+
+  // Visible for testing
+  static int cacheSize() {
+    return cache.size();
+  }
+
+  // Visible for testing
+  static void clearCache() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the structure of {@code throwable}, or {@code null} if it references itself, in which
+   * case its printed form depends on the order of references and it is not cached.
+   */
+  @Nullable
+  private static List<Object> structureOf(Throwable throwable) {
+    List<Object> structure = new ArrayList<>();
+    Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    return addStructure(throwable, structure, seen) ? structure : null;
+  }
+
+  private static boolean addStructure(
+      Throwable throwable, List<Object> structure, Set<Throwable> seen) {
+    if (!seen.add(throwable)) {
+      return false;
+    }
+    // Keeps throwables of different classes apart even if toString() is overridden to hide it.
+    structure.add(throwable.getClass().getName());
+    structure.add(throwable.toString());
+    structure.add(Arrays.asList(throwable.getStackTrace()));
+    Throwable[] suppressed = throwable.getSuppressed();
+    structure.add(suppressed.length);
+    for (Throwable s : suppressed) {
+      if (!addStructure(s, structure, seen)) {
+        return false;
+      }
+    }
+    Throwable cause = throwable.getCause();
+    if (cause == null) {
+      structure.add(Boolean.FALSE);
+      return true;
+    }
+    structure.add(Boolean.TRUE);
+    return addStructure(cause, structure, seen);
+  }
+
+  /**
+   * Returns whether {@code throwable}, its causes and its suppressed exceptions are printed by
+   * {@link Throwable} itself, so that their stack traces only depend on their structure.
+   */
+  private static boolean usesDefaultPrinting(Throwable throwable) {
+    if (!usesDefaultPrinting(throwable.getClass())) {
+      return false;
+    }
+    for (Throwable s : throwable.getSuppressed()) {
+      if (!usesDefaultPrinting(s)) {
+        return false;
+      }
+    }
+    Throwable cause = throwable.getCause();
+    return cause == null || usesDefaultPrinting(cause);
+  }
+
+  private static boolean usesDefaultPrinting(Class<?> throwableClass) {
+    try {
+      Method printStackTrace = throwableClass.getMethod("printStackTrace", PrintWriter.class);
+      Method getStackTrace = throwableClass.getMethod("getStackTrace");
+      return printStackTrace.getDeclaringClass() == Throwable.class
+          && getStackTrace.getDeclaringClass() == Throwable.class;
+    } catch (NoSuchMethodException | SecurityException e) {
+      return false;
+    }
+  }
+
+  private static final class LruCache extends LinkedHashMap<List<Object>, String> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    private LruCache(int maxSize) {
+      super(/* initialCapacity= */ 16, /* loadFactor= */ 0.75f, /* accessOrder= */ true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<List<Object>, String> eldest) {
+      return size() > maxSize;
+    }
+  }
+
+  private StackTraceRenderer() {}
+}
@@ -6,14 +6,16 @@
 package io.opentelemetry.sdk.trace.samplers;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
 import java.util.List;
 import javax.annotation.concurrent.Immutable;
 
 @Immutable
-enum AlwaysOffSampler implements Sampler {
+enum AlwaysOffSampler implements CacheableSampler {
   INSTANCE;
 
   // Returns a "no" {@link SamplingResult} on {@link Span} sampling.
@@ -28,6 +30,18 @@ enum AlwaysOffSampler implements Sampler {
     return ImmutableSamplingResult.EMPTY_NOT_SAMPLED_OR_RECORDED_SAMPLING_RESULT;
   }
 
+  @Override
+  public SamplingResult shouldSample(
+      String name, SpanKind spanKind, SpanContext parentSpanContext) {
+    return ImmutableSamplingResult.EMPTY_NOT_SAMPLED_OR_RECORDED_SAMPLING_RESULT;
+  }
+
+  // Cheaper than a cache lookup.
+  @Override
+  public boolean isCacheable() {
+    return false;
+  }
+
   @Override
   public String getDescription() {
     return "AlwaysOffSampler";
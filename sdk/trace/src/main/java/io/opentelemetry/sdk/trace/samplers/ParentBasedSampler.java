@@ -11,6 +11,7 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
 import java.util.List;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -19,9 +20,12 @@ import javax.annotation.concurrent.Immutable;
  * A Sampler that uses the sampled flag of the parent Span, if present. If the span has no parent,
  * this Sampler will use the "root" sampler that it is built with. See documentation on the {@link
  * ParentBasedSamplerBuilder} methods for the details on the various configurable options.
+ *
+ * <p>It is cacheable if all the samplers it delegates to are cacheable, in which case the SDK
+ * caches the result of the delegate for each span name, kind and parent flags.
  */
 @Immutable
-final class ParentBasedSampler implements Sampler {
+final class ParentBasedSampler implements CacheableSampler {
 
   private final Sampler root;
   private final Sampler remoteParentSampled;
@@ -75,6 +79,40 @@ final class ParentBasedSampler implements Sampler {
             parentContext, traceId, name, spanKind, attributes, parentLinks);
   }
 
+  // Cached if all delegates only read the span shape, and at least one of them is worth caching.
+  @Override
+  public boolean isCacheable() {
+    return root instanceof CacheableSampler
+        && remoteParentSampled instanceof CacheableSampler
+        && remoteParentNotSampled instanceof CacheableSampler
+        && localParentSampled instanceof CacheableSampler
+        && localParentNotSampled instanceof CacheableSampler
+        && (isCacheable(root)
+            || isCacheable(remoteParentSampled)
+            || isCacheable(remoteParentNotSampled)
+            || isCacheable(localParentSampled)
+            || isCacheable(localParentNotSampled));
+  }
+
+  private static boolean isCacheable(Sampler sampler) {
+    return ((CacheableSampler) sampler).isCacheable();
+  }
+
+  // Only called if all delegates are CacheableSamplers.
+  @Override
+  public SamplingResult shouldSample(
+      String name, SpanKind spanKind, SpanContext parentSpanContext) {
+    Sampler delegate;
+    if (!parentSpanContext.isValid()) {
+      delegate = root;
+    } else if (parentSpanContext.isRemote()) {
+      delegate = parentSpanContext.isSampled() ? remoteParentSampled : remoteParentNotSampled;
+    } else {
+      delegate = parentSpanContext.isSampled() ? localParentSampled : localParentNotSampled;
+    }
+    return ((CacheableSampler) delegate).shouldSample(name, spanKind, parentSpanContext);
+  }
+
   @Override
   public String getDescription() {
     return String.format(
@@ -0,0 +1,130 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SamplingResultCacheTest {
+
+  private static final String TRACE_ID = "ff000000000000000000000000000041";
+  private static final String SPAN_ID = "ff00000000000041";
+
+  private final CountingSampler sampler = new CountingSampler();
+  private final SamplingResultCache cache = new SamplingResultCache(sampler);
+
+  @Test
+  void shouldSample_cachesByShape() {
+    SpanContext sampledParent =
+        SpanContext.create(TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault());
+    SpanContext notSampledRemoteParent =
+        SpanContext.createFromRemoteParent(
+            TRACE_ID, SPAN_ID, TraceFlags.getDefault(), TraceState.getDefault());
+
+    assertThat(cache.shouldSample("span", SpanKind.SERVER, SpanContext.getInvalid()))
+        .isEqualTo(SamplingResult.recordAndSample());
+    assertThat(cache.shouldSample("span", SpanKind.SERVER, SpanContext.getInvalid()))
+        .isEqualTo(SamplingResult.recordAndSample());
+    assertThat(sampler.calls).hasValue(1);
+
+    // Each span kind and parent state is sampled once.
+    cache.shouldSample("span", SpanKind.CLIENT, SpanContext.getInvalid());
+    cache.shouldSample("span", SpanKind.SERVER, sampledParent);
+    cache.shouldSample("span", SpanKind.SERVER, notSampledRemoteParent);
+    assertThat(cache.shouldSample("span", SpanKind.SERVER, notSampledRemoteParent))
+        .isEqualTo(SamplingResult.drop());
+    assertThat(sampler.calls).hasValue(4);
+    assertThat(cache.getCachedSpanNames()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSample_boundsSpanNames() {
+    for (int i = 0; i < SamplingResultCache.MAX_SPAN_NAMES; i++) {
+      cache.shouldSample("span" + i, SpanKind.INTERNAL, SpanContext.getInvalid());
+    }
+    assertThat(sampler.calls).hasValue(SamplingResultCache.MAX_SPAN_NAMES);
+
+    assertThat(cache.shouldSample("other", SpanKind.INTERNAL, SpanContext.getInvalid()))
+        .isEqualTo(SamplingResult.recordAndSample());
+    cache.shouldSample("other", SpanKind.INTERNAL, SpanContext.getInvalid());
+    assertThat(sampler.calls).hasValue(SamplingResultCache.MAX_SPAN_NAMES + 2);
+    assertThat(cache.getCachedSpanNames()).isEqualTo(SamplingResultCache.MAX_SPAN_NAMES);
+  }
+
+  @Test
+  void startSpan_usesCacheableSampler() {
+    Tracer tracer = SdkTracerProvider.builder().setSampler(sampler).build().get("test");
+
+    Span first = tracer.spanBuilder("span").setAttribute("key", "value").startSpan();
+    Span second = tracer.spanBuilder("span").startSpan();
+    Span child = tracer.spanBuilder("span").setParent(Context.root().with(first)).startSpan();
+
+    assertThat(first.isRecording()).isTrue();
+    assertThat(second.isRecording()).isTrue();
+    assertThat(child.isRecording()).isTrue();
+    assertThat(sampler.calls).hasValue(2);
+  }
+
+  @Test
+  void tracerSharedState_onlyCachesCacheableSamplers() {
+    assertThat(sharedState(Sampler.parentBased(new CountingSampler())).getSamplingResultCache())
+        .isNotNull();
+    // Constant decisions are cheaper than a cache lookup.
+    assertThat(sharedState(Sampler.alwaysOn()).getSamplingResultCache()).isNull();
+    assertThat(sharedState(Sampler.parentBased(Sampler.alwaysOn())).getSamplingResultCache())
+        .isNull();
+    assertThat(
+            sharedState(Sampler.parentBased(Sampler.traceIdRatioBased(0.5)))
+                .getSamplingResultCache())
+        .isNull();
+    assertThat(sharedState(Sampler.traceIdRatioBased(0.5)).getSamplingResultCache()).isNull();
+  }
+
+  private static TracerSharedState sharedState(Sampler sampler) {
+    return new TracerSharedState(
+        Clock.getDefault(),
+        IdGenerator.random(),
+        Resource.empty(),
+        SpanLimits::getDefault,
+        sampler,
+        Collections.emptyList());
+  }
+
+  /** Samples spans without a parent or with a sampled parent, counting its calls. */
+  private static final class CountingSampler implements CacheableSampler {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public SamplingResult shouldSample(
+        String name, SpanKind spanKind, SpanContext parentSpanContext) {
+      calls.incrementAndGet();
+      return !parentSpanContext.isValid() || parentSpanContext.isSampled()
+          ? SamplingResult.recordAndSample()
+          : SamplingResult.drop();
+    }
+
+    @Override
+    public String getDescription() {
+      return "CountingSampler";
+    }
+  }
+}
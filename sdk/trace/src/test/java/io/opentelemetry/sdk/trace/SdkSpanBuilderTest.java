@@ -33,6 +33,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.LongIdGenerator;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
@@ -1050,4 +1051,36 @@ class SdkSpanBuilderTest {
             })
         .doesNotThrowAnyException();
   }
+
+  @Test
+  void startSpan_validatesLongIds() {
+    assertThat(startSpanWithIds("12345678876543211234567887654321", 0).isValid()).isFalse();
+    assertThat(startSpanWithIds("invalid", 1).isValid()).isFalse();
+
+    SpanContext spanContext = startSpanWithIds("12345678876543211234567887654321", 1);
+    assertThat(spanContext.isValid()).isTrue();
+    assertThat(spanContext.getSpanId()).isEqualTo("0000000000000001");
+  }
+
+  private static SpanContext startSpanWithIds(String traceId, long spanId) {
+    LongIdGenerator idGenerator =
+        new LongIdGenerator() {
+          @Override
+          public long generateSpanIdLong() {
+            return spanId;
+          }
+
+          @Override
+          public String generateTraceId() {
+            return traceId;
+          }
+        };
+    return SdkTracerProvider.builder()
+        .setIdGenerator(idGenerator)
+        .build()
+        .get("test")
+        .spanBuilder(SPAN_NAME)
+        .startSpan()
+        .getSpanContext();
+  }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.extension.incubator.trace.SpanTemplate;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class SdkSpanTemplateTest {
+
+  private static final String SPAN_NAME = "span_name";
+
+  @Test
+  void startSpan_appliesTemplate() {
+    ExtendedSdkTracer tracer = (ExtendedSdkTracer) SdkTracerProvider.builder().build().get("test");
+    SpanTemplate template =
+        tracer
+            .spanTemplateBuilder(SPAN_NAME)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(stringKey("db.system"), "postgresql")
+            .setAttribute(longKey("net.peer.port"), 5432L)
+            .build();
+
+    SdkSpan first = (SdkSpan) template.startSpan();
+    SdkSpan second =
+        (SdkSpan) template.spanBuilder().setAttribute("db.system", "mysql").startSpan();
+    first.end();
+    second.end();
+
+    SpanData firstData = first.toSpanData();
+    assertThat(firstData.getName()).isEqualTo(SPAN_NAME);
+    assertThat(firstData.getKind()).isEqualTo(SpanKind.CLIENT);
+    assertThat(firstData.getAttributes())
+        .isEqualTo(
+            Attributes.of(stringKey("db.system"), "postgresql", longKey("net.peer.port"), 5432L));
+    assertThat(firstData.getTotalAttributeCount()).isEqualTo(2);
+    assertThat(second.toSpanData().getAttributes())
+        .isEqualTo(Attributes.of(stringKey("db.system"), "mysql", longKey("net.peer.port"), 5432L));
+  }
+
+  @Test
+  void startSpan_templateAttributesVisibleToSampler() {
+    AtomicReference<Attributes> sampledAttributes = new AtomicReference<>();
+    ExtendedSdkTracer tracer =
+        (ExtendedSdkTracer)
+            SdkTracerProvider.builder()
+                .setSampler(
+                    new Sampler() {
+                      @Override
+                      public SamplingResult shouldSample(
+                          Context parentContext,
+                          String traceId,
+                          String name,
+                          SpanKind spanKind,
+                          Attributes attributes,
+                          List<LinkData> parentLinks) {
+                        sampledAttributes.set(Attributes.builder().putAll(attributes).build());
+                        return SamplingResult.recordAndSample();
+                      }
+
+                      @Override
+                      public String getDescription() {
+                        return "capturing";
+                      }
+                    })
+                .build()
+                .get("test");
+
+    tracer
+        .spanTemplateBuilder(SPAN_NAME)
+        .setAttribute(stringKey("cat"), "meow")
+        .build()
+        .startSpan();
+
+    assertThat(sampledAttributes.get()).isEqualTo(Attributes.of(stringKey("cat"), "meow"));
+  }
+
+  @Test
+  void build_appliesSpanLimitsOnce() {
+    SpanLimits spanLimits =
+        SpanLimits.builder().setMaxNumberOfAttributes(2).setMaxAttributeValueLength(3).build();
+    ExtendedSdkTracer tracer =
+        (ExtendedSdkTracer)
+            SdkTracerProvider.builder().setSpanLimits(spanLimits).build().get("test");
+    SdkSpanTemplate template =
+        (SdkSpanTemplate)
+            tracer
+                .spanTemplateBuilder(SPAN_NAME)
+                .setAttribute(stringKey("a"), "abcdef")
+                .setAttribute(stringArrayKey("b"), Arrays.asList("abcdef", "ab"))
+                .setAttribute(stringKey("c"), "c")
+                .build();
+
+    assertThat(template.getPreparedKeys()).containsExactly(stringKey("a"), stringArrayKey("b"));
+    assertThat(template.getPreparedValues()).containsExactly("abc", Arrays.asList("abc", "ab"));
+
+    SdkSpan span = (SdkSpan) template.startSpan();
+    span.end();
+    SpanData spanData = span.toSpanData();
+    assertThat(spanData.getAttributes())
+        .isEqualTo(
+            Attributes.of(stringKey("a"), "abc", stringArrayKey("b"), Arrays.asList("abc", "ab")));
+    assertThat(spanData.getTotalAttributeCount()).isEqualTo(3);
+  }
+
+  @Test
+  void startSpan_preparesAgainWhenSpanLimitsChange() {
+    AtomicReference<SpanLimits> spanLimits = new AtomicReference<>(SpanLimits.getDefault());
+    ExtendedSdkTracer tracer =
+        (ExtendedSdkTracer)
+            SdkTracerProvider.builder().setSpanLimits(spanLimits::get).build().get("test");
+    SdkSpanTemplate template =
+        (SdkSpanTemplate)
+            tracer.spanTemplateBuilder(SPAN_NAME).setAttribute(stringKey("a"), "abcdef").build();
+    assertThat(template.getPreparedValues()).containsExactly("abcdef");
+
+    spanLimits.set(SpanLimits.builder().setMaxAttributeValueLength(2).build());
+    SdkSpan span = (SdkSpan) template.startSpan();
+    span.end();
+
+    assertThat(template.getPreparedValues()).containsExactly("ab");
+    assertThat(span.toSpanData().getAttributes()).isEqualTo(Attributes.of(stringKey("a"), "ab"));
+  }
+
+  @Test
+  void startSpan_afterShutdown() {
+    SdkTracerProvider tracerProvider = SdkTracerProvider.builder().build();
+    SpanTemplate template =
+        ((ExtendedSdkTracer) tracerProvider.get("test")).spanTemplateBuilder(SPAN_NAME).build();
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+
+    Span span = template.startSpan();
+
+    assertThat(span).isNotInstanceOf(SdkSpan.class);
+    assertThat(span.getSpanContext().isValid()).isFalse();
+  }
+
+  @Test
+  void emptySpanName_usesFallback() {
+    ExtendedSdkTracer tracer = (ExtendedSdkTracer) SdkTracerProvider.builder().build().get("test");
+
+    SdkSpan span = (SdkSpan) tracer.spanTemplateBuilder(" ").build().startSpan();
+    span.end();
+
+    assertThat(span.getName()).isEqualTo(SdkTracer.FALLBACK_SPAN_NAME);
+  }
+}
@@ -13,22 +13,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.AdaptiveBatchController;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +85,24 @@ class BatchSpanProcessorTest {
     return (ReadableSpan) span;
   }
 
+  private ReadableSpan createEndedSpan(String spanName, String statement) {
+    Tracer tracer = sdkTracerProvider.get(getClass().getName());
+    Span span = tracer.spanBuilder(spanName).setAttribute("db.statement", statement).startSpan();
+    span.end();
+    return (ReadableSpan) span;
+  }
+
+  private ReadableSpan createEndedChildSpan(ReadableSpan parent) {
+    Tracer tracer = sdkTracerProvider.get(getClass().getName());
+    Span span =
+        tracer
+            .spanBuilder(parent.getName() + "/child")
+            .setParent(Context.root().with(Span.wrap(parent.getSpanContext())))
+            .startSpan();
+    span.end();
+    return (ReadableSpan) span;
+  }
+
   @Test
   void builderDefaults() {
     BatchSpanProcessorBuilder builder =
@@ -92,6 +117,10 @@ class BatchSpanProcessorTest {
     assertThat(builder.getExporterTimeoutNanos())
         .isEqualTo(
             TimeUnit.MILLISECONDS.toNanos(BatchSpanProcessorBuilder.DEFAULT_EXPORT_TIMEOUT_MILLIS));
+    assertThat(builder.getMaxExportBatchBytes())
+        .isEqualTo(BatchSpanProcessorBuilder.UNLIMITED_BYTES);
+    assertThat(builder.getMaxQueueBytes()).isEqualTo(BatchSpanProcessorBuilder.UNLIMITED_BYTES);
+    assertThat(builder.getTraceGroupingWindowNanos()).isEqualTo(0);
   }
 
   @Test
@@ -121,6 +150,46 @@ class BatchSpanProcessorTest {
     assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setMaxExportBatchBytes(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxExportBatchBytes must be positive.");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setMaxQueueBytes(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxQueueBytes must be positive.");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setAdaptiveBatching(-1, TimeUnit.MILLISECONDS, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minScheduleDelay must be non-negative");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setAdaptiveBatching(Duration.ofMillis(1), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
+    assertThatThrownBy(
+            () -> BatchSpanProcessor.builder(mockSpanExporter).setAdaptiveBatching(null, 1))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("minScheduleDelay");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setTraceGrouping(-1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("window must be non-negative");
+    assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setTraceGrouping(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("window");
+  }
+
+  @Test
+  void traceGroupingWindowCappedAtScheduleDelay() {
+    BatchSpanProcessorBuilder builder =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setScheduleDelay(Duration.ofSeconds(1))
+            .setTraceGrouping(Duration.ofSeconds(10));
+    assertThat(builder.getTraceGroupingWindowNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
   }
 
   @Test
@@ -368,6 +437,186 @@ class BatchSpanProcessorTest {
     assertThat(exported).containsExactlyElementsOf(spansToExport);
   }
 
+  @Test
+  void adaptiveBatching_zeroExporterTimeout() {
+    AdaptiveBatchController controller =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setExporterTimeout(0, TimeUnit.MILLISECONDS)
+            .setMaxExportBatchSize(10)
+            .setAdaptiveBatching(10, TimeUnit.MILLISECONDS, 2)
+            .createAdaptiveBatchController();
+
+    // A slow export does not back off, as there is no latency threshold.
+    controller.recordExport(10, 0, TimeUnit.SECONDS.toNanos(10), true);
+    assertThat(controller.getExportBatchSize()).isEqualTo(10);
+  }
+
+  @Test
+  void exportWithAdaptiveBatching() {
+    BatchRecordingSpanExporter spanExporter = new BatchRecordingSpanExporter();
+    sdkTracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(spanExporter)
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxExportBatchSize(10)
+                    .setAdaptiveBatching(10, TimeUnit.MILLISECONDS, 2)
+                    .build())
+            .build();
+
+    List<SpanData> spansToExport = new ArrayList<>();
+    for (int i = 0; i < 95; i++) {
+      spansToExport.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+    }
+
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(spanExporter.getBatches().stream().flatMap(List::stream))
+                    .containsExactlyElementsOf(spansToExport));
+    assertThat(spanExporter.getBatches())
+        .allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+  }
+
+  @Test
+  void exportBatchesLimitedByBytes() {
+    BatchRecordingSpanExporter spanExporter = new BatchRecordingSpanExporter();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxExportBatchSize(100)
+            .setMaxExportBatchBytes(25_000)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    String largeValue = repeat('x', 10_000);
+    List<SpanData> spansToExport = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      spansToExport.add(createEndedSpan(SPAN_NAME_1, largeValue).toSpanData());
+    }
+    ReadableSpan tooLarge = createEndedSpan(SPAN_NAME_2, repeat('x', 30_000));
+    spansToExport.add(tooLarge.toSpanData());
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    List<List<SpanData>> batches = spanExporter.getBatches();
+    assertThat(batches.stream().flatMap(List::stream))
+        .containsExactlyElementsOf(spansToExport);
+    // Two of the 10 KB spans fit in a batch, and the span exceeding the limit is exported alone.
+    assertThat(batches).extracting(List::size).containsExactly(2, 2, 1, 1);
+    assertThat(batches.get(3)).containsExactly(tooLarge.toSpanData());
+  }
+
+  @Test
+  void exportMoreSpansThanTheMaximumQueueBytes() {
+    WaitingSpanExporter waitingSpanExporter =
+        new WaitingSpanExporter(4, CompletableResultCode.ofSuccess());
+    sdkTracerProvider =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                BatchSpanProcessor.builder(
+                        SpanExporter.composite(
+                            Arrays.asList(blockingSpanExporter, waitingSpanExporter)))
+                    .setScheduleDelay(MAX_SCHEDULE_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .setMaxQueueBytes(35_000)
+                    .build())
+            .build();
+
+    String largeValue = repeat('x', 10_000);
+    List<SpanData> spansToExport = new ArrayList<>();
+    // Block the worker thread so that no items can be removed from the queue.
+    spansToExport.add(createEndedSpan("blocking_span").toSpanData());
+    blockingSpanExporter.waitUntilIsBlocked();
+
+    for (int i = 0; i < 3; i++) {
+      spansToExport.add(createEndedSpan("span_1_" + i, largeValue).toSpanData());
+    }
+    // The queue holds about 30 KB now, so further large spans are dropped.
+    for (int i = 0; i < 3; i++) {
+      createEndedSpan("span_2_" + i, largeValue);
+    }
+
+    blockingSpanExporter.unblock();
+
+    List<SpanData> exported = waitingSpanExporter.waitForExport();
+    assertThat(exported).containsExactlyElementsOf(spansToExport);
+  }
+
+  @Test
+  void maxQueueBytes_spanDataComputedOnce() {
+    sdkTracerProvider = SdkTracerProvider.builder().build();
+    SpanData spanData = createEndedSpan(SPAN_NAME_1).toSpanData();
+    ReadableSpan span = mock(ReadableSpan.class);
+    when(span.getSpanContext()).thenReturn(spanData.getSpanContext());
+    when(span.toSpanData()).thenReturn(spanData);
+    BatchRecordingSpanExporter spanExporter = new BatchRecordingSpanExporter();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setMaxExportBatchBytes(25_000)
+            .setMaxQueueBytes(35_000)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+
+    batchSpanProcessor.onEnd(span);
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(spanExporter.getBatches()).containsExactly(Collections.singletonList(spanData));
+    // The span data and its size are computed when the span is queued, and reused by the worker.
+    verify(span, times(1)).toSpanData();
+    batchSpanProcessor.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void exportSpansGroupedByTrace() {
+    BatchRecordingSpanExporter spanExporter = new BatchRecordingSpanExporter();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .setTraceGrouping(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    // Spans of two traces end interleaved.
+    ReadableSpan first = createEndedSpan(SPAN_NAME_1);
+    ReadableSpan second = createEndedSpan(SPAN_NAME_2);
+    ReadableSpan firstChild = createEndedChildSpan(first);
+    ReadableSpan secondChild = createEndedChildSpan(second);
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(spanExporter.getBatches())
+        .containsExactly(
+            Arrays.asList(
+                first.toSpanData(),
+                firstChild.toSpanData(),
+                second.toSpanData(),
+                secondChild.toSpanData()));
+    assertThat(batchSpanProcessor.getPendingSpans()).isEqualTo(0);
+  }
+
+  @Test
+  void exportSpansGroupedByTrace_boundedByMaxExportBatchSize() {
+    BatchRecordingSpanExporter spanExporter = new BatchRecordingSpanExporter();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(spanExporter)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .setMaxExportBatchSize(4)
+            .setTraceGrouping(10, TimeUnit.SECONDS)
+            .build();
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+
+    List<SpanData> spansToExport = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      spansToExport.add(createEndedSpan(SPAN_NAME_1).toSpanData());
+    }
+
+    // The traces seen first are added to the batch before their window passes once 4 spans are
+    // held, so the first batch is exported without waiting for the schedule delay.
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(spanExporter.getBatches())
+                    .containsExactly(spansToExport.subList(0, 4)));
+  }
+
   @Test
   void ignoresNullSpans() {
     BatchSpanProcessor processor = BatchSpanProcessor.builder(mockSpanExporter).build();
@@ -571,7 +820,32 @@ class BatchSpanProcessorTest {
                 + "spanExporter=mockSpanExporter, "
                 + "scheduleDelayNanos=5000000000, "
                 + "maxExportBatchSize=512, "
-                + "exporterTimeoutNanos=30000000000}");
+                + "maxExportBatchBytes=9223372036854775807, "
+                + "maxQueueBytes=9223372036854775807, "
+                + "exporterTimeoutNanos=30000000000, "
+                + "adaptiveBatching=false, "
+                + "traceGroupingWindowNanos=0}");
+
+    processor =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setMaxExportBatchBytes(1024)
+            .setMaxQueueBytes(4096)
+            .setAdaptiveBatching(100, TimeUnit.MILLISECONDS, 64)
+            .setTraceGrouping(1, TimeUnit.SECONDS)
+            .build();
+    processorStr = processor.toString();
+    processor.close();
+    assertThat(processorStr)
+        .hasToString(
+            "BatchSpanProcessor{"
+                + "spanExporter=mockSpanExporter, "
+                + "scheduleDelayNanos=5000000000, "
+                + "maxExportBatchSize=512, "
+                + "maxExportBatchBytes=1024, "
+                + "maxQueueBytes=4096, "
+                + "exporterTimeoutNanos=30000000000, "
+                + "adaptiveBatching={minScheduleDelayNanos=100000000, minExportBatchSize=64}, "
+                + "traceGroupingWindowNanos=1000000000}");
   }
 
   @Test
@@ -597,6 +871,37 @@ class BatchSpanProcessorTest {
     await().untilAsserted(() -> assertThat(batchSpanProcessor.getQueue()).isEmpty());
   }
 
+  private static String repeat(char c, int times) {
+    char[] chars = new char[times];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
+
+  private static final class BatchRecordingSpanExporter implements SpanExporter {
+
+    private final List<List<SpanData>> batches = new ArrayList<>();
+
+    synchronized List<List<SpanData>> getBatches() {
+      return new ArrayList<>(batches);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+      batches.add(new ArrayList<>(spans));
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
   private static final class BlockingSpanExporter implements SpanExporter {
 
     final Object monitor = new Object();
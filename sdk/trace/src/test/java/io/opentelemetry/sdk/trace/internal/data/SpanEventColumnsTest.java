@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal.data;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.trace.SpanLimits;
+import io.opentelemetry.sdk.trace.data.EventData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SpanEventColumnsTest {
+
+  private static final Attributes ATTRIBUTES = Attributes.of(stringKey("key"), "value");
+
+  @Test
+  void add() {
+    SpanEventColumns columns = new SpanEventColumns(10);
+    ExceptionEventData exceptionEvent =
+        ExceptionEventData.create(
+            SpanLimits.getDefault(), 300, new IllegalStateException("error"), Attributes.empty());
+
+    assertThat(columns.add(100, "first", ATTRIBUTES, 3)).isTrue();
+    assertThat(columns.add(200, "second", Attributes.empty(), 0)).isTrue();
+    assertThat(columns.add(exceptionEvent)).isTrue();
+
+    SpanEventList events = columns.toList();
+    assertThat(events)
+        .containsExactly(
+            EventData.create(100, "first", ATTRIBUTES, 3),
+            EventData.create(200, "second", Attributes.empty(), 0),
+            exceptionEvent);
+    assertThat(events.get(2)).isSameAs(exceptionEvent);
+
+    assertThat(events.getEpochNanos(0)).isEqualTo(100);
+    assertThat(events.getName(0)).isEqualTo("first");
+    assertThat(events.getAttributes(0)).isEqualTo(ATTRIBUTES);
+    assertThat(events.getTotalAttributeCount(0)).isEqualTo(3);
+    assertThat(events.getName(2)).isEqualTo("exception");
+    assertThat(events.getAttributes(2)).isEqualTo(exceptionEvent.getAttributes());
+    assertThat(events.getTotalAttributeCount(2)).isEqualTo(exceptionEvent.getTotalAttributeCount());
+  }
+
+  @Test
+  void add_maxEvents() {
+    SpanEventColumns columns = new SpanEventColumns(5);
+    for (int i = 0; i < 5; i++) {
+      assertThat(columns.add(i, "event" + i, Attributes.empty(), 0)).isTrue();
+    }
+
+    assertThat(columns.add(5, "event5", Attributes.empty(), 0)).isFalse();
+    assertThat(columns.add(EventData.create(5, "event5", Attributes.empty()))).isFalse();
+    assertThat(columns.size()).isEqualTo(5);
+    assertThat(columns.toList()).extracting(EventData::getName).endsWith("event4");
+  }
+
+  @Test
+  void toList_isNotChangedByLaterEvents() {
+    SpanEventColumns columns = new SpanEventColumns(100);
+    columns.add(1, "first", Attributes.empty(), 0);
+    List<EventData> before = columns.toList();
+
+    // Enough events to grow the columns.
+    for (int i = 0; i < 20; i++) {
+      columns.add(EventData.create(i, "later", Attributes.empty()));
+    }
+
+    assertThat(before).containsExactly(EventData.create(1, "first", Attributes.empty(), 0));
+    assertThat(columns.toList()).hasSize(21);
+  }
+
+  @Test
+  void toList_isImmutable() {
+    SpanEventColumns columns = new SpanEventColumns(10);
+    columns.add(1, "first", Attributes.empty(), 0);
+    SpanEventList events = columns.toList();
+
+    assertThatThrownBy(() -> events.add(EventData.create(2, "second", Attributes.empty())))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> events.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> events.getName(1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StackTraceRendererTest {
+
+  @BeforeEach
+  void setUp() {
+    StackTraceRenderer.clearCache();
+  }
+
+  @Test
+  void rendersLikePrintStackTrace() {
+    IllegalStateException exception =
+        new IllegalStateException("outer", new IllegalArgumentException("cause"));
+    exception.addSuppressed(new UnsupportedOperationException("suppressed"));
+
+    assertThat(StackTraceRenderer.render(exception)).isEqualTo(printStackTrace(exception));
+    // Cached result.
+    assertThat(StackTraceRenderer.render(exception)).isEqualTo(printStackTrace(exception));
+  }
+
+  @Test
+  void reusesRenderingOfSameStructure() {
+    String first = StackTraceRenderer.render(newException("message"));
+    String second = StackTraceRenderer.render(newException("message"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(StackTraceRenderer.cacheSize()).isEqualTo(1);
+  }
+
+  @Test
+  void differentStructures() {
+    Exception first = newException("first");
+    Exception second = newException("second");
+    Exception withCause = new RuntimeException("first", new RuntimeException());
+    withCause.setStackTrace(first.getStackTrace());
+
+    assertThat(StackTraceRenderer.render(first)).isEqualTo(printStackTrace(first));
+    assertThat(StackTraceRenderer.render(second)).isEqualTo(printStackTrace(second));
+    assertThat(StackTraceRenderer.render(withCause)).isEqualTo(printStackTrace(withCause));
+    assertThat(StackTraceRenderer.cacheSize()).isEqualTo(3);
+  }
+
+  @Test
+  void customPrintingNotCached() {
+    Exception exception =
+        new RuntimeException("wrapper", new CustomPrintingException("custom printing"));
+
+    assertThat(StackTraceRenderer.render(exception)).isEqualTo(printStackTrace(exception));
+    assertThat(StackTraceRenderer.cacheSize()).isZero();
+  }
+
+  @Test
+  void circularReferenceNotCached() {
+    RuntimeException first = new RuntimeException("first");
+    RuntimeException second = new RuntimeException("second", first);
+    first.initCause(second);
+
+    assertThat(StackTraceRenderer.render(first)).isEqualTo(printStackTrace(first));
+    assertThat(StackTraceRenderer.cacheSize()).isZero();
+  }
+
+  @Test
+  void cacheIsBounded() {
+    for (int i = 0; i < StackTraceRenderer.MAX_CACHED_STACK_TRACES + 10; i++) {
+      StackTraceRenderer.render(newException("message " + i));
+    }
+    assertThat(StackTraceRenderer.cacheSize())
+        .isEqualTo(StackTraceRenderer.MAX_CACHED_STACK_TRACES);
+  }
+
+  private static Exception newException(String message) {
+    return new IllegalStateException(message);
+  }
+
+  private static String printStackTrace(Throwable throwable) {
+    StringWriter stringWriter = new StringWriter();
+    try (PrintWriter printWriter = new PrintWriter(stringWriter)) {
+      throwable.printStackTrace(printWriter);
+    }
+    return stringWriter.toString();
+  }
+
+  private static class CustomPrintingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    CustomPrintingException(String message) {
+      super(message);
+    }
+
+    @Override
+    public void printStackTrace(PrintWriter s) {
+      s.println("custom");
+    }
+  }
+}
@@ -15,6 +15,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.internal.CacheableSampler;
 import java.util.Collections;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -399,6 +400,59 @@ class ParentBasedSamplerTest {
         .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
   }
 
+  @Test
+  void cacheable() {
+    assertThat(((CacheableSampler) Sampler.parentBased(new ExpensiveSampler())).isCacheable())
+        .isTrue();
+    // Only delegates to samplers which are cheaper than a cache lookup.
+    assertThat(((CacheableSampler) Sampler.parentBased(Sampler.alwaysOn())).isCacheable())
+        .isFalse();
+    assertThat(
+            ((CacheableSampler) Sampler.parentBased(Sampler.traceIdRatioBased(0.5))).isCacheable())
+        .isFalse();
+    assertThat(
+            ((CacheableSampler)
+                    Sampler.parentBasedBuilder(new ExpensiveSampler())
+                        .setRemoteParentSampled(Sampler.traceIdRatioBased(0.5))
+                        .build())
+                .isCacheable())
+        .isFalse();
+  }
+
+  @Test
+  void cacheable_shouldSample() {
+    CacheableSampler sampler =
+        (CacheableSampler)
+            Sampler.parentBasedBuilder(Sampler.alwaysOff())
+                .setRemoteParentNotSampled(Sampler.alwaysOn())
+                .build();
+
+    for (Context parentContext :
+        new Context[] {
+          sampledParentContext,
+          notSampledParentContext,
+          invalidParentContext,
+          sampledRemoteParentContext,
+          notSampledRemoteParentContext
+        }) {
+      assertThat(
+              sampler
+                  .shouldSample(
+                      SPAN_NAME, SPAN_KIND, Span.fromContext(parentContext).getSpanContext())
+                  .getDecision())
+          .isEqualTo(
+              sampler
+                  .shouldSample(
+                      parentContext,
+                      traceId,
+                      SPAN_NAME,
+                      SPAN_KIND,
+                      Attributes.empty(),
+                      Collections.emptyList())
+                  .getDecision());
+    }
+  }
+
   @Test
   void getDescription() {
     assertThat(Sampler.parentBased(Sampler.alwaysOn()).getDescription())
@@ -412,4 +466,17 @@ class ParentBasedSamplerTest {
   void equals() {
     EqualsVerifier.forClass(ParentBasedSampler.class).verify();
   }
+
+  private static final class ExpensiveSampler implements CacheableSampler {
+    @Override
+    public SamplingResult shouldSample(
+        String name, SpanKind spanKind, SpanContext parentSpanContext) {
+      return SamplingResult.recordAndSample();
+    }
+
+    @Override
+    public String getDescription() {
+      return "ExpensiveSampler";
+    }
+  }
 }